@@ -0,0 +1,106 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link ArrayUtil#indexOf(int[],int) indexOf} and {@link ArrayUtil#equals(double[],int,int,double[],int,int) equals}
+ * methods that are backed by {@link ArrayIntrinsics}, with the searched value at the end of the array. The versioned classes are only
+ * loaded from the multi-release jar, so the benchmarks are run with the jar on the class path, once with the scalar loops and once with
+ * the vector module:
+ *
+ * <pre>
+ * mvn -P vector,benchmark package
+ * java -cp target/util-&lt;version&gt;.jar:target/test-classes:&lt;jmh&gt; org.openjdk.jmh.Main ArrayUtilBenchmark
+ * java -cp target/util-&lt;version&gt;.jar:target/test-classes:&lt;jmh&gt; org.openjdk.jmh.Main ArrayUtilBenchmark -jvmArgsAppend --add-modules=jdk.incubator.vector
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayUtilBenchmark {
+  @Param({"16", "256", "4096"})
+  private int length;
+
+  private byte[] bytes;
+  private char[] chars;
+  private int[] ints;
+  private long[] longs;
+  private double[] doubles;
+  private double[] doubles2;
+
+  @Setup
+  public void setup() {
+    bytes = new byte[length];
+    chars = new char[length];
+    ints = new int[length];
+    longs = new long[length];
+    doubles = new double[length];
+    bytes[length - 1] = 1;
+    chars[length - 1] = 1;
+    ints[length - 1] = 1;
+    longs[length - 1] = 1;
+    doubles[length - 1] = 1;
+    doubles2 = doubles.clone();
+  }
+
+  @Benchmark
+  public int indexOfByte() {
+    return ArrayUtil.indexOf(bytes, (byte)1);
+  }
+
+  @Benchmark
+  public int indexOfChar() {
+    return ArrayUtil.indexOf(chars, (char)1);
+  }
+
+  @Benchmark
+  public int indexOfInt() {
+    return ArrayUtil.indexOf(ints, 1);
+  }
+
+  @Benchmark
+  public int indexOfLong() {
+    return ArrayUtil.indexOf(longs, 1);
+  }
+
+  @Benchmark
+  public int indexOfDouble() {
+    return ArrayUtil.indexOf(doubles, 1);
+  }
+
+  @Benchmark
+  public boolean equalsDouble() {
+    return ArrayUtil.equals(doubles, 0, length, doubles2, 0, length);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the steps of {@link Diff.Engine#DIFF_MATCH_PATCH} against those of {@link Diff.Engine#MYERS}, both with a timeout of 1
+ * second, on a document of 1MB of lines of words, and a copy with the specified number of edits of single words at random positions:
+ *
+ * <pre>
+ * mvn -P benchmark test-compile
+ * java -cp target/classes:target/test-classes:&lt;dependencies&gt; org.openjdk.jmh.Main DiffBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DiffBenchmark {
+  private static final int LENGTH = 1 << 20;
+
+  @Param({"10", "1000", "10000"})
+  private int edits;
+
+  private String source;
+  private String target;
+
+  private static String newWord(final Random random) {
+    final char[] chars = new char[2 + random.nextInt(8)];
+    for (int i = 0; i < chars.length; ++i) // [A]
+      chars[i] = (char)('a' + random.nextInt(26));
+
+    return new String(chars);
+  }
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(0);
+    final StringBuilder builder = new StringBuilder(LENGTH + 80);
+    while (builder.length() < LENGTH) { // [X]
+      builder.append(newWord(random));
+      builder.append(random.nextInt(12) == 0 ? '\n' : ' ');
+    }
+
+    source = builder.toString();
+    for (int i = 0; i < edits; ++i) { // [N]
+      final int start = builder.lastIndexOf(" ", random.nextInt(builder.length())) + 1;
+      final int end = builder.indexOf(" ", start);
+      builder.replace(start, end == -1 ? builder.length() : end, newWord(random));
+    }
+
+    target = builder.toString();
+  }
+
+  @Benchmark
+  public Diff diffMatchPatch() {
+    return new Diff(source, target);
+  }
+
+  @Benchmark
+  public Diff myers() {
+    return new Diff(source, target, Diff.Engine.MYERS, 1000);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/**
+ * Bindings to the array intrinsics of the running JDK, which compare many elements per instruction. The bindings are held in
+ * {@code static final} fields, so that the JIT folds the check of {@link #RANGED_EQUALS} at its call sites, and the methods of
+ * {@link ArrayUtil} keep their scalar loops when a binding is not available.
+ * <p>
+ * This is the Java 8 version of this class. On Java 9 and later, {@link #RANGED_EQUALS} is {@code true}, and the ranged
+ * {@code Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex)} methods are bound through method handles. Only the integral
+ * and {@code boolean} types are bound, because the JDK methods compare {@code float} and {@code double} values by their bits, whereas
+ * the methods of {@link ArrayUtil} compare them with {@code ==}. The {@code indexOf} methods, and the {@code equals} methods for
+ * {@code float} and {@code double}, are scalar loops.
+ * <p>
+ * The Java 17 version of this class, in {@code META-INF/versions/17} of the multi-release jar that is built with the {@code vector}
+ * profile, calls the ranged {@code Arrays.equals} methods directly, and implements the {@code indexOf} methods, and the
+ * {@code equals} methods for {@code float} and {@code double}, with the {@code jdk.incubator.vector} module when it is available.
+ * <p>
+ * The ranged {@code Arrays.equals} methods throw {@link IllegalArgumentException} if a {@code fromIndex} is greater than its
+ * {@code toIndex}, so {@link ArrayUtil} delegates only non-empty ranges, and keeps the result of its loops for the others.
+ */
+final class ArrayIntrinsics {
+  private static final MethodHandle EQUALS_BOOLEAN = findEquals(boolean[].class);
+  private static final MethodHandle EQUALS_BYTE = findEquals(byte[].class);
+  private static final MethodHandle EQUALS_CHAR = findEquals(char[].class);
+  private static final MethodHandle EQUALS_SHORT = findEquals(short[].class);
+  private static final MethodHandle EQUALS_INT = findEquals(int[].class);
+  private static final MethodHandle EQUALS_LONG = findEquals(long[].class);
+
+  /** Whether the {@code equals} methods for the integral and {@code boolean} types are available. */
+  static final boolean RANGED_EQUALS = EQUALS_BOOLEAN != null;
+
+  private static MethodHandle findEquals(final Class<?> type) {
+    try {
+      return MethodHandles.publicLookup().findStatic(Arrays.class, "equals", MethodType.methodType(boolean.class, type, int.class, int.class, type, int.class, int.class));
+    }
+    catch (final NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  static boolean equals(final boolean[] a, final int aFromIndex, final int aToIndex, final boolean[] b, final int bFromIndex, final int bToIndex) {
+    try {
+      return (boolean)EQUALS_BOOLEAN.invokeExact(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  static boolean equals(final byte[] a, final int aFromIndex, final int aToIndex, final byte[] b, final int bFromIndex, final int bToIndex) {
+    try {
+      return (boolean)EQUALS_BYTE.invokeExact(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  static boolean equals(final char[] a, final int aFromIndex, final int aToIndex, final char[] b, final int bFromIndex, final int bToIndex) {
+    try {
+      return (boolean)EQUALS_CHAR.invokeExact(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  static boolean equals(final short[] a, final int aFromIndex, final int aToIndex, final short[] b, final int bFromIndex, final int bToIndex) {
+    try {
+      return (boolean)EQUALS_SHORT.invokeExact(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  static boolean equals(final int[] a, final int aFromIndex, final int aToIndex, final int[] b, final int bFromIndex, final int bToIndex) {
+    try {
+      return (boolean)EQUALS_INT.invokeExact(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  static boolean equals(final long[] a, final int aFromIndex, final int aToIndex, final long[] b, final int bFromIndex, final int bToIndex) {
+    try {
+      return (boolean)EQUALS_LONG.invokeExact(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+    catch (final RuntimeException | Error e) {
+      throw e;
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  static boolean equals(final float[] a, int aFromIndex, final float[] b, int bFromIndex, final int length) {
+    for (final int i$ = aFromIndex + length; aFromIndex < i$; ++aFromIndex, ++bFromIndex) // [A]
+      if (a[aFromIndex] != b[bFromIndex])
+        return false;
+
+    return true;
+  }
+
+  static boolean equals(final double[] a, int aFromIndex, final double[] b, int bFromIndex, final int length) {
+    for (final int i$ = aFromIndex + length; aFromIndex < i$; ++aFromIndex, ++bFromIndex) // [A]
+      if (a[aFromIndex] != b[bFromIndex])
+        return false;
+
+    return true;
+  }
+
+  static int indexOf(final byte[] array, int off, final int len, final byte value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final char[] array, int off, final int len, final char value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final short[] array, int off, final int len, final short value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final int[] array, int off, final int len, final int value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final long[] array, int off, final int len, final long value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final float[] array, int off, final int len, final float value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final double[] array, int off, final int len, final double value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  private ArrayIntrinsics() {
+  }
+}
\ No newline at end of file
@@ -40,6 +40,12 @@ import org.libj.util.primitive.ShortComparator;
 
 /**
  * Utility functions for operations pertaining to arrays.
+ * <p>
+ * The {@code indexOf} methods, and the {@code equals} methods for {@code float} and {@code double}, are vectorized with the
+ * {@code jdk.incubator.vector} module only if both of the following hold. The jar must be built with the {@code vector} profile
+ * ({@code mvn -P vector package}), which packages the vectorized classes in {@code META-INF/versions/17} of a multi-release jar. And
+ * the JVM, of version 17 or later, must be started with {@code --add-modules jdk.incubator.vector}. Otherwise, these methods are scalar
+ * loops.
  */
 public final class ArrayUtil extends PrimitiveSort {
   /** The empty {@code Object[]} array. */
@@ -97,6 +103,9 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
+    if (ArrayIntrinsics.RANGED_EQUALS && aLength > 0)
+      return ArrayIntrinsics.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+
     for (int i = 0; i < aLength; ++i) // [A]
       if (a[aFromIndex++] != b[bFromIndex++])
         return false;
@@ -132,6 +141,9 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
+    if (ArrayIntrinsics.RANGED_EQUALS && aLength > 0)
+      return ArrayIntrinsics.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+
     for (int i = 0; i < aLength; ++i) // [A]
       if (a[aFromIndex++] != b[bFromIndex++])
         return false;
@@ -167,6 +179,9 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
+    if (ArrayIntrinsics.RANGED_EQUALS && aLength > 0)
+      return ArrayIntrinsics.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+
     for (int i = 0; i < aLength; ++i) // [A]
       if (a[aFromIndex++] != b[bFromIndex++])
         return false;
@@ -202,6 +217,9 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
+    if (ArrayIntrinsics.RANGED_EQUALS && aLength > 0)
+      return ArrayIntrinsics.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+
     for (int i = 0; i < aLength; ++i) // [A]
       if (a[aFromIndex++] != b[bFromIndex++])
         return false;
@@ -237,6 +255,9 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
+    if (ArrayIntrinsics.RANGED_EQUALS && aLength > 0)
+      return ArrayIntrinsics.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+
     for (int i = 0; i < aLength; ++i) // [A]
       if (a[aFromIndex++] != b[bFromIndex++])
         return false;
@@ -272,6 +293,9 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
+    if (ArrayIntrinsics.RANGED_EQUALS && aLength > 0)
+      return ArrayIntrinsics.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+
     for (int i = 0; i < aLength; ++i) // [A]
       if (a[aFromIndex++] != b[bFromIndex++])
         return false;
@@ -307,11 +331,7 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
-    for (int i = 0; i < aLength; ++i) // [A]
-      if (a[aFromIndex++] != b[bFromIndex++])
-        return false;
-
-    return true;
+    return ArrayIntrinsics.equals(a, aFromIndex, b, bFromIndex, aLength);
   }
 
   /**
@@ -342,11 +362,7 @@ public final class ArrayUtil extends PrimitiveSort {
     if (aLength != bLength)
       return false;
 
-    for (int i = 0; i < aLength; ++i) // [A]
-      if (a[aFromIndex++] != b[bFromIndex++])
-        return false;
-
-    return true;
+    return ArrayIntrinsics.equals(a, aFromIndex, b, bFromIndex, aLength);
   }
 
   /**
@@ -736,6 +752,129 @@ public final class ArrayUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(Comparable[],Comparable)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param <T> Type parameter of {@link Comparable} object.
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
+   */
+  public static <T extends Comparable<? super T>> void binaryClosestSearchAll(final T[] a, final T[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, (final T o1, final T o2) -> o1.compareTo(o2));
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(Comparable[],int,int,Comparable)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param <T> Type parameter of {@link Comparable} object.
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
+   */
+  public static <T extends Comparable<? super T>> void binaryClosestSearchAll(final T[] a, final int fromIndex, final int toIndex, final T[] keys, final int[] out) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, (final T o1, final T o2) -> o1.compareTo(o2));
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(Object[],Object,Comparator)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param <T> Type parameter of the object.
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static <T> void binaryClosestSearchAll(final T[] a, final T[] keys, final int[] out, final Comparator<? super T> c) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, c);
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(Object[],int,int,Object,Comparator)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param <T> Type parameter of the object.
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static <T> void binaryClosestSearchAll(final T[] a, final int fromIndex, final int toIndex, final T[] keys, final int[] out, final Comparator<? super T> c) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, c);
+  }
+
+  private static <T> void binaryClosestSearchAll0(final T[] a, final int fromIndex, final int toIndex, final T[] keys, final int[] out, final Comparator<? super T> c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = fromIndex; i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = fromIndex;
+
+      out[i] = index = gallopClosestSearch(a, index, toIndex, keys[i], c);
+    }
+  }
+
+  private static <T> int gallopClosestSearch(final T[] a, final int fromIndex, final int toIndex, final T key, final Comparator<? super T> c) {
+    if (fromIndex == toIndex || c.compare(key, a[fromIndex]) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a[hi]) > 0) { // [A]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [A]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a[mid]) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  private static void assertBatchLength(final int keys, final int out) {
+    if (out < keys)
+      throw new IllegalArgumentException("out.length [" + out + "] must be greater than or equal to keys.length [" + keys + "]");
+  }
+
   /**
    * Find the index of the sorted array whose value most closely matches the value provided. The value at the returned index will be
    * less than or equal to an exact match, and never less than {@code 0} (even for empty arrays).
@@ -1133,212 +1272,666 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   /**
-   * Replace all members of the provided array with the provided {@link UnaryOperator}.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(byte[],byte)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}. Each
+   * search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the indexes
+   * are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the number of
+   * keys approaches the length of the array. A key that is less than the previous key is searched from the start of the array. If the
+   * array contains several values equal to a key, the index of the first is stored.
    *
-   * @param <T> Type parameter of object.
-   * @param operator The {@link UnaryOperator} that defines the replacement operation.
-   * @param array The array whose members are to be replaced.
-   * @return The the original array instance with its members replaced by the operator.
-   * @throws NullPointerException If {@code operator} or {@code array} is null.
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
    */
-  @SafeVarargs
-  public static <T> T[] replaceAll(final UnaryOperator<T> operator, final T ... array) {
-    for (int i = 0, i$ = array.length; i < i$; ++i) // [A]
-      array[i] = operator.apply(array[i]);
-
-    return array;
+  public static void binaryClosestSearchAll(final byte[] a, final byte[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, ByteComparator.NATURAL);
   }
 
   /**
-   * Filter the provided array with the specified {@link Predicate}. This method is recursive.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(byte[],int,int,byte)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}.
+   * Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the
+   * indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the
+   * number of keys approaches the length of the array. A key that is less than the previous key is searched from the start of the
+   * array. If the array contains several values equal to a key, the index of the first is stored.
    *
-   * @param <T> Type parameter of object.
-   * @param predicate The {@link Predicate} that defines the filter.
-   * @param array The array whose members are to be filtered.
-   * @return A new array instance with members that pass the filter.
-   * @throws NullPointerException If {@code predicate} or {@code array} is null.
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
    */
-  @SafeVarargs
-  public static <T> T[] filter(final Predicate<? super T> predicate, final T ... array) {
-    return filter0(predicate, array, array.length, 0, 0);
+  public static void binaryClosestSearchAll(final byte[] a, final int fromIndex, final int toIndex, final byte[] keys, final int[] out) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, ByteComparator.NATURAL);
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> T[] filter0(final Predicate<? super T> predicate, final T[] array, final int length, final int index, final int depth) {
-    if (index == length)
-      return (T[])Array.newInstance(array.getClass().getComponentType(), depth);
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(byte[],int,int,byte,ByteComparator)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final byte[] a, final int fromIndex, final int toIndex, final byte[] keys, final int[] out, final ByteComparator c) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, c);
+  }
 
-    final boolean accept = predicate.test(array[index]);
-    if (!accept)
-      return filter0(predicate, array, length, index + 1, depth);
+  private static void binaryClosestSearchAll0(final byte[] a, final int fromIndex, final int toIndex, final byte[] keys, final int[] out, final ByteComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = fromIndex; i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = fromIndex;
 
-    final T[] filtered = filter0(predicate, array, length, index + 1, depth + 1);
-    filtered[depth] = array[index];
-    return filtered;
+      out[i] = index = gallopClosestSearch(a, index, toIndex, keys[i], c);
+    }
   }
 
-  private static <T> T[] concat0(final T[] array1, final T[] array2, final T[][] arrays) {
-    int length = array1.length + array2.length;
-    for (int i = 0, i$ = arrays.length; i < i$; ++i) // [A]
-      length += arrays[i].length;
+  private static int gallopClosestSearch(final byte[] a, final int fromIndex, final int toIndex, final byte key, final ByteComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a[fromIndex]) <= 0)
+      return fromIndex;
 
-    final T[] concat = Arrays.copyOf(array1, length);
-    System.arraycopy(array2, 0, concat, array1.length, array2.length);
-    for (int i = 0, l = array1.length + array2.length; i < arrays.length; l += arrays[i].length, ++i) // [A]
-      System.arraycopy(arrays[i], 0, concat, l, arrays[i].length);
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a[hi]) > 0) { // [A]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
 
-    return concat;
+    for (int mid; hi - lo > 1;) { // [A]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a[mid]) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
   }
 
   /**
-   * Returns a new array containing the members of the given 2-dimensional array as a 1-dimensional array.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(short[],short)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}. Each
+   * search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the indexes
+   * are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the number of
+   * keys approaches the length of the array. A key that is less than the previous key is searched from the start of the array. If the
+   * array contains several values equal to a key, the index of the first is stored.
    *
-   * @param <T> Type parameter of object.
-   * @param arrays The 2-dimensional array, whose array members are to be concatenated into a 1-dimensional array.
-   * @return A new array containing the members of the given 2-dimensional array as a 1-dimensional array.
-   * @throws NullPointerException If {@code arrays} is null.
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
    */
-  @SuppressWarnings("unchecked")
-  public static <T> T[] concat(final T[][] arrays) {
-    int length = 0;
-    for (int i = 0, i$ = arrays.length; i < i$; ++i) // [A]
-      length += arrays[i].length;
-
-    final T[] concat = (T[])Array.newInstance(arrays[0].getClass().getComponentType(), length);
-    for (int i = 0, l = 0; i < arrays.length; l += arrays[i].length, ++i) // [A]
-      System.arraycopy(arrays[i], 0, concat, l, arrays[i].length);
+  public static void binaryClosestSearchAll(final short[] a, final short[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, ShortComparator.NATURAL);
+  }
 
-    return concat;
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(short[],int,int,short)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final short[] a, final int fromIndex, final int toIndex, final short[] keys, final int[] out) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, ShortComparator.NATURAL);
   }
 
   /**
-   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(short[],int,int,short,ShortComparator)} does for a single key, and store the index for {@code keys[i]}
+   * in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
    *
-   * @param <T> Type parameter of object.
-   * @param array1 The first array to be concatenated.
-   * @param array2 The second array to be concatenated.
-   * @return A new array containing the members of the given arrays concatenated in the provided order.
-   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
    */
-  public static <T> T[] concat(final T[] array1, final T[] array2) {
-    final int length = array1.length + array2.length;
-    final T[] concat = Arrays.copyOf(array1, length);
-    System.arraycopy(array2, 0, concat, array1.length, array2.length);
-    return concat;
+  public static void binaryClosestSearchAll(final short[] a, final int fromIndex, final int toIndex, final short[] keys, final int[] out, final ShortComparator c) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final short[] a, final int fromIndex, final int toIndex, final short[] keys, final int[] out, final ShortComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = fromIndex; i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = fromIndex;
+
+      out[i] = index = gallopClosestSearch(a, index, toIndex, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final short[] a, final int fromIndex, final int toIndex, final short key, final ShortComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a[fromIndex]) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a[hi]) > 0) { // [A]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [A]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a[mid]) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
   }
 
   /**
-   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(int[],int)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}. Each
+   * search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the indexes
+   * are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the number of
+   * keys approaches the length of the array. A key that is less than the previous key is searched from the start of the array. If the
+   * array contains several values equal to a key, the index of the first is stored.
    *
-   * @param <T> Type parameter of object.
-   * @param array1 The first array to be concatenated.
-   * @param array2 The second array to be concatenated.
-   * @param arrays The remaining arrays to be concatenated.
-   * @return A new array containing the members of the given arrays concatenated in the provided order.
-   * @throws NullPointerException If {@code array1}, {code array2} or {@code arrays} is null.
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
    */
-  @SafeVarargs
-  public static <T> T[] concat(final T[] array1, final T[] array2, final T[] ... arrays) {
-    return concat0(array1, array2, arrays);
+  public static void binaryClosestSearchAll(final int[] a, final int[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, IntComparator.NATURAL);
   }
 
   /**
-   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(int[],int,int,int)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}.
+   * Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the
+   * indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the
+   * number of keys approaches the length of the array. A key that is less than the previous key is searched from the start of the
+   * array. If the array contains several values equal to a key, the index of the first is stored.
    *
-   * @param array1 The first array to be concatenated.
-   * @param array2 The second array to be concatenated.
-   * @return A new array containing the members of the given arrays concatenated in the provided order.
-   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
    */
-  public static boolean[] concat(final boolean[] array1, final boolean[] array2) {
-    final boolean[] concat = new boolean[array1.length + array2.length];
-    System.arraycopy(array1, 0, concat, 0, array1.length);
-    System.arraycopy(array2, 0, concat, array1.length, array2.length);
-    return concat;
+  public static void binaryClosestSearchAll(final int[] a, final int fromIndex, final int toIndex, final int[] keys, final int[] out) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, IntComparator.NATURAL);
   }
 
   /**
-   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(int[],int,int,int,IntComparator)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
    *
-   * @param array1 The first array to be concatenated.
-   * @param array2 The second array to be concatenated.
-   * @param arrays The remaining arrays to be concatenated.
-   * @return A new array containing the members of the given arrays concatenated in the provided order.
-   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
    */
-  public static boolean[] concat(final boolean[] array1, final boolean[] array2, final boolean[] ... arrays) {
-    int length = array1.length + array2.length;
-    for (final boolean[] array : arrays) // [A]
-      length += array.length;
+  public static void binaryClosestSearchAll(final int[] a, final int fromIndex, final int toIndex, final int[] keys, final int[] out, final IntComparator c) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, c);
+  }
 
-    int i = array1.length;
-    final boolean[] concat = new boolean[length];
-    System.arraycopy(array1, 0, concat, 0, i);
-    System.arraycopy(array2, 0, concat, i, array2.length);
-    i += array2.length;
+  private static void binaryClosestSearchAll0(final int[] a, final int fromIndex, final int toIndex, final int[] keys, final int[] out, final IntComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = fromIndex; i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = fromIndex;
 
-    for (final boolean[] array : arrays) { // [A]
-      System.arraycopy(array, 0, concat, i, array.length);
-      i += array.length;
+      out[i] = index = gallopClosestSearch(a, index, toIndex, keys[i], c);
     }
+  }
 
-    return concat;
+  private static int gallopClosestSearch(final int[] a, final int fromIndex, final int toIndex, final int key, final IntComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a[fromIndex]) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a[hi]) > 0) { // [A]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [A]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a[mid]) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
   }
 
   /**
-   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(float[],float)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}. Each
+   * search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the indexes
+   * are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the number of
+   * keys approaches the length of the array. A key that is less than the previous key is searched from the start of the array. If the
+   * array contains several values equal to a key, the index of the first is stored.
    *
-   * @param array1 The first array to be concatenated.
-   * @param array2 The second array to be concatenated.
-   * @return A new array containing the members of the given arrays concatenated in the provided order.
-   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
    */
-  public static byte[] concat(final byte[] array1, final byte[] array2) {
-    final byte[] concat = new byte[array1.length + array2.length];
-    System.arraycopy(array1, 0, concat, 0, array1.length);
-    System.arraycopy(array2, 0, concat, array1.length, array2.length);
-    return concat;
+  public static void binaryClosestSearchAll(final float[] a, final float[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, FloatComparator.NATURAL);
   }
 
   /**
-   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(float[],int,int,float)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
    *
-   * @param array1 The first array to be concatenated.
-   * @param array2 The second array to be concatenated.
-   * @param arrays The remaining arrays to be concatenated.
-   * @return A new array containing the members of the given arrays concatenated in the provided order.
-   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
    */
-  public static byte[] concat(final byte[] array1, final byte[] array2, final byte[] ... arrays) {
-    int length = array1.length + array2.length;
-    for (final byte[] array : arrays) // [A]
-      length += array.length;
+  public static void binaryClosestSearchAll(final float[] a, final int fromIndex, final int toIndex, final float[] keys, final int[] out) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, FloatComparator.NATURAL);
+  }
 
-    int i = array1.length;
-    final byte[] concat = new byte[length];
-    System.arraycopy(array1, 0, concat, 0, i);
-    System.arraycopy(array2, 0, concat, i, array2.length);
-    i += array2.length;
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(float[],int,int,float,FloatComparator)} does for a single key, and store the index for {@code keys[i]}
+   * in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final float[] a, final int fromIndex, final int toIndex, final float[] keys, final int[] out, final FloatComparator c) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, c);
+  }
 
-    for (final byte[] array : arrays) { // [A]
-      System.arraycopy(array, 0, concat, i, array.length);
-      i += array.length;
+  private static void binaryClosestSearchAll0(final float[] a, final int fromIndex, final int toIndex, final float[] keys, final int[] out, final FloatComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = fromIndex; i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = fromIndex;
+
+      out[i] = index = gallopClosestSearch(a, index, toIndex, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final float[] a, final int fromIndex, final int toIndex, final float key, final FloatComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a[fromIndex]) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a[hi]) > 0) { // [A]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [A]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a[mid]) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(double[],double)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}.
+   * Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the
+   * indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the
+   * number of keys approaches the length of the array. A key that is less than the previous key is searched from the start of the
+   * array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final double[] a, final double[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, DoubleComparator.NATURAL);
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(double[],int,int,double)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final double[] a, final int fromIndex, final int toIndex, final double[] keys, final int[] out) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, DoubleComparator.NATURAL);
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(double[],int,int,double,DoubleComparator)} does for a single key, and store the index for
+   * {@code keys[i]} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted
+   * in the order of the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both
+   * arrays in O(n + m) time as the number of keys approaches the length of the array. A key that is less than the previous key is
+   * searched from the start of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final double[] a, final int fromIndex, final int toIndex, final double[] keys, final int[] out, final DoubleComparator c) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final double[] a, final int fromIndex, final int toIndex, final double[] keys, final int[] out, final DoubleComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = fromIndex; i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = fromIndex;
+
+      out[i] = index = gallopClosestSearch(a, index, toIndex, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final double[] a, final int fromIndex, final int toIndex, final double key, final DoubleComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a[fromIndex]) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a[hi]) > 0) { // [A]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [A]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a[mid]) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(long[],long)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}. Each
+   * search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the indexes
+   * are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the number of
+   * keys approaches the length of the array. A key that is less than the previous key is searched from the start of the array. If the
+   * array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final long[] a, final long[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, 0, a.length, keys, out, LongComparator.NATURAL);
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(long[],int,int,long)} does for a single key, and store the index for {@code keys[i]} in {@code out[i]}.
+   * Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of the array, the
+   * indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m) time as the
+   * number of keys approaches the length of the array. A key that is less than the previous key is searched from the start of the
+   * array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final long[] a, final int fromIndex, final int toIndex, final long[] keys, final int[] out) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, LongComparator.NATURAL);
+  }
+
+  /**
+   * Find the indexes of the sorted array whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(long[],int,int,long,LongComparator)} does for a single key, and store the index for {@code keys[i]} in
+   * {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in the order of
+   * the array, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both arrays in O(n + m)
+   * time as the number of keys approaches the length of the array. A key that is less than the previous key is searched from the start
+   * of the array. If the array contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to search from.
+   * @param toIndex The ending index of the sorted array to search to.
+   * @param keys The values to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0 or toIndex > a.length}.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code out.length < keys.length}.
+   * @throws NullPointerException If the provided array, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final long[] a, final int fromIndex, final int toIndex, final long[] keys, final int[] out, final LongComparator c) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    binaryClosestSearchAll0(a, fromIndex, toIndex, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final long[] a, final int fromIndex, final int toIndex, final long[] keys, final int[] out, final LongComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = fromIndex; i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = fromIndex;
+
+      out[i] = index = gallopClosestSearch(a, index, toIndex, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final long[] a, final int fromIndex, final int toIndex, final long key, final LongComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a[fromIndex]) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a[hi]) > 0) { // [A]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
     }
 
+    for (int mid; hi - lo > 1;) { // [A]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a[mid]) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Replace all members of the provided array with the provided {@link UnaryOperator}.
+   *
+   * @param <T> Type parameter of object.
+   * @param operator The {@link UnaryOperator} that defines the replacement operation.
+   * @param array The array whose members are to be replaced.
+   * @return The the original array instance with its members replaced by the operator.
+   * @throws NullPointerException If {@code operator} or {@code array} is null.
+   */
+  @SafeVarargs
+  public static <T> T[] replaceAll(final UnaryOperator<T> operator, final T ... array) {
+    for (int i = 0, i$ = array.length; i < i$; ++i) // [A]
+      array[i] = operator.apply(array[i]);
+
+    return array;
+  }
+
+  /**
+   * Filter the provided array with the specified {@link Predicate}. This method is recursive.
+   *
+   * @param <T> Type parameter of object.
+   * @param predicate The {@link Predicate} that defines the filter.
+   * @param array The array whose members are to be filtered.
+   * @return A new array instance with members that pass the filter.
+   * @throws NullPointerException If {@code predicate} or {@code array} is null.
+   */
+  @SafeVarargs
+  public static <T> T[] filter(final Predicate<? super T> predicate, final T ... array) {
+    return filter0(predicate, array, array.length, 0, 0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T[] filter0(final Predicate<? super T> predicate, final T[] array, final int length, final int index, final int depth) {
+    if (index == length)
+      return (T[])Array.newInstance(array.getClass().getComponentType(), depth);
+
+    final boolean accept = predicate.test(array[index]);
+    if (!accept)
+      return filter0(predicate, array, length, index + 1, depth);
+
+    final T[] filtered = filter0(predicate, array, length, index + 1, depth + 1);
+    filtered[depth] = array[index];
+    return filtered;
+  }
+
+  private static <T> T[] concat0(final T[] array1, final T[] array2, final T[][] arrays) {
+    int length = array1.length + array2.length;
+    for (int i = 0, i$ = arrays.length; i < i$; ++i) // [A]
+      length += arrays[i].length;
+
+    final T[] concat = Arrays.copyOf(array1, length);
+    System.arraycopy(array2, 0, concat, array1.length, array2.length);
+    for (int i = 0, l = array1.length + array2.length; i < arrays.length; l += arrays[i].length, ++i) // [A]
+      System.arraycopy(arrays[i], 0, concat, l, arrays[i].length);
+
+    return concat;
+  }
+
+  /**
+   * Returns a new array containing the members of the given 2-dimensional array as a 1-dimensional array.
+   *
+   * @param <T> Type parameter of object.
+   * @param arrays The 2-dimensional array, whose array members are to be concatenated into a 1-dimensional array.
+   * @return A new array containing the members of the given 2-dimensional array as a 1-dimensional array.
+   * @throws NullPointerException If {@code arrays} is null.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T[] concat(final T[][] arrays) {
+    int length = 0;
+    for (int i = 0, i$ = arrays.length; i < i$; ++i) // [A]
+      length += arrays[i].length;
+
+    final T[] concat = (T[])Array.newInstance(arrays[0].getClass().getComponentType(), length);
+    for (int i = 0, l = 0; i < arrays.length; l += arrays[i].length, ++i) // [A]
+      System.arraycopy(arrays[i], 0, concat, l, arrays[i].length);
+
     return concat;
   }
 
   /**
    * Returns a new array containing the members of the given arrays concatenated in the provided order.
    *
+   * @param <T> Type parameter of object.
    * @param array1 The first array to be concatenated.
    * @param array2 The second array to be concatenated.
    * @return A new array containing the members of the given arrays concatenated in the provided order.
    * @throws NullPointerException If {@code array1} or {code array2} is null.
    */
-  public static char[] concat(final char[] array1, final char[] array2) {
-    final char[] concat = new char[array1.length + array2.length];
-    System.arraycopy(array1, 0, concat, 0, array1.length);
+  public static <T> T[] concat(final T[] array1, final T[] array2) {
+    final int length = array1.length + array2.length;
+    final T[] concat = Arrays.copyOf(array1, length);
     System.arraycopy(array2, 0, concat, array1.length, array2.length);
     return concat;
   }
@@ -1346,29 +1939,16 @@ public final class ArrayUtil extends PrimitiveSort {
   /**
    * Returns a new array containing the members of the given arrays concatenated in the provided order.
    *
+   * @param <T> Type parameter of object.
    * @param array1 The first array to be concatenated.
    * @param array2 The second array to be concatenated.
    * @param arrays The remaining arrays to be concatenated.
    * @return A new array containing the members of the given arrays concatenated in the provided order.
-   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   * @throws NullPointerException If {@code array1}, {code array2} or {@code arrays} is null.
    */
-  public static char[] concat(final char[] array1, final char[] array2, final char[] ... arrays) {
-    int length = array1.length + array2.length;
-    for (final char[] array : arrays) // [A]
-      length += array.length;
-
-    int i = array1.length;
-    final char[] concat = new char[length];
-    System.arraycopy(array1, 0, concat, 0, i);
-    System.arraycopy(array2, 0, concat, i, array2.length);
-
-    i += array2.length;
-    for (final char[] array : arrays) { // [A]
-      System.arraycopy(array, 0, concat, i, array.length);
-      i += array.length;
-    }
-
-    return concat;
+  @SafeVarargs
+  public static <T> T[] concat(final T[] array1, final T[] array2, final T[] ... arrays) {
+    return concat0(array1, array2, arrays);
   }
 
   /**
@@ -1379,8 +1959,8 @@ public final class ArrayUtil extends PrimitiveSort {
    * @return A new array containing the members of the given arrays concatenated in the provided order.
    * @throws NullPointerException If {@code array1} or {code array2} is null.
    */
-  public static short[] concat(final short[] array1, final short[] array2) {
-    final short[] concat = new short[array1.length + array2.length];
+  public static boolean[] concat(final boolean[] array1, final boolean[] array2) {
+    final boolean[] concat = new boolean[array1.length + array2.length];
     System.arraycopy(array1, 0, concat, 0, array1.length);
     System.arraycopy(array2, 0, concat, array1.length, array2.length);
     return concat;
@@ -1395,18 +1975,18 @@ public final class ArrayUtil extends PrimitiveSort {
    * @return A new array containing the members of the given arrays concatenated in the provided order.
    * @throws NullPointerException If {@code array1} or {code array2} is null.
    */
-  public static short[] concat(final short[] array1, final short[] array2, final short[] ... arrays) {
+  public static boolean[] concat(final boolean[] array1, final boolean[] array2, final boolean[] ... arrays) {
     int length = array1.length + array2.length;
-    for (final short[] array : arrays) // [A]
+    for (final boolean[] array : arrays) // [A]
       length += array.length;
 
     int i = array1.length;
-    final short[] concat = new short[length];
+    final boolean[] concat = new boolean[length];
     System.arraycopy(array1, 0, concat, 0, i);
     System.arraycopy(array2, 0, concat, i, array2.length);
     i += array2.length;
 
-    for (final short[] array : arrays) { // [A]
+    for (final boolean[] array : arrays) { // [A]
       System.arraycopy(array, 0, concat, i, array.length);
       i += array.length;
     }
@@ -1422,8 +2002,8 @@ public final class ArrayUtil extends PrimitiveSort {
    * @return A new array containing the members of the given arrays concatenated in the provided order.
    * @throws NullPointerException If {@code array1} or {code array2} is null.
    */
-  public static int[] concat(final int[] array1, final int[] array2) {
-    final int[] concat = new int[array1.length + array2.length];
+  public static byte[] concat(final byte[] array1, final byte[] array2) {
+    final byte[] concat = new byte[array1.length + array2.length];
     System.arraycopy(array1, 0, concat, 0, array1.length);
     System.arraycopy(array2, 0, concat, array1.length, array2.length);
     return concat;
@@ -1438,18 +2018,18 @@ public final class ArrayUtil extends PrimitiveSort {
    * @return A new array containing the members of the given arrays concatenated in the provided order.
    * @throws NullPointerException If {@code array1} or {code array2} is null.
    */
-  public static int[] concat(final int[] array1, final int[] array2, final int[] ... arrays) {
+  public static byte[] concat(final byte[] array1, final byte[] array2, final byte[] ... arrays) {
     int length = array1.length + array2.length;
-    for (final int[] array : arrays) // [A]
+    for (final byte[] array : arrays) // [A]
       length += array.length;
 
     int i = array1.length;
-    final int[] concat = new int[length];
+    final byte[] concat = new byte[length];
     System.arraycopy(array1, 0, concat, 0, i);
     System.arraycopy(array2, 0, concat, i, array2.length);
     i += array2.length;
 
-    for (final int[] array : arrays) { // [A]
+    for (final byte[] array : arrays) { // [A]
       System.arraycopy(array, 0, concat, i, array.length);
       i += array.length;
     }
@@ -1465,8 +2045,8 @@ public final class ArrayUtil extends PrimitiveSort {
    * @return A new array containing the members of the given arrays concatenated in the provided order.
    * @throws NullPointerException If {@code array1} or {code array2} is null.
    */
-  public static long[] concat(final long[] array1, final long[] array2) {
-    final long[] concat = new long[array1.length + array2.length];
+  public static char[] concat(final char[] array1, final char[] array2) {
+    final char[] concat = new char[array1.length + array2.length];
     System.arraycopy(array1, 0, concat, 0, array1.length);
     System.arraycopy(array2, 0, concat, array1.length, array2.length);
     return concat;
@@ -1481,13 +2061,142 @@ public final class ArrayUtil extends PrimitiveSort {
    * @return A new array containing the members of the given arrays concatenated in the provided order.
    * @throws NullPointerException If {@code array1} or {code array2} is null.
    */
-  public static long[] concat(final long[] array1, final long[] array2, final long[] ... arrays) {
+  public static char[] concat(final char[] array1, final char[] array2, final char[] ... arrays) {
     int length = array1.length + array2.length;
-    for (final long[] array : arrays) // [A]
+    for (final char[] array : arrays) // [A]
       length += array.length;
 
     int i = array1.length;
-    final long[] concat = new long[length];
+    final char[] concat = new char[length];
+    System.arraycopy(array1, 0, concat, 0, i);
+    System.arraycopy(array2, 0, concat, i, array2.length);
+
+    i += array2.length;
+    for (final char[] array : arrays) { // [A]
+      System.arraycopy(array, 0, concat, i, array.length);
+      i += array.length;
+    }
+
+    return concat;
+  }
+
+  /**
+   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   *
+   * @param array1 The first array to be concatenated.
+   * @param array2 The second array to be concatenated.
+   * @return A new array containing the members of the given arrays concatenated in the provided order.
+   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   */
+  public static short[] concat(final short[] array1, final short[] array2) {
+    final short[] concat = new short[array1.length + array2.length];
+    System.arraycopy(array1, 0, concat, 0, array1.length);
+    System.arraycopy(array2, 0, concat, array1.length, array2.length);
+    return concat;
+  }
+
+  /**
+   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   *
+   * @param array1 The first array to be concatenated.
+   * @param array2 The second array to be concatenated.
+   * @param arrays The remaining arrays to be concatenated.
+   * @return A new array containing the members of the given arrays concatenated in the provided order.
+   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   */
+  public static short[] concat(final short[] array1, final short[] array2, final short[] ... arrays) {
+    int length = array1.length + array2.length;
+    for (final short[] array : arrays) // [A]
+      length += array.length;
+
+    int i = array1.length;
+    final short[] concat = new short[length];
+    System.arraycopy(array1, 0, concat, 0, i);
+    System.arraycopy(array2, 0, concat, i, array2.length);
+    i += array2.length;
+
+    for (final short[] array : arrays) { // [A]
+      System.arraycopy(array, 0, concat, i, array.length);
+      i += array.length;
+    }
+
+    return concat;
+  }
+
+  /**
+   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   *
+   * @param array1 The first array to be concatenated.
+   * @param array2 The second array to be concatenated.
+   * @return A new array containing the members of the given arrays concatenated in the provided order.
+   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   */
+  public static int[] concat(final int[] array1, final int[] array2) {
+    final int[] concat = new int[array1.length + array2.length];
+    System.arraycopy(array1, 0, concat, 0, array1.length);
+    System.arraycopy(array2, 0, concat, array1.length, array2.length);
+    return concat;
+  }
+
+  /**
+   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   *
+   * @param array1 The first array to be concatenated.
+   * @param array2 The second array to be concatenated.
+   * @param arrays The remaining arrays to be concatenated.
+   * @return A new array containing the members of the given arrays concatenated in the provided order.
+   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   */
+  public static int[] concat(final int[] array1, final int[] array2, final int[] ... arrays) {
+    int length = array1.length + array2.length;
+    for (final int[] array : arrays) // [A]
+      length += array.length;
+
+    int i = array1.length;
+    final int[] concat = new int[length];
+    System.arraycopy(array1, 0, concat, 0, i);
+    System.arraycopy(array2, 0, concat, i, array2.length);
+    i += array2.length;
+
+    for (final int[] array : arrays) { // [A]
+      System.arraycopy(array, 0, concat, i, array.length);
+      i += array.length;
+    }
+
+    return concat;
+  }
+
+  /**
+   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   *
+   * @param array1 The first array to be concatenated.
+   * @param array2 The second array to be concatenated.
+   * @return A new array containing the members of the given arrays concatenated in the provided order.
+   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   */
+  public static long[] concat(final long[] array1, final long[] array2) {
+    final long[] concat = new long[array1.length + array2.length];
+    System.arraycopy(array1, 0, concat, 0, array1.length);
+    System.arraycopy(array2, 0, concat, array1.length, array2.length);
+    return concat;
+  }
+
+  /**
+   * Returns a new array containing the members of the given arrays concatenated in the provided order.
+   *
+   * @param array1 The first array to be concatenated.
+   * @param array2 The second array to be concatenated.
+   * @param arrays The remaining arrays to be concatenated.
+   * @return A new array containing the members of the given arrays concatenated in the provided order.
+   * @throws NullPointerException If {@code array1} or {code array2} is null.
+   */
+  public static long[] concat(final long[] array1, final long[] array2, final long[] ... arrays) {
+    int length = array1.length + array2.length;
+    for (final long[] array : arrays) // [A]
+      length += array.length;
+
+    int i = array1.length;
+    final long[] concat = new long[length];
     System.arraycopy(array1, 0, concat, 0, i);
     System.arraycopy(array2, 0, concat, i, array2.length);
     i += array2.length;
@@ -1748,11 +2457,7 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   private static <T> int indexOf0(final byte[] array, final int off, final int len, final byte value) {
-    for (int i = off; i < len; ++i) // [A]
-      if (value == array[i])
-        return i;
-
-    return -1;
+    return ArrayIntrinsics.indexOf(array, off, len, value);
   }
 
   /**
@@ -1782,11 +2487,7 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   private static <T> int indexOf0(final char[] array, final int off, final int len, final char value) {
-    for (int i = off; i < len; ++i) // [A]
-      if (value == array[i])
-        return i;
-
-    return -1;
+    return ArrayIntrinsics.indexOf(array, off, len, value);
   }
 
   /**
@@ -1816,11 +2517,7 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   private static <T> int indexOf0(final short[] array, final int off, final int len, final short value) {
-    for (int i = off; i < len; ++i) // [A]
-      if (value == array[i])
-        return i;
-
-    return -1;
+    return ArrayIntrinsics.indexOf(array, off, len, value);
   }
 
   /**
@@ -1850,11 +2547,7 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   private static <T> int indexOf0(final int[] array, final int off, final int len, final int value) {
-    for (int i = off; i < len; ++i) // [A]
-      if (value == array[i])
-        return i;
-
-    return -1;
+    return ArrayIntrinsics.indexOf(array, off, len, value);
   }
 
   /**
@@ -1884,11 +2577,7 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   private static <T> int indexOf0(final long[] array, final int off, final int len, final long value) {
-    for (int i = off; i < len; ++i) // [A]
-      if (value == array[i])
-        return i;
-
-    return -1;
+    return ArrayIntrinsics.indexOf(array, off, len, value);
   }
 
   /**
@@ -1918,11 +2607,7 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   private static <T> int indexOf0(final float[] array, final int off, final int len, final float value) {
-    for (int i = off; i < len; ++i) // [A]
-      if (value == array[i])
-        return i;
-
-    return -1;
+    return ArrayIntrinsics.indexOf(array, off, len, value);
   }
 
   /**
@@ -1952,11 +2637,7 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   private static <T> int indexOf0(final double[] array, final int off, final int len, final double value) {
-    for (int i = off; i < len; ++i) // [A]
-      if (value == array[i])
-        return i;
-
-    return -1;
+    return ArrayIntrinsics.indexOf(array, off, len, value);
   }
 
   /**
@@ -4499,6 +5180,66 @@ public final class ArrayUtil extends PrimitiveSort {
     PrimitiveSort.sortPaired(data, order, 0, order.length, comparator);
   }
 
+  private static void assertRangeSelect(final int fromIndex, final int toIndex, final int k, final int length, final boolean inclusive) {
+    assertRangeArray(fromIndex, toIndex, length);
+    if (k < fromIndex || (inclusive ? k > toIndex : k >= toIndex))
+      throw new ArrayIndexOutOfBoundsException(k);
+  }
+
+  /**
+   * Rearranges the array in the second argument, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified comparator, and permutes the array in the first argument in tandem. The selection
+   * runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select in {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use, or {@code null} to select in natural order.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code order}.
+   */
+  public static byte select(final Object[] data, final byte[] order, final int k, final ByteComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, false);
+    PrimitiveSort.select(order, data, 0, order.length, k, comparator != null ? comparator : ByteComparator.NATURAL);
+    return order[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the array in the second argument into {@code [0, k)}, according to the specified comparator, and
+   * permutes the array in the first argument in tandem. The values at {@code [k, order.length)} are left in an unspecified order.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of least values to sort.
+   * @param comparator The comparator to use, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > order.length}.
+   */
+  public static void partialSort(final Object[] data, final byte[] order, final int k, final ByteComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, true);
+    if (k == 0)
+      return;
+
+    final ByteComparator c = comparator != null ? comparator : ByteComparator.NATURAL;
+    if (k < order.length) {
+      PrimitiveSort.select(order, data, 0, order.length, k - 1, c);
+      PrimitiveSort.sortPaired(data, order, 0, k - 1, c);
+    }
+    else {
+      PrimitiveSort.sortPaired(data, order, 0, k, c);
+    }
+  }
+
+
   /**
    * Sorts the array in the first argument matching the sorted order of the array in the second argument.
    * <p>
@@ -4555,6 +5296,60 @@ public final class ArrayUtil extends PrimitiveSort {
     PrimitiveSort.sortPaired(data, order, 0, order.length, comparator);
   }
 
+  /**
+   * Rearranges the array in the second argument, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified comparator, and permutes the array in the first argument in tandem. The selection
+   * runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select in {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use, or {@code null} to select in natural order.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code order}.
+   */
+  public static char select(final Object[] data, final char[] order, final int k, final CharComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, false);
+    PrimitiveSort.select(order, data, 0, order.length, k, comparator != null ? comparator : CharComparator.NATURAL);
+    return order[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the array in the second argument into {@code [0, k)}, according to the specified comparator, and
+   * permutes the array in the first argument in tandem. The values at {@code [k, order.length)} are left in an unspecified order.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of least values to sort.
+   * @param comparator The comparator to use, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > order.length}.
+   */
+  public static void partialSort(final Object[] data, final char[] order, final int k, final CharComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, true);
+    if (k == 0)
+      return;
+
+    final CharComparator c = comparator != null ? comparator : CharComparator.NATURAL;
+    if (k < order.length) {
+      PrimitiveSort.select(order, data, 0, order.length, k - 1, c);
+      PrimitiveSort.sortPaired(data, order, 0, k - 1, c);
+    }
+    else {
+      PrimitiveSort.sortPaired(data, order, 0, k, c);
+    }
+  }
+
+
   /**
    * Sorts the array in the first argument matching the sorted order of the array in the second argument.
    * <p>
@@ -4611,6 +5406,60 @@ public final class ArrayUtil extends PrimitiveSort {
     PrimitiveSort.sortPaired(data, order, 0, order.length, comparator);
   }
 
+  /**
+   * Rearranges the array in the second argument, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified comparator, and permutes the array in the first argument in tandem. The selection
+   * runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select in {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use, or {@code null} to select in natural order.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code order}.
+   */
+  public static short select(final Object[] data, final short[] order, final int k, final ShortComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, false);
+    PrimitiveSort.select(order, data, 0, order.length, k, comparator != null ? comparator : ShortComparator.NATURAL);
+    return order[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the array in the second argument into {@code [0, k)}, according to the specified comparator, and
+   * permutes the array in the first argument in tandem. The values at {@code [k, order.length)} are left in an unspecified order.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of least values to sort.
+   * @param comparator The comparator to use, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > order.length}.
+   */
+  public static void partialSort(final Object[] data, final short[] order, final int k, final ShortComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, true);
+    if (k == 0)
+      return;
+
+    final ShortComparator c = comparator != null ? comparator : ShortComparator.NATURAL;
+    if (k < order.length) {
+      PrimitiveSort.select(order, data, 0, order.length, k - 1, c);
+      PrimitiveSort.sortPaired(data, order, 0, k - 1, c);
+    }
+    else {
+      PrimitiveSort.sortPaired(data, order, 0, k, c);
+    }
+  }
+
+
   /**
    * Sorts the array in the first argument matching the sorted order of the array in the second argument.
    * <p>
@@ -4668,19 +5517,73 @@ public final class ArrayUtil extends PrimitiveSort {
   }
 
   /**
-   * Sorts the array in the first argument matching the sorted order of the array in the second argument.
-   * <p>
-   * For example, {@code data} and {@code order} are initialized to:
-   *
-   * <pre>
-   *  data: g i j h e a c d b f
-   * order: 6 8 9 7 4 0 2 3 1 5
-   * </pre>
+   * Rearranges the array in the second argument, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified comparator, and permutes the array in the first argument in tandem. The selection
+   * runs in expected linear time, and is not stable.
    *
-   * After {@code sort(data, order)} is called:
-   *
-   * <pre>
-   *  data: a b c d e f g h i j
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select in {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use, or {@code null} to select in natural order.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code order}.
+   */
+  public static int select(final Object[] data, final int[] order, final int k, final IntComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, false);
+    PrimitiveSort.select(order, data, 0, order.length, k, comparator != null ? comparator : IntComparator.NATURAL);
+    return order[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the array in the second argument into {@code [0, k)}, according to the specified comparator, and
+   * permutes the array in the first argument in tandem. The values at {@code [k, order.length)} are left in an unspecified order.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of least values to sort.
+   * @param comparator The comparator to use, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > order.length}.
+   */
+  public static void partialSort(final Object[] data, final int[] order, final int k, final IntComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, true);
+    if (k == 0)
+      return;
+
+    final IntComparator c = comparator != null ? comparator : IntComparator.NATURAL;
+    if (k < order.length) {
+      PrimitiveSort.select(order, data, 0, order.length, k - 1, c);
+      PrimitiveSort.sortPaired(data, order, 0, k - 1, c);
+    }
+    else {
+      PrimitiveSort.sortPaired(data, order, 0, k, c);
+    }
+  }
+
+
+  /**
+   * Sorts the array in the first argument matching the sorted order of the array in the second argument.
+   * <p>
+   * For example, {@code data} and {@code order} are initialized to:
+   *
+   * <pre>
+   *  data: g i j h e a c d b f
+   * order: 6 8 9 7 4 0 2 3 1 5
+   * </pre>
+   *
+   * After {@code sort(data, order)} is called:
+   *
+   * <pre>
+   *  data: a b c d e f g h i j
    * order: 0 1 2 3 4 5 6 7 8 9
    * </pre>
    *
@@ -4723,6 +5626,60 @@ public final class ArrayUtil extends PrimitiveSort {
     PrimitiveSort.sortPaired(data, order, 0, order.length, comparator);
   }
 
+  /**
+   * Rearranges the array in the second argument, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified comparator, and permutes the array in the first argument in tandem. The selection
+   * runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select in {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use, or {@code null} to select in natural order.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code order}.
+   */
+  public static long select(final Object[] data, final long[] order, final int k, final LongComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, false);
+    PrimitiveSort.select(order, data, 0, order.length, k, comparator != null ? comparator : LongComparator.NATURAL);
+    return order[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the array in the second argument into {@code [0, k)}, according to the specified comparator, and
+   * permutes the array in the first argument in tandem. The values at {@code [k, order.length)} are left in an unspecified order.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of least values to sort.
+   * @param comparator The comparator to use, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > order.length}.
+   */
+  public static void partialSort(final Object[] data, final long[] order, final int k, final LongComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, true);
+    if (k == 0)
+      return;
+
+    final LongComparator c = comparator != null ? comparator : LongComparator.NATURAL;
+    if (k < order.length) {
+      PrimitiveSort.select(order, data, 0, order.length, k - 1, c);
+      PrimitiveSort.sortPaired(data, order, 0, k - 1, c);
+    }
+    else {
+      PrimitiveSort.sortPaired(data, order, 0, k, c);
+    }
+  }
+
+
   /**
    * Sorts the array in the first argument matching the sorted order of the array in the second argument.
    * <p>
@@ -4779,6 +5736,60 @@ public final class ArrayUtil extends PrimitiveSort {
     PrimitiveSort.sortPaired(data, order, 0, order.length, comparator);
   }
 
+  /**
+   * Rearranges the array in the second argument, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified comparator, and permutes the array in the first argument in tandem. The selection
+   * runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select in {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use, or {@code null} to select in natural order.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code order}.
+   */
+  public static float select(final Object[] data, final float[] order, final int k, final FloatComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, false);
+    PrimitiveSort.select(order, data, 0, order.length, k, comparator != null ? comparator : FloatComparator.NATURAL);
+    return order[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the array in the second argument into {@code [0, k)}, according to the specified comparator, and
+   * permutes the array in the first argument in tandem. The values at {@code [k, order.length)} are left in an unspecified order.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of least values to sort.
+   * @param comparator The comparator to use, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > order.length}.
+   */
+  public static void partialSort(final Object[] data, final float[] order, final int k, final FloatComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, true);
+    if (k == 0)
+      return;
+
+    final FloatComparator c = comparator != null ? comparator : FloatComparator.NATURAL;
+    if (k < order.length) {
+      PrimitiveSort.select(order, data, 0, order.length, k - 1, c);
+      PrimitiveSort.sortPaired(data, order, 0, k - 1, c);
+    }
+    else {
+      PrimitiveSort.sortPaired(data, order, 0, k, c);
+    }
+  }
+
+
   /**
    * Sorts the array in the first argument matching the sorted order of the array in the second argument.
    * <p>
@@ -4835,6 +5846,60 @@ public final class ArrayUtil extends PrimitiveSort {
     PrimitiveSort.sortPaired(data, order, 0, order.length, comparator);
   }
 
+  /**
+   * Rearranges the array in the second argument, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified comparator, and permutes the array in the first argument in tandem. The selection
+   * runs in expected linear time, and is not stable.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to select in {@code data}.
+   * @param k The index of the value to select.
+   * @param comparator The comparator to use, or {@code null} to select in natural order.
+   * @return The value of {@code order} at index {@code k}.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code order}.
+   */
+  public static double select(final Object[] data, final double[] order, final int k, final DoubleComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, false);
+    PrimitiveSort.select(order, data, 0, order.length, k, comparator != null ? comparator : DoubleComparator.NATURAL);
+    return order[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the array in the second argument into {@code [0, k)}, according to the specified comparator, and
+   * permutes the array in the first argument in tandem. The values at {@code [k, order.length)} are left in an unspecified order.
+   *
+   * @param data The array providing the data.
+   * @param order The array providing the order of indices to sort {@code data}.
+   * @param k The number of least values to sort.
+   * @param comparator The comparator to use, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code data} or {@code order} is null.
+   * @throws IllegalArgumentException If {@code data.length != order.length}.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > order.length}.
+   */
+  public static void partialSort(final Object[] data, final double[] order, final int k, final DoubleComparator comparator) {
+    if (data.length != order.length)
+      throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
+
+    assertRangeSelect(0, order.length, k, order.length, true);
+    if (k == 0)
+      return;
+
+    final DoubleComparator c = comparator != null ? comparator : DoubleComparator.NATURAL;
+    if (k < order.length) {
+      PrimitiveSort.select(order, data, 0, order.length, k - 1, c);
+      PrimitiveSort.sortPaired(data, order, 0, k - 1, c);
+    }
+    else {
+      PrimitiveSort.sortPaired(data, order, 0, k, c);
+    }
+  }
+
+
   /**
    * Sorts the array in the first argument matching the sorted order of the {@link List} of {@link Comparable} objects in the second
    * argument.
@@ -4863,12 +5928,7 @@ public final class ArrayUtil extends PrimitiveSort {
     if (data.length != order.length)
       throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(order.length);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> {
-      final T c1 = order[o1];
-      final T c2 = order[o2];
-      return c1 == null ? c2 == null ? 0 : -1 : c2 == null ? 1 : c1.compareTo(c2);
-    });
+    PrimitiveSort.sortPaired(data, order, 0, order.length, (final T c1, final T c2) -> c1 == null ? c2 == null ? 0 : -1 : c2 == null ? 1 : c1.compareTo(c2));
   }
 
   /**
@@ -4899,8 +5959,7 @@ public final class ArrayUtil extends PrimitiveSort {
     if (data.length != order.length)
       throw new IllegalArgumentException("data.length [" + data.length + "] and order.length [" + order.length + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(order.length);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, 0, order.length, comparator);
   }
 
   /**
@@ -4931,12 +5990,7 @@ public final class ArrayUtil extends PrimitiveSort {
     if (data.length != order.size())
       throw new IllegalArgumentException("data.length [" + data.length + "] and order.size() [" + order.size() + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(order.size());
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> {
-      final T c1 = order.get(o1);
-      final T c2 = order.get(o2);
-      return c1 == null ? c2 == null ? 0 : -1 : c2 == null ? 1 : c1.compareTo(c2);
-    });
+    PrimitiveSort.sortPaired(data, order, (final T c1, final T c2) -> c1 == null ? c2 == null ? 0 : -1 : c2 == null ? 1 : c1.compareTo(c2));
   }
 
   /**
@@ -4967,224 +6021,1445 @@ public final class ArrayUtil extends PrimitiveSort {
     if (data.length != order.size())
       throw new IllegalArgumentException("data.length [" + data.length + "] and order.size() [" + order.size() + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(order.size());
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order.get(o1), order.get(o2)));
+    PrimitiveSort.sortPaired(data, order, comparator);
+  }
+
+  /**
+   * Sorts the specified array of {@code boolean}s, according to the specified {@link BooleanComparator}.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param c The {@link BooleanComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final boolean[] a, final BooleanComparator c) {
+    sort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified array of {@code boolean}s, according to the specified {@link BooleanComparator}.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link BooleanComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final boolean[] a, final int fromIndex, final int toIndex, final BooleanComparator c) {
+    if (c != null)
+      PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else
+      DualPivotQuicksortBoolean.sort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Rearranges the specified array of {@code boolean}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link BooleanComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param k The index of the value to select.
+   * @param c The {@link BooleanComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(boolean[],int,int,int,BooleanComparator)
+   */
+  public static boolean select(final boolean[] a, final int k, final BooleanComparator c) {
+    return select(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code boolean}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link BooleanComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link BooleanComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
+   */
+  public static boolean select(final boolean[] a, final int fromIndex, final int toIndex, final int k, final BooleanComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : BooleanComparator.NATURAL);
+    return a[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the specified array of {@code boolean}s into {@code [0, k)}, according to the specified
+   * {@link BooleanComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link BooleanComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(boolean[],int,int,int,BooleanComparator)
+   */
+  public static void partialSort(final boolean[] a, final int k, final BooleanComparator c) {
+    partialSort(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code boolean}s into {@code [fromIndex, k)},
+   * according to the specified {@link BooleanComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link BooleanComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final boolean[] a, final int fromIndex, final int toIndex, final int k, final BooleanComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : BooleanComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code boolean}s in parallel, according to the specified {@link BooleanComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param c The {@link BooleanComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(boolean[],int,int,BooleanComparator)
+   */
+  public static void parallelSort(final boolean[] a, final BooleanComparator c) {
+    parallelSort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code boolean}s in parallel, according to the specified {@link BooleanComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(boolean[],int,int,BooleanComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link BooleanComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void parallelSort(final boolean[] a, final int fromIndex, final int toIndex, final BooleanComparator c) {
+    if (c == null) {
+      DualPivotQuicksortBoolean.sort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code byte}s, according to the specified {@link ByteComparator}.
+   *
+   * @param a The array of {@code byte}s.
+   * @param c The {@link ByteComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final byte[] a, final ByteComparator c) {
+    sort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified array of {@code byte}s, according to the specified {@link ByteComparator}.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link ByteComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final byte[] a, final int fromIndex, final int toIndex, final ByteComparator c) {
+    if (isRadixSortable(toIndex - fromIndex, c))
+      radixSort(a, fromIndex, toIndex);
+    else if (c != null && c != ByteComparator.NATURAL)
+      PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else
+      Arrays.sort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Sorts the specified array of {@code byte}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of the length of the array.
+   *
+   * @param a The array of {@code byte}s.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #radixSort(byte[],int,int)
+   */
+  public static void radixSort(final byte[] a) {
+    PrimitiveSort.radixSort(a, 0, a.length);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code byte}s in natural order with a least significant digit radix sort. The values
+   * are distributed by one byte of their keys per pass, performing no comparisons, and allocating a workspace array of length
+   * {@code toIndex - fromIndex}. The order is that of {@link Byte#compare(byte,byte)}.
+   * <p>
+   * {@link #sort(byte[],int,int,ByteComparator)} chooses this method automatically for a {@code null} or
+   * {@link ByteComparator#NATURAL} comparator and a range that is long enough for the radix sort to be faster.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void radixSort(final byte[] a, final int fromIndex, final int toIndex) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    PrimitiveSort.radixSort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Rearranges the specified array of {@code byte}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link ByteComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code byte}s.
+   * @param k The index of the value to select.
+   * @param c The {@link ByteComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(byte[],int,int,int,ByteComparator)
+   */
+  public static byte select(final byte[] a, final int k, final ByteComparator c) {
+    return select(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code byte}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link ByteComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link ByteComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
+   */
+  public static byte select(final byte[] a, final int fromIndex, final int toIndex, final int k, final ByteComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : ByteComparator.NATURAL);
+    return a[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the specified array of {@code byte}s into {@code [0, k)}, according to the specified
+   * {@link ByteComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code byte}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link ByteComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(byte[],int,int,int,ByteComparator)
+   */
+  public static void partialSort(final byte[] a, final int k, final ByteComparator c) {
+    partialSort(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code byte}s into {@code [fromIndex, k)},
+   * according to the specified {@link ByteComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link ByteComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final byte[] a, final int fromIndex, final int toIndex, final int k, final ByteComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : ByteComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code byte}s in parallel, according to the specified {@link ByteComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+   *
+   * @param a The array of {@code byte}s.
+   * @param c The {@link ByteComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(byte[],int,int,ByteComparator)
+   */
+  public static void parallelSort(final byte[] a, final ByteComparator c) {
+    parallelSort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code byte}s in parallel, according to the specified {@link ByteComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(byte[],int,int,ByteComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link ByteComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void parallelSort(final byte[] a, final int fromIndex, final int toIndex, final ByteComparator c) {
+    if (c == null) {
+      Arrays.parallelSort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code char}s, according to the specified {@link CharComparator}.
+   *
+   * @param a The array of {@code char}s.
+   * @param c The {@link CharComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final char[] a, final CharComparator c) {
+    sort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified array of {@code char}s, according to the specified {@link CharComparator}.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link CharComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final char[] a, final int fromIndex, final int toIndex, final CharComparator c) {
+    if (isRadixSortable(toIndex - fromIndex, c))
+      radixSort(a, fromIndex, toIndex);
+    else if (c != null && c != CharComparator.NATURAL)
+      PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else
+      Arrays.sort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Sorts the specified array of {@code char}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of the length of the array.
+   *
+   * @param a The array of {@code char}s.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #radixSort(char[],int,int)
+   */
+  public static void radixSort(final char[] a) {
+    PrimitiveSort.radixSort(a, 0, a.length);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code char}s in natural order with a least significant digit radix sort. The values
+   * are distributed by one byte of their keys per pass, performing no comparisons, and allocating a workspace array of length
+   * {@code toIndex - fromIndex}. The order is that of {@link Character#compare(char,char)}.
+   * <p>
+   * {@link #sort(char[],int,int,CharComparator)} chooses this method automatically for a {@code null} or
+   * {@link CharComparator#NATURAL} comparator and a range that is long enough for the radix sort to be faster.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void radixSort(final char[] a, final int fromIndex, final int toIndex) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    PrimitiveSort.radixSort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Rearranges the specified array of {@code char}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link CharComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code char}s.
+   * @param k The index of the value to select.
+   * @param c The {@link CharComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(char[],int,int,int,CharComparator)
+   */
+  public static char select(final char[] a, final int k, final CharComparator c) {
+    return select(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code char}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link CharComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link CharComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
+   */
+  public static char select(final char[] a, final int fromIndex, final int toIndex, final int k, final CharComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : CharComparator.NATURAL);
+    return a[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the specified array of {@code char}s into {@code [0, k)}, according to the specified
+   * {@link CharComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code char}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link CharComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(char[],int,int,int,CharComparator)
+   */
+  public static void partialSort(final char[] a, final int k, final CharComparator c) {
+    partialSort(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code char}s into {@code [fromIndex, k)},
+   * according to the specified {@link CharComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link CharComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final char[] a, final int fromIndex, final int toIndex, final int k, final CharComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : CharComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code char}s in parallel, according to the specified {@link CharComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+   *
+   * @param a The array of {@code char}s.
+   * @param c The {@link CharComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(char[],int,int,CharComparator)
+   */
+  public static void parallelSort(final char[] a, final CharComparator c) {
+    parallelSort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code char}s in parallel, according to the specified {@link CharComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(char[],int,int,CharComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link CharComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void parallelSort(final char[] a, final int fromIndex, final int toIndex, final CharComparator c) {
+    if (c == null) {
+      Arrays.parallelSort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code short}s, according to the specified {@link ShortComparator}.
+   *
+   * @param a The array of {@code short}s.
+   * @param c The {@link ShortComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final short[] a, final ShortComparator c) {
+    sort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified array of {@code short}s, according to the specified {@link ShortComparator}.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link ShortComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final short[] a, final int fromIndex, final int toIndex, final ShortComparator c) {
+    if (isRadixSortable(toIndex - fromIndex, c))
+      radixSort(a, fromIndex, toIndex);
+    else if (c != null && c != ShortComparator.NATURAL)
+      PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else
+      Arrays.sort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Sorts the specified array of {@code short}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of the length of the array.
+   *
+   * @param a The array of {@code short}s.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #radixSort(short[],int,int)
+   */
+  public static void radixSort(final short[] a) {
+    PrimitiveSort.radixSort(a, 0, a.length);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code short}s in natural order with a least significant digit radix sort. The values
+   * are distributed by one byte of their keys per pass, performing no comparisons, and allocating a workspace array of length
+   * {@code toIndex - fromIndex}. The order is that of {@link Short#compare(short,short)}.
+   * <p>
+   * {@link #sort(short[],int,int,ShortComparator)} chooses this method automatically for a {@code null} or
+   * {@link ShortComparator#NATURAL} comparator and a range that is long enough for the radix sort to be faster.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void radixSort(final short[] a, final int fromIndex, final int toIndex) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    PrimitiveSort.radixSort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Rearranges the specified array of {@code short}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link ShortComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code short}s.
+   * @param k The index of the value to select.
+   * @param c The {@link ShortComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(short[],int,int,int,ShortComparator)
+   */
+  public static short select(final short[] a, final int k, final ShortComparator c) {
+    return select(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code short}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link ShortComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link ShortComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
+   */
+  public static short select(final short[] a, final int fromIndex, final int toIndex, final int k, final ShortComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : ShortComparator.NATURAL);
+    return a[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the specified array of {@code short}s into {@code [0, k)}, according to the specified
+   * {@link ShortComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code short}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link ShortComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(short[],int,int,int,ShortComparator)
+   */
+  public static void partialSort(final short[] a, final int k, final ShortComparator c) {
+    partialSort(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code short}s into {@code [fromIndex, k)},
+   * according to the specified {@link ShortComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link ShortComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final short[] a, final int fromIndex, final int toIndex, final int k, final ShortComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : ShortComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code short}s in parallel, according to the specified {@link ShortComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+   *
+   * @param a The array of {@code short}s.
+   * @param c The {@link ShortComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(short[],int,int,ShortComparator)
+   */
+  public static void parallelSort(final short[] a, final ShortComparator c) {
+    parallelSort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code short}s in parallel, according to the specified {@link ShortComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(short[],int,int,ShortComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link ShortComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void parallelSort(final short[] a, final int fromIndex, final int toIndex, final ShortComparator c) {
+    if (c == null) {
+      Arrays.parallelSort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code int}s, according to the specified {@link IntComparator}.
+   *
+   * @param a The array of {@code int}s.
+   * @param c The {@link IntComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final int[] a, final IntComparator c) {
+    sort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified array of {@code int}s, according to the specified {@link IntComparator}.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link IntComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
+    if (isRadixSortable(toIndex - fromIndex, c))
+      radixSort(a, fromIndex, toIndex);
+    else if (c != null && c != IntComparator.NATURAL)
+      PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else
+      Arrays.sort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Sorts the specified array of {@code int}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of the length of the array.
+   *
+   * @param a The array of {@code int}s.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #radixSort(int[],int,int)
+   */
+  public static void radixSort(final int[] a) {
+    PrimitiveSort.radixSort(a, 0, a.length);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code int}s in natural order with a least significant digit radix sort. The values
+   * are distributed by one byte of their keys per pass, performing no comparisons, and allocating a workspace array of length
+   * {@code toIndex - fromIndex}. The order is that of {@link Integer#compare(int,int)}.
+   * <p>
+   * {@link #sort(int[],int,int,IntComparator)} chooses this method automatically for a {@code null} or
+   * {@link IntComparator#NATURAL} comparator and a range that is long enough for the radix sort to be faster.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void radixSort(final int[] a, final int fromIndex, final int toIndex) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    PrimitiveSort.radixSort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Rearranges the specified array of {@code int}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link IntComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code int}s.
+   * @param k The index of the value to select.
+   * @param c The {@link IntComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(int[],int,int,int,IntComparator)
+   */
+  public static int select(final int[] a, final int k, final IntComparator c) {
+    return select(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code int}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link IntComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link IntComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
+   */
+  public static int select(final int[] a, final int fromIndex, final int toIndex, final int k, final IntComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : IntComparator.NATURAL);
+    return a[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the specified array of {@code int}s into {@code [0, k)}, according to the specified
+   * {@link IntComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code int}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link IntComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(int[],int,int,int,IntComparator)
+   */
+  public static void partialSort(final int[] a, final int k, final IntComparator c) {
+    partialSort(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code int}s into {@code [fromIndex, k)},
+   * according to the specified {@link IntComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link IntComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final int[] a, final int fromIndex, final int toIndex, final int k, final IntComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : IntComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code int}s in parallel, according to the specified {@link IntComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+   *
+   * @param a The array of {@code int}s.
+   * @param c The {@link IntComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(int[],int,int,IntComparator)
+   */
+  public static void parallelSort(final int[] a, final IntComparator c) {
+    parallelSort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code int}s in parallel, according to the specified {@link IntComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(int[],int,int,IntComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
+   *
+   * @param a The array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link IntComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void parallelSort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
+    if (c == null) {
+      Arrays.parallelSort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code long}s, according to the specified {@link LongComparator}.
+   *
+   * @param a The array of {@code long}s.
+   * @param c The {@link LongComparator}.
+   * @throws IllegalArgumentException If {@code a} is null.
+   */
+  public static void sort(final long[] a, final LongComparator c) {
+    sort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified array of {@code long}s, according to the specified {@link LongComparator}.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The {@link LongComparator}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public static void sort(final long[] a, final int fromIndex, final int toIndex, final LongComparator c) {
+    if (isRadixSortable(toIndex - fromIndex, c))
+      radixSort(a, fromIndex, toIndex);
+    else if (c != null && c != LongComparator.NATURAL)
+      PrimitiveSort.sort(a, fromIndex, toIndex, c);
+    else
+      Arrays.sort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Sorts the specified array of {@code long}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of the length of the array.
+   *
+   * @param a The array of {@code long}s.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #radixSort(long[],int,int)
+   */
+  public static void radixSort(final long[] a) {
+    PrimitiveSort.radixSort(a, 0, a.length);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code long}s in natural order with a least significant digit radix sort. The values
+   * are distributed by one byte of their keys per pass, performing no comparisons, and allocating a workspace array of length
+   * {@code toIndex - fromIndex}. The order is that of {@link Long#compare(long,long)}.
+   * <p>
+   * {@link #sort(long[],int,int,LongComparator)} chooses this method automatically for a {@code null} or
+   * {@link LongComparator#NATURAL} comparator and a range that is long enough for the radix sort to be faster.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   */
+  public static void radixSort(final long[] a, final int fromIndex, final int toIndex) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    PrimitiveSort.radixSort(a, fromIndex, toIndex);
+  }
+
+  /**
+   * Rearranges the specified array of {@code long}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link LongComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
+   *
+   * @param a The array of {@code long}s.
+   * @param k The index of the value to select.
+   * @param c The {@link LongComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(long[],int,int,int,LongComparator)
+   */
+  public static long select(final long[] a, final int k, final LongComparator c) {
+    return select(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Rearranges the specified range of the array of {@code long}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link LongComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link LongComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
+   */
+  public static long select(final long[] a, final int fromIndex, final int toIndex, final int k, final LongComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : LongComparator.NATURAL);
+    return a[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the specified array of {@code long}s into {@code [0, k)}, according to the specified
+   * {@link LongComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code long}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link LongComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(long[],int,int,int,LongComparator)
+   */
+  public static void partialSort(final long[] a, final int k, final LongComparator c) {
+    partialSort(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code long}s into {@code [fromIndex, k)},
+   * according to the specified {@link LongComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link LongComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final long[] a, final int fromIndex, final int toIndex, final int k, final LongComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : LongComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
   }
 
   /**
-   * Sorts the specified array of {@code boolean}s, according to the specified {@link BooleanComparator}.
+   * Sorts the specified array of {@code long}s in parallel, according to the specified {@link LongComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
    *
-   * @param a The array of {@code boolean}s.
-   * @param c The {@link BooleanComparator}.
+   * @param a The array of {@code long}s.
+   * @param c The {@link LongComparator}, or {@code null} to sort in natural order.
    * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(long[],int,int,LongComparator)
    */
-  public static void sort(final boolean[] a, final BooleanComparator c) {
-    sort(a, 0, a.length, c);
+  public static void parallelSort(final long[] a, final LongComparator c) {
+    parallelSort(a, 0, a.length, c);
   }
 
   /**
-   * Sorts the specified array of {@code boolean}s, according to the specified {@link BooleanComparator}.
+   * Sorts the specified range of the array of {@code long}s in parallel, according to the specified {@link LongComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(long[],int,int,LongComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
    *
-   * @param a The array of {@code boolean}s.
+   * @param a The array of {@code long}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link BooleanComparator}.
+   * @param c The {@link LongComparator}, or {@code null} to sort in natural order.
    * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
    */
-  public static void sort(final boolean[] a, final int fromIndex, final int toIndex, final BooleanComparator c) {
-    if (c != null)
-      PrimitiveSort.sort(a, fromIndex, toIndex, c);
-    else
-      DualPivotQuicksortBoolean.sort(a, fromIndex, toIndex);
+  public static void parallelSort(final long[] a, final int fromIndex, final int toIndex, final LongComparator c) {
+    if (c == null) {
+      Arrays.parallelSort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
   }
 
   /**
-   * Sorts the specified array of {@code byte}s, according to the specified {@link ByteComparator}.
+   * Sorts the specified array of {@code float}s, according to the specified {@link FloatComparator}.
    *
-   * @param a The array of {@code byte}s.
-   * @param c The {@link ByteComparator}.
+   * @param a The array of {@code float}s.
+   * @param c The {@link FloatComparator}.
    * @throws NullPointerException If {@code a} is null.
    */
-  public static void sort(final byte[] a, final ByteComparator c) {
+  public static void sort(final float[] a, final FloatComparator c) {
     sort(a, 0, a.length, c);
   }
 
   /**
-   * Sorts the specified array of {@code byte}s, according to the specified {@link ByteComparator}.
+   * Sorts the specified array of {@code float}s, according to the specified {@link FloatComparator}.
    *
-   * @param a The array of {@code byte}s.
+   * @param a The array of {@code float}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link ByteComparator}.
+   * @param c The {@link FloatComparator}.
    * @throws NullPointerException If {@code a} is null.
    */
-  public static void sort(final byte[] a, final int fromIndex, final int toIndex, final ByteComparator c) {
-    if (c != null)
+  public static void sort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
+    if (isRadixSortable(toIndex - fromIndex, c))
+      radixSort(a, fromIndex, toIndex);
+    else if (c != null && c != FloatComparator.NATURAL)
       PrimitiveSort.sort(a, fromIndex, toIndex, c);
     else
       Arrays.sort(a, fromIndex, toIndex);
   }
 
   /**
-   * Sorts the specified array of {@code char}s, according to the specified {@link CharComparator}.
+   * Sorts the specified array of {@code float}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of the length of the array.
    *
-   * @param a The array of {@code char}s.
-   * @param c The {@link CharComparator}.
+   * @param a The array of {@code float}s.
    * @throws NullPointerException If {@code a} is null.
+   * @see #radixSort(float[],int,int)
    */
-  public static void sort(final char[] a, final CharComparator c) {
-    sort(a, 0, a.length, c);
+  public static void radixSort(final float[] a) {
+    PrimitiveSort.radixSort(a, 0, a.length);
   }
 
   /**
-   * Sorts the specified array of {@code char}s, according to the specified {@link CharComparator}.
+   * Sorts the specified range of the array of {@code float}s in natural order with a least significant digit radix sort. The values
+   * are distributed by one byte of their keys per pass, performing no comparisons, and allocating a workspace array of length
+   * {@code toIndex - fromIndex}. The order is that of {@link Float#compare(float,float)}.
+   * <p>
+   * {@link #sort(float[],int,int,FloatComparator)} chooses this method automatically for a {@code null} or
+   * {@link FloatComparator#NATURAL} comparator and a range that is long enough for the radix sort to be faster.
    *
-   * @param a The array of {@code char}s.
+   * @param a The array of {@code float}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link CharComparator}.
    * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
    */
-  public static void sort(final char[] a, final int fromIndex, final int toIndex, final CharComparator c) {
-    if (c != null)
-      PrimitiveSort.sort(a, fromIndex, toIndex, c);
-    else
-      Arrays.sort(a, fromIndex, toIndex);
+  public static void radixSort(final float[] a, final int fromIndex, final int toIndex) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    PrimitiveSort.radixSort(a, fromIndex, toIndex);
   }
 
   /**
-   * Sorts the specified array of {@code short}s, according to the specified {@link ShortComparator}.
+   * Rearranges the specified array of {@code float}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link FloatComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
    *
-   * @param a The array of {@code short}s.
-   * @param c The {@link ShortComparator}.
+   * @param a The array of {@code float}s.
+   * @param k The index of the value to select.
+   * @param c The {@link FloatComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
    * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(float[],int,int,int,FloatComparator)
    */
-  public static void sort(final short[] a, final ShortComparator c) {
-    sort(a, 0, a.length, c);
+  public static float select(final float[] a, final int k, final FloatComparator c) {
+    return select(a, 0, a.length, k, c);
   }
 
   /**
-   * Sorts the specified array of {@code short}s, according to the specified {@link ShortComparator}.
+   * Rearranges the specified range of the array of {@code float}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link FloatComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
    *
-   * @param a The array of {@code short}s.
-   * @param fromIndex The index of the first element, inclusive, to be sorted.
-   * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link ShortComparator}.
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link FloatComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
    * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
    */
-  public static void sort(final short[] a, final int fromIndex, final int toIndex, final ShortComparator c) {
-    if (c != null)
-      PrimitiveSort.sort(a, fromIndex, toIndex, c);
-    else
-      Arrays.sort(a, fromIndex, toIndex);
+  public static float select(final float[] a, final int fromIndex, final int toIndex, final int k, final FloatComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : FloatComparator.NATURAL);
+    return a[k];
   }
 
   /**
-   * Sorts the specified array of {@code int}s, according to the specified {@link IntComparator}.
+   * Sorts the {@code k} least values of the specified array of {@code float}s into {@code [0, k)}, according to the specified
+   * {@link FloatComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
    *
-   * @param a The array of {@code int}s.
-   * @param c The {@link IntComparator}.
+   * @param a The array of {@code float}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link FloatComparator}, or {@code null} to sort in natural order.
    * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(float[],int,int,int,FloatComparator)
    */
-  public static void sort(final int[] a, final IntComparator c) {
-    sort(a, 0, a.length, c);
+  public static void partialSort(final float[] a, final int k, final FloatComparator c) {
+    partialSort(a, 0, a.length, k, c);
   }
 
   /**
-   * Sorts the specified array of {@code int}s, according to the specified {@link IntComparator}.
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code float}s into {@code [fromIndex, k)},
+   * according to the specified {@link FloatComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
    *
-   * @param a The array of {@code int}s.
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link FloatComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final float[] a, final int fromIndex, final int toIndex, final int k, final FloatComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : FloatComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code float}s in parallel, according to the specified {@link FloatComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+   *
+   * @param a The array of {@code float}s.
+   * @param c The {@link FloatComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(float[],int,int,FloatComparator)
+   */
+  public static void parallelSort(final float[] a, final FloatComparator c) {
+    parallelSort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code float}s in parallel, according to the specified {@link FloatComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(float[],int,int,FloatComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
+   *
+   * @param a The array of {@code float}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link IntComparator}.
+   * @param c The {@link FloatComparator}, or {@code null} to sort in natural order.
    * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
    */
-  public static void sort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
-    if (c != null)
-      PrimitiveSort.sort(a, fromIndex, toIndex, c);
-    else
-      Arrays.sort(a, fromIndex, toIndex);
+  public static void parallelSort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
+    if (c == null) {
+      Arrays.parallelSort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
   }
 
   /**
-   * Sorts the specified array of {@code long}s, according to the specified {@link LongComparator}.
+   * Sorts the specified array of {@code double}s, according to the specified {@link DoubleComparator}.
    *
-   * @param a The array of {@code long}s.
-   * @param c The {@link LongComparator}.
-   * @throws IllegalArgumentException If {@code a} is null.
+   * @param a The array of {@code double}s.
+   * @param c The {@link DoubleComparator}.
+   * @throws NullPointerException If {@code a} is null.
    */
-  public static void sort(final long[] a, final LongComparator c) {
+  public static void sort(final double[] a, final DoubleComparator c) {
     sort(a, 0, a.length, c);
   }
 
   /**
-   * Sorts the specified array of {@code long}s, according to the specified {@link LongComparator}.
+   * Sorts the specified array of {@code double}s, according to the specified {@link DoubleComparator}.
    *
-   * @param a The array of {@code long}s.
+   * @param a The array of {@code double}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link LongComparator}.
+   * @param c The {@link DoubleComparator}.
    * @throws NullPointerException If {@code a} is null.
    */
-  public static void sort(final long[] a, final int fromIndex, final int toIndex, final LongComparator c) {
-    if (c != null)
+  public static void sort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
+    if (isRadixSortable(toIndex - fromIndex, c))
+      radixSort(a, fromIndex, toIndex);
+    else if (c != null && c != DoubleComparator.NATURAL)
       PrimitiveSort.sort(a, fromIndex, toIndex, c);
     else
       Arrays.sort(a, fromIndex, toIndex);
   }
 
   /**
-   * Sorts the specified array of {@code float}s, according to the specified {@link FloatComparator}.
+   * Sorts the specified array of {@code double}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of the length of the array.
    *
-   * @param a The array of {@code float}s.
-   * @param c The {@link FloatComparator}.
+   * @param a The array of {@code double}s.
    * @throws NullPointerException If {@code a} is null.
+   * @see #radixSort(double[],int,int)
    */
-  public static void sort(final float[] a, final FloatComparator c) {
-    sort(a, 0, a.length, c);
+  public static void radixSort(final double[] a) {
+    PrimitiveSort.radixSort(a, 0, a.length);
   }
 
   /**
-   * Sorts the specified array of {@code float}s, according to the specified {@link FloatComparator}.
+   * Sorts the specified range of the array of {@code double}s in natural order with a least significant digit radix sort. The values
+   * are distributed by one byte of their keys per pass, performing no comparisons, and allocating a workspace array of length
+   * {@code toIndex - fromIndex}. The order is that of {@link Double#compare(double,double)}.
+   * <p>
+   * {@link #sort(double[],int,int,DoubleComparator)} chooses this method automatically for a {@code null} or
+   * {@link DoubleComparator#NATURAL} comparator and a range that is long enough for the radix sort to be faster.
    *
-   * @param a The array of {@code float}s.
+   * @param a The array of {@code double}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link FloatComparator}.
    * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
    */
-  public static void sort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
-    if (c != null)
-      PrimitiveSort.sort(a, fromIndex, toIndex, c);
-    else
-      Arrays.sort(a, fromIndex, toIndex);
+  public static void radixSort(final double[] a, final int fromIndex, final int toIndex) {
+    assertRangeArray(fromIndex, toIndex, a.length);
+    PrimitiveSort.radixSort(a, fromIndex, toIndex);
   }
 
   /**
-   * Sorts the specified array of {@code double}s, according to the specified {@link DoubleComparator}.
+   * Rearranges the specified array of {@code double}s, such that the value at index {@code k} is the value that would be at that index if
+   * the array were sorted according to the specified {@link DoubleComparator}. All values before index {@code k} are less than or equal
+   * to it, and all values after it are greater than or equal to it. The selection runs in expected linear time, and is not stable.
    *
    * @param a The array of {@code double}s.
-   * @param c The {@link DoubleComparator}.
+   * @param k The index of the value to select.
+   * @param c The {@link DoubleComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
    * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k} is outside the bounds of {@code a}.
+   * @see #select(double[],int,int,int,DoubleComparator)
    */
-  public static void sort(final double[] a, final DoubleComparator c) {
-    sort(a, 0, a.length, c);
+  public static double select(final double[] a, final int k, final DoubleComparator c) {
+    return select(a, 0, a.length, k, c);
   }
 
   /**
-   * Sorts the specified array of {@code double}s, according to the specified {@link DoubleComparator}.
+   * Rearranges the specified range of the array of {@code double}s, such that the value at index {@code k} is the value that would be at
+   * that index if the range were sorted according to the specified {@link DoubleComparator}. All values of the range before index
+   * {@code k} are less than or equal to it, and all values of the range after it are greater than or equal to it. The selection runs in
+   * expected linear time, and is not stable.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The {@link DoubleComparator}, or {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex)}.
+   */
+  public static double select(final double[] a, final int fromIndex, final int toIndex, final int k, final DoubleComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, false);
+    PrimitiveSort.select(a, null, fromIndex, toIndex, k, c != null ? c : DoubleComparator.NATURAL);
+    return a[k];
+  }
+
+  /**
+   * Sorts the {@code k} least values of the specified array of {@code double}s into {@code [0, k)}, according to the specified
+   * {@link DoubleComparator}. The values at {@code [k, a.length)} are left in an unspecified order. The least values are selected in
+   * expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code double}s.
+   * @param k The number of least values to sort.
+   * @param c The {@link DoubleComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code k < 0} or {@code k > a.length}.
+   * @see #partialSort(double[],int,int,int,DoubleComparator)
+   */
+  public static void partialSort(final double[] a, final int k, final DoubleComparator c) {
+    partialSort(a, 0, a.length, k, c);
+  }
+
+  /**
+   * Sorts the {@code k - fromIndex} least values of the specified range of the array of {@code double}s into {@code [fromIndex, k)},
+   * according to the specified {@link DoubleComparator}. The values at {@code [k, toIndex)} are left in an unspecified order. The least
+   * values are selected in expected linear time, after which only they are sorted.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index, exclusive, up to which the least values of the range are to be sorted, within {@code [fromIndex, toIndex]}.
+   * @param c The {@link DoubleComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, {@code toIndex > a.length}, or {@code k} is outside of
+   *           {@code [fromIndex, toIndex]}.
+   */
+  public static void partialSort(final double[] a, final int fromIndex, final int toIndex, final int k, final DoubleComparator c) {
+    assertRangeSelect(fromIndex, toIndex, k, a.length, true);
+    if (k < toIndex) {
+      if (k == fromIndex)
+        return;
+
+      PrimitiveSort.select(a, null, fromIndex, toIndex, k - 1, c != null ? c : DoubleComparator.NATURAL);
+      sort(a, fromIndex, k - 1, c);
+    }
+    else {
+      sort(a, fromIndex, toIndex, c);
+    }
+  }
+
+  /**
+   * Sorts the specified array of {@code double}s in parallel, according to the specified {@link DoubleComparator}. The sort is
+   * stable, and is performed in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+   *
+   * @param a The array of {@code double}s.
+   * @param c The {@link DoubleComparator}, or {@code null} to sort in natural order.
+   * @throws NullPointerException If {@code a} is null.
+   * @see #parallelSort(double[],int,int,DoubleComparator)
+   */
+  public static void parallelSort(final double[] a, final DoubleComparator c) {
+    parallelSort(a, 0, a.length, c);
+  }
+
+  /**
+   * Sorts the specified range of the array of {@code double}s in parallel, according to the specified {@link DoubleComparator}. The
+   * range is split into subranges that are sorted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common
+   * pool}, and are merged with the same gallop-based merge as {@link #sort(double[],int,int,DoubleComparator)}, which this method
+   * matches in result and stability. A single workspace array of length {@code toIndex - fromIndex} is allocated. Ranges too short
+   * to benefit from parallelism are sorted sequentially.
    *
    * @param a The array of {@code double}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The {@link DoubleComparator}.
+   * @param c The {@link DoubleComparator}, or {@code null} to sort in natural order.
    * @throws NullPointerException If {@code a} is null.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
    */
-  public static void sort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
-    if (c != null)
-      PrimitiveSort.sort(a, fromIndex, toIndex, c);
-    else
-      Arrays.sort(a, fromIndex, toIndex);
+  public static void parallelSort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
+    if (c == null) {
+      Arrays.parallelSort(a, fromIndex, toIndex);
+    }
+    else {
+      assertRangeArray(fromIndex, toIndex, a.length);
+      PrimitiveSort.parallelSort(a, fromIndex, toIndex, c);
+    }
   }
 
   /**
@@ -5930,19 +8205,6 @@ public final class ArrayUtil extends PrimitiveSort {
     array[i < 0 ? len + i : i] = value;
   }
 
-  private static int dedupe(final byte[] tables, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
-
-    final byte element = tables[index];
-    if (tables[index - 1] == element)
-      return dedupe(tables, length, index + 1, depth);
-
-    final int count = dedupe(tables, length, index + 1, depth + 1);
-    tables[depth] = element;
-    return count;
-  }
-
   /**
    * Deduplicates the provided array by reordering the unique values in ascending order, returning the number of unique values.
    *
@@ -5951,20 +8213,34 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array is null.
    */
   public static int dedupe(final byte[] a) {
-    return a.length <= 1 ? a.length : dedupe(a, a.length, 1, 1);
-  }
-
-  private static int dedupe(final char[] tables, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    byte prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final byte value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
 
-    final char element = tables[index];
-    if (tables[index - 1] == element)
-      return dedupe(tables, length, index + 1, depth);
+    return w;
+  }
 
-    final int count = dedupe(tables, length, index + 1, depth + 1);
-    tables[depth] = element;
-    return count;
+  /**
+   * Sorts the provided array in ascending order with {@link Arrays#parallelSort(byte[])}, and then deduplicates it in parallel by
+   * moving the unique values to the front of the array in ascending order, returning the number of unique values. The sorted array is
+   * split into chunks that are compacted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, after
+   * which the compacted chunks are stitched together.
+   *
+   * @param a The array to dedupe.
+   * @return The number of unique values, which are at the front of the array in ascending order.
+   * @throws NullPointerException If the provided array is null.
+   */
+  public static int parallelDedupe(final byte[] a) {
+    Arrays.parallelSort(a);
+    return PrimitiveSort.parallelDedupe(a, 0, a.length);
   }
 
   /**
@@ -5975,20 +8251,34 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array is null.
    */
   public static int dedupe(final char[] a) {
-    return a.length <= 1 ? a.length : dedupe(a, a.length, 1, 1);
-  }
-
-  private static int dedupe(final short[] tables, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    char prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final char value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
 
-    final short element = tables[index];
-    if (tables[index - 1] == element)
-      return dedupe(tables, length, index + 1, depth);
+    return w;
+  }
 
-    final int count = dedupe(tables, length, index + 1, depth + 1);
-    tables[depth] = element;
-    return count;
+  /**
+   * Sorts the provided array in ascending order with {@link Arrays#parallelSort(char[])}, and then deduplicates it in parallel by
+   * moving the unique values to the front of the array in ascending order, returning the number of unique values. The sorted array is
+   * split into chunks that are compacted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, after
+   * which the compacted chunks are stitched together.
+   *
+   * @param a The array to dedupe.
+   * @return The number of unique values, which are at the front of the array in ascending order.
+   * @throws NullPointerException If the provided array is null.
+   */
+  public static int parallelDedupe(final char[] a) {
+    Arrays.parallelSort(a);
+    return PrimitiveSort.parallelDedupe(a, 0, a.length);
   }
 
   /**
@@ -5999,20 +8289,34 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array is null.
    */
   public static int dedupe(final short[] a) {
-    return a.length <= 1 ? a.length : dedupe(a, a.length, 1, 1);
-  }
-
-  private static int dedupe(final int[] tables, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    short prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final short value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
 
-    final int element = tables[index];
-    if (tables[index - 1] == element)
-      return dedupe(tables, length, index + 1, depth);
+    return w;
+  }
 
-    final int count = dedupe(tables, length, index + 1, depth + 1);
-    tables[depth] = element;
-    return count;
+  /**
+   * Sorts the provided array in ascending order with {@link Arrays#parallelSort(short[])}, and then deduplicates it in parallel by
+   * moving the unique values to the front of the array in ascending order, returning the number of unique values. The sorted array is
+   * split into chunks that are compacted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, after
+   * which the compacted chunks are stitched together.
+   *
+   * @param a The array to dedupe.
+   * @return The number of unique values, which are at the front of the array in ascending order.
+   * @throws NullPointerException If the provided array is null.
+   */
+  public static int parallelDedupe(final short[] a) {
+    Arrays.parallelSort(a);
+    return PrimitiveSort.parallelDedupe(a, 0, a.length);
   }
 
   /**
@@ -6023,20 +8327,34 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array is null.
    */
   public static int dedupe(final int[] a) {
-    return a.length <= 1 ? a.length : dedupe(a, a.length, 1, 1);
-  }
-
-  private static int dedupe(final long[] tables, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    int prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final int value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
 
-    final long element = tables[index];
-    if (tables[index - 1] == element)
-      return dedupe(tables, length, index + 1, depth);
+    return w;
+  }
 
-    final int count = dedupe(tables, length, index + 1, depth + 1);
-    tables[depth] = element;
-    return count;
+  /**
+   * Sorts the provided array in ascending order with {@link Arrays#parallelSort(int[])}, and then deduplicates it in parallel by
+   * moving the unique values to the front of the array in ascending order, returning the number of unique values. The sorted array is
+   * split into chunks that are compacted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, after
+   * which the compacted chunks are stitched together.
+   *
+   * @param a The array to dedupe.
+   * @return The number of unique values, which are at the front of the array in ascending order.
+   * @throws NullPointerException If the provided array is null.
+   */
+  public static int parallelDedupe(final int[] a) {
+    Arrays.parallelSort(a);
+    return PrimitiveSort.parallelDedupe(a, 0, a.length);
   }
 
   /**
@@ -6047,20 +8365,34 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array is null.
    */
   public static int dedupe(final long[] a) {
-    return a.length <= 1 ? a.length : dedupe(a, a.length, 1, 1);
-  }
-
-  private static int dedupe(final float[] tables, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    long prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final long value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
 
-    final float element = tables[index];
-    if (tables[index - 1] == element)
-      return dedupe(tables, length, index + 1, depth);
+    return w;
+  }
 
-    final int count = dedupe(tables, length, index + 1, depth + 1);
-    tables[depth] = element;
-    return count;
+  /**
+   * Sorts the provided array in ascending order with {@link Arrays#parallelSort(long[])}, and then deduplicates it in parallel by
+   * moving the unique values to the front of the array in ascending order, returning the number of unique values. The sorted array is
+   * split into chunks that are compacted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, after
+   * which the compacted chunks are stitched together.
+   *
+   * @param a The array to dedupe.
+   * @return The number of unique values, which are at the front of the array in ascending order.
+   * @throws NullPointerException If the provided array is null.
+   */
+  public static int parallelDedupe(final long[] a) {
+    Arrays.parallelSort(a);
+    return PrimitiveSort.parallelDedupe(a, 0, a.length);
   }
 
   /**
@@ -6071,20 +8403,34 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array is null.
    */
   public static int dedupe(final float[] a) {
-    return a.length <= 1 ? a.length : dedupe(a, a.length, 1, 1);
-  }
-
-  private static int dedupe(final double[] tables, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    float prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final float value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
 
-    final double element = tables[index];
-    if (tables[index - 1] == element)
-      return dedupe(tables, length, index + 1, depth);
+    return w;
+  }
 
-    final int count = dedupe(tables, length, index + 1, depth + 1);
-    tables[depth] = element;
-    return count;
+  /**
+   * Sorts the provided array in ascending order with {@link Arrays#parallelSort(float[])}, and then deduplicates it in parallel by
+   * moving the unique values to the front of the array in ascending order, returning the number of unique values. The sorted array is
+   * split into chunks that are compacted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, after
+   * which the compacted chunks are stitched together.
+   *
+   * @param a The array to dedupe.
+   * @return The number of unique values, which are at the front of the array in ascending order.
+   * @throws NullPointerException If the provided array is null.
+   */
+  public static int parallelDedupe(final float[] a) {
+    Arrays.parallelSort(a);
+    return PrimitiveSort.parallelDedupe(a, 0, a.length);
   }
 
   /**
@@ -6095,20 +8441,34 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array is null.
    */
   public static int dedupe(final double[] a) {
-    return a.length <= 1 ? a.length : dedupe(a, a.length, 1, 1);
-  }
-
-  private static <T> int dedupe(final T[] a, final Comparator<? super T> c, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    double prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final double value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
 
-    final T element = a[index];
-    if (c.compare(a[index - 1], element) == 0)
-      return dedupe(a, c, length, index + 1, depth);
+    return w;
+  }
 
-    final int count = dedupe(a, c, length, index + 1, depth + 1);
-    a[depth] = element;
-    return count;
+  /**
+   * Sorts the provided array in ascending order with {@link Arrays#parallelSort(double[])}, and then deduplicates it in parallel by
+   * moving the unique values to the front of the array in ascending order, returning the number of unique values. The sorted array is
+   * split into chunks that are compacted concurrently in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, after
+   * which the compacted chunks are stitched together.
+   *
+   * @param a The array to dedupe.
+   * @return The number of unique values, which are at the front of the array in ascending order.
+   * @throws NullPointerException If the provided array is null.
+   */
+  public static int parallelDedupe(final double[] a) {
+    Arrays.parallelSort(a);
+    return PrimitiveSort.parallelDedupe(a, 0, a.length);
   }
 
   /**
@@ -6123,7 +8483,19 @@ public final class ArrayUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided array or {@link Comparator} is null.
    */
   public static <T> int dedupe(final T[] a, final Comparator<? super T> c) {
-    return a.length <= 1 ? a.length : dedupe(a, c, a.length, 1, 1);
+    final int len = a.length;
+    if (len <= 1)
+      return len;
+
+    int w = 1;
+    T prev = a[0];
+    for (int i = 1; i < len; ++i) { // [A]
+      final T element = a[i];
+      if (c.compare(prev, element) != 0)
+        a[w++] = prev = element;
+    }
+
+    return w;
   }
 
   /**
@@ -1152,6 +1152,114 @@ public final class CollectionUtil extends PrimitiveSort {
     return (from + to) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted {@link List} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(List,Comparable)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored. If the provided list is
+   * not {@link RandomAccess}, the list is instead merged with the keys by a single {@link ListIterator}, which is restarted for each
+   * key that is less than the previous key.
+   *
+   * @param <E> The type parameter of the list element and key object.
+   * @param a The sorted {@link List}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.size()}.
+   * @throws NullPointerException If {@code a}, {@code keys}, or {@code out} is null.
+   */
+  public static <E extends Comparable<? super E>> void binaryClosestSearchAll(final List<? extends E> a, final List<? extends E> keys, final int[] out) {
+    binaryClosestSearchAll0(a, keys, out, (final E o1, final E o2) -> o1.compareTo(o2));
+  }
+
+  /**
+   * Find the indexes of the sorted {@link List} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(List,Object,Comparator)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored. If the provided list is
+   * not {@link RandomAccess}, the list is instead merged with the keys by a single {@link ListIterator}, which is restarted for each
+   * key that is less than the previous key.
+   *
+   * @param <E> The type parameter of the list element and key object.
+   * @param a The sorted {@link List}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.size()}.
+   * @throws NullPointerException If {@code a}, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static <E> void binaryClosestSearchAll(final List<? extends E> a, final List<? extends E> keys, final int[] out, final Comparator<? super E> c) {
+    binaryClosestSearchAll0(a, keys, out, c);
+  }
+
+  private static <E> void binaryClosestSearchAll0(final List<? extends E> a, final List<? extends E> keys, final int[] out, final Comparator<? super E> c) {
+    final int size = keys.size();
+    assertBatchLength(size, out.length);
+    if (size == 0)
+      return;
+
+    if (a instanceof RandomAccess) {
+      int i = 0, index = 0;
+      E prev = null;
+      for (final E key : keys) { // [L]
+        if (i > 0 && c.compare(key, prev) < 0)
+          index = 0;
+
+        out[i++] = index = gallopClosestSearch(a, index, a.size(), key, c);
+        prev = key;
+      }
+    }
+    else {
+      ListIterator<? extends E> iterator = a.listIterator();
+      int i = 0;
+      E prev = null;
+      for (final E key : keys) { // [L]
+        if (i > 0 && c.compare(key, prev) < 0)
+          iterator = a.listIterator();
+
+        while (iterator.hasNext()) { // [I]
+          if (c.compare(key, iterator.next()) <= 0) {
+            iterator.previous();
+            break;
+          }
+        }
+
+        out[i++] = iterator.nextIndex();
+        prev = key;
+      }
+    }
+  }
+
+  private static <E> int gallopClosestSearch(final List<? extends E> a, final int fromIndex, final int toIndex, final E key, final Comparator<? super E> c) {
+    if (fromIndex == toIndex || c.compare(key, a.get(fromIndex)) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a.get(hi)) > 0) { // [N]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [N]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a.get(mid)) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  private static void assertBatchLength(final int keys, final int out) {
+    if (out < keys)
+      throw new IllegalArgumentException("out.length [" + out + "] must be greater than or equal to the number of keys [" + keys + "]");
+  }
+
   /**
    * Find the index of the sorted {@link List} whose value most closely matches the provided {@code key}.
    * <ol>
@@ -1866,6 +1974,420 @@ public final class CollectionUtil extends PrimitiveSort {
     return (fromIndex + toIndex) / 2;
   }
 
+  /**
+   * Find the indexes of the sorted {@link ArrayByteList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayByteList,byte)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayByteList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayByteList a, final byte[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, keys, out, Byte::compare);
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayByteList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayByteList,byte,ByteComparator)} does for a single key, and store the index for the key at index
+   * {@code i} of {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys
+   * are sorted in the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge
+   * of both in O(n + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is
+   * searched from the start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayByteList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayByteList a, final byte[] keys, final int[] out, final ByteComparator c) {
+    binaryClosestSearchAll0(a, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final ArrayByteList a, final byte[] keys, final int[] out, final ByteComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = 0, size = a.size(); i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = 0;
+
+      out[i] = index = gallopClosestSearch(a, index, size, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final ArrayByteList a, final int fromIndex, final int toIndex, final byte key, final ByteComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a.get(fromIndex)) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a.get(hi)) > 0) { // [N]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [N]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a.get(mid)) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayShortList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayShortList,short)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayShortList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayShortList a, final short[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, keys, out, Short::compare);
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayShortList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayShortList,short,ShortComparator)} does for a single key, and store the index for the key at index
+   * {@code i} of {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys
+   * are sorted in the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge
+   * of both in O(n + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is
+   * searched from the start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayShortList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayShortList a, final short[] keys, final int[] out, final ShortComparator c) {
+    binaryClosestSearchAll0(a, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final ArrayShortList a, final short[] keys, final int[] out, final ShortComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = 0, size = a.size(); i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = 0;
+
+      out[i] = index = gallopClosestSearch(a, index, size, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final ArrayShortList a, final int fromIndex, final int toIndex, final short key, final ShortComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a.get(fromIndex)) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a.get(hi)) > 0) { // [N]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [N]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a.get(mid)) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayIntList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayIntList,int)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayIntList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayIntList a, final int[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, keys, out, Integer::compare);
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayIntList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayIntList,int,IntComparator)} does for a single key, and store the index for the key at index
+   * {@code i} of {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys
+   * are sorted in the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge
+   * of both in O(n + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is
+   * searched from the start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayIntList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayIntList a, final int[] keys, final int[] out, final IntComparator c) {
+    binaryClosestSearchAll0(a, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final ArrayIntList a, final int[] keys, final int[] out, final IntComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = 0, size = a.size(); i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = 0;
+
+      out[i] = index = gallopClosestSearch(a, index, size, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final ArrayIntList a, final int fromIndex, final int toIndex, final int key, final IntComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a.get(fromIndex)) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a.get(hi)) > 0) { // [N]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [N]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a.get(mid)) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayLongList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayLongList,long)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayLongList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayLongList a, final long[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, keys, out, Long::compare);
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayLongList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayLongList,long,LongComparator)} does for a single key, and store the index for the key at index
+   * {@code i} of {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys
+   * are sorted in the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge
+   * of both in O(n + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is
+   * searched from the start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayLongList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayLongList a, final long[] keys, final int[] out, final LongComparator c) {
+    binaryClosestSearchAll0(a, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final ArrayLongList a, final long[] keys, final int[] out, final LongComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = 0, size = a.size(); i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = 0;
+
+      out[i] = index = gallopClosestSearch(a, index, size, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final ArrayLongList a, final int fromIndex, final int toIndex, final long key, final LongComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a.get(fromIndex)) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a.get(hi)) > 0) { // [N]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [N]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a.get(mid)) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayFloatList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayFloatList,float)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayFloatList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayFloatList a, final float[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, keys, out, Float::compare);
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayFloatList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayFloatList,float,FloatComparator)} does for a single key, and store the index for the key at index
+   * {@code i} of {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys
+   * are sorted in the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge
+   * of both in O(n + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is
+   * searched from the start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayFloatList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayFloatList a, final float[] keys, final int[] out, final FloatComparator c) {
+    binaryClosestSearchAll0(a, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final ArrayFloatList a, final float[] keys, final int[] out, final FloatComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = 0, size = a.size(); i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = 0;
+
+      out[i] = index = gallopClosestSearch(a, index, size, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final ArrayFloatList a, final int fromIndex, final int toIndex, final float key, final FloatComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a.get(fromIndex)) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a.get(hi)) > 0) { // [N]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [N]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a.get(mid)) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayDoubleList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayDoubleList,double)} does for a single key, and store the index for the key at index {@code i} of
+   * {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the keys are sorted in
+   * the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a merge of both in O(n
+   * + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is searched from the
+   * start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayDoubleList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, or {@code out} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayDoubleList a, final double[] keys, final int[] out) {
+    binaryClosestSearchAll0(a, keys, out, Double::compare);
+  }
+
+  /**
+   * Find the indexes of the sorted {@link ArrayDoubleList} whose values most closely match each of the provided keys, as
+   * {@link #binaryClosestSearch(ArrayDoubleList,double,DoubleComparator)} does for a single key, and store the index for the key at
+   * index {@code i} of {@code keys} in {@code out[i]}. Each search gallops forward from the index found for the previous key, so if the
+   * keys are sorted in the order of the list, the indexes are found in O(m log(n/m)) time rather than O(m log n), which approaches a
+   * merge of both in O(n + m) time as the number of keys approaches the size of the list. A key that is less than the previous key is
+   * searched from the start of the list. If the list contains several values equal to a key, the index of the first is stored.
+   *
+   * @param a The sorted {@link ArrayDoubleList}.
+   * @param keys The keys to match, preferably sorted.
+   * @param out The array in which to store the closest index of each key.
+   * @param c The comparator to use.
+   * @throws IllegalArgumentException If {@code out.length < keys.length}.
+   * @throws NullPointerException If {@code a}, {@code keys}, {@code out}, or {@code c} is null.
+   */
+  public static void binaryClosestSearchAll(final ArrayDoubleList a, final double[] keys, final int[] out, final DoubleComparator c) {
+    binaryClosestSearchAll0(a, keys, out, c);
+  }
+
+  private static void binaryClosestSearchAll0(final ArrayDoubleList a, final double[] keys, final int[] out, final DoubleComparator c) {
+    assertBatchLength(keys.length, out.length);
+    for (int i = 0, i$ = keys.length, index = 0, size = a.size(); i < i$; ++i) { // [A]
+      if (i > 0 && c.compare(keys[i], keys[i - 1]) < 0)
+        index = 0;
+
+      out[i] = index = gallopClosestSearch(a, index, size, keys[i], c);
+    }
+  }
+
+  private static int gallopClosestSearch(final ArrayDoubleList a, final int fromIndex, final int toIndex, final double key, final DoubleComparator c) {
+    if (fromIndex == toIndex || c.compare(key, a.get(fromIndex)) <= 0)
+      return fromIndex;
+
+    // Probe at distances of 1, 2, 4, ... from fromIndex until a value not less than key is found, and then search between the last two probes
+    int lo = fromIndex, hi = fromIndex + 1;
+    while (hi < toIndex && c.compare(key, a.get(hi)) > 0) { // [N]
+      lo = hi;
+      hi = hi - fromIndex < toIndex - hi ? 2 * hi - fromIndex : toIndex;
+    }
+
+    for (int mid; hi - lo > 1;) { // [N]
+      mid = (lo + hi) >>> 1;
+      if (c.compare(key, a.get(mid)) > 0)
+        lo = mid;
+      else
+        hi = mid;
+    }
+
+    return hi;
+  }
+
   /**
    * Returns the specified collection with the provided parameters array added as members to the collection.
    *
@@ -2027,8 +2549,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(len);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, comparator);
   }
 
   /**
@@ -2085,8 +2606,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(len);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, comparator);
   }
 
   /**
@@ -2143,8 +2663,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(len);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, comparator);
   }
 
   /**
@@ -2201,8 +2720,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(len);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, comparator);
   }
 
   /**
@@ -2259,8 +2777,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(len);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, comparator);
   }
 
   /**
@@ -2317,8 +2834,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(len);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, comparator);
   }
 
   /**
@@ -2375,8 +2891,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    final int[] idx = PrimitiveSort.buildIndex(len);
-    PrimitiveSort.sortIndexed(data, order, idx, (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    PrimitiveSort.sortPaired(data, order, comparator);
   }
 
   /**
@@ -2436,7 +2951,7 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != len)
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.length [" + len + "] must be equal");
 
-    sortIndexed(data, order, buildIndex(len), (o1, o2) -> comparator.compare(order[o1], order[o2]));
+    sortPaired(data, order, comparator);
   }
 
   /**
@@ -2495,21 +3010,35 @@ public final class CollectionUtil extends PrimitiveSort {
     if (data.size() != order.size())
       throw new IllegalArgumentException("data.size() [" + data.size() + "] and order.size() [" + order.size() + "] must be equal");
 
-    sortIndexed(data, order, buildIndex(order.size()), (o1, o2) -> comparator.compare(order.get(o1), order.get(o2)));
+    sortPaired(data, order, comparator);
   }
 
-  // FIXME: This is not good if not RandomAccess
-  private static final <E> int dedupeRandomAccess(final List<E> l, final Comparator<? super E> c, final int length, final int index, final int depth) {
-    if (index == length)
-      return depth;
+  private static <E> int dedupeRandomAccess(final List<E> l, final Comparator<? super E> c, final int size) {
+    int w = 1;
+    E prev = l.get(0);
+    for (int i = 1; i < size; ++i) { // [RA]
+      final E element = l.get(i);
+      if (c.compare(prev, element) != 0)
+        l.set(w++, prev = element);
+    }
+
+    return w;
+  }
 
-    final E element = l.get(index);
-    if (c.compare(l.get(index - 1), element) == 0)
-      return dedupeRandomAccess(l, c, length, index + 1, depth);
+  private static <E> int dedupeIterator(final List<E> l, final Comparator<? super E> c) {
+    final ListIterator<E> reader = l.listIterator();
+    final ListIterator<E> writer = l.listIterator();
+    E prev = writer.next();
+    reader.next();
+    while (reader.hasNext()) { // [I]
+      final E element = reader.next();
+      if (c.compare(prev, element) != 0) {
+        writer.next();
+        writer.set(prev = element);
+      }
+    }
 
-    final int count = dedupeRandomAccess(l, c, length, index + 1, depth + 1);
-    l.set(depth, element);
-    return count;
+    return writer.nextIndex();
   }
 
   /**
@@ -2524,7 +3053,8 @@ public final class CollectionUtil extends PrimitiveSort {
    * @throws NullPointerException If the provided {@link List} or {@link Comparator} is null.
    */
   public static final <E> int dedupe(final List<E> l, final Comparator<? super E> c) {
-    return l.size() <= 1 ? l.size() : dedupeRandomAccess(l, c, l.size(), 1, 1);
+    final int size = l.size();
+    return size <= 1 ? size : l instanceof RandomAccess ? dedupeRandomAccess(l, c, size) : dedupeIterator(l, c);
   }
 
   private CollectionUtil() {
@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.libj.lang.Bytes;
 
@@ -32,12 +33,39 @@ import name.fraser.neil.plaintext.diff_match_patch;
  * string back to the {@code target} string. The diff information (i.e. the transformation steps) is encoded with bit-level packing,
  * allowing for a super compact representation.
  * <p>
- * This class utilizes a 3rd-party library named <a href="https://github.com/google/diff-match-patch">diff-match-patch</a> for
- * synchronizing plain text.
+ * By default, this class utilizes a 3rd-party library named <a href="https://github.com/google/diff-match-patch">diff-match-patch</a>
+ * for synchronizing plain text. Alternatively, the steps can be computed natively with {@link Engine#MYERS}.
  */
 public class Diff {
+  /**
+   * The algorithm with which the steps of a {@link Diff} are computed.
+   */
+  public enum Engine {
+    /**
+     * The steps are computed with <a href="https://github.com/google/diff-match-patch">diff-match-patch</a>, whose heuristics favor
+     * semantically meaningful steps over the shortest steps.
+     */
+    DIFF_MATCH_PATCH,
+    /**
+     * The steps are computed natively, with the linear-space variant of the O(ND) difference algorithm of Eugene W. Myers, which
+     * produces the shortest steps, unless the search exceeds its cost cap or its timeout. The inserted text of the steps references the
+     * {@code target} string by offset, rather than being copied.
+     */
+    MYERS
+  }
+
   private static final Charset charset = StandardCharsets.UTF_8;
 
+  /** The default timeout in milliseconds, which is that of diff-match-patch. */
+  private static final long DEFAULT_TIMEOUT = 1000;
+
+  /**
+   * The number of steps of the search for the middle of a shortest path through the edit graph after which the graph is instead
+   * divided at the end of the furthest reaching path, which bounds the cost of each division, at the expense of the minimality of the
+   * steps of strings that differ by more than twice as many characters.
+   */
+  private static final int MAX_COST = 1 << 10;
+
   /**
    * Size of "LengthSize" is 5 bits, giving it 2^5 values (0 to 31), which allows Length to have 2^31 values (0 to 2147483647, which
    * are the min and max lengths allowed for a String).
@@ -118,7 +146,7 @@ public class Diff {
 
     final ArrayList<Mod> mods = new ArrayList<>();
     final Diff diff = new Diff(mods, lengthSize);
-    for (int offset = lengthSizeSize; offset < limit;) { // [N]
+    for (int offset = lengthSizeSize; offset <= limit;) { // [N]
       final byte ordinal = Bytes.readBitsFromByte(bytes, offset, (byte)2);
       offset += 2;
       final Mod mod;
@@ -222,6 +250,7 @@ public class Diff {
    */
   protected class Insert extends Mod {
     private final String text;
+    private final int start;
 
     /**
      * Creates a new {@link Insert} modification with the specified text.
@@ -229,8 +258,21 @@ public class Diff {
      * @param text The text representing the insert modification.
      */
     protected Insert(final String text) {
-      super(text.length());
+      this(text, 0, text.length());
+    }
+
+    /**
+     * Creates a new {@link Insert} modification with the specified range of the specified text, which is referenced rather than
+     * copied.
+     *
+     * @param text The text containing the insert modification.
+     * @param start The index in {@code text} at which the insert modification starts.
+     * @param length The length of the insert modification.
+     */
+    protected Insert(final String text, final int start, final int length) {
+      super(length);
       this.text = text;
+      this.start = start;
     }
 
     /**
@@ -243,6 +285,7 @@ public class Diff {
     protected Insert(final byte[] src, final int offset, final byte lengthSize) {
       super(src, offset, lengthSize);
       this.text = new String(Bytes.readBitsFromBytes(src, offset + lengthSize, length * 8L));
+      this.start = 0;
     }
 
     @Override
@@ -252,14 +295,14 @@ public class Diff {
 
     @Override
     protected int patch(final StringBuilder builder, final int position) {
-      builder.insert(position, text);
+      builder.insert(position, text, start, start + length);
       return length;
     }
 
     @Override
     protected int encode(final byte[] dest, int offset) {
       offset = super.encode(dest, offset);
-      offset = writeText(dest, offset, text.getBytes(charset), length);
+      offset = writeText(dest, offset, text.substring(start, start + length).getBytes(charset), length);
       return offset;
     }
 
@@ -270,7 +313,7 @@ public class Diff {
 
     @Override
     public String toString() {
-      return "I " + length + " " + text;
+      return "I " + length + " " + text.substring(start, start + length);
     }
   }
 
@@ -314,6 +357,7 @@ public class Diff {
 
   protected class Replace extends Mod {
     private final String text;
+    private final int start;
 
     /**
      * Creates a new {@link Replace} modification with the specified text.
@@ -321,8 +365,21 @@ public class Diff {
      * @param text The text representing the insert modification.
      */
     protected Replace(final String text) {
-      super(text.length());
+      this(text, 0, text.length());
+    }
+
+    /**
+     * Creates a new {@link Replace} modification with the specified range of the specified text, which is referenced rather than
+     * copied.
+     *
+     * @param text The text containing the replace modification.
+     * @param start The index in {@code text} at which the replace modification starts.
+     * @param length The length of the replace modification.
+     */
+    protected Replace(final String text, final int start, final int length) {
+      super(length);
       this.text = text;
+      this.start = start;
     }
 
     /**
@@ -335,6 +392,7 @@ public class Diff {
     protected Replace(final byte[] src, final int offset, final byte lengthSize) {
       super(src, offset, lengthSize);
       this.text = new String(Bytes.readBitsFromBytes(src, offset + lengthSize, length * 8L));
+      this.start = 0;
     }
 
     @Override
@@ -344,14 +402,16 @@ public class Diff {
 
     @Override
     protected int patch(final StringBuilder builder, final int position) {
-      builder.replace(position, position + length, text);
+      for (int i = 0; i < length; ++i) // [N]
+        builder.setCharAt(position + i, text.charAt(start + i));
+
       return length;
     }
 
     @Override
     protected int encode(final byte[] dest, int offset) {
       offset = super.encode(dest, offset);
-      offset = writeText(dest, offset, text.getBytes(charset), length);
+      offset = writeText(dest, offset, text.substring(start, start + length).getBytes(charset), length);
       return offset;
     }
 
@@ -362,7 +422,7 @@ public class Diff {
 
     @Override
     public String toString() {
-      return "R " + length + " " + text;
+      return "R " + length + " " + text.substring(start, start + length);
     }
   }
 
@@ -403,19 +463,340 @@ public class Diff {
     }
   }
 
+  /**
+   * The linear-space variant of the O(ND) difference algorithm of Eugene W. Myers, which divides the edit graph of the strings at the
+   * middle of a shortest path, found by searching the furthest reaching paths from both corners of the graph at once, and recurses
+   * into both halves. The steps are appended to the list of {@link Diff.Mod} objects as they are found, with the deletions and
+   * insertions between two equalities merged into {@link Replace}, {@link Delete} and {@link Insert} modifications.
+   */
+  private final class Myers {
+    private final char[] a;
+    private final char[] b;
+    private final String text;
+    private final ArrayList<Mod> mods;
+    private final int[] forward;
+    private final int[] reverse;
+    private final boolean timed;
+    private final long deadline;
+    private int equal;
+    private int deleted;
+    private int inserted;
+    private int insertStart;
+
+    private Myers(final String source, final String target, final long timeout, final ArrayList<Mod> mods) {
+      this.a = source.toCharArray();
+      this.b = target.toCharArray();
+      this.text = target;
+      this.mods = mods;
+      final int length = a.length + b.length + 2;
+      this.forward = new int[length];
+      this.reverse = new int[length];
+      this.timed = timeout > 0;
+      this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    }
+
+    private void equal(final int length) {
+      if (length > 0) {
+        flush();
+        equal += length;
+      }
+    }
+
+    private void delete(final int length) {
+      if (length > 0) {
+        flushEqual();
+        deleted += length;
+      }
+    }
+
+    private void insert(final int start, final int length) {
+      if (length > 0) {
+        flushEqual();
+        if (inserted == 0)
+          insertStart = start;
+
+        inserted += length;
+      }
+    }
+
+    private void flushEqual() {
+      if (equal > 0) {
+        mods.add(new Equal(equal));
+        equal = 0;
+      }
+    }
+
+    /**
+     * Appends the deletions and insertions since the last equality, of which the insertions are contiguous in the target string.
+     */
+    private void flush() {
+      if (deleted > 0 && inserted > 0) {
+        final int replaced = Math.min(deleted, inserted);
+        mods.add(new Replace(text, insertStart, replaced));
+        if (deleted > replaced)
+          mods.add(new Delete(deleted - replaced));
+        else if (inserted > replaced)
+          mods.add(new Insert(text, insertStart + replaced, inserted - replaced));
+      }
+      else if (deleted > 0) {
+        mods.add(new Delete(deleted));
+      }
+      else if (inserted > 0) {
+        mods.add(new Insert(text, insertStart, inserted));
+      }
+
+      deleted = 0;
+      inserted = 0;
+    }
+
+    /**
+     * Appends the steps to transform {@code a[aLo, aHi)} to {@code b[bLo, bHi)}.
+     */
+    private void diff(int aLo, int aHi, int bLo, int bHi) {
+      final char[] a = this.a;
+      final char[] b = this.b;
+      final int prefix = aLo;
+      while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo]) { // [A]
+        ++aLo;
+        ++bLo;
+      }
+
+      equal(aLo - prefix);
+      final int suffix = aHi;
+      while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1]) { // [A]
+        --aHi;
+        --bHi;
+      }
+
+      if (aLo == aHi) {
+        insert(bLo, bHi - bLo);
+      }
+      else if (bLo == bHi) {
+        delete(aHi - aLo);
+      }
+      else {
+        final long split = bisect(aLo, aHi, bLo, bHi);
+        if (split == -1) {
+          delete(aHi - aLo);
+          insert(bLo, bHi - bLo);
+        }
+        else {
+          final int x = (int)(split >>> 32);
+          final int y = (int)split;
+          diff(aLo, x, bLo, y);
+          diff(x, aHi, y, bHi);
+        }
+      }
+
+      equal(suffix - aHi);
+    }
+
+    /**
+     * Returns the point at which a shortest path through the edit graph of {@code a[aLo, aHi)} and {@code b[bLo, bHi)} is divided
+     * into two paths of at most half of its length, as {@code x << 32 | y}, or {@code -1} if the deadline has passed. The strings must
+     * not be empty, and must not have a common prefix or suffix.
+     */
+    private long bisect(final int aLo, final int aHi, final int bLo, final int bHi) {
+      final char[] a = this.a;
+      final char[] b = this.b;
+      final int[] forward = this.forward;
+      final int[] reverse = this.reverse;
+      final int n = aHi - aLo;
+      final int m = bHi - bLo;
+      final int max = (n + m + 1) / 2;
+      final int length = 2 * max;
+      final int delta = n - m;
+      // If the difference of the lengths is odd, the paths from both corners meet during a forward step, and otherwise during a
+      // reverse step
+      final boolean odd = (delta & 1) != 0;
+      // The vectors are reused by all divisions, and are filled with -1 only in the window of the diagonals that each step can read,
+      // which grows with the step, such that a division that is found in few steps costs few writes
+      int lo = max;
+      int hi = max;
+
+      // The number of diagonals excluded at either end, because their paths have left the edit graph
+      int forwardStart = 0;
+      int forwardEnd = 0;
+      int reverseStart = 0;
+      int reverseEnd = 0;
+      for (int d = 0; d < max; ++d) { // [N]
+        if (timed && System.nanoTime() - deadline > 0)
+          return -1;
+
+        for (final int from = Math.max(0, max + Math.min(0, delta) - d - 1); lo > from;) { // [A]
+          forward[--lo] = -1;
+          reverse[lo] = -1;
+        }
+
+        for (final int to = Math.min(length, max + Math.max(0, delta) + d + 2); hi < to; ++hi) { // [A]
+          forward[hi] = -1;
+          reverse[hi] = -1;
+        }
+
+        if (d == 0) {
+          forward[max + 1] = 0;
+          reverse[max + 1] = 0;
+        }
+
+        for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) { // [N]
+          final int i = max + k;
+          int x = k == -d || k != d && forward[i - 1] < forward[i + 1] ? forward[i + 1] : forward[i - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m && a[aLo + x] == b[bLo + y]) { // [A]
+            ++x;
+            ++y;
+          }
+
+          forward[i] = x;
+          if (x > n) {
+            forwardEnd += 2;
+          }
+          else if (y > m) {
+            forwardStart += 2;
+          }
+          else if (odd) {
+            final int j = max + delta - k;
+            if (j >= 0 && j < length && reverse[j] != -1 && x >= n - reverse[j])
+              return (long)(aLo + x) << 32 | bLo + y;
+          }
+        }
+
+        for (int k = -d + reverseStart; k <= d - reverseEnd; k += 2) { // [N]
+          final int i = max + k;
+          int x = k == -d || k != d && reverse[i - 1] < reverse[i + 1] ? reverse[i + 1] : reverse[i - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m && a[aHi - 1 - x] == b[bHi - 1 - y]) { // [A]
+            ++x;
+            ++y;
+          }
+
+          reverse[i] = x;
+          if (x > n) {
+            reverseEnd += 2;
+          }
+          else if (y > m) {
+            reverseStart += 2;
+          }
+          else if (!odd) {
+            final int j = max + delta - k;
+            if (j >= 0 && j < length && forward[j] != -1) {
+              final int x1 = forward[j];
+              if (x1 >= n - x)
+                return (long)(aLo + x1) << 32 | bLo + x1 - (delta - k);
+            }
+          }
+        }
+
+        if (d >= MAX_COST) {
+          final long split = furthest(aLo, aHi, bLo, bHi, max, d, forwardStart, forwardEnd, reverseStart, reverseEnd);
+          if (split != -1)
+            return split;
+        }
+      }
+
+      return -1;
+    }
+
+    /**
+     * Returns the end of the furthest reaching forward or reverse path of step {@code d} of {@link #bisect(int,int,int,int)}, as
+     * {@code x << 32 | y}, or {@code -1} if the furthest reaching path has reached the opposite corner of the edit graph.
+     */
+    private long furthest(final int aLo, final int aHi, final int bLo, final int bHi, final int max, final int d, final int forwardStart, final int forwardEnd, final int reverseStart, final int reverseEnd) {
+      final int n = aHi - aLo;
+      final int m = bHi - bLo;
+      int forwardBest = -1;
+      int forwardK = 0;
+      for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) { // [N]
+        final int x = forward[max + k];
+        final int y = x - k;
+        if (x <= n && y <= m && x + y > forwardBest) {
+          forwardBest = x + y;
+          forwardK = k;
+        }
+      }
+
+      int reverseBest = -1;
+      int reverseK = 0;
+      for (int k = -d + reverseStart; k <= d - reverseEnd; k += 2) { // [N]
+        final int x = reverse[max + k];
+        final int y = x - k;
+        if (x <= n && y <= m && x + y > reverseBest) {
+          reverseBest = x + y;
+          reverseK = k;
+        }
+      }
+
+      if (forwardBest >= reverseBest) {
+        if (forwardBest < n + m) {
+          final int x = forward[max + forwardK];
+          return (long)(aLo + x) << 32 | bLo + x - forwardK;
+        }
+      }
+      else if (reverseBest < n + m) {
+        final int x = reverse[max + reverseK];
+        return (long)(aHi - x) << 32 | bHi - (x - reverseK);
+      }
+
+      return -1;
+    }
+  }
+
   private final List<Mod> mods;
   private final byte lengthSize;
 
   /**
-   * Creates a {@link Diff} that represents the steps necessary to transform a {@code target} string to the {@code source} string.
+   * Creates a {@link Diff} that represents the steps necessary to transform a {@code target} string to the {@code source} string, which
+   * are computed with {@link Engine#DIFF_MATCH_PATCH} with a timeout of 1 second.
    *
    * @param source The source string.
    * @param target The target string.
    */
   public Diff(final String source, final String target) {
-    final List<diff_match_patch.Diff> diffs = new diff_match_patch().diff_main(source, target);
-    final Iterator<diff_match_patch.Diff> iterator = diffs.iterator();
+    this(source, target, Engine.DIFF_MATCH_PATCH, DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Creates a {@link Diff} that represents the steps necessary to transform a {@code target} string to the {@code source} string, which
+   * are computed with the specified {@link Engine}. The search for the shortest steps is abandoned after the specified timeout, after
+   * which the remaining differences are represented less compactly. The steps of the engines can differ, and so can the encodings
+   * returned by {@link #toBytes()}, but both are decoded by {@link #decode(byte[])}.
+   *
+   * @param source The source string.
+   * @param target The target string.
+   * @param engine The {@link Engine} with which to compute the steps.
+   * @param timeout The time in milliseconds after which the search for the shortest steps is abandoned, or {@code 0} for no limit.
+   * @throws NullPointerException If {@code source}, {@code target}, or {@code engine} is null.
+   */
+  public Diff(final String source, final String target, final Engine engine, final long timeout) {
     final ArrayList<Mod> mods = new ArrayList<>();
+    switch (engine) {
+      case DIFF_MATCH_PATCH:
+        final diff_match_patch dmp = new diff_match_patch();
+        dmp.Diff_Timeout = timeout / 1000f;
+        addMods(dmp.diff_main(source, target), mods);
+        break;
+      case MYERS:
+        final Myers myers = new Myers(source, target, timeout, mods);
+        myers.diff(0, source.length(), 0, target.length());
+        myers.flush();
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported engine: " + engine);
+    }
+
+    int maxLength = 0;
+    for (int i = 0, i$ = mods.size(); i < i$; ++i) { // [RA]
+      final Mod mod = mods.get(i);
+      if (mod.length > maxLength)
+        maxLength = mod.length;
+    }
+
+    this.lengthSize = maxLength == 0 ? 0 : Bytes.getSize(maxLength);
+    this.mods = mods;
+  }
+
+  private void addMods(final List<diff_match_patch.Diff> diffs, final ArrayList<Mod> mods) {
+    final Iterator<diff_match_patch.Diff> iterator = diffs.iterator();
     while (iterator.hasNext()) {
       final diff_match_patch.Diff diff1 = iterator.next();
       if (diff1.operation == diff_match_patch.Operation.DELETE && iterator.hasNext()) {
@@ -462,16 +843,6 @@ public class Diff {
         mods.add(toMod(diff1));
       }
     }
-
-    int maxLength = 0;
-    for (int i = 0, i$ = mods.size(); i < i$; ++i) { // [RA]
-      final Mod mod = mods.get(i);
-      if (mod.length > maxLength)
-        maxLength = mod.length;
-    }
-
-    this.lengthSize = maxLength == 0 ? 0 : Bytes.getSize(maxLength);
-    this.mods = mods;
   }
 
   /**
@@ -16,6 +16,7 @@
 
 package org.libj.util;
 
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
@@ -24,6 +25,14 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import org.libj.util.primitive.ByteIterator;
+import org.libj.util.primitive.CharIterator;
+import org.libj.util.primitive.DoubleIterator;
+import org.libj.util.primitive.FloatIterator;
+import org.libj.util.primitive.IntIterator;
+import org.libj.util.primitive.LongIterator;
+import org.libj.util.primitive.ShortIterator;
+
 /**
  * Utility functions for operations pertaining to {@link Iterator}.
  */
@@ -132,6 +141,370 @@ public final class Iterators {
     };
   }
 
+  /**
+   * Returns an {@link Iterator} that iterates over the elements of the sorted {@code iterator}, skipping each element that is
+   * {@linkplain Comparator#compare(Object,Object) comparatively} equal to the element before it. The elements are consumed from
+   * {@code iterator} as the returned {@link Iterator} is advanced, and only the last returned element is retained, so the source is
+   * deduplicated without being materialized.
+   *
+   * @param <E> The type of elements in {@code iterator}.
+   * @param iterator The source {@link Iterator}, sorted according to {@code c}.
+   * @param c The {@link Comparator} that determines whether consecutive elements are equal.
+   * @return An {@link Iterator} that iterates over the unique elements of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} or {@code c} is null.
+   */
+  public static <E> Iterator<E> dedupe(final Iterator<? extends E> iterator, final Comparator<? super E> c) {
+    Objects.requireNonNull(iterator);
+    Objects.requireNonNull(c);
+    return new Iterator<E>() {
+      private boolean started;
+      private boolean consumed = true;
+      private E last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final E next = iterator.next();
+          if (!started || c.compare(last, next) != 0) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public E next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
+  /**
+   * Returns an {@link ByteIterator} that iterates over the values of the sorted {@code iterator}, skipping each value that is equal
+   * to the value before it. The values are consumed from {@code iterator} as the returned {@link ByteIterator} is advanced, and only
+   * the last returned value is retained, so the source is deduplicated without being materialized.
+   *
+   * @param iterator The sorted source {@link ByteIterator}.
+   * @return An {@link ByteIterator} that iterates over the unique values of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} is null.
+   */
+  public static ByteIterator dedupe(final ByteIterator iterator) {
+    Objects.requireNonNull(iterator);
+    return new ByteIterator() {
+      private boolean started;
+      private boolean consumed = true;
+      private byte last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final byte next = iterator.next();
+          if (!started || last != next) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public byte next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
+  /**
+   * Returns an {@link CharIterator} that iterates over the values of the sorted {@code iterator}, skipping each value that is equal
+   * to the value before it. The values are consumed from {@code iterator} as the returned {@link CharIterator} is advanced, and only
+   * the last returned value is retained, so the source is deduplicated without being materialized.
+   *
+   * @param iterator The sorted source {@link CharIterator}.
+   * @return An {@link CharIterator} that iterates over the unique values of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} is null.
+   */
+  public static CharIterator dedupe(final CharIterator iterator) {
+    Objects.requireNonNull(iterator);
+    return new CharIterator() {
+      private boolean started;
+      private boolean consumed = true;
+      private char last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final char next = iterator.next();
+          if (!started || last != next) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public char next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
+  /**
+   * Returns an {@link ShortIterator} that iterates over the values of the sorted {@code iterator}, skipping each value that is equal
+   * to the value before it. The values are consumed from {@code iterator} as the returned {@link ShortIterator} is advanced, and only
+   * the last returned value is retained, so the source is deduplicated without being materialized.
+   *
+   * @param iterator The sorted source {@link ShortIterator}.
+   * @return An {@link ShortIterator} that iterates over the unique values of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} is null.
+   */
+  public static ShortIterator dedupe(final ShortIterator iterator) {
+    Objects.requireNonNull(iterator);
+    return new ShortIterator() {
+      private boolean started;
+      private boolean consumed = true;
+      private short last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final short next = iterator.next();
+          if (!started || last != next) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public short next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
+  /**
+   * Returns an {@link IntIterator} that iterates over the values of the sorted {@code iterator}, skipping each value that is equal
+   * to the value before it. The values are consumed from {@code iterator} as the returned {@link IntIterator} is advanced, and only
+   * the last returned value is retained, so the source is deduplicated without being materialized.
+   *
+   * @param iterator The sorted source {@link IntIterator}.
+   * @return An {@link IntIterator} that iterates over the unique values of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} is null.
+   */
+  public static IntIterator dedupe(final IntIterator iterator) {
+    Objects.requireNonNull(iterator);
+    return new IntIterator() {
+      private boolean started;
+      private boolean consumed = true;
+      private int last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final int next = iterator.next();
+          if (!started || last != next) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public int next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
+  /**
+   * Returns an {@link LongIterator} that iterates over the values of the sorted {@code iterator}, skipping each value that is equal
+   * to the value before it. The values are consumed from {@code iterator} as the returned {@link LongIterator} is advanced, and only
+   * the last returned value is retained, so the source is deduplicated without being materialized.
+   *
+   * @param iterator The sorted source {@link LongIterator}.
+   * @return An {@link LongIterator} that iterates over the unique values of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} is null.
+   */
+  public static LongIterator dedupe(final LongIterator iterator) {
+    Objects.requireNonNull(iterator);
+    return new LongIterator() {
+      private boolean started;
+      private boolean consumed = true;
+      private long last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final long next = iterator.next();
+          if (!started || last != next) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public long next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
+  /**
+   * Returns an {@link FloatIterator} that iterates over the values of the sorted {@code iterator}, skipping each value that is equal
+   * to the value before it. The values are consumed from {@code iterator} as the returned {@link FloatIterator} is advanced, and only
+   * the last returned value is retained, so the source is deduplicated without being materialized.
+   *
+   * @param iterator The sorted source {@link FloatIterator}.
+   * @return An {@link FloatIterator} that iterates over the unique values of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} is null.
+   */
+  public static FloatIterator dedupe(final FloatIterator iterator) {
+    Objects.requireNonNull(iterator);
+    return new FloatIterator() {
+      private boolean started;
+      private boolean consumed = true;
+      private float last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final float next = iterator.next();
+          if (!started || last != next) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public float next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
+  /**
+   * Returns an {@link DoubleIterator} that iterates over the values of the sorted {@code iterator}, skipping each value that is equal
+   * to the value before it. The values are consumed from {@code iterator} as the returned {@link DoubleIterator} is advanced, and only
+   * the last returned value is retained, so the source is deduplicated without being materialized.
+   *
+   * @param iterator The sorted source {@link DoubleIterator}.
+   * @return An {@link DoubleIterator} that iterates over the unique values of the sorted {@code iterator}.
+   * @throws NullPointerException If {@code iterator} is null.
+   */
+  public static DoubleIterator dedupe(final DoubleIterator iterator) {
+    Objects.requireNonNull(iterator);
+    return new DoubleIterator() {
+      private boolean started;
+      private boolean consumed = true;
+      private double last;
+
+      @Override
+      public boolean hasNext() {
+        if (!consumed)
+          return true;
+
+        while (iterator.hasNext()) { // [I]
+          final double next = iterator.next();
+          if (!started || last != next) {
+            started = true;
+            consumed = false;
+            last = next;
+            return true;
+          }
+        }
+
+        return false;
+      }
+
+      @Override
+      public double next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        consumed = true;
+        return last;
+      }
+    };
+  }
+
   /**
    * Returns a "flat" {@link Iterator} for the specified N-dimensional array of type {@code <T>}, whereby all nested array members are
    * flattened at every depth.
@@ -20,14 +20,287 @@ import static org.libj.lang.Assertions.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.libj.util.primitive.ArrayLongList;
+import org.libj.util.primitive.LongIterator;
 
 /**
- * An efficient stream searching class based on the Knuth-Morris-Pratt algorithm.
+ * An efficient stream searching class based on the Knuth-Morris-Pratt algorithm, for few patterns, and the Aho-Corasick algorithm,
+ * for many patterns.
  *
  * @see <a href= "http://www.inf.fh-flensburg.de/lang/algorithmen/pattern/kmpen.htm">Knuth-Morris-Pratt algorithm</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick algorithm</a>
  */
 public final class StreamSearcher {
+  /**
+   * Listener of the matches reported by {@link MultiChar#search(Reader,MatchListener)} and
+   * {@link MultiByte#search(InputStream,MatchListener)}.
+   */
+  @FunctionalInterface
+  public interface MatchListener {
+    /**
+     * Called for each match of a pattern in the stream.
+     *
+     * @param pattern The index of the matched pattern, in the array of patterns with which the searcher was created.
+     * @param end The number of values read from the stream up to and including the last value of the match. The match thus starts at
+     *          {@code end - patterns[pattern].length}.
+     * @return {@code true} to continue the search, or {@code false} to stop the search after this match.
+     */
+    boolean onMatch(int pattern, long end);
+  }
+
+  /**
+   * An Aho-Corasick automaton of a set of patterns, whose values are mapped to symbol classes. All values that do not occur in any
+   * pattern share class {@code 0}, and each value that occurs in a pattern has its own class, such that a row of the transition table
+   * is only as wide as the alphabet of the patterns. The failure transitions of all states are resolved ahead of time, such that each
+   * value of the input is consumed with a single lookup, and the cost of a search is independent of the number of patterns.
+   */
+  static final class Automaton {
+    /**
+     * The number of symbol classes, which is the width of a row of {@link #next}.
+     */
+    final int width;
+
+    /**
+     * The transition table, in which the row of state {@code s} starts at {@code s * width}. Each entry is the offset of the row of the
+     * target state, whose bits are inverted if a pattern ends at the target state.
+     */
+    final int[] next;
+
+    /**
+     * The index of the pattern that ends at each state, or {@code -1}.
+     */
+    private final int[] out;
+
+    /**
+     * The state of the longest proper suffix of each state at which a pattern ends, or {@code -1}.
+     */
+    private final int[] link;
+
+    /**
+     * Creates a new {@link Automaton} of the specified patterns of symbol classes.
+     *
+     * @param symbols The patterns, as arrays of symbol classes in {@code [1, width)}.
+     * @param width The number of symbol classes.
+     * @throws IllegalArgumentException If the transition table would exceed the maximum length of an array.
+     */
+    Automaton(final int[][] symbols, final int width) {
+      this.width = width;
+      long capacity = 1;
+      for (final int[] pattern : symbols) // [A]
+        capacity += pattern.length;
+
+      if (capacity * width > Integer.MAX_VALUE - 8)
+        throw new IllegalArgumentException("Transition table of " + capacity + " states by " + width + " symbols is too large");
+
+      // Build the trie of the patterns, in which a missing transition is -1
+      int[] goTo = new int[(int)capacity * width];
+      Arrays.fill(goTo, -1);
+      int[] out = new int[(int)capacity];
+      Arrays.fill(out, -1);
+      int states = 1;
+      for (int p = 0, p$ = symbols.length; p < p$; ++p) { // [A]
+        int state = 0;
+        for (final int symbol : symbols[p]) { // [A]
+          final int i = state * width + symbol;
+          if (goTo[i] == -1)
+            goTo[i] = states++;
+
+          state = goTo[i];
+        }
+
+        if (out[state] == -1)
+          out[state] = p;
+      }
+
+      goTo = Arrays.copyOf(goTo, states * width);
+      this.out = out = Arrays.copyOf(out, states);
+      final int[] link = this.link = new int[states];
+      link[0] = -1;
+
+      // Resolve the missing transitions in breadth-first order, in which the failure state of each state precedes the state itself
+      final int[] fail = new int[states];
+      final int[] queue = new int[states];
+      int tail = 0;
+      for (int c = 0; c < width; ++c) { // [A]
+        if (goTo[c] == -1)
+          goTo[c] = 0;
+        else
+          queue[tail++] = goTo[c];
+      }
+
+      for (int head = 0; head < tail;) { // [A]
+        final int state = queue[head++];
+        final int f = fail[state];
+        link[state] = out[f] != -1 ? f : link[f];
+        for (int c = 0, row = state * width, failRow = f * width; c < width; ++c) { // [A]
+          final int target = goTo[row + c];
+          if (target == -1) {
+            goTo[row + c] = goTo[failRow + c];
+          }
+          else {
+            fail[target] = goTo[failRow + c];
+            queue[tail++] = target;
+          }
+        }
+      }
+
+      final int[] next = this.next = goTo;
+      for (int i = 0, i$ = next.length; i < i$; ++i) { // [A]
+        final int target = next[i];
+        next[i] = out[target] != -1 || link[target] != -1 ? ~(target * width) : target * width;
+      }
+    }
+
+    /**
+     * Returns the index of the longest pattern that ends at the state of the specified row, which must be a state at which a pattern
+     * ends.
+     *
+     * @param row The offset of the row of the state.
+     * @return The index of the longest pattern that ends at the state of the specified row.
+     */
+    int longest(final int row) {
+      final int state = row / width;
+      return out[state] != -1 ? out[state] : out[link[state]];
+    }
+
+    /**
+     * Reports the patterns that end at the state of the specified row to the provided {@link MatchListener}, from the longest to the
+     * shortest.
+     *
+     * @param row The offset of the row of the state.
+     * @param end The number of values read from the stream up to and including the last value of the match.
+     * @param listener The {@link MatchListener}.
+     * @return {@code false} if the listener has stopped the search, otherwise {@code true}.
+     */
+    boolean report(final int row, final long end, final MatchListener listener) {
+      final int state = row / width;
+      for (int s = out[state] != -1 ? state : link[state]; s != -1; s = link[s]) // [X]
+        if (!listener.onMatch(out[s], end))
+          return false;
+
+      return true;
+    }
+  }
+
+  private static void assertPatterns(final int length) {
+    if (length == 0)
+      throw new IllegalArgumentException("patterns.length [0] must be greater than 0");
+  }
+
+  private static void assertPattern(final int p, final int length) {
+    if (length == 0)
+      throw new IllegalArgumentException("patterns[" + p + "].length [0] must be greater than 0");
+  }
+
+  /**
+   * The length of the block into which a stream that supports {@code mark(int)} is read by {@link MultiByte#search(InputStream)} and
+   * {@link MultiChar#search(Reader)}.
+   */
+  static final int BLOCK_SIZE = 8192;
+
+  private static void assertBlock(final int length) {
+    if (length == 0)
+      throw new IllegalArgumentException("block.length [0] must be greater than 0");
+  }
+
+  /**
+   * Returns whether the values read past the end of a match are to be returned to the specified {@link InputStream} with
+   * {@link PushbackInputStream#unread(byte[],int,int)}, rather than with {@link InputStream#reset()}.
+   *
+   * @param in The {@link InputStream}.
+   * @return {@code true} if {@code in} is a {@link PushbackInputStream}, and {@code false} if it supports {@link InputStream#mark(int)}.
+   * @throws IllegalArgumentException If {@code in} is neither a {@link PushbackInputStream}, nor supports {@link InputStream#mark(int)}.
+   */
+  private static boolean isPushback(final InputStream in) {
+    if (in instanceof PushbackInputStream)
+      return true;
+
+    if (in.markSupported())
+      return false;
+
+    throw new IllegalArgumentException("InputStream must be a PushbackInputStream, or must support mark()");
+  }
+
+  /**
+   * Returns whether the values read past the end of a match are to be returned to the specified {@link Reader} with
+   * {@link PushbackReader#unread(char[],int,int)}, rather than with {@link Reader#reset()}.
+   *
+   * @param in The {@link Reader}.
+   * @return {@code true} if {@code in} is a {@link PushbackReader}, and {@code false} if it supports {@link Reader#mark(int)}.
+   * @throws IllegalArgumentException If {@code in} is neither a {@link PushbackReader}, nor supports {@link Reader#mark(int)}.
+   */
+  private static boolean isPushback(final Reader in) {
+    if (in instanceof PushbackReader)
+      return true;
+
+    if (in.markSupported())
+      return false;
+
+    throw new IllegalArgumentException("Reader must be a PushbackReader, or must support mark()");
+  }
+
+  /**
+   * Returns the values of the block after the end of a match to the specified {@link InputStream}, such that the stream points to
+   * the end of the match.
+   *
+   * @param in The {@link InputStream}.
+   * @param pushback Whether {@code in} is a {@link PushbackInputStream}, or otherwise was marked before the block was read.
+   * @param block The block.
+   * @param end The index in the block after the end of the match.
+   * @param length The number of values read into the block.
+   * @throws IOException If an I/O error has occurred.
+   */
+  private static void pushback(final InputStream in, final boolean pushback, final byte[] block, final int end, final int length) throws IOException {
+    if (pushback) {
+      ((PushbackInputStream)in).unread(block, end, length - end);
+    }
+    else {
+      in.reset();
+      for (int off = 0, n; off < end; off += n) // [ST]
+        if ((n = in.read(block, off, end - off)) == -1)
+          throw new IOException("Unexpected end of stream after reset()");
+    }
+  }
+
+  /**
+   * Returns the values of the block after the end of a match to the specified {@link Reader}, such that the stream points to the end
+   * of the match.
+   *
+   * @param in The {@link Reader}.
+   * @param pushback Whether {@code in} is a {@link PushbackReader}, or otherwise was marked before the block was read.
+   * @param block The block.
+   * @param end The index in the block after the end of the match.
+   * @param length The number of values read into the block.
+   * @throws IOException If an I/O error has occurred.
+   */
+  private static void pushback(final Reader in, final boolean pushback, final char[] block, final int end, final int length) throws IOException {
+    if (pushback) {
+      ((PushbackReader)in).unread(block, end, length - end);
+    }
+    else {
+      in.reset();
+      for (int off = 0, n; off < end; off += n) // [ST]
+        if ((n = in.read(block, off, end - off)) == -1)
+          throw new IOException("Unexpected end of stream after reset()");
+    }
+  }
+
   /**
    * The Knuth-Morris-Pratt algorithm applied to {@code char} streams.
    */
@@ -42,12 +315,13 @@ public final class StreamSearcher {
      */
     public Char(final char[] ... patterns) {
       this.patterns = patterns;
-      this.borders = new int[patterns.length][patterns[0].length + 1];
+      this.borders = new int[patterns.length][];
       for (int p = 0, p$ = patterns.length; p < p$; ++p) { // [A]
+        borders[p] = new int[patterns[p].length + 1];
         int i = 0;
         int j = -1;
         borders[p][i] = j;
-        while (i < patterns[0].length) {
+        while (i < patterns[p].length) {
           while (j >= 0 && patterns[p][i] != patterns[p][j])
             j = borders[p][j];
 
@@ -116,6 +390,29 @@ public final class StreamSearcher {
       // Not found, return false. Note that the stream is now completely consumed.
       return i;
     }
+
+    private MultiChar multi;
+
+    private MultiChar multi() {
+      return multi == null ? multi = new MultiChar(patterns) : multi;
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the stream, starting from the current stream position, reading the stream
+     * into the provided block rather than one {@code char} at a time. The semantics are those of {@link #search(Reader)}.
+     *
+     * @param in The {@link Reader}, which must be a {@link PushbackReader} or support {@link Reader#mark(int)}.
+     * @param block Buffer used as the workspace of the search.
+     * @return Number of chars the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If {@code block} is empty, or if {@code in} is neither a {@link PushbackReader}, nor supports
+     *           {@link Reader#mark(int)}.
+     * @throws NullPointerException If {@code in} or {@code block} is null.
+     * @see MultiChar#search(Reader,char[])
+     */
+    public int search(final Reader in, final char[] block) throws IOException {
+      return multi().search(in, block);
+    }
   }
 
   /**
@@ -132,12 +429,13 @@ public final class StreamSearcher {
      */
     public Byte(final byte[] ... patterns) {
       this.patterns = patterns;
-      this.borders = new int[patterns.length][patterns[0].length + 1];
+      this.borders = new int[patterns.length][];
       for (int p = 0, p$ = patterns.length; p < p$; ++p) { // [A]
+        borders[p] = new int[patterns[p].length + 1];
         int i = 0;
         int j = -1;
         borders[p][i] = j;
-        while (i < patterns[0].length) {
+        while (i < patterns[p].length) {
           while (j >= 0 && patterns[p][i] != patterns[p][j])
             j = borders[p][j];
 
@@ -201,6 +499,919 @@ public final class StreamSearcher {
       // Not found, return false. Note that the stream is now completely consumed.
       return i;
     }
+
+    private MultiByte multi;
+
+    private MultiByte multi() {
+      return multi == null ? multi = new MultiByte(patterns) : multi;
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the stream, starting from the current stream position, reading the stream
+     * into the provided block rather than one {@code byte} at a time. The semantics are those of {@link #search(InputStream)}.
+     *
+     * @param in The {@link InputStream}, which must be a {@link PushbackInputStream} or support {@link InputStream#mark(int)}.
+     * @param block Buffer used as the workspace of the search.
+     * @return Number of bytes the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If {@code block} is empty, or if {@code in} is neither a {@link PushbackInputStream}, nor
+     *           supports {@link InputStream#mark(int)}.
+     * @throws NullPointerException If {@code in} or {@code block} is null.
+     * @see MultiByte#search(InputStream,byte[])
+     */
+    public int search(final InputStream in, final byte[] block) throws IOException {
+      return multi().search(in, block);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the remaining bytes of the provided {@link ByteBuffer}.
+     *
+     * @param buffer The {@link ByteBuffer}.
+     * @return Number of bytes the buffer's position is advanced.
+     * @throws NullPointerException If {@code buffer} is null.
+     * @see MultiByte#search(ByteBuffer)
+     */
+    public int search(final ByteBuffer buffer) {
+      return multi().search(buffer);
+    }
+
+    /**
+     * Searches for the next occurrence of the pattern in the remaining bytes of the provided {@link ByteBuffer}, followed by the
+     * bytes of the channel.
+     *
+     * @param in The {@link ReadableByteChannel}, which must be in blocking mode.
+     * @param buffer The {@link ByteBuffer} into which the channel is read.
+     * @return Number of bytes the buffer and the channel are advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     * @see MultiByte#search(ReadableByteChannel,ByteBuffer)
+     */
+    public long search(final ReadableByteChannel in, final ByteBuffer buffer) throws IOException {
+      return multi().search(in, buffer);
+    }
+
+    /**
+     * Returns an iterator of the start offsets of all occurrences of the patterns in the file of the specified {@link FileChannel},
+     * which is memory-mapped in windows.
+     *
+     * @param channel The {@link FileChannel}, which must be open for reading until the iteration is complete.
+     * @param parallel Whether the windows are to be searched in parallel.
+     * @return An iterator of the start offsets of all occurrences of the patterns in the file.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code channel} is null.
+     * @see MultiByte#search(FileChannel,boolean)
+     */
+    public LongIterator search(final FileChannel channel, final boolean parallel) throws IOException {
+      return multi().search(channel, parallel);
+    }
+
+    /**
+     * Returns an iterator of the start offsets of all occurrences of the patterns in the file at the specified {@link Path}, which is
+     * memory-mapped in windows.
+     *
+     * @param path The {@link Path} of the file.
+     * @param parallel Whether the windows are to be searched in parallel.
+     * @return An iterator of the start offsets of all occurrences of the patterns in the file.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code path} is null.
+     * @see MultiByte#search(Path,boolean)
+     */
+    public LongIterator search(final Path path, final boolean parallel) throws IOException {
+      return multi().search(path, parallel);
+    }
+
+    /**
+     * Returns a {@link MultiByte.Splitter} of the specified {@link InputStream} into the segments between the occurrences of the
+     * patterns.
+     *
+     * @param in The {@link InputStream}.
+     * @param buffer The initial buffer into which the stream is read, which is reused for all segments.
+     * @return A {@link MultiByte.Splitter} of the specified {@link InputStream}.
+     * @throws IllegalArgumentException If {@code buffer} is empty.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     * @see MultiByte#split(InputStream,byte[])
+     */
+    public MultiByte.Splitter split(final InputStream in, final byte[] buffer) {
+      return multi().split(in, buffer);
+    }
+
+    /**
+     * Returns a {@link MultiByte.Splitter} of the specified {@link ReadableByteChannel} into the segments between the occurrences of
+     * the patterns.
+     *
+     * @param in The {@link ReadableByteChannel}, which must be in blocking mode.
+     * @param buffer The initial buffer into which the channel is read, which is reused for all segments.
+     * @return A {@link MultiByte.Splitter} of the specified {@link ReadableByteChannel}.
+     * @throws IllegalArgumentException If {@code buffer} is empty.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     * @see MultiByte#split(ReadableByteChannel,byte[])
+     */
+    public MultiByte.Splitter split(final ReadableByteChannel in, final byte[] buffer) {
+      return multi().split(in, buffer);
+    }
+  }
+
+  /**
+   * The Aho-Corasick algorithm applied to {@code char} streams. All patterns are compiled into a single automaton, whose transitions
+   * are looked up in a dense table, such that the cost per {@code char} of the stream is independent of the number of patterns.
+   */
+  public static class MultiChar {
+    protected final char[][] patterns;
+    private final int[] classes;
+    private final Automaton automaton;
+
+    /**
+     * Creates a new {@link MultiChar} instance with the specified {@code char[]} vararg array representing the search patterns.
+     *
+     * @param patterns The vararg array representing the search patterns.
+     * @throws IllegalArgumentException If {@code patterns} is empty, or if a pattern is empty.
+     * @throws NullPointerException If {@code patterns} or a pattern is null.
+     */
+    public MultiChar(final char[] ... patterns) {
+      assertPatterns(patterns.length);
+      this.patterns = patterns;
+      int max = 0;
+      for (int p = 0, p$ = patterns.length; p < p$; ++p) { // [A]
+        assertPattern(p, patterns[p].length);
+        for (final char ch : patterns[p]) // [A]
+          if (ch > max)
+            max = ch;
+      }
+
+      final int[] classes = this.classes = new int[max + 1];
+      final int[][] symbols = new int[patterns.length][];
+      int width = 1;
+      for (int p = 0, p$ = patterns.length; p < p$; ++p) { // [A]
+        final char[] pattern = patterns[p];
+        final int[] symbol = symbols[p] = new int[pattern.length];
+        for (int i = 0, i$ = pattern.length; i < i$; ++i) { // [A]
+          final char ch = pattern[i];
+          if (classes[ch] == 0)
+            classes[ch] = width++;
+
+          symbol[i] = classes[ch];
+        }
+      }
+
+      this.automaton = new Automaton(symbols, width);
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the stream, starting from the current stream position. Note that the
+     * position of the stream is changed. If a match is found, the stream points to the end of the match -- i.e. the char AFTER the
+     * pattern. Else, the stream is entirely consumed.
+     * <p>
+     * If the stream supports {@link Reader#mark(int)}, it is read in blocks, as by {@link #search(Reader,char[])}, which replaces any mark
+     * previously set on the stream. Otherwise, it is read one {@code char} at a time.
+     *
+     * @param in The {@link Reader}.
+     * @return Number of chars the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code in} is null.
+     */
+    public int search(final Reader in) throws IOException {
+      return in.markSupported() ? search(in, new char[BLOCK_SIZE]) : search(in, null, -1);
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the stream, starting from the current stream position, reading the
+     * stream into the provided block rather than one {@code char} at a time. Note that the position of the stream is changed. If a
+     * match is found, the stream points to the end of the match -- i.e. the char AFTER the pattern. Else, the stream is entirely
+     * consumed.
+     * <p>
+     * The chars of the last block that are read past the end of the match are returned to the stream, with
+     * {@link PushbackReader#unread(char[],int,int)} if {@code in} is a {@link PushbackReader}, whose pushback buffer must then be at
+     * least as long as {@code block}, and otherwise with {@link Reader#reset()} to a mark that is set before each block is read. The
+     * contents of {@code block} are unspecified after the call.
+     *
+     * @param in The {@link Reader}, which must be a {@link PushbackReader} or support {@link Reader#mark(int)}.
+     * @param block Buffer used as the workspace of the search.
+     * @return Number of chars the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If {@code block} is empty, or if {@code in} is neither a {@link PushbackReader}, nor supports
+     *           {@link Reader#mark(int)}.
+     * @throws NullPointerException If {@code in} or {@code block} is null.
+     */
+    public int search(final Reader in, final char[] block) throws IOException {
+      assertBlock(block.length);
+      final boolean pushback = isPushback(in);
+      final int[] classes = this.classes;
+      final int[] next = automaton.next;
+      int i = 0;
+      for (int n, row = 0;; i += n) { // [ST]
+        if (!pushback)
+          in.mark(block.length);
+
+        if ((n = in.read(block)) == -1)
+          return i;
+
+        for (int j = 0; j < n;) { // [A]
+          final char ch = block[j++];
+          if ((row = next[row + (ch < classes.length ? classes[ch] : 0)]) < 0) {
+            pushback(in, pushback, block, j, n);
+            return i + j;
+          }
+        }
+      }
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the stream, starting from the current stream position. Note that the
+     * position of the stream is changed. If a match is found, the stream points to the end of the match -- i.e. the char AFTER the
+     * pattern. Else, the stream is entirely consumed.
+     * <p>
+     * If {@code buffer} is not null, each {@code char} read from the specified {@link Reader} is set into the provided {@code buffer},
+     * starting at the given {@code offset}.
+     *
+     * @param in The {@link Reader}.
+     * @param buffer Buffer into which read chars are written.
+     * @param offset Offset in buffer where chars are written.
+     * @return Number of chars the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the given {@code offset} is out of range.
+     * @throws NullPointerException If {@code in} is null.
+     */
+    public int search(final Reader in, final char[] buffer, final int offset) throws IOException {
+      if (buffer != null)
+        assertRangeArray(offset, buffer.length);
+
+      final int[] classes = this.classes;
+      final int[] next = automaton.next;
+      int i = 0;
+      for (int b, row = 0; (b = in.read()) != -1;) { // [ST]
+        if (buffer != null)
+          buffer[offset + i] = (char)b;
+
+        ++i;
+        if ((row = next[row + (b < classes.length ? classes[b] : 0)]) < 0)
+          return i;
+      }
+
+      return i;
+    }
+
+    /**
+     * Searches the stream for all occurrences of the patterns, starting from the current stream position, and reports each match to
+     * the provided {@link MatchListener}. Overlapping matches are all reported. If several patterns end at the same position, they are
+     * reported from the longest to the shortest. The search continues until the stream is entirely consumed, or until the listener
+     * returns {@code false}, in which case the stream points to the char AFTER the last reported match.
+     *
+     * @param in The {@link Reader}.
+     * @param listener The {@link MatchListener} to which the matches are reported.
+     * @return Number of chars the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code in} or {@code listener} is null.
+     */
+    public long search(final Reader in, final MatchListener listener) throws IOException {
+      final int[] classes = this.classes;
+      final Automaton automaton = this.automaton;
+      final int[] next = automaton.next;
+      long i = 0;
+      for (int b, row = 0; (b = in.read()) != -1;) { // [ST]
+        ++i;
+        if ((row = next[row + (b < classes.length ? classes[b] : 0)]) < 0 && !automaton.report(row = ~row, i, listener))
+          return i;
+      }
+
+      return i;
+    }
+  }
+
+  /**
+   * The Aho-Corasick algorithm applied to {@code byte} streams. All patterns are compiled into a single automaton, whose transitions
+   * are looked up in a dense table, such that the cost per {@code byte} of the stream is independent of the number of patterns.
+   */
+  public static class MultiByte {
+    /**
+     * The length of the windows in which a file is memory-mapped by {@link #search(FileChannel,boolean)} and
+     * {@link #search(Path,boolean)}.
+     */
+    static final int MAP_WINDOW = 1 << 26;
+
+    protected final byte[][] patterns;
+    private final int[] classes = new int[256];
+    private final Automaton automaton;
+    private final int maxLength;
+
+    /**
+     * The Boyer-Moore-Horspool shift of each byte value, if there is a single pattern, otherwise {@code null}.
+     */
+    private final int[] shifts;
+
+    /**
+     * Creates a new {@link MultiByte} instance with the specified {@code byte[]} vararg array representing the search patterns.
+     *
+     * @param patterns The vararg array representing the search patterns.
+     * @throws IllegalArgumentException If {@code patterns} is empty, or if a pattern is empty.
+     * @throws NullPointerException If {@code patterns} or a pattern is null.
+     */
+    public MultiByte(final byte[] ... patterns) {
+      assertPatterns(patterns.length);
+      this.patterns = patterns;
+      final int[] classes = this.classes;
+      final int[][] symbols = new int[patterns.length][];
+      int width = 1;
+      for (int p = 0, p$ = patterns.length; p < p$; ++p) { // [A]
+        final byte[] pattern = patterns[p];
+        assertPattern(p, pattern.length);
+        final int[] symbol = symbols[p] = new int[pattern.length];
+        for (int i = 0, i$ = pattern.length; i < i$; ++i) { // [A]
+          final int b = pattern[i] & 0xFF;
+          if (classes[b] == 0)
+            classes[b] = width++;
+
+          symbol[i] = classes[b];
+        }
+      }
+
+      this.automaton = new Automaton(symbols, width);
+      int maxLength = 0;
+      for (final byte[] pattern : patterns) // [A]
+        if (pattern.length > maxLength)
+          maxLength = pattern.length;
+
+      this.maxLength = maxLength;
+      if (patterns.length == 1) {
+        final byte[] pattern = patterns[0];
+        final int last = pattern.length - 1;
+        final int[] shifts = this.shifts = new int[256];
+        Arrays.fill(shifts, pattern.length);
+        for (int i = 0; i < last; ++i) // [A]
+          shifts[pattern[i] & 0xFF] = last - i;
+      }
+      else {
+        this.shifts = null;
+      }
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the stream, starting from the current stream position. Note that the
+     * position of the stream is changed. If a match is found, the stream points to the end of the match -- i.e. the byte AFTER the
+     * pattern. Else, the stream is entirely consumed.
+     * <p>
+     * If the stream supports {@link InputStream#mark(int)}, it is read in blocks, as by {@link #search(InputStream,byte[])}, which replaces any mark
+     * previously set on the stream. Otherwise, it is read one {@code byte} at a time.
+     *
+     * @param in The {@link InputStream}.
+     * @return Number of bytes the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code in} is null.
+     */
+    public int search(final InputStream in) throws IOException {
+      return in.markSupported() ? search(in, new byte[BLOCK_SIZE]) : search(in, null, -1);
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the stream, starting from the current stream position, reading the
+     * stream into the provided block rather than one {@code byte} at a time. Note that the position of the stream is changed. If a
+     * match is found, the stream points to the end of the match -- i.e. the byte AFTER the pattern. Else, the stream is entirely
+     * consumed.
+     * <p>
+     * The bytes of the last block that are read past the end of the match are returned to the stream, with
+     * {@link PushbackInputStream#unread(byte[],int,int)} if {@code in} is a {@link PushbackInputStream}, whose pushback buffer must
+     * then be at least as long as {@code block}, and otherwise with {@link InputStream#reset()} to a mark that is set before each block
+     * is read. The contents of {@code block} are unspecified after the call.
+     *
+     * @param in The {@link InputStream}, which must be a {@link PushbackInputStream} or support {@link InputStream#mark(int)}.
+     * @param block Buffer used as the workspace of the search.
+     * @return Number of bytes the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If {@code block} is empty, or if {@code in} is neither a {@link PushbackInputStream}, nor
+     *           supports {@link InputStream#mark(int)}.
+     * @throws NullPointerException If {@code in} or {@code block} is null.
+     */
+    public int search(final InputStream in, final byte[] block) throws IOException {
+      assertBlock(block.length);
+      final boolean pushback = isPushback(in);
+      final int[] classes = this.classes;
+      final int[] next = automaton.next;
+      int i = 0;
+      for (int n, row = 0;; i += n) { // [ST]
+        if (!pushback)
+          in.mark(block.length);
+
+        if ((n = in.read(block)) == -1)
+          return i;
+
+        for (int j = 0; j < n;) { // [A]
+          if ((row = next[row + classes[block[j++] & 0xFF]]) < 0) {
+            pushback(in, pushback, block, j, n);
+            return i + j;
+          }
+        }
+      }
+    }
+
+    /**
+     * Runs the automaton over the remaining bytes of the provided {@link ByteBuffer}, starting from the specified state, until a
+     * pattern ends or the buffer is exhausted. The buffer's position is advanced to the byte after the end of the match, or to its
+     * limit. A buffer that is backed by an accessible array is read directly from the array.
+     *
+     * @param buffer The {@link ByteBuffer}.
+     * @param row The offset of the row of the state from which to start.
+     * @return The offset of the row of the state at which the buffer was exhausted, or the inverted offset of the row of the state at
+     *         which a pattern has ended.
+     */
+    int scan(final ByteBuffer buffer, int row) {
+      final int[] classes = this.classes;
+      final int[] next = automaton.next;
+      final int limit = buffer.limit();
+      if (buffer.hasArray()) {
+        final byte[] array = buffer.array();
+        final int offset = buffer.arrayOffset();
+        for (int i = buffer.position(); i < limit;) { // [A]
+          if ((row = next[row + classes[array[offset + i++] & 0xFF]]) < 0) {
+            buffer.position(i);
+            return row;
+          }
+        }
+      }
+      else {
+        for (int i = buffer.position(); i < limit;) { // [A]
+          if ((row = next[row + classes[buffer.get(i++) & 0xFF]]) < 0) {
+            buffer.position(i);
+            return row;
+          }
+        }
+      }
+
+      buffer.position(limit);
+      return row;
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the remaining bytes of the provided {@link ByteBuffer}, without
+     * copying them. If a match is found, the buffer's position is set to the end of the match -- i.e. the byte AFTER the pattern. Else,
+     * the buffer's position is set to its limit. Matches are not carried over between calls: a match that starts before the buffer's
+     * position is not found.
+     *
+     * @param buffer The {@link ByteBuffer}.
+     * @return Number of bytes the buffer's position is advanced.
+     * @throws NullPointerException If {@code buffer} is null.
+     */
+    public int search(final ByteBuffer buffer) {
+      final int position = buffer.position();
+      scan(buffer, 0);
+      return buffer.position() - position;
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the remaining bytes of the provided {@link ByteBuffer}, followed by the
+     * bytes of the channel, which are read into the buffer once its remaining bytes are exhausted. A match may straddle any number of
+     * reads.
+     * <p>
+     * The buffer is in the state for reading from it, i.e. its remaining bytes are the bytes of the channel that have been read but not
+     * yet searched. If a match is found, the buffer's position is set to the end of the match -- i.e. the byte AFTER the pattern, and
+     * the bytes of the channel that have been read past the end of the match remain in the buffer. The next search can thus be started
+     * with the same buffer. Else, the channel is entirely consumed, and the buffer is empty.
+     *
+     * @param in The {@link ReadableByteChannel}, which must be in blocking mode.
+     * @param buffer The {@link ByteBuffer} into which the channel is read.
+     * @return Number of bytes the buffer and the channel are advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the capacity of {@code buffer} is 0.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     */
+    public long search(final ReadableByteChannel in, final ByteBuffer buffer) throws IOException {
+      assertBlock(buffer.capacity());
+      long i = 0;
+      for (int row = 0, position;;) { // [ST]
+        position = buffer.position();
+        row = scan(buffer, row);
+        i += buffer.position() - position;
+        if (row < 0)
+          return i;
+
+        buffer.clear();
+        final int n = in.read(buffer);
+        buffer.flip();
+        if (n == -1)
+          return i;
+      }
+    }
+
+    /**
+     * Searches for the next occurrence of any of the patterns in the stream, starting from the current stream position. Note that the
+     * position of the stream is changed. If a match is found, the stream points to the end of the match -- i.e. the byte AFTER the
+     * pattern. Else, the stream is entirely consumed.
+     * <p>
+     * If {@code buffer} is not null, each {@code byte} read from the specified {@link InputStream} is set into the provided
+     * {@code buffer}, starting at the given {@code offset}.
+     *
+     * @param in The {@link InputStream}.
+     * @param buffer Buffer into which read bytes are written.
+     * @param offset Offset in buffer where bytes are written.
+     * @return Number of bytes the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws IllegalArgumentException If the given {@code offset} is out of range.
+     * @throws NullPointerException If {@code in} is null.
+     */
+    public int search(final InputStream in, final byte[] buffer, final int offset) throws IOException {
+      if (buffer != null)
+        assertRangeArray(offset, buffer.length);
+
+      final int[] classes = this.classes;
+      final int[] next = automaton.next;
+      int i = 0;
+      for (int b, row = 0; (b = in.read()) != -1;) { // [ST]
+        if (buffer != null)
+          buffer[offset + i] = (byte)b;
+
+        ++i;
+        if ((row = next[row + classes[b]]) < 0)
+          return i;
+      }
+
+      return i;
+    }
+
+    /**
+     * Searches the stream for all occurrences of the patterns, starting from the current stream position, and reports each match to
+     * the provided {@link MatchListener}. Overlapping matches are all reported. If several patterns end at the same position, they are
+     * reported from the longest to the shortest. The search continues until the stream is entirely consumed, or until the listener
+     * returns {@code false}, in which case the stream points to the byte AFTER the last reported match.
+     *
+     * @param in The {@link InputStream}.
+     * @param listener The {@link MatchListener} to which the matches are reported.
+     * @return Number of bytes the stream is advanced.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code in} or {@code listener} is null.
+     */
+    public long search(final InputStream in, final MatchListener listener) throws IOException {
+      final int[] classes = this.classes;
+      final Automaton automaton = this.automaton;
+      final int[] next = automaton.next;
+      long i = 0;
+      for (int b, row = 0; (b = in.read()) != -1;) { // [ST]
+        ++i;
+        if ((row = next[row + classes[b]]) < 0 && !automaton.report(row = ~row, i, listener))
+          return i;
+      }
+
+      return i;
+    }
+
+    /**
+     * A pull-based splitter of a stream into the segments between the occurrences of the patterns, which are the delimiters. The
+     * stream is read into a buffer that is reused for all segments, and each segment is returned as the same {@link ByteBuffer} view of
+     * the buffer, whose position and limit are set to the bounds of the segment. No allocation is thus made per segment, and a segment
+     * is valid only until the next call to {@link #hasNext()} or {@link #next()}. The buffer is grown only if a single segment and its
+     * delimiter do not fit in it.
+     * <p>
+     * The delimiters are matched without overlap, from the end of the previous delimiter. If several delimiters end at the same
+     * position, the longest is matched, such that, for instance, {@code "\r\n"} is preferred over {@code "\n"}. A segment is returned
+     * for each delimiter, even if it is empty, and the bytes after the last delimiter are returned as a final segment, unless they are
+     * empty.
+     * <p>
+     * An {@link IOException} thrown while reading the stream is rethrown as an {@link UncheckedIOException}.
+     */
+    public final class Splitter implements Iterator<ByteBuffer> {
+      private final InputStream in;
+      private final ReadableByteChannel channel;
+      private byte[] buffer;
+      private ByteBuffer wrapper;
+      private ByteBuffer segment;
+      private int start;
+      private int scan;
+      private int end;
+      private int row;
+      private int delimiter = -1;
+      private boolean ready;
+      private boolean eof;
+
+      private Splitter(final InputStream in, final ReadableByteChannel channel, final byte[] buffer) {
+        assertBlock(buffer.length);
+        this.in = in;
+        this.channel = channel;
+        wrap(buffer);
+      }
+
+      private void wrap(final byte[] buffer) {
+        this.buffer = buffer;
+        this.wrapper = ByteBuffer.wrap(buffer);
+        this.segment = ByteBuffer.wrap(buffer);
+      }
+
+      /**
+       * Reads the stream into the free space at the end of the buffer, after first moving the unfinished segment to the start of the
+       * buffer, or growing the buffer, if there is no free space.
+       */
+      private void fill() throws IOException {
+        if (start == end) {
+          start = scan = end = 0;
+        }
+        else if (end == buffer.length) {
+          if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            scan -= start;
+            end -= start;
+            start = 0;
+          }
+          else {
+            wrap(Arrays.copyOf(buffer, buffer.length * 2));
+          }
+        }
+
+        final int n;
+        if (channel != null) {
+          wrapper.limit(buffer.length).position(end);
+          n = channel.read(wrapper);
+        }
+        else {
+          n = in.read(buffer, end, buffer.length - end);
+        }
+
+        if (n == -1)
+          eof = true;
+        else
+          end += n;
+      }
+
+      @Override
+      public boolean hasNext() {
+        if (ready)
+          return true;
+
+        final int[] classes = MultiByte.this.classes;
+        final Automaton automaton = MultiByte.this.automaton;
+        final int[] next = automaton.next;
+        try {
+          while (true) {
+            for (final byte[] buffer = this.buffer; scan < end;) { // [A]
+              if ((row = next[row + classes[buffer[scan++] & 0xFF]]) < 0) {
+                delimiter = automaton.longest(~row);
+                row = 0;
+                segment.limit(scan - patterns[delimiter].length).position(start);
+                start = scan;
+                return ready = true;
+              }
+            }
+
+            if (eof) {
+              if (start == end)
+                return false;
+
+              delimiter = -1;
+              segment.limit(end).position(start);
+              start = end;
+              return ready = true;
+            }
+
+            fill();
+          }
+        }
+        catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      /**
+       * Returns the next segment, as a view of the buffer of this {@link Splitter}, whose remaining bytes are the segment. The view is
+       * the same instance for all segments, and is valid only until the next call to {@link #hasNext()} or {@link #next()}.
+       *
+       * @return The next segment.
+       * @throws NoSuchElementException If there are no more segments.
+       */
+      @Override
+      public ByteBuffer next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        ready = false;
+        return segment;
+      }
+
+      /**
+       * Returns the index of the pattern of the delimiter that ended the last segment returned by {@link #next()}, or {@code -1} if the
+       * segment was ended by the end of the stream.
+       *
+       * @return The index of the pattern of the delimiter that ended the last segment, or {@code -1} if the segment was ended by the end
+       *         of the stream.
+       */
+      public int delimiter() {
+        return delimiter;
+      }
+    }
+
+    /**
+     * Returns a {@link Splitter} of the specified {@link InputStream} into the segments between the occurrences of the patterns.
+     *
+     * @param in The {@link InputStream}.
+     * @param buffer The initial buffer into which the stream is read, which is reused for all segments.
+     * @return A {@link Splitter} of the specified {@link InputStream}.
+     * @throws IllegalArgumentException If {@code buffer} is empty.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     */
+    public Splitter split(final InputStream in, final byte[] buffer) {
+      return new Splitter(assertNotNull(in), null, buffer);
+    }
+
+    /**
+     * Returns a {@link Splitter} of the specified {@link ReadableByteChannel} into the segments between the occurrences of the
+     * patterns.
+     *
+     * @param in The {@link ReadableByteChannel}, which must be in blocking mode.
+     * @param buffer The initial buffer into which the channel is read, which is reused for all segments.
+     * @return A {@link Splitter} of the specified {@link ReadableByteChannel}.
+     * @throws IllegalArgumentException If {@code buffer} is empty.
+     * @throws NullPointerException If {@code in} or {@code buffer} is null.
+     */
+    public Splitter split(final ReadableByteChannel in, final byte[] buffer) {
+      return new Splitter(null, assertNotNull(in), buffer);
+    }
+
+    /**
+     * Returns the start offsets of the matches in the specified window of a file, whose end is after index {@code own} of the window.
+     * The preceding values of the window overlap the previous window, and are searched only to find the matches that straddle the
+     * boundary between the windows. A single pattern is searched with a Boyer-Moore-Horspool skip loop, and multiple patterns are
+     * searched with the automaton.
+     *
+     * @param window The window.
+     * @param base The offset in the file of the start of the window.
+     * @param own The index in the window of the first value that is not in the overlap with the previous window.
+     * @return The start offsets of the matches, in the order of their end.
+     */
+    ArrayLongList scan(final ByteBuffer window, final long base, final int own) {
+      final ArrayLongList matches = new ArrayLongList();
+      final int limit = window.limit();
+      if (shifts != null) {
+        final int[] shifts = this.shifts;
+        final byte[] pattern = patterns[0];
+        final int last = pattern.length - 1;
+        final byte tail = pattern[last];
+        for (int i = Math.max(0, own - last), i$ = limit - last; i < i$;) { // [A]
+          final byte b = window.get(i + last);
+          if (b == tail) {
+            int j = last - 1;
+            while (j >= 0 && window.get(i + j) == pattern[j])
+              --j;
+
+            if (j < 0)
+              matches.add(base + i);
+          }
+
+          i += shifts[b & 0xFF];
+        }
+      }
+      else {
+        final int[] classes = this.classes;
+        final Automaton automaton = this.automaton;
+        final int[] next = automaton.next;
+        final MatchListener listener = (p, end) -> matches.add(base + end - patterns[p].length);
+        for (int i = 0, row = 0; i < limit;) { // [A]
+          if ((row = next[row + classes[window.get(i++) & 0xFF]]) < 0) {
+            row = ~row;
+            if (i > own)
+              automaton.report(row, i, listener);
+          }
+        }
+      }
+
+      return matches;
+    }
+
+    /**
+     * Iterator of the start offsets of the matches in a file, which is searched in windows of {@link MultiByte#MAP_WINDOW} bytes
+     * that are memory-mapped read-only. Each window is extended back over the end of the previous window by the length of the longest
+     * pattern less one, such that a match that straddles the boundary between two windows is found in the latter. In parallel mode,
+     * as many windows as the parallelism of the common {@link ForkJoinPool} are searched ahead of the iteration.
+     */
+    private final class MappedMatchIterator implements LongIterator {
+      private final FileChannel channel;
+      private final ByteBuffer[] mapped;
+      private final long size;
+      private final int window;
+      private final int windows;
+      private final ForkJoinTask<ArrayLongList>[] tasks;
+      private int current;
+      private ArrayLongList matches;
+      private int index;
+
+      @SuppressWarnings("unchecked")
+      private MappedMatchIterator(final FileChannel channel, final int window, final boolean parallel, final boolean premap) throws IOException {
+        this.size = channel.size();
+        this.window = window;
+        this.windows = (int)((size + window - 1) / window);
+        final int parallelism = parallel ? Math.min(ForkJoinPool.getCommonPoolParallelism(), windows) : 1;
+        this.tasks = parallelism > 1 ? new ForkJoinTask[parallelism] : null;
+        if (premap) {
+          this.channel = null;
+          this.mapped = new ByteBuffer[windows];
+          for (int k = 0; k < windows; ++k) // [A]
+            mapped[k] = map(channel, k);
+        }
+        else {
+          this.channel = channel;
+          this.mapped = null;
+        }
+      }
+
+      private long start(final int k) {
+        return Math.max(0, (long)k * window - (maxLength - 1));
+      }
+
+      private ByteBuffer map(final FileChannel channel, final int k) throws IOException {
+        final long start = start(k);
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min((long)(k + 1) * window, size) - start);
+      }
+
+      private ArrayLongList scan(final int k) {
+        try {
+          final long start = start(k);
+          return MultiByte.this.scan(mapped != null ? mapped[k] : map(channel, k), start, (int)((long)k * window - start));
+        }
+        catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      private ForkJoinTask<ArrayLongList> fork(final int k) {
+        return ForkJoinTask.adapt((Callable<ArrayLongList>)() -> scan(k)).fork();
+      }
+
+      private ArrayLongList results(final int k) {
+        if (tasks == null)
+          return scan(k);
+
+        if (k == 0)
+          for (int i = 0; i < tasks.length; ++i) // [A]
+            tasks[i] = fork(i);
+
+        final int slot = k % tasks.length;
+        final ArrayLongList matches = tasks[slot].join();
+        final int ahead = k + tasks.length;
+        tasks[slot] = ahead < windows ? fork(ahead) : null;
+        return matches;
+      }
+
+      @Override
+      public boolean hasNext() {
+        while (matches == null || index == matches.size()) {
+          if (current == windows)
+            return false;
+
+          matches = results(current++);
+          index = 0;
+        }
+
+        return true;
+      }
+
+      @Override
+      public long next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        return matches.get(index++);
+      }
+    }
+
+    /**
+     * Returns an iterator of the start offsets of all occurrences of the patterns in the file of the specified {@link FileChannel},
+     * from its start to its current size. Overlapping matches are all returned, in the order of their end. The file is memory-mapped
+     * read-only in windows of {@link #MAP_WINDOW} bytes as the iteration proceeds, and the channel must thus remain open until the
+     * iteration is complete. A single pattern is searched with a Boyer-Moore-Horspool skip loop, and multiple patterns are searched
+     * with the Aho-Corasick automaton.
+     * <p>
+     * If {@code parallel} is {@code true}, as many windows as the parallelism of the common {@link ForkJoinPool} are searched ahead of
+     * the iteration, in parallel. The order of the offsets is the same in either mode.
+     * <p>
+     * An {@link IOException} thrown while mapping a window during the iteration is rethrown as an {@link UncheckedIOException}.
+     *
+     * @param channel The {@link FileChannel}, which must be open for reading.
+     * @param parallel Whether the windows are to be searched in parallel.
+     * @return An iterator of the start offsets of all occurrences of the patterns in the file.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code channel} is null.
+     */
+    public LongIterator search(final FileChannel channel, final boolean parallel) throws IOException {
+      return search(channel, MAP_WINDOW, parallel);
+    }
+
+    LongIterator search(final FileChannel channel, final int window, final boolean parallel) throws IOException {
+      return new MappedMatchIterator(channel, window, parallel, false);
+    }
+
+    /**
+     * Returns an iterator of the start offsets of all occurrences of the patterns in the file at the specified {@link Path}. The
+     * semantics are those of {@link #search(FileChannel,boolean)}, except that all windows of the file are mapped before this method
+     * returns, and the channel to the file is closed. The mappings remain valid until the iterator is garbage collected.
+     *
+     * @param path The {@link Path} of the file.
+     * @param parallel Whether the windows are to be searched in parallel.
+     * @return An iterator of the start offsets of all occurrences of the patterns in the file.
+     * @throws IOException If an I/O error has occurred.
+     * @throws NullPointerException If {@code path} is null.
+     */
+    public LongIterator search(final Path path, final boolean parallel) throws IOException {
+      return search(path, MAP_WINDOW, parallel);
+    }
+
+    LongIterator search(final Path path, final int window, final boolean parallel) throws IOException {
+      try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        return new MappedMatchIterator(channel, window, parallel, true);
+      }
+    }
   }
 
   private StreamSearcher() {
@@ -0,0 +1,156 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.Closeable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * This class provides the base implementation of a list of the {@link PrimitiveCollection} interface that stores its values
+ * off-heap, in a chain of fixed-size direct {@link ByteBuffer} chunks.
+ * <p>
+ * Growing a list of this kind allocates a new chunk, and never copies the values already stored. The memory of the chunks is
+ * released explicitly with {@link #close()}, rather than when the list is garbage collected.
+ */
+public abstract class DirectPrimitiveList implements PrimitiveCollection, Closeable {
+  /** The default number of bytes in a chunk. */
+  static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+  private static final Object unsafe;
+  private static final Method invokeCleaner;
+
+  static {
+    Object theUnsafe = null;
+    Method method = null;
+    try {
+      final Class<?> cls = Class.forName("sun.misc.Unsafe");
+      method = cls.getMethod("invokeCleaner", ByteBuffer.class);
+      final Field field = cls.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      theUnsafe = field.get(null);
+    }
+    catch (final Exception e) {
+      // Prior to Java 9, the cleaner is accessed directly in free(ByteBuffer)
+      method = null;
+    }
+
+    unsafe = theUnsafe;
+    invokeCleaner = method;
+  }
+
+  /**
+   * Returns the base-2 logarithm of the number of values in a chunk, given the requested number of values in a chunk rounded up to
+   * the next power of two.
+   *
+   * @param chunkSize The requested number of values in a chunk.
+   * @param bytes The number of bytes in a value.
+   * @return The base-2 logarithm of the number of values in a chunk.
+   * @throws IllegalArgumentException If {@code chunkSize} is not positive, or if a chunk of the specified size would exceed
+   *           {@link Integer#MAX_VALUE} bytes.
+   */
+  static int chunkShift(final int chunkSize, final int bytes) {
+    if (chunkSize <= 0)
+      throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+
+    final int shift = 32 - Integer.numberOfLeadingZeros(chunkSize - 1);
+    if (shift > 30 || (1L << shift) * bytes > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("Chunk size exceeds " + Integer.MAX_VALUE + " bytes: " + chunkSize);
+
+    return shift;
+  }
+
+  /**
+   * Allocates a new direct {@link ByteBuffer} of the specified capacity in the native byte order.
+   *
+   * @param capacity The capacity of the buffer in bytes.
+   * @return A new direct {@link ByteBuffer} of the specified capacity in the native byte order.
+   */
+  static ByteBuffer allocate(final int capacity) {
+    return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Releases the native memory of the specified direct {@link ByteBuffer}. The buffer, and all views of the buffer, must not be
+   * accessed after this method returns. If the memory cannot be released explicitly on the running JVM, it is released when the
+   * buffer is garbage collected.
+   *
+   * @param buffer The direct {@link ByteBuffer} whose memory is to be released.
+   */
+  static void free(final ByteBuffer buffer) {
+    try {
+      if (invokeCleaner != null) {
+        invokeCleaner.invoke(unsafe, buffer);
+      }
+      else {
+        final Method cleaner = buffer.getClass().getMethod("cleaner");
+        cleaner.setAccessible(true);
+        final Object clean = cleaner.invoke(buffer);
+        if (clean != null)
+          clean.getClass().getMethod("clean").invoke(clean);
+      }
+    }
+    catch (final Exception e) {
+      // The memory will be released when the buffer is garbage collected
+    }
+  }
+
+  // The as(ByteBuffer,?[]) methods return the view of a chunk for the type of its chunks array, to which the call is statically bound
+
+  static ByteBuffer as(final ByteBuffer buffer, final ByteBuffer[] chunks) {
+    return buffer;
+  }
+
+  static CharBuffer as(final ByteBuffer buffer, final CharBuffer[] chunks) {
+    return buffer.asCharBuffer();
+  }
+
+  static ShortBuffer as(final ByteBuffer buffer, final ShortBuffer[] chunks) {
+    return buffer.asShortBuffer();
+  }
+
+  static IntBuffer as(final ByteBuffer buffer, final IntBuffer[] chunks) {
+    return buffer.asIntBuffer();
+  }
+
+  static LongBuffer as(final ByteBuffer buffer, final LongBuffer[] chunks) {
+    return buffer.asLongBuffer();
+  }
+
+  static FloatBuffer as(final ByteBuffer buffer, final FloatBuffer[] chunks) {
+    return buffer.asFloatBuffer();
+  }
+
+  static DoubleBuffer as(final ByteBuffer buffer, final DoubleBuffer[] chunks) {
+    return buffer.asDoubleBuffer();
+  }
+
+  /**
+   * Releases the off-heap memory held by this list. The list is empty after this call returns, and any further attempt to add
+   * values to it results in an {@link IllegalStateException}. Calling this method on a list that is already closed has no effect.
+   */
+  @Override
+  public abstract void close();
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An immutable bidirectional dictionary of object keys to dense {@code int} ids, created with {@link ObjectIntBiMap#freeze()}.
+ * <p>
+ * The {@code id -> key} direction is an {@code Object[]} sized to the number of keys, and the {@code key -> id} direction is an
+ * open-addressing table of {@code int} ids into that array. All state is held in {@code final} fields and is never modified after
+ * construction, so a {@link FrozenObjectIntBiMap} may be read concurrently by any number of threads without synchronization.
+ *
+ * @param <K> The type of keys maintained by this map.
+ */
+public final class FrozenObjectIntBiMap<K> implements Serializable {
+  private final Object[] keyData;
+  private final float loadFactor;
+  private final transient int[] table;
+
+  /**
+   * Creates a new {@link FrozenObjectIntBiMap} with the specified keys, whereby the key at index {@code i} is assigned the id
+   * {@code i}.
+   *
+   * @param keyData The array of distinct non-null keys, which is not copied.
+   * @param loadFactor The load factor of the {@code key -> id} table.
+   */
+  FrozenObjectIntBiMap(final Object[] keyData, final float loadFactor) {
+    this.keyData = keyData;
+    this.loadFactor = loadFactor;
+    final int capacity = HashPrimitiveMap.findNextPositivePowerOfTwo((int)Math.min(1 << 30, (long)(keyData.length / loadFactor) + 1));
+    this.table = ObjectIntBiMap.newTable(keyData, keyData.length, capacity);
+  }
+
+  static String toString(final Object self, final Object[] keyData, final int size) {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('{');
+    for (int i = 0; i < size; ++i) { // [A]
+      if (i > 0)
+        builder.append(", ");
+
+      builder.append(keyData[i] == self ? "(this Map)" : keyData[i]).append('=').append(i);
+    }
+
+    builder.append('}');
+    return builder.toString();
+  }
+
+  /**
+   * Returns the number of keys in this map.
+   *
+   * @return The number of keys in this map.
+   */
+  public int size() {
+    return keyData.length;
+  }
+
+  /**
+   * Returns {@code true} if this map contains no keys.
+   *
+   * @return {@code true} if this map contains no keys.
+   */
+  public boolean isEmpty() {
+    return keyData.length == 0;
+  }
+
+  /**
+   * Returns the id of the specified key, or {@link ObjectIntBiMap#NOT_FOUND} if the key is not present in this map.
+   *
+   * @param key The key.
+   * @return The id of the specified key, or {@link ObjectIntBiMap#NOT_FOUND} if the key is not present in this map.
+   */
+  public int getId(final Object key) {
+    return key == null ? ObjectIntBiMap.NOT_FOUND : ObjectIntBiMap.idOf(keyData, table, key);
+  }
+
+  /**
+   * Returns the key with the specified id.
+   *
+   * @param id The id.
+   * @return The key with the specified id.
+   * @throws IndexOutOfBoundsException If the id is out of range {@code (id < 0 || id >= size())}.
+   */
+  @SuppressWarnings("unchecked")
+  public K getKey(final int id) {
+    return (K)keyData[id];
+  }
+
+  /**
+   * Returns {@code true} if this map contains the specified key.
+   *
+   * @param key The key whose presence in this map is to be tested.
+   * @return {@code true} if this map contains the specified key.
+   */
+  public boolean containsKey(final Object key) {
+    return getId(key) != ObjectIntBiMap.NOT_FOUND;
+  }
+
+  /**
+   * Returns a new array of the keys in this map, in which the key with id {@code i} is at index {@code i}.
+   *
+   * @return A new array of the keys in this map, in order of their ids.
+   */
+  public Object[] keys() {
+    return keyData.clone();
+  }
+
+  /**
+   * Performs the given action for each key and its id in this map, in order of the ids.
+   *
+   * @param action The action to be performed for each key and its id.
+   * @throws NullPointerException If the specified action is null.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(final ObjIntConsumer<? super K> action) {
+    Objects.requireNonNull(action);
+    final Object[] keyData = this.keyData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      action.accept((K)keyData[i], i);
+  }
+
+  /**
+   * Returns a new {@link ObjectIntBiMap} with the keys and ids of this map.
+   *
+   * @return A new {@link ObjectIntBiMap} with the keys and ids of this map.
+   */
+  @SuppressWarnings("unchecked")
+  public ObjectIntBiMap<K> thaw() {
+    final ObjectIntBiMap<K> map = new ObjectIntBiMap<>(keyData.length, loadFactor);
+    for (final Object key : keyData) // [A]
+      map.intern((K)key);
+
+    return map;
+  }
+
+  /**
+   * Returns a {@link FrozenObjectIntBiMap} with a {@code key -> id} table rebuilt from the deserialized keys, because the hash codes
+   * of the keys may differ between virtual machines.
+   *
+   * @return A {@link FrozenObjectIntBiMap} with a {@code key -> id} table rebuilt from the deserialized keys.
+   */
+  private Object readResolve() {
+    for (final Object key : keyData) // [A]
+      Objects.requireNonNull(key);
+
+    return new FrozenObjectIntBiMap<>(keyData, HashPrimitiveMap.assertLoadFactor(loadFactor));
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    return obj == this || obj instanceof FrozenObjectIntBiMap && Arrays.equals(keyData, ((FrozenObjectIntBiMap<?>)obj).keyData);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(keyData);
+  }
+
+  @Override
+  public String toString() {
+    return toString(this, keyData, keyData.length);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.Serializable;
+
+/**
+ * An abstract class providing static methods for concrete implementations of maps with primitive keys or values, implementing the
+ * same <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing (closed hashing) with linear-probing for collision
+ * resolution</a> algorithm as {@link HashPrimitiveSet}, with allocation-free operation in steady state when expanded.
+ *
+ * @see HashIntLongMap
+ * @see HashLongObjectMap
+ * @see HashObjectIntMap
+ */
+public abstract class HashPrimitiveMap implements Cloneable, Serializable {
+  /**
+   * The load factor used when none specified in constructor.
+   */
+  static final float DEFAULT_LOAD_FACTOR = 0.55f;
+
+  /**
+   * Returns the specified load factor, if it is within the range of {@code [.1, .9]}.
+   *
+   * @param loadFactor The load factor.
+   * @return The specified load factor.
+   * @throws IllegalArgumentException If the load factor less than {@code .1} or greater than {@code .9}.
+   */
+  static float assertLoadFactor(final float loadFactor) {
+    if (loadFactor < .1f || Float.isNaN(loadFactor) || .9f < loadFactor)
+      throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+
+    return loadFactor;
+  }
+
+  /**
+   * Returns the hash for the specified value and mask.
+   *
+   * @param value The value to be hashed.
+   * @param mask The mask to be applied (must be a power of 2, minus 1).
+   * @return The hash of the specified value.
+   * @see HashPrimitiveSet#hash(int,int)
+   */
+  protected static int hash(final int value, final int mask) {
+    return HashPrimitiveSet.hash(value, mask);
+  }
+
+  /**
+   * Returns the hash for the specified non-null object and mask. The high bits of the object's {@link Object#hashCode()} are spread
+   * downward, because the table index is computed from the low bits only.
+   *
+   * @param key The object to be hashed.
+   * @param mask The mask to be applied (must be a power of 2, minus 1).
+   * @return The hash of the specified object.
+   * @throws NullPointerException If {@code key} is null.
+   */
+  protected static int hash(final Object key, final int mask) {
+    final int h = key.hashCode();
+    return HashPrimitiveSet.hash(h ^ (h >>> 16), mask);
+  }
+
+  /**
+   * Returns the next index for the specified index and mask.
+   *
+   * @param index The index from which to calculate the next index.
+   * @param mask The mask to be applied (must be a power of 2, minus 1).
+   * @return The next index for the specified index.
+   */
+  protected static int nextIndex(final int index, final int mask) {
+    return HashPrimitiveSet.nextIndex(index, mask);
+  }
+
+  /**
+   * Returns the next power of 2 for the value that is greater than or equal to the specified value.
+   * <p>
+   * If {@code value <= 0}, this method returns {@code 1}.
+   *
+   * @implSpec This method is not suitable for {@link Integer#MIN_VALUE} or numbers greater than {@code 2^30}.
+   * @param value Value from which to return the next power of 2.
+   * @return The next power of 2 from the specified value, or the value itself if it is a power of 2.
+   */
+  protected static int findNextPositivePowerOfTwo(final int value) {
+    return HashPrimitiveSet.findNextPositivePowerOfTwo(value);
+  }
+
+  /**
+   * Returns {@code true} if the entry at {@code index}, whose key hashes to {@code hash}, may be moved to the vacated
+   * {@code deleteIndex} without breaking the linear-probe chain it belongs to.
+   *
+   * @param index The index of the entry that is a candidate to be moved.
+   * @param hash The hash of the key of the candidate entry.
+   * @param deleteIndex The vacated index.
+   * @return {@code true} if the entry at {@code index} may be moved to {@code deleteIndex}.
+   */
+  static boolean isMovable(final int index, final int hash, final int deleteIndex) {
+    return index < hash && (hash <= deleteIndex || deleteIndex <= index) || hash <= deleteIndex && deleteIndex <= index;
+  }
+
+  /**
+   * Returns the number of key-value mappings in this map.
+   *
+   * @return The number of key-value mappings in this map.
+   */
+  public abstract int size();
+
+  /**
+   * Returns {@code true} if this map contains no key-value mappings.
+   *
+   * @return {@code true} if this map contains no key-value mappings.
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Removes all of the mappings from this map. The map will be empty after this call returns.
+   */
+  public abstract void clear();
+}
\ No newline at end of file
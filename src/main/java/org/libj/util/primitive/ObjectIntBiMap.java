@@ -0,0 +1,329 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A bidirectional dictionary of object keys to dense {@code int} ids, whereby the {@code n} keys in the dictionary are assigned the
+ * ids {@code [0, n)} in the order in which they are {@linkplain #intern(Object) interned}.
+ * <p>
+ * The {@code id -> key} direction is a plain {@code Object[]} indexed by id, and the {@code key -> id} direction is an
+ * <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing (closed hashing) with linear-probing for collision
+ * resolution</a> table of {@code int} ids into that array. Neither direction boxes the ids, and the keys are stored only once. Ids
+ * are never reassigned, so keys cannot be removed other than with {@link #clear()}.
+ * <p>
+ * A dictionary that is no longer modified can be converted with {@link #freeze()} to a compact {@link FrozenObjectIntBiMap}, which
+ * may be read concurrently by any number of threads. This map does not permit the {@code null} key. This implementation is not
+ * synchronized.
+ *
+ * @param <K> The type of keys maintained by this map.
+ */
+public class ObjectIntBiMap<K> extends HashPrimitiveMap {
+  /**
+   * The id returned by {@link #getId(Object)} for a key that is not present in the map.
+   */
+  public static final int NOT_FOUND = -1;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final float loadFactor;
+  private int resizeThreshold;
+
+  /**
+   * The {@code key -> id} table, in which each slot holds {@code id + 1}, or {@code 0} if the slot is empty.
+   */
+  private transient int[] table;
+  private transient Object[] keyData;
+  private transient int size;
+  private transient int modCount;
+
+  /**
+   * Creates an empty {@link ObjectIntBiMap} with the default initial capacity (16) and the default load factor (0.55).
+   */
+  public ObjectIntBiMap() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty {@link ObjectIntBiMap} with the specified initial capacity and load factor.
+   *
+   * @param initialCapacity The initial capacity, as the number of keys that can be interned before resizing.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the load factor less than {@code .1} or greater than
+   *           {@code .9}.
+   */
+  public ObjectIntBiMap(final int initialCapacity, final float loadFactor) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+
+    this.loadFactor = assertLoadFactor(loadFactor);
+    final int capacity = findNextPositivePowerOfTwo((int)Math.min(MAX_CAPACITY, (long)(initialCapacity / loadFactor) + 1));
+    this.resizeThreshold = (int)(capacity * loadFactor);
+    this.table = new int[capacity];
+    this.keyData = new Object[Math.max(initialCapacity, 1)];
+  }
+
+  /**
+   * Creates an empty {@link ObjectIntBiMap} with the specified initial capacity and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity, as the number of keys that can be interned before resizing.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public ObjectIntBiMap(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Returns the id of the specified non-null key in the provided {@code key -> id} table.
+   *
+   * @param keyData The {@code id -> key} array.
+   * @param table The {@code key -> id} table, in which each slot holds {@code id + 1}, or {@code 0} if the slot is empty.
+   * @param key The key.
+   * @return The id of the specified key, or {@link #NOT_FOUND} if the key is not present in the table.
+   */
+  static int idOf(final Object[] keyData, final int[] table, final Object key) {
+    final int mask = table.length - 1;
+    for (int index = hash(key, mask), slot; (slot = table[index]) != 0; index = nextIndex(index, mask)) { // [A]
+      final Object k = keyData[slot - 1];
+      if (k == key || k.equals(key))
+        return slot - 1;
+    }
+
+    return NOT_FOUND;
+  }
+
+  /**
+   * Returns a new {@code key -> id} table for the first {@code size} keys of the provided {@code id -> key} array.
+   *
+   * @param keyData The {@code id -> key} array.
+   * @param size The number of keys.
+   * @param capacity The capacity of the table (must be a power of 2).
+   * @return A new {@code key -> id} table for the first {@code size} keys of the provided {@code id -> key} array.
+   */
+  static int[] newTable(final Object[] keyData, final int size, final int capacity) {
+    final int[] table = new int[capacity];
+    final int mask = capacity - 1;
+    for (int i = 0; i < size;) { // [A]
+      int index = hash(keyData[i], mask);
+      for (; table[index] != 0; index = nextIndex(index, mask)); // [N]
+      table[index] = ++i;
+    }
+
+    return table;
+  }
+
+  /**
+   * Returns the id of the specified key, assigning it the next id ({@link #size()}) if the key is not already present in this map.
+   *
+   * @param key The key.
+   * @return The id of the specified key.
+   * @throws NullPointerException If the specified key is null.
+   * @throws IllegalStateException If this map is at its maximum capacity.
+   */
+  public int intern(final K key) {
+    final int[] table = this.table;
+    final int mask = table.length - 1;
+    int index = hash(key, mask);
+    for (int slot; (slot = table[index]) != 0; index = nextIndex(index, mask)) { // [A]
+      final Object k = keyData[slot - 1];
+      if (k == key || k.equals(key))
+        return slot - 1;
+    }
+
+    final int id = size;
+    if (id == resizeThreshold && table.length == MAX_CAPACITY)
+      throw new IllegalStateException("Maximum capacity reached: " + id);
+
+    if (id == keyData.length)
+      keyData = Arrays.copyOf(keyData, (int)Math.min(Integer.MAX_VALUE - 8, id + (id >> 1) + 1L));
+
+    ++modCount;
+    keyData[id] = key;
+    table[index] = ++size;
+    if (size > resizeThreshold) {
+      this.table = newTable(keyData, size, table.length * 2);
+      this.resizeThreshold = (int)(this.table.length * loadFactor);
+    }
+
+    return id;
+  }
+
+  /**
+   * Returns the id of the specified key, or {@link #NOT_FOUND} if the key is not present in this map.
+   *
+   * @param key The key.
+   * @return The id of the specified key, or {@link #NOT_FOUND} if the key is not present in this map.
+   */
+  public int getId(final Object key) {
+    return key == null ? NOT_FOUND : idOf(keyData, table, key);
+  }
+
+  /**
+   * Returns the key with the specified id.
+   *
+   * @param id The id.
+   * @return The key with the specified id.
+   * @throws IndexOutOfBoundsException If the id is out of range {@code (id < 0 || id >= size())}.
+   */
+  @SuppressWarnings("unchecked")
+  public K getKey(final int id) {
+    if (id < 0 || id >= size)
+      throw new IndexOutOfBoundsException("Index: " + id + ", Size: " + size);
+
+    return (K)keyData[id];
+  }
+
+  /**
+   * Returns {@code true} if this map contains the specified key.
+   *
+   * @param key The key whose presence in this map is to be tested.
+   * @return {@code true} if this map contains the specified key.
+   */
+  public boolean containsKey(final Object key) {
+    return getId(key) != NOT_FOUND;
+  }
+
+  /**
+   * Returns a new array of the keys in this map, in which the key with id {@code i} is at index {@code i}.
+   *
+   * @return A new array of the keys in this map, in order of their ids.
+   */
+  public Object[] keys() {
+    return Arrays.copyOf(keyData, size);
+  }
+
+  /**
+   * Performs the given action for each key and its id in this map, in order of the ids.
+   *
+   * @param action The action to be performed for each key and its id.
+   * @throws NullPointerException If the specified action is null.
+   * @throws ConcurrentModificationException If it is detected that the action modified this map.
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(final ObjIntConsumer<? super K> action) {
+    Objects.requireNonNull(action);
+    final int modCount = this.modCount;
+    final Object[] keyData = this.keyData;
+    for (int i = 0, i$ = size; i < i$; ++i) // [A]
+      action.accept((K)keyData[i], i);
+
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+  }
+
+  /**
+   * Returns a new {@link FrozenObjectIntBiMap} with the keys and ids of this map, which is not backed by this map. The arrays of the
+   * returned map are sized to its keys.
+   *
+   * @return A new {@link FrozenObjectIntBiMap} with the keys and ids of this map.
+   */
+  public FrozenObjectIntBiMap<K> freeze() {
+    return new FrozenObjectIntBiMap<>(Arrays.copyOf(keyData, size), loadFactor);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      ++modCount;
+      Arrays.fill(table, 0);
+      Arrays.fill(keyData, 0, size, null);
+      size = 0;
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ObjectIntBiMap<K> clone() {
+    try {
+      final ObjectIntBiMap<K> clone = (ObjectIntBiMap<K>)super.clone();
+      clone.table = table.clone();
+      clone.keyData = keyData.clone();
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(size);
+    for (int i = 0; i < size; ++i) // [A]
+      out.writeObject(keyData[i]);
+  }
+
+  private void readObject(final ObjectInputStream in) throws ClassNotFoundException, IOException {
+    in.defaultReadObject();
+    assertLoadFactor(loadFactor);
+    final int size = in.readInt();
+    if (size < 0 || size > resizeThreshold)
+      throw new IOException("Invalid size: " + size);
+
+    final Object[] keyData = new Object[Math.max(size, 1)];
+    for (int i = 0; i < size; ++i) // [A]
+      keyData[i] = Objects.requireNonNull(in.readObject());
+
+    this.keyData = keyData;
+    this.size = size;
+    this.table = newTable(keyData, size, findNextPositivePowerOfTwo((int)(resizeThreshold / loadFactor)));
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof ObjectIntBiMap))
+      return false;
+
+    final ObjectIntBiMap<?> that = (ObjectIntBiMap<?>)obj;
+    if (size != that.size)
+      return false;
+
+    for (int i = 0; i < size; ++i) // [A]
+      if (!keyData[i].equals(that.keyData[i]))
+        return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < size; ++i) // [A]
+      hashCode = 31 * hashCode + keyData[i].hashCode();
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return FrozenObjectIntBiMap.toString(this, keyData, size);
+  }
+}
\ No newline at end of file
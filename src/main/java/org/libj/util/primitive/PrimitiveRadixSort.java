@@ -0,0 +1,112 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+/**
+ * Base class of the least significant digit radix sorts of primitive arrays, providing the functions that map each primitive value
+ * to an unsigned key whose order is the natural order of the values, as defined by the {@code compare(x, y)} method of the value's
+ * wrapper class.
+ */
+abstract class PrimitiveRadixSort {
+  /**
+   * The minimum length of a range to be sorted in natural order for which a radix sort is chosen over a comparison sort. Below this
+   * length, the histograms and the workspace array of the radix sort cost more than the comparisons that it saves.
+   */
+  static final int RADIX_SORT_THRESHOLD = 1 << 12;
+
+  /**
+   * The number of bits of a digit. Each pass of the sort distributes the values by one digit of their keys.
+   */
+  static final int DIGIT_BITS = 8;
+
+  /**
+   * The number of distinct digits, and thus the length of a histogram.
+   */
+  static final int RADIX = 1 << DIGIT_BITS;
+
+  static long key(final byte value) {
+    return (value ^ Byte.MIN_VALUE) & 0xFFL;
+  }
+
+  static long key(final char value) {
+    return value;
+  }
+
+  static long key(final short value) {
+    return (value ^ Short.MIN_VALUE) & 0xFFFFL;
+  }
+
+  static long key(final int value) {
+    return (value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+  }
+
+  static long key(final long value) {
+    return value ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * Returns the key of the specified {@code float}. The IEEE 754 bits of a positive value have their sign bit set, and the bits of a
+   * negative value are inverted, so that the keys of {@code -0.0f} and {@code 0.0f} are ordered as by {@link Float#compare(float,float)}.
+   * All NaN values are collapsed to the canonical NaN by {@link Float#floatToIntBits(float)}, which is ordered after
+   * {@link Float#POSITIVE_INFINITY}.
+   *
+   * @param value The value.
+   * @return The key of the specified {@code float}.
+   */
+  static long key(final float value) {
+    final int bits = Float.floatToIntBits(value);
+    return (bits ^ (bits >> 31 | Integer.MIN_VALUE)) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Returns the key of the specified {@code double}. The IEEE 754 bits of a positive value have their sign bit set, and the bits of a
+   * negative value are inverted, so that the keys of {@code -0.0d} and {@code 0.0d} are ordered as by
+   * {@link Double#compare(double,double)}. All NaN values are collapsed to the canonical NaN by
+   * {@link Double#doubleToLongBits(double)}, which is ordered after {@link Double#POSITIVE_INFINITY}.
+   *
+   * @param value The value.
+   * @return The key of the specified {@code double}.
+   */
+  static long key(final double value) {
+    final long bits = Double.doubleToLongBits(value);
+    return bits ^ (bits >> 63 | Long.MIN_VALUE);
+  }
+
+  /**
+   * Converts the histograms of all digits into the starting offsets of each digit in the output of the pass, and returns whether the
+   * pass of the specified digit would distribute the values, i.e. whether the values do not all share the same digit.
+   *
+   * @param counts The histograms of all digits, of which the one at {@code [digit * RADIX, (digit + 1) * RADIX)} is converted.
+   * @param digit The digit of the pass.
+   * @param length The number of values being sorted.
+   * @return {@code false} if all values share the same digit, and the pass can thus be skipped, otherwise {@code true}.
+   */
+  static boolean toOffsets(final int[] counts, final int digit, final int length) {
+    final int from = digit * RADIX;
+    int sum = 0;
+    for (int i = from, i$ = from + RADIX; i < i$; ++i) { // [A]
+      final int count = counts[i];
+      if (count == length)
+        return false;
+
+      counts[i] = sum;
+      sum += count;
+    }
+
+    return true;
+  }
+}
\ No newline at end of file
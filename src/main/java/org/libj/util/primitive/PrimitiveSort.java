@@ -16,574 +16,403 @@
 
 package org.libj.util.primitive;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * Utility class providing algorithms for sorting paired lists and arrays.
  */
 public abstract class PrimitiveSort {
-  /** Maximum length a list or array can be for recursive swaps. */
-  private static final int MAX_RECURSIONS = 5000;
-
-  protected static int[] buildIndex(final int len) {
-    final int[] idx = new int[len];
-    for (int i = 0; i < len; ++i) // [A]
-      idx[i] = i;
-
-    return idx;
-  }
-
-  private static <T> void recurse(final boolean[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final boolean obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final boolean[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final boolean[] tmp = new boolean[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = false;
-      }
-    }
-  }
-
-  private static <T> void recurse(final byte[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final byte obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final byte[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final byte[] tmp = new byte[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = 0;
-      }
-    }
-  }
-
-  private static <T> void recurse(final char[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final char obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final char[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final char[] tmp = new char[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = 0;
-      }
-    }
-  }
-
-  private static <T> void recurse(final short[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final short obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final short[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final short[] tmp = new short[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = 0;
-      }
-    }
-  }
-
-  private static <T> void recurse(final int[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final int obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final int[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final int[] tmp = new int[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = 0;
-      }
-    }
-  }
-
-  private static <T> void recurse(final long[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final long obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final long[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final long[] tmp = new long[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = 0;
-      }
-    }
-  }
-
-  private static <T> void recurse(final float[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final float obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final float[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final float[] tmp = new float[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = 0;
-      }
+  /**
+   * Replaces the members of the specified {@link List} with the members of the specified array, in order, via the list's
+   * {@link ListIterator}, which is efficient for both random access and sequential lists.
+   *
+   * @param list The {@link List} whose members are to be replaced.
+   * @param a The array of the replacement members, whose length must be equal to the size of {@code list}.
+   */
+  @SuppressWarnings("unchecked")
+  protected static void setAll(final List<?> list, final Object[] a) {
+    final ListIterator<Object> iterator = ((List<Object>)list).listIterator();
+    for (final Object member : a) { // [A]
+      iterator.next();
+      iterator.set(member);
     }
   }
 
-  private static <T> void recurse(final double[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final double obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
-  }
-
-  private static <T> void swap(final double[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final double[] tmp = new double[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = tmp[i];
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Sorts the specified array of {@code boolean}s, according to the provided {@link BooleanComparator}.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void sort(final boolean[] a, final int fromIndex, final int toIndex, final BooleanComparator c) {
+    BooleanTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
   }
 
-  private static <T> void recurse(final T[] data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final T obj = data[idx[i]];
-    recurse(data, idx, i + 1);
-    data[i] = obj;
+  /**
+   * Sorts the specified array of {@code boolean}s in parallel, according to the provided {@link BooleanComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void parallelSort(final boolean[] a, final int fromIndex, final int toIndex, final BooleanComparator c) {
+    BooleanTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> void swap(final T[] data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final Object[] tmp = new Object[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data[idx[i]];
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data[i] = (T)tmp[i];
-        tmp[i] = null;
-      }
-    }
+  /**
+   * Rearranges the specified array of {@code boolean}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link BooleanComparator}, and permutes the paired array in tandem.
+   *
+   * @param a The array of {@code boolean}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final boolean[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final BooleanComparator c) {
+    BooleanSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
-  private static <T> void recurse(final CharList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final char obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Sorts the specified array of {@code byte}s, according to the provided {@link ByteComparator}.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void sort(final byte[] a, final int fromIndex, final int toIndex, final ByteComparator c) {
+    ByteTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
   }
 
-  private static <T> void swap(final CharList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final char[] tmp = new char[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Sorts the specified array of {@code byte}s in parallel, according to the provided {@link ByteComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void parallelSort(final byte[] a, final int fromIndex, final int toIndex, final ByteComparator c) {
+    ByteTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
-  private static <T> void recurse(final ShortList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final short obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Rearranges the specified array of {@code byte}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link ByteComparator}, and permutes the paired array in tandem.
+   *
+   * @param a The array of {@code byte}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final byte[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final ByteComparator c) {
+    ByteSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
-  private static <T> void swap(final ShortList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final short[] tmp = new short[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Sorts the specified array of {@code byte}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final byte[] a, final int fromIndex, final int toIndex) {
+    ByteRadixSort.sort(a, fromIndex, toIndex);
   }
 
-  private static <T> void recurse(final IntList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final int obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Returns {@code true} if a range of the specified length to be sorted according to the specified {@link ByteComparator} is sorted
+   * faster with {@link #radixSort(byte[],int,int)} than with a comparison sort.
+   *
+   * @param length The length of the range to be sorted.
+   * @param c The comparator, or {@code null} for the natural order.
+   * @return {@code true} if a range of the specified length to be sorted according to the specified {@link ByteComparator} is sorted
+   *         faster with {@link #radixSort(byte[],int,int)} than with a comparison sort.
+   */
+  protected static boolean isRadixSortable(final int length, final ByteComparator c) {
+    return length >= PrimitiveRadixSort.RADIX_SORT_THRESHOLD && (c == null || c == ByteComparator.NATURAL);
   }
 
-  private static <T> void swap(final IntList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final int[] tmp = new int[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Deduplicates the specified sorted array of {@code byte}s in parallel, such that the first value of each run of equal values is
+   * moved to the front of the range in order.
+   *
+   * @param a The sorted array of {@code byte}s.
+   * @param fromIndex The index of the first element, inclusive, to be deduplicated.
+   * @param toIndex The index of the last element, exclusive, to be deduplicated.
+   * @return The number of unique values, which are moved to the front of the range.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static int parallelDedupe(final byte[] a, final int fromIndex, final int toIndex) {
+    return ByteDedupe.parallelDedupe(a, fromIndex, toIndex);
   }
 
-  private static <T> void recurse(final LongList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final long obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Sorts the specified array of {@code char}s, according to the provided {@link CharComparator}.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void sort(final char[] a, final int fromIndex, final int toIndex, final CharComparator c) {
+    CharTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
   }
 
-  private static <T> void swap(final LongList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final long[] tmp = new long[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Sorts the specified array of {@code char}s in parallel, according to the provided {@link CharComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void parallelSort(final char[] a, final int fromIndex, final int toIndex, final CharComparator c) {
+    CharTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
-  private static <T> void recurse(final FloatList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final float obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Rearranges the specified array of {@code char}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link CharComparator}, and permutes the paired array in tandem.
+   *
+   * @param a The array of {@code char}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final char[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final CharComparator c) {
+    CharSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
-  private static <T> void swap(final FloatList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final float[] tmp = new float[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Sorts the specified array of {@code char}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final char[] a, final int fromIndex, final int toIndex) {
+    CharRadixSort.sort(a, fromIndex, toIndex);
   }
 
-  private static <T> void recurse(final DoubleList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final double obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Returns {@code true} if a range of the specified length to be sorted according to the specified {@link CharComparator} is sorted
+   * faster with {@link #radixSort(char[],int,int)} than with a comparison sort.
+   *
+   * @param length The length of the range to be sorted.
+   * @param c The comparator, or {@code null} for the natural order.
+   * @return {@code true} if a range of the specified length to be sorted according to the specified {@link CharComparator} is sorted
+   *         faster with {@link #radixSort(char[],int,int)} than with a comparison sort.
+   */
+  protected static boolean isRadixSortable(final int length, final CharComparator c) {
+    return length >= PrimitiveRadixSort.RADIX_SORT_THRESHOLD && (c == null || c == CharComparator.NATURAL);
   }
 
-  private static <T> void swap(final DoubleList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final double[] tmp = new double[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Deduplicates the specified sorted array of {@code char}s in parallel, such that the first value of each run of equal values is
+   * moved to the front of the range in order.
+   *
+   * @param a The sorted array of {@code char}s.
+   * @param fromIndex The index of the first element, inclusive, to be deduplicated.
+   * @param toIndex The index of the last element, exclusive, to be deduplicated.
+   * @return The number of unique values, which are moved to the front of the range.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static int parallelDedupe(final char[] a, final int fromIndex, final int toIndex) {
+    return CharDedupe.parallelDedupe(a, fromIndex, toIndex);
   }
 
-  private static <T> void recurse(final BooleanList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final boolean obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Sorts the specified array of {@code short}s, according to the provided {@link ShortComparator}.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void sort(final short[] a, final int fromIndex, final int toIndex, final ShortComparator c) {
+    ShortTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
   }
 
-  private static <T> void swap(final BooleanList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final boolean[] tmp = new boolean[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = false;
-      }
-    }
+  /**
+   * Sorts the specified array of {@code short}s in parallel, according to the provided {@link ShortComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void parallelSort(final short[] a, final int fromIndex, final int toIndex, final ShortComparator c) {
+    ShortTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
-  private static <T> void recurse(final ByteList data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final byte obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Rearranges the specified array of {@code short}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link ShortComparator}, and permutes the paired array in tandem.
+   *
+   * @param a The array of {@code short}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final short[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final ShortComparator c) {
+    ShortSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
-  private static <T> void swap(final ByteList data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final byte[] tmp = new byte[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, tmp[i]);
-        tmp[i] = 0;
-      }
-    }
+  /**
+   * Sorts the specified array of {@code short}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final short[] a, final int fromIndex, final int toIndex) {
+    ShortRadixSort.sort(a, fromIndex, toIndex);
   }
 
-  private static <T> void recurse(final List<T> data, final int[] idx, final int i) {
-    if (i == idx.length)
-      return;
-
-    final T obj = data.get(idx[i]);
-    recurse(data, idx, i + 1);
-    data.set(i, obj);
+  /**
+   * Returns {@code true} if a range of the specified length to be sorted according to the specified {@link ShortComparator} is sorted
+   * faster with {@link #radixSort(short[],int,int)} than with a comparison sort.
+   *
+   * @param length The length of the range to be sorted.
+   * @param c The comparator, or {@code null} for the natural order.
+   * @return {@code true} if a range of the specified length to be sorted according to the specified {@link ShortComparator} is sorted
+   *         faster with {@link #radixSort(short[],int,int)} than with a comparison sort.
+   */
+  protected static boolean isRadixSortable(final int length, final ShortComparator c) {
+    return length >= PrimitiveRadixSort.RADIX_SORT_THRESHOLD && (c == null || c == ShortComparator.NATURAL);
   }
 
-  @SuppressWarnings("unchecked")
-  private static <T> void swap(final List<T> data, final int[] idx) {
-    final int len = idx.length;
-    if (len < MAX_RECURSIONS) {
-      recurse(data, idx, 0);
-    }
-    else {
-      final Object[] tmp = new Object[len];
-      for (int i = 0; i < len; ++i) { // [A]
-        tmp[i] = data.get(idx[i]);
-      }
-
-      for (int i = 0; i < len; ++i) { // [A]
-        data.set(i, (T)tmp[i]);
-        tmp[i] = null;
-      }
-    }
+  /**
+   * Deduplicates the specified sorted array of {@code short}s in parallel, such that the first value of each run of equal values is
+   * moved to the front of the range in order.
+   *
+   * @param a The sorted array of {@code short}s.
+   * @param fromIndex The index of the first element, inclusive, to be deduplicated.
+   * @param toIndex The index of the last element, exclusive, to be deduplicated.
+   * @return The number of unique values, which are moved to the front of the range.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static int parallelDedupe(final short[] a, final int fromIndex, final int toIndex) {
+    return ShortDedupe.parallelDedupe(a, fromIndex, toIndex);
   }
 
   /**
-   * Sorts the specified array of {@code boolean}s, according to the provided {@link BooleanComparator}.
+   * Sorts the specified array of {@code int}s, according to the provided {@link IntComparator}.
    *
-   * @param a The array of {@code boolean}s.
+   * @param a The array of {@code int}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
    * @param c The comparator to use.
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
-  protected static void sort(final boolean[] a, final int fromIndex, final int toIndex, final BooleanComparator c) {
-    BooleanTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  protected static void sort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
+    IntTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
   }
 
   /**
-   * Sorts the specified array of {@code byte}s, according to the provided {@link ByteComparator}.
+   * Sorts the specified array of {@code int}s in parallel, according to the provided {@link IntComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
    *
-   * @param a The array of {@code byte}s.
+   * @param a The array of {@code int}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
    * @param c The comparator to use.
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
-  protected static void sort(final byte[] a, final int fromIndex, final int toIndex, final ByteComparator c) {
-    ByteTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  protected static void parallelSort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
+    IntTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
   /**
-   * Sorts the specified array of {@code char}s, according to the provided {@link CharComparator}.
+   * Rearranges the specified array of {@code int}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link IntComparator}, and permutes the paired array in tandem.
    *
-   * @param a The array of {@code char}s.
-   * @param fromIndex The index of the first element, inclusive, to be sorted.
-   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param a The array of {@code int}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
    * @param c The comparator to use.
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
-  protected static void sort(final char[] a, final int fromIndex, final int toIndex, final CharComparator c) {
-    CharTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  protected static void select(final int[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final IntComparator c) {
+    IntSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
   /**
-   * Sorts the specified array of {@code short}s, according to the provided {@link ShortComparator}.
+   * Sorts the specified array of {@code int}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of length {@code toIndex - fromIndex}.
    *
-   * @param a The array of {@code short}s.
+   * @param a The array of {@code int}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The comparator to use.
-   * @throws NullPointerException If {@code a} or {@code c} is null.
+   * @throws NullPointerException If {@code a} is null.
    */
-  protected static void sort(final short[] a, final int fromIndex, final int toIndex, final ShortComparator c) {
-    ShortTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  protected static void radixSort(final int[] a, final int fromIndex, final int toIndex) {
+    IntRadixSort.sort(a, fromIndex, toIndex);
   }
 
   /**
-   * Sorts the specified array of {@code int}s, according to the provided {@link IntComparator}.
+   * Returns {@code true} if a range of the specified length to be sorted according to the specified {@link IntComparator} is sorted
+   * faster with {@link #radixSort(int[],int,int)} than with a comparison sort.
    *
-   * @param a The array of {@code int}s.
-   * @param fromIndex The index of the first element, inclusive, to be sorted.
-   * @param toIndex The index of the last element, exclusive, to be sorted.
-   * @param c The comparator to use.
-   * @throws NullPointerException If {@code a} or {@code c} is null.
+   * @param length The length of the range to be sorted.
+   * @param c The comparator, or {@code null} for the natural order.
+   * @return {@code true} if a range of the specified length to be sorted according to the specified {@link IntComparator} is sorted
+   *         faster with {@link #radixSort(int[],int,int)} than with a comparison sort.
    */
-  protected static void sort(final int[] a, final int fromIndex, final int toIndex, final IntComparator c) {
-    IntTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  protected static boolean isRadixSortable(final int length, final IntComparator c) {
+    return length >= PrimitiveRadixSort.RADIX_SORT_THRESHOLD && (c == null || c == IntComparator.NATURAL);
+  }
+
+  /**
+   * Deduplicates the specified sorted array of {@code int}s in parallel, such that the first value of each run of equal values is
+   * moved to the front of the range in order.
+   *
+   * @param a The sorted array of {@code int}s.
+   * @param fromIndex The index of the first element, inclusive, to be deduplicated.
+   * @param toIndex The index of the last element, exclusive, to be deduplicated.
+   * @return The number of unique values, which are moved to the front of the range.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static int parallelDedupe(final int[] a, final int fromIndex, final int toIndex) {
+    return IntDedupe.parallelDedupe(a, fromIndex, toIndex);
   }
 
   /**
@@ -600,225 +429,608 @@ public abstract class PrimitiveSort {
   }
 
   /**
-   * Sorts the specified array of {@code float}s, according to the provided {@link FloatComparator}.
+   * Sorts the specified array of {@code long}s in parallel, according to the provided {@link LongComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
    *
-   * @param a The array of {@code float}s.
+   * @param a The array of {@code long}s.
    * @param fromIndex The index of the first element, inclusive, to be sorted.
    * @param toIndex The index of the last element, exclusive, to be sorted.
    * @param c The comparator to use.
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
-  protected static void sort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
-    FloatTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  protected static void parallelSort(final long[] a, final int fromIndex, final int toIndex, final LongComparator c) {
+    LongTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
   /**
-   * Sorts the specified array of {@code double}s, according to the provided {@link DoubleComparator}.
+   * Rearranges the specified array of {@code long}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link LongComparator}, and permutes the paired array in tandem.
    *
-   * @param a The array of {@code double}s.
-   * @param fromIndex The index of the first element, inclusive, to be sorted.
-   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param a The array of {@code long}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
    * @param c The comparator to use.
    * @throws NullPointerException If {@code a} or {@code c} is null.
    */
-  protected static void sort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
-    DoubleTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
+  protected static void select(final long[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final LongComparator c) {
+    LongSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
-  protected static void sortIndexed(final Object[] data, final BooleanList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code long}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final long[] a, final int fromIndex, final int toIndex) {
+    LongRadixSort.sort(a, fromIndex, toIndex);
   }
 
-  protected static void sortIndexed(final Object[] data, final ByteList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Returns {@code true} if a range of the specified length to be sorted according to the specified {@link LongComparator} is sorted
+   * faster with {@link #radixSort(long[],int,int)} than with a comparison sort.
+   *
+   * @param length The length of the range to be sorted.
+   * @param c The comparator, or {@code null} for the natural order.
+   * @return {@code true} if a range of the specified length to be sorted according to the specified {@link LongComparator} is sorted
+   *         faster with {@link #radixSort(long[],int,int)} than with a comparison sort.
+   */
+  protected static boolean isRadixSortable(final int length, final LongComparator c) {
+    return length >= PrimitiveRadixSort.RADIX_SORT_THRESHOLD && (c == null || c == LongComparator.NATURAL);
   }
 
-  protected static void sortIndexed(final Object[] data, final CharList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Deduplicates the specified sorted array of {@code long}s in parallel, such that the first value of each run of equal values is
+   * moved to the front of the range in order.
+   *
+   * @param a The sorted array of {@code long}s.
+   * @param fromIndex The index of the first element, inclusive, to be deduplicated.
+   * @param toIndex The index of the last element, exclusive, to be deduplicated.
+   * @return The number of unique values, which are moved to the front of the range.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static int parallelDedupe(final long[] a, final int fromIndex, final int toIndex) {
+    return LongDedupe.parallelDedupe(a, fromIndex, toIndex);
   }
 
-  protected static void sortIndexed(final Object[] data, final ShortList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code float}s, according to the provided {@link FloatComparator}.
+   *
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void sort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
+    FloatTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
   }
 
-  protected static void sortIndexed(final Object[] data, final IntList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code float}s in parallel, according to the provided {@link FloatComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void parallelSort(final float[] a, final int fromIndex, final int toIndex, final FloatComparator c) {
+    FloatTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
-  protected static void sortIndexed(final Object[] data, final LongList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Rearranges the specified array of {@code float}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link FloatComparator}, and permutes the paired array in tandem.
+   *
+   * @param a The array of {@code float}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final float[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final FloatComparator c) {
+    FloatSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
-  protected static void sortIndexed(final Object[] data, final FloatList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code float}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final float[] a, final int fromIndex, final int toIndex) {
+    FloatRadixSort.sort(a, fromIndex, toIndex);
   }
 
-  protected static void sortIndexed(final Object[] data, final DoubleList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Returns {@code true} if a range of the specified length to be sorted according to the specified {@link FloatComparator} is sorted
+   * faster with {@link #radixSort(float[],int,int)} than with a comparison sort.
+   *
+   * @param length The length of the range to be sorted.
+   * @param c The comparator, or {@code null} for the natural order.
+   * @return {@code true} if a range of the specified length to be sorted according to the specified {@link FloatComparator} is sorted
+   *         faster with {@link #radixSort(float[],int,int)} than with a comparison sort.
+   */
+  protected static boolean isRadixSortable(final int length, final FloatComparator c) {
+    return length >= PrimitiveRadixSort.RADIX_SORT_THRESHOLD && (c == null || c == FloatComparator.NATURAL);
   }
 
-  protected static void sortIndexed(final Object[] data, final Object[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Deduplicates the specified sorted array of {@code float}s in parallel, such that the first value of each run of equal values is
+   * moved to the front of the range in order.
+   *
+   * @param a The sorted array of {@code float}s.
+   * @param fromIndex The index of the first element, inclusive, to be deduplicated.
+   * @param toIndex The index of the last element, exclusive, to be deduplicated.
+   * @return The number of unique values, which are moved to the front of the range.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static int parallelDedupe(final float[] a, final int fromIndex, final int toIndex) {
+    return FloatDedupe.parallelDedupe(a, fromIndex, toIndex);
   }
 
-  protected static void sortIndexed(final Object[] data, final List<?> order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code double}s, according to the provided {@link DoubleComparator}.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void sort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
+    DoubleTimSort.sort(a, fromIndex, toIndex, c, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final boolean[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code double}s in parallel, according to the provided {@link DoubleComparator}. The sort is stable, and
+   * allocates a single workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void parallelSort(final double[] a, final int fromIndex, final int toIndex, final DoubleComparator c) {
+    DoubleTimSort.parallelSort(a, fromIndex, toIndex, c);
   }
 
-  protected static void sortIndexed(final List<?> data, final byte[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Rearranges the specified array of {@code double}s, such that the value at index {@code k} is the value that would be at that index if
+   * the range were sorted according to the provided {@link DoubleComparator}, and permutes the paired array in tandem.
+   *
+   * @param a The array of {@code double}s.
+   * @param v The paired array to be permuted in tandem with {@code a}, or {@code null}.
+   * @param fromIndex The index of the first element, inclusive, of the range.
+   * @param toIndex The index of the last element, exclusive, of the range.
+   * @param k The index of the value to select, within {@code [fromIndex, toIndex)}.
+   * @param c The comparator to use.
+   * @throws NullPointerException If {@code a} or {@code c} is null.
+   */
+  protected static void select(final double[] a, final Object[] v, final int fromIndex, final int toIndex, final int k, final DoubleComparator c) {
+    DoubleSelect.select(a, v, fromIndex, toIndex, k, c);
   }
 
-  protected static void sortIndexed(final List<?> data, final char[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code double}s in natural order with a least significant digit radix sort, which performs no
+   * comparisons, and allocates a workspace array of length {@code toIndex - fromIndex}.
+   *
+   * @param a The array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static void radixSort(final double[] a, final int fromIndex, final int toIndex) {
+    DoubleRadixSort.sort(a, fromIndex, toIndex);
   }
 
-  protected static void sortIndexed(final List<?> data, final short[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Returns {@code true} if a range of the specified length to be sorted according to the specified {@link DoubleComparator} is sorted
+   * faster with {@link #radixSort(double[],int,int)} than with a comparison sort.
+   *
+   * @param length The length of the range to be sorted.
+   * @param c The comparator, or {@code null} for the natural order.
+   * @return {@code true} if a range of the specified length to be sorted according to the specified {@link DoubleComparator} is sorted
+   *         faster with {@link #radixSort(double[],int,int)} than with a comparison sort.
+   */
+  protected static boolean isRadixSortable(final int length, final DoubleComparator c) {
+    return length >= PrimitiveRadixSort.RADIX_SORT_THRESHOLD && (c == null || c == DoubleComparator.NATURAL);
   }
 
-  protected static void sortIndexed(final List<?> data, final int[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Deduplicates the specified sorted array of {@code double}s in parallel, such that the first value of each run of equal values is
+   * moved to the front of the range in order.
+   *
+   * @param a The sorted array of {@code double}s.
+   * @param fromIndex The index of the first element, inclusive, to be deduplicated.
+   * @param toIndex The index of the last element, exclusive, to be deduplicated.
+   * @return The number of unique values, which are moved to the front of the range.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  protected static int parallelDedupe(final double[] a, final int fromIndex, final int toIndex) {
+    return DoubleDedupe.parallelDedupe(a, fromIndex, toIndex);
   }
 
-  protected static void sortIndexed(final List<?> data, final long[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code boolean}s according to the provided {@link BooleanComparator}, and permutes the
+   * same range of the paired array of data in tandem. The sort is stable.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code boolean}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final boolean[] order, final int fromIndex, final int toIndex, final BooleanComparator comparator) {
+    BooleanPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final float[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code byte}s according to the provided {@link ByteComparator}, and permutes the same
+   * range of the paired array of data in tandem. The sort is stable. A range for which {@link #isRadixSortable(int,ByteComparator)} is
+   * {@code true} is sorted with {@link #radixSort(byte[],int,int)}, and other ranges are sorted with a paired TimSort.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code byte}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final byte[] order, final int fromIndex, final int toIndex, final ByteComparator comparator) {
+    if (isRadixSortable(toIndex - fromIndex, comparator))
+      ByteRadixSort.sort(order, data, fromIndex, toIndex);
+    else
+      BytePairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final double[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code char}s according to the provided {@link CharComparator}, and permutes the same
+   * range of the paired array of data in tandem. The sort is stable. A range for which {@link #isRadixSortable(int,CharComparator)} is
+   * {@code true} is sorted with {@link #radixSort(char[],int,int)}, and other ranges are sorted with a paired TimSort.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code char}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final char[] order, final int fromIndex, final int toIndex, final CharComparator comparator) {
+    if (isRadixSortable(toIndex - fromIndex, comparator))
+      CharRadixSort.sort(order, data, fromIndex, toIndex);
+    else
+      CharPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final BooleanList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code short}s according to the provided {@link ShortComparator}, and permutes the same
+   * range of the paired array of data in tandem. The sort is stable. A range for which {@link #isRadixSortable(int,ShortComparator)}
+   * is {@code true} is sorted with {@link #radixSort(short[],int,int)}, and other ranges are sorted with a paired TimSort.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code short}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final short[] order, final int fromIndex, final int toIndex, final ShortComparator comparator) {
+    if (isRadixSortable(toIndex - fromIndex, comparator))
+      ShortRadixSort.sort(order, data, fromIndex, toIndex);
+    else
+      ShortPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final ByteList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code int}s according to the provided {@link IntComparator}, and permutes the same
+   * range of the paired array of data in tandem. The sort is stable. A range for which {@link #isRadixSortable(int,IntComparator)} is
+   * {@code true} is sorted with {@link #radixSort(int[],int,int)}, and other ranges are sorted with a paired TimSort.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code int}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final int[] order, final int fromIndex, final int toIndex, final IntComparator comparator) {
+    if (isRadixSortable(toIndex - fromIndex, comparator))
+      IntRadixSort.sort(order, data, fromIndex, toIndex);
+    else
+      IntPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final CharList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code long}s according to the provided {@link LongComparator}, and permutes the same
+   * range of the paired array of data in tandem. The sort is stable. A range for which {@link #isRadixSortable(int,LongComparator)} is
+   * {@code true} is sorted with {@link #radixSort(long[],int,int)}, and other ranges are sorted with a paired TimSort.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code long}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final long[] order, final int fromIndex, final int toIndex, final LongComparator comparator) {
+    if (isRadixSortable(toIndex - fromIndex, comparator))
+      LongRadixSort.sort(order, data, fromIndex, toIndex);
+    else
+      LongPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final ShortList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code float}s according to the provided {@link FloatComparator}, and permutes the same
+   * range of the paired array of data in tandem. The sort is stable. A range for which {@link #isRadixSortable(int,FloatComparator)}
+   * is {@code true} is sorted with {@link #radixSort(float[],int,int)}, and other ranges are sorted with a paired TimSort.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code float}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final float[] order, final int fromIndex, final int toIndex, final FloatComparator comparator) {
+    if (isRadixSortable(toIndex - fromIndex, comparator))
+      FloatRadixSort.sort(order, data, fromIndex, toIndex);
+    else
+      FloatPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final IntList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of {@code double}s according to the provided {@link DoubleComparator}, and permutes the
+   * same range of the paired array of data in tandem. The sort is stable. A range for which
+   * {@link #isRadixSortable(int,DoubleComparator)} is {@code true} is sorted with {@link #radixSort(double[],int,int)}, and other
+   * ranges are sorted with a paired TimSort.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of {@code double}s providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final double[] order, final int fromIndex, final int toIndex, final DoubleComparator comparator) {
+    if (isRadixSortable(toIndex - fromIndex, comparator))
+      DoubleRadixSort.sort(order, data, fromIndex, toIndex);
+    else
+      DoublePairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final LongList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified range of the array of objects according to the provided {@link Comparator}, and permutes the same range of the
+   * paired array of data in tandem. The sort is stable.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be at least {@code toIndex}.
+   * @param order The array of objects providing the order, whose length must be at least {@code toIndex}.
+   * @param fromIndex The index of the first element, inclusive, to be sorted.
+   * @param toIndex The index of the last element, exclusive, to be sorted.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0}, or if {@code toIndex} is greater than the length of {@code data}
+   *           or {@code order}.
+   */
+  protected static void sortPaired(final Object[] data, final Object[] order, final int fromIndex, final int toIndex, final Comparator<?> comparator) {
+    PairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
   }
 
-  protected static void sortIndexed(final List<?> data, final FloatList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified list of objects according to the provided {@link Comparator}, and permutes the paired array of data in tandem.
+   * The sort is stable. The members of {@code order} are sorted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired array of data to be permuted in tandem with {@code order}, whose length must be equal to the size of
+   *          {@code order}.
+   * @param order The list of objects providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final Object[] data, final List<?> order, final Comparator<?> comparator) {
+    final Object[] o = order.toArray();
+    sortPaired(data, o, 0, o.length, comparator);
+    setAll(order, o);
   }
 
-  protected static void sortIndexed(final List<?> data, final DoubleList order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code boolean}s according to the provided {@link BooleanComparator}, and permutes the paired list of
+   * data in tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code boolean}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final boolean[] order, final BooleanComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortIndexed(final List<?> data, final Object[] order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code byte}s according to the provided {@link ByteComparator}, and permutes the paired list of data
+   * in tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code byte}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final byte[] order, final ByteComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortIndexed(final List<?> data, final List<?> order, final int[] idx, final IntComparator c) {
-    IntTimSort.sort(idx, 0, idx.length, c, null, 0, 0);
-    swap(data, idx);
-    swap(order, idx);
+  /**
+   * Sorts the specified array of {@code char}s according to the provided {@link CharComparator}, and permutes the paired list of data
+   * in tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code char}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final char[] order, final CharComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortPaired(final Object[] data, final byte[] order, final int fromIndex, final int toIndex, final ByteComparator comparator) {
-    BytePairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  /**
+   * Sorts the specified array of {@code short}s according to the provided {@link ShortComparator}, and permutes the paired list of
+   * data in tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code short}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final short[] order, final ShortComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortPaired(final Object[] data, final char[] order, final int fromIndex, final int toIndex, final CharComparator comparator) {
-    CharPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  /**
+   * Sorts the specified array of {@code int}s according to the provided {@link IntComparator}, and permutes the paired list of data in
+   * tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code int}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final int[] order, final IntComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortPaired(final Object[] data, final short[] order, final int fromIndex, final int toIndex, final ShortComparator comparator) {
-    ShortPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  /**
+   * Sorts the specified array of {@code long}s according to the provided {@link LongComparator}, and permutes the paired list of data
+   * in tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code long}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final long[] order, final LongComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortPaired(final Object[] data, final int[] order, final int fromIndex, final int toIndex, final IntComparator comparator) {
-    IntPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  /**
+   * Sorts the specified array of {@code float}s according to the provided {@link FloatComparator}, and permutes the paired list of
+   * data in tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code float}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final float[] order, final FloatComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortPaired(final Object[] data, final long[] order, final int fromIndex, final int toIndex, final LongComparator comparator) {
-    LongPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  /**
+   * Sorts the specified array of {@code double}s according to the provided {@link DoubleComparator}, and permutes the paired list of
+   * data in tandem. The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of {@code double}s providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final double[] order, final DoubleComparator comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortPaired(final Object[] data, final float[] order, final int fromIndex, final int toIndex, final FloatComparator comparator) {
-    FloatPairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  /**
+   * Sorts the specified array of objects according to the provided {@link Comparator}, and permutes the paired list of data in tandem.
+   * The sort is stable. The members of {@code data} are permuted in an array, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the length of
+   *          {@code order}.
+   * @param order The array of objects providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final Object[] order, final Comparator<?> comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, 0, d.length, comparator);
+    setAll(data, d);
   }
 
-  protected static void sortPaired(final Object[] data, final double[] order, final int fromIndex, final int toIndex, final DoubleComparator comparator) {
-    DoublePairedTimSort.sort(order, data, fromIndex, toIndex, comparator, null, 0, 0);
+  /**
+   * Sorts the specified list of objects according to the provided {@link Comparator}, and permutes the paired list of data in tandem.
+   * The sort is stable. The members of both lists are permuted in arrays, and are then replaced in order via
+   * {@link #setAll(List,Object[])}.
+   *
+   * @param data The paired list of data to be permuted in tandem with {@code order}, whose size must be equal to the size of
+   *          {@code order}.
+   * @param order The list of objects providing the order.
+   * @param comparator The comparator to use.
+   * @throws NullPointerException If {@code data}, {@code order}, or {@code comparator} is null.
+   */
+  protected static void sortPaired(final List<?> data, final List<?> order, final Comparator<?> comparator) {
+    final Object[] d = data.toArray();
+    sortPaired(d, order, comparator);
+    setAll(data, d);
   }
 
   protected PrimitiveSort() {
@@ -0,0 +1,793 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A container of the 16 low-order bits of the values of a <a href="https://roaringbitmap.org/">Roaring bitmap</a> that share the same
+ * high-order bits. A container stores its values in one of three representations:
+ * <ul>
+ * <li>{@link ArrayContainer}: A sorted {@code char[]} of at most {@link #MAX_ARRAY} values.</li>
+ * <li>{@link BitmapContainer}: A {@code long[]} bitmap of 2^16 bits, for containers of more than {@link #MAX_ARRAY} values.</li>
+ * <li>{@link RunContainer}: A sorted {@code char[]} of runs of consecutive values, produced by {@link #optimize()} when it is the
+ * most compact representation.</li>
+ * </ul>
+ * Containers are mutated in place, but a mutation that crosses the threshold between two representations returns a new container
+ * that replaces the original. The set operations return new containers, or {@code null} if the result is empty.
+ */
+abstract class RoaringContainer implements Cloneable {
+  /** The maximum number of values in an {@link ArrayContainer}. */
+  static final int MAX_ARRAY = 4096;
+
+  /** The number of {@code long} words in a {@link BitmapContainer}. */
+  static final int WORDS = 1024;
+
+  /** The number of distinct values in a container. */
+  static final int MAX_CARDINALITY = 1 << 16;
+
+  static final byte ARRAY = 0;
+  static final byte BITMAP = 1;
+  static final byte RUN = 2;
+
+  /**
+   * An iterator over the values of a container in ascending order.
+   */
+  abstract static class Cursor {
+    abstract boolean hasNext();
+
+    abstract int next();
+  }
+
+  /**
+   * Returns the type of this container: {@link #ARRAY}, {@link #BITMAP}, or {@link #RUN}.
+   *
+   * @return The type of this container.
+   */
+  abstract byte type();
+
+  /**
+   * Returns the number of values in this container.
+   *
+   * @return The number of values in this container.
+   */
+  abstract int cardinality();
+
+  /**
+   * Returns whether this container contains the specified value.
+   *
+   * @param low The value in the range {@code [0,65535]}.
+   * @return Whether this container contains the specified value.
+   */
+  abstract boolean contains(int low);
+
+  /**
+   * Adds the specified value to this container.
+   *
+   * @param low The value in the range {@code [0,65535]}.
+   * @return This container, or the container that replaces it if the addition required a change of representation.
+   */
+  abstract RoaringContainer add(int low);
+
+  /**
+   * Removes the specified value from this container.
+   *
+   * @param low The value in the range {@code [0,65535]}.
+   * @return This container, or the container that replaces it if the removal required a change of representation.
+   */
+  abstract RoaringContainer remove(int low);
+
+  /**
+   * Sets the bits of the values of this container in the specified bitmap.
+   *
+   * @param words The bitmap of {@link #WORDS} words.
+   */
+  abstract void orInto(long[] words);
+
+  /**
+   * Returns the number of runs of consecutive values in this container.
+   *
+   * @return The number of runs of consecutive values in this container.
+   */
+  abstract int runCount();
+
+  /**
+   * Returns a {@link Cursor} over the values of this container that are greater than or equal to the specified value.
+   *
+   * @param from The least value to be returned by the cursor, in the range {@code [0,65536]}.
+   * @return A {@link Cursor} over the values of this container that are greater than or equal to the specified value.
+   */
+  abstract Cursor cursor(int from);
+
+  /**
+   * Writes the values of this container, without its type, to the specified {@link DataOutput}.
+   *
+   * @param out The {@link DataOutput}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  abstract void writeValues(DataOutput out) throws IOException;
+
+  @Override
+  public abstract RoaringContainer clone();
+
+  /**
+   * Returns a new bitmap of {@link #WORDS} words with the bits of the values of this container set.
+   *
+   * @return A new bitmap of {@link #WORDS} words with the bits of the values of this container set.
+   */
+  long[] toWords() {
+    final long[] words = new long[WORDS];
+    orInto(words);
+    return words;
+  }
+
+  /**
+   * Returns the most compact representation of the values of this container, which is this container if its representation is
+   * already the most compact.
+   *
+   * @return The most compact representation of the values of this container.
+   */
+  RoaringContainer optimize() {
+    final int cardinality = cardinality();
+    final int runBytes = 2 + 4 * runCount();
+    final int otherBytes = cardinality <= MAX_ARRAY ? 2 + 2 * cardinality : 2 * WORDS * 4;
+    if (runBytes < otherBytes)
+      return this instanceof RunContainer ? this : RunContainer.of(this);
+
+    if (cardinality <= MAX_ARRAY)
+      return this instanceof ArrayContainer ? this : ArrayContainer.of(this);
+
+    return this instanceof BitmapContainer ? this : new BitmapContainer(toWords(), cardinality);
+  }
+
+  /**
+   * Returns whether this container contains the same values as the specified container, regardless of their representations.
+   *
+   * @param that The container to compare.
+   * @return Whether this container contains the same values as the specified container.
+   */
+  boolean equalValues(final RoaringContainer that) {
+    if (cardinality() != that.cardinality())
+      return false;
+
+    if (this instanceof BitmapContainer && that instanceof BitmapContainer)
+      return Arrays.equals(((BitmapContainer)this).words, ((BitmapContainer)that).words);
+
+    final Cursor a = cursor(0);
+    final Cursor b = that.cursor(0);
+    while (a.hasNext())
+      if (a.next() != b.next())
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Writes the type and the values of this container to the specified {@link DataOutput}.
+   *
+   * @param out The {@link DataOutput}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  final void write(final DataOutput out) throws IOException {
+    out.writeByte(type());
+    writeValues(out);
+  }
+
+  /**
+   * Reads a container written with {@link #write(DataOutput)} from the specified {@link DataInput}.
+   *
+   * @param in The {@link DataInput}.
+   * @return The container.
+   * @throws IOException If an I/O error has occurred, or if the input is malformed.
+   */
+  static RoaringContainer read(final DataInput in) throws IOException {
+    final byte type = in.readByte();
+    if (type == ARRAY) {
+      final int size = in.readChar() + 1;
+      if (size > MAX_ARRAY)
+        throw new IOException("Malformed array container of " + size + " values");
+
+      final char[] values = new char[size];
+      for (int i = 0; i < size; ++i) { // [A]
+        values[i] = in.readChar();
+        if (i > 0 && values[i] <= values[i - 1])
+          throw new IOException("Malformed array container: values are not in ascending order");
+      }
+
+      return new ArrayContainer(values, size);
+    }
+
+    if (type == BITMAP) {
+      final long[] words = new long[WORDS];
+      int cardinality = 0;
+      for (int i = 0; i < WORDS; ++i) // [A]
+        cardinality += Long.bitCount(words[i] = in.readLong());
+
+      if (cardinality == 0)
+        throw new IOException("Malformed bitmap container: empty");
+
+      return new BitmapContainer(words, cardinality);
+    }
+
+    if (type == RUN) {
+      final int nRuns = in.readChar() + 1;
+      final char[] runs = new char[nRuns * 2];
+      for (int i = 0, end = -2; i < runs.length; i += 2) { // [A]
+        final int start = runs[i] = in.readChar();
+        final int length = runs[i + 1] = in.readChar();
+        if (start <= end || start + length >= MAX_CARDINALITY)
+          throw new IOException("Malformed run container: runs are not disjoint and in ascending order");
+
+        end = start + length + 1;
+      }
+
+      return new RunContainer(runs, nRuns);
+    }
+
+    throw new IOException("Unknown container type: " + type);
+  }
+
+  /**
+   * Returns the container of the values of the specified bitmap in its most appropriate representation.
+   *
+   * @param words The bitmap of {@link #WORDS} words.
+   * @return The container of the values of the specified bitmap, or {@code null} if the bitmap is empty.
+   */
+  static RoaringContainer of(final long[] words) {
+    int cardinality = 0;
+    for (int i = 0; i < WORDS; ++i) // [A]
+      cardinality += Long.bitCount(words[i]);
+
+    if (cardinality == 0)
+      return null;
+
+    if (cardinality == MAX_CARDINALITY)
+      return new RunContainer(new char[] {0, (char)(MAX_CARDINALITY - 1)}, 1);
+
+    final BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+    return cardinality > MAX_ARRAY ? bitmap : ArrayContainer.of(bitmap);
+  }
+
+  /**
+   * Sets the bits in the range {@code [from,to)} of the specified bitmap.
+   *
+   * @param words The bitmap.
+   * @param from The first bit to set.
+   * @param to The bit after the last bit to set.
+   */
+  static void setRange(final long[] words, final int from, final int to) {
+    if (from >= to)
+      return;
+
+    final int first = from >>> 6;
+    final int last = (to - 1) >>> 6;
+    final long firstMask = -1L << from;
+    final long lastMask = -1L >>> -to;
+    if (first == last) {
+      words[first] |= firstMask & lastMask;
+    }
+    else {
+      words[first] |= firstMask;
+      for (int i = first + 1; i < last; ++i) // [A]
+        words[i] = -1L;
+
+      words[last] |= lastMask;
+    }
+  }
+
+  /**
+   * Returns the intersection of the specified containers.
+   *
+   * @param a The first container.
+   * @param b The second container.
+   * @return The intersection of the specified containers, or {@code null} if it is empty.
+   */
+  static RoaringContainer and(final RoaringContainer a, final RoaringContainer b) {
+    if (a instanceof ArrayContainer) {
+      if (b instanceof ArrayContainer)
+        return ArrayContainer.intersect((ArrayContainer)a, (ArrayContainer)b);
+
+      return ((ArrayContainer)a).filter(b, true);
+    }
+
+    if (b instanceof ArrayContainer)
+      return ((ArrayContainer)b).filter(a, true);
+
+    final long[] words = a.toWords();
+    final long[] other = b instanceof BitmapContainer ? ((BitmapContainer)b).words : b.toWords();
+    for (int i = 0; i < WORDS; ++i) // [A]
+      words[i] &= other[i];
+
+    return of(words);
+  }
+
+  /**
+   * Returns the union of the specified containers.
+   *
+   * @param a The first container.
+   * @param b The second container.
+   * @return The union of the specified containers.
+   */
+  static RoaringContainer or(final RoaringContainer a, final RoaringContainer b) {
+    if (a instanceof ArrayContainer && b instanceof ArrayContainer && a.cardinality() + b.cardinality() <= MAX_ARRAY)
+      return ArrayContainer.union((ArrayContainer)a, (ArrayContainer)b);
+
+    final long[] words = a.toWords();
+    b.orInto(words);
+    return of(words);
+  }
+
+  /**
+   * Returns the difference of the specified containers.
+   *
+   * @param a The container from which to remove values.
+   * @param b The container of the values to remove.
+   * @return The values of {@code a} that are not in {@code b}, or {@code null} if there are none.
+   */
+  static RoaringContainer andNot(final RoaringContainer a, final RoaringContainer b) {
+    if (a instanceof ArrayContainer)
+      return ((ArrayContainer)a).filter(b, false);
+
+    final long[] words = a.toWords();
+    if (b instanceof ArrayContainer) {
+      final ArrayContainer array = (ArrayContainer)b;
+      for (int i = 0; i < array.size; ++i) // [A]
+        words[array.values[i] >>> 6] &= ~(1L << array.values[i]);
+    }
+    else {
+      final long[] other = b instanceof BitmapContainer ? ((BitmapContainer)b).words : b.toWords();
+      for (int i = 0; i < WORDS; ++i) // [A]
+        words[i] &= ~other[i];
+    }
+
+    return of(words);
+  }
+
+  /**
+   * A container of at most {@link #MAX_ARRAY} values in a sorted {@code char[]}.
+   */
+  static final class ArrayContainer extends RoaringContainer {
+    char[] values;
+    int size;
+
+    ArrayContainer(final char[] values, final int size) {
+      this.values = values;
+      this.size = size;
+    }
+
+    ArrayContainer(final int low) {
+      this.values = new char[4];
+      this.values[0] = (char)low;
+      this.size = 1;
+    }
+
+    static ArrayContainer of(final RoaringContainer container) {
+      final char[] values = new char[container.cardinality()];
+      final Cursor cursor = container.cursor(0);
+      for (int i = 0; i < values.length; ++i) // [A]
+        values[i] = (char)cursor.next();
+
+      return new ArrayContainer(values, values.length);
+    }
+
+    static ArrayContainer intersect(final ArrayContainer a, final ArrayContainer b) {
+      final char[] values = new char[Math.min(a.size, b.size)];
+      int size = 0;
+      for (int i = 0, j = 0; i < a.size && j < b.size;) { // [A]
+        final char x = a.values[i];
+        final char y = b.values[j];
+        if (x < y) {
+          ++i;
+        }
+        else if (x > y) {
+          ++j;
+        }
+        else {
+          values[size++] = x;
+          ++i;
+          ++j;
+        }
+      }
+
+      return size == 0 ? null : new ArrayContainer(values, size);
+    }
+
+    static ArrayContainer union(final ArrayContainer a, final ArrayContainer b) {
+      final char[] values = new char[a.size + b.size];
+      int size = 0;
+      int i = 0, j = 0;
+      while (i < a.size && j < b.size) {
+        final char x = a.values[i];
+        final char y = b.values[j];
+        if (x <= y) {
+          values[size++] = x;
+          ++i;
+          if (x == y)
+            ++j;
+        }
+        else {
+          values[size++] = y;
+          ++j;
+        }
+      }
+
+      while (i < a.size)
+        values[size++] = a.values[i++];
+
+      while (j < b.size)
+        values[size++] = b.values[j++];
+
+      return new ArrayContainer(values, size);
+    }
+
+    /**
+     * Returns the values of this container for which the result of {@code container.contains(value)} equals {@code keep}.
+     */
+    ArrayContainer filter(final RoaringContainer container, final boolean keep) {
+      final char[] values = new char[size];
+      int size = 0;
+      for (int i = 0; i < this.size; ++i) // [A]
+        if (container.contains(this.values[i]) == keep)
+          values[size++] = this.values[i];
+
+      return size == 0 ? null : new ArrayContainer(values, size);
+    }
+
+    @Override
+    byte type() {
+      return ARRAY;
+    }
+
+    @Override
+    int cardinality() {
+      return size;
+    }
+
+    @Override
+    boolean contains(final int low) {
+      return Arrays.binarySearch(values, 0, size, (char)low) >= 0;
+    }
+
+    @Override
+    RoaringContainer add(final int low) {
+      int index = Arrays.binarySearch(values, 0, size, (char)low);
+      if (index >= 0)
+        return this;
+
+      if (size == MAX_ARRAY) {
+        final long[] words = toWords();
+        words[low >>> 6] |= 1L << low;
+        return new BitmapContainer(words, size + 1);
+      }
+
+      index = -index - 1;
+      if (size == values.length)
+        values = Arrays.copyOf(values, Math.min(MAX_ARRAY, Math.max(4, size * 2)));
+
+      System.arraycopy(values, index, values, index + 1, size - index);
+      values[index] = (char)low;
+      ++size;
+      return this;
+    }
+
+    @Override
+    RoaringContainer remove(final int low) {
+      final int index = Arrays.binarySearch(values, 0, size, (char)low);
+      if (index >= 0)
+        System.arraycopy(values, index + 1, values, index, --size - index);
+
+      return this;
+    }
+
+    @Override
+    void orInto(final long[] words) {
+      for (int i = 0; i < size; ++i) // [A]
+        words[values[i] >>> 6] |= 1L << values[i];
+    }
+
+    @Override
+    int runCount() {
+      int runs = 0;
+      for (int i = 0; i < size; ++i) // [A]
+        if (i == 0 || values[i] != values[i - 1] + 1)
+          ++runs;
+
+      return runs;
+    }
+
+    @Override
+    Cursor cursor(final int from) {
+      final int index = Arrays.binarySearch(values, 0, size, (char)Math.min(from, MAX_CARDINALITY - 1));
+      return new Cursor() {
+        private int i = index >= 0 ? (from < MAX_CARDINALITY ? index : size) : -index - 1;
+
+        @Override
+        boolean hasNext() {
+          return i < size;
+        }
+
+        @Override
+        int next() {
+          return values[i++];
+        }
+      };
+    }
+
+    @Override
+    void writeValues(final DataOutput out) throws IOException {
+      out.writeChar(size - 1);
+      for (int i = 0; i < size; ++i) // [A]
+        out.writeChar(values[i]);
+    }
+
+    @Override
+    public ArrayContainer clone() {
+      return new ArrayContainer(Arrays.copyOf(values, size), size);
+    }
+  }
+
+  /**
+   * A container of more than {@link #MAX_ARRAY} values in a bitmap of 2^16 bits.
+   */
+  static final class BitmapContainer extends RoaringContainer {
+    final long[] words;
+    int cardinality;
+
+    BitmapContainer(final long[] words, final int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    byte type() {
+      return BITMAP;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(final int low) {
+      return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    RoaringContainer add(final int low) {
+      final long word = words[low >>> 6];
+      final long bit = 1L << low;
+      if ((word & bit) == 0) {
+        words[low >>> 6] = word | bit;
+        ++cardinality;
+      }
+
+      return this;
+    }
+
+    @Override
+    RoaringContainer remove(final int low) {
+      final long word = words[low >>> 6];
+      final long bit = 1L << low;
+      if ((word & bit) == 0)
+        return this;
+
+      words[low >>> 6] = word & ~bit;
+      return --cardinality > MAX_ARRAY ? this : ArrayContainer.of(this);
+    }
+
+    @Override
+    void orInto(final long[] words) {
+      for (int i = 0; i < WORDS; ++i) // [A]
+        words[i] |= this.words[i];
+    }
+
+    @Override
+    long[] toWords() {
+      return words.clone();
+    }
+
+    @Override
+    int runCount() {
+      int runs = 0;
+      long carry = 0;
+      for (int i = 0; i < WORDS; ++i) { // [A]
+        final long word = words[i];
+        runs += Long.bitCount(word & ~((word << 1) | carry));
+        carry = word >>> 63;
+      }
+
+      return runs;
+    }
+
+    @Override
+    Cursor cursor(final int from) {
+      return new Cursor() {
+        private int index = from >>> 6;
+        private long word = index < WORDS ? words[index] & (-1L << from) : 0;
+
+        @Override
+        boolean hasNext() {
+          while (word == 0) {
+            if (++index >= WORDS)
+              return false;
+
+            word = words[index];
+          }
+
+          return true;
+        }
+
+        @Override
+        int next() {
+          hasNext();
+          final int low = (index << 6) + Long.numberOfTrailingZeros(word);
+          word &= word - 1;
+          return low;
+        }
+      };
+    }
+
+    @Override
+    void writeValues(final DataOutput out) throws IOException {
+      for (int i = 0; i < WORDS; ++i) // [A]
+        out.writeLong(words[i]);
+    }
+
+    @Override
+    public BitmapContainer clone() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+  }
+
+  /**
+   * A container of runs of consecutive values, stored in a sorted {@code char[]} as pairs of the first value and the length minus
+   * one of each run. A mutation of a {@link RunContainer} converts it to an {@link ArrayContainer} or a {@link BitmapContainer}.
+   */
+  static final class RunContainer extends RoaringContainer {
+    final char[] runs;
+    final int nRuns;
+    final int cardinality;
+
+    RunContainer(final char[] runs, final int nRuns) {
+      this.runs = runs;
+      this.nRuns = nRuns;
+      int cardinality = nRuns;
+      for (int i = 0; i < nRuns; ++i) // [A]
+        cardinality += runs[2 * i + 1];
+
+      this.cardinality = cardinality;
+    }
+
+    static RunContainer of(final RoaringContainer container) {
+      final int nRuns = container.runCount();
+      final char[] runs = new char[nRuns * 2];
+      final Cursor cursor = container.cursor(0);
+      int r = -2;
+      int prev = -2;
+      while (cursor.hasNext()) {
+        final int low = cursor.next();
+        if (low != prev + 1)
+          runs[r += 2] = (char)low;
+        else
+          ++runs[r + 1];
+
+        prev = low;
+      }
+
+      return new RunContainer(runs, nRuns);
+    }
+
+    /**
+     * Returns the index of the run that starts at or before the specified value, or {@code -1} if there is none.
+     */
+    private int floorRun(final int low) {
+      int lo = 0;
+      int hi = nRuns - 1;
+      while (lo <= hi) {
+        final int mid = (lo + hi) >>> 1;
+        if (runs[2 * mid] <= low)
+          lo = mid + 1;
+        else
+          hi = mid - 1;
+      }
+
+      return hi;
+    }
+
+    private RoaringContainer mutable(final int cardinality) {
+      return cardinality <= MAX_ARRAY ? ArrayContainer.of(this) : new BitmapContainer(toWords(), this.cardinality);
+    }
+
+    @Override
+    byte type() {
+      return RUN;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(final int low) {
+      final int run = floorRun(low);
+      return run >= 0 && low - runs[2 * run] <= runs[2 * run + 1];
+    }
+
+    @Override
+    RoaringContainer add(final int low) {
+      return contains(low) ? this : mutable(cardinality + 1).add(low);
+    }
+
+    @Override
+    RoaringContainer remove(final int low) {
+      return contains(low) ? mutable(cardinality - 1).remove(low) : this;
+    }
+
+    @Override
+    void orInto(final long[] words) {
+      for (int i = 0; i < nRuns; ++i) { // [A]
+        final int start = runs[2 * i];
+        setRange(words, start, start + runs[2 * i + 1] + 1);
+      }
+    }
+
+    @Override
+    int runCount() {
+      return nRuns;
+    }
+
+    @Override
+    Cursor cursor(final int from) {
+      final int floor = floorRun(from);
+      return new Cursor() {
+        private int run = floor < 0 ? 0 : from - runs[2 * floor] <= runs[2 * floor + 1] ? floor : floor + 1;
+        private int low = run < nRuns ? Math.max(from, runs[2 * run]) : 0;
+
+        @Override
+        boolean hasNext() {
+          return run < nRuns;
+        }
+
+        @Override
+        int next() {
+          final int next = low;
+          if (low++ == runs[2 * run] + runs[2 * run + 1] && ++run < nRuns)
+            low = runs[2 * run];
+
+          return next;
+        }
+      };
+    }
+
+    @Override
+    void writeValues(final DataOutput out) throws IOException {
+      out.writeChar(nRuns - 1);
+      for (int i = 0; i < 2 * nRuns; ++i) // [A]
+        out.writeChar(runs[i]);
+    }
+
+    @Override
+    public RunContainer clone() {
+      return this;
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,312 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Bindings to the array intrinsics of the running JDK, which compare many elements per instruction. The bindings are held in
+ * {@code static final} fields, so that the JIT folds the checks of {@link #RANGED_EQUALS} and {@link #VECTOR} at their call sites, and
+ * the methods of {@link ArrayUtil} keep their scalar loops when a binding is not available.
+ * <p>
+ * This is the Java 17 version of this class, which is packaged in {@code META-INF/versions/17} of the multi-release jar. The ranged
+ * {@code Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex)} methods are called directly. If {@link #VECTOR} is
+ * {@code true}, the {@code indexOf} methods, and the {@code equals} methods for {@code float} and {@code double}, compare a vector of
+ * {@link VectorSpecies#length()} elements of the preferred species per iteration, and a scalar loop compares the remaining tail.
+ * Otherwise, they are scalar loops, as in the Java 8 version of this class. The {@code jdk.incubator.vector} module is resolved only
+ * when it is requested with {@code --add-modules jdk.incubator.vector}, so {@link #VECTOR} is {@code false} otherwise, or if the
+ * preferred species of the platform is narrower than 128 bits, in which case the vectors are emulated and slower than the scalar loops.
+ */
+final class ArrayIntrinsics {
+  /** Whether the {@code equals} methods for the integral and {@code boolean} types are available. */
+  static final boolean RANGED_EQUALS = true;
+
+  /** Whether the {@code indexOf} methods, and the {@code equals} methods for {@code float} and {@code double}, are vectorized. */
+  private static final boolean VECTOR = isVectorAvailable();
+
+  private static boolean isVectorAvailable() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+      return false;
+
+    try {
+      return Vectors.isAccelerated();
+    }
+    catch (final LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Holder of the vector species, which is initialized only if the {@code jdk.incubator.vector} module is resolved, so that the
+   * vector classes are not linked otherwise.
+   */
+  private static final class Vectors {
+    private static final VectorSpecies<Byte> BYTE = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Short> SHORT = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Float> FLOAT = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE = DoubleVector.SPECIES_PREFERRED;
+
+    private static boolean isAccelerated() {
+      return BYTE.vectorBitSize() >= 128;
+    }
+
+    private static boolean equals(final float[] a, int aFromIndex, final float[] b, int bFromIndex, final int length) {
+      final int step = FLOAT.length();
+      final int aToIndex = aFromIndex + length;
+      final int i$ = aFromIndex + FLOAT.loopBound(length);
+      for (; aFromIndex < i$; aFromIndex += step, bFromIndex += step) // [A]
+        if (!FloatVector.fromArray(FLOAT, a, aFromIndex).eq(FloatVector.fromArray(FLOAT, b, bFromIndex)).allTrue())
+          return false;
+
+      return equals0(a, aFromIndex, b, bFromIndex, aToIndex - aFromIndex);
+    }
+
+    private static boolean equals(final double[] a, int aFromIndex, final double[] b, int bFromIndex, final int length) {
+      final int step = DOUBLE.length();
+      final int aToIndex = aFromIndex + length;
+      final int i$ = aFromIndex + DOUBLE.loopBound(length);
+      for (; aFromIndex < i$; aFromIndex += step, bFromIndex += step) // [A]
+        if (!DoubleVector.fromArray(DOUBLE, a, aFromIndex).eq(DoubleVector.fromArray(DOUBLE, b, bFromIndex)).allTrue())
+          return false;
+
+      return equals0(a, aFromIndex, b, bFromIndex, aToIndex - aFromIndex);
+    }
+
+    private static int indexOf(final byte[] array, int off, final int len, final byte value) {
+      final int step = BYTE.length();
+      for (final int i$ = len - step; off <= i$; off += step) { // [A]
+        final VectorMask<Byte> mask = ByteVector.fromArray(BYTE, array, off).eq(value);
+        if (mask.anyTrue())
+          return off + mask.firstTrue();
+      }
+
+      return indexOf0(array, off, len, value);
+    }
+
+    private static int indexOf(final char[] array, int off, final int len, final char value) {
+      final int step = SHORT.length();
+      for (final int i$ = len - step; off <= i$; off += step) { // [A]
+        final VectorMask<Short> mask = ShortVector.fromCharArray(SHORT, array, off).eq((short)value);
+        if (mask.anyTrue())
+          return off + mask.firstTrue();
+      }
+
+      return indexOf0(array, off, len, value);
+    }
+
+    private static int indexOf(final short[] array, int off, final int len, final short value) {
+      final int step = SHORT.length();
+      for (final int i$ = len - step; off <= i$; off += step) { // [A]
+        final VectorMask<Short> mask = ShortVector.fromArray(SHORT, array, off).eq(value);
+        if (mask.anyTrue())
+          return off + mask.firstTrue();
+      }
+
+      return indexOf0(array, off, len, value);
+    }
+
+    private static int indexOf(final int[] array, int off, final int len, final int value) {
+      final int step = INT.length();
+      for (final int i$ = len - step; off <= i$; off += step) { // [A]
+        final VectorMask<Integer> mask = IntVector.fromArray(INT, array, off).eq(value);
+        if (mask.anyTrue())
+          return off + mask.firstTrue();
+      }
+
+      return indexOf0(array, off, len, value);
+    }
+
+    private static int indexOf(final long[] array, int off, final int len, final long value) {
+      final int step = LONG.length();
+      for (final int i$ = len - step; off <= i$; off += step) { // [A]
+        final VectorMask<Long> mask = LongVector.fromArray(LONG, array, off).eq(value);
+        if (mask.anyTrue())
+          return off + mask.firstTrue();
+      }
+
+      return indexOf0(array, off, len, value);
+    }
+
+    private static int indexOf(final float[] array, int off, final int len, final float value) {
+      final int step = FLOAT.length();
+      for (final int i$ = len - step; off <= i$; off += step) { // [A]
+        final VectorMask<Float> mask = FloatVector.fromArray(FLOAT, array, off).eq(value);
+        if (mask.anyTrue())
+          return off + mask.firstTrue();
+      }
+
+      return indexOf0(array, off, len, value);
+    }
+
+    private static int indexOf(final double[] array, int off, final int len, final double value) {
+      final int step = DOUBLE.length();
+      for (final int i$ = len - step; off <= i$; off += step) { // [A]
+        final VectorMask<Double> mask = DoubleVector.fromArray(DOUBLE, array, off).eq(value);
+        if (mask.anyTrue())
+          return off + mask.firstTrue();
+      }
+
+      return indexOf0(array, off, len, value);
+    }
+  }
+
+  static boolean equals(final boolean[] a, final int aFromIndex, final int aToIndex, final boolean[] b, final int bFromIndex, final int bToIndex) {
+    return Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+  }
+
+  static boolean equals(final byte[] a, final int aFromIndex, final int aToIndex, final byte[] b, final int bFromIndex, final int bToIndex) {
+    return Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+  }
+
+  static boolean equals(final char[] a, final int aFromIndex, final int aToIndex, final char[] b, final int bFromIndex, final int bToIndex) {
+    return Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+  }
+
+  static boolean equals(final short[] a, final int aFromIndex, final int aToIndex, final short[] b, final int bFromIndex, final int bToIndex) {
+    return Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+  }
+
+  static boolean equals(final int[] a, final int aFromIndex, final int aToIndex, final int[] b, final int bFromIndex, final int bToIndex) {
+    return Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+  }
+
+  static boolean equals(final long[] a, final int aFromIndex, final int aToIndex, final long[] b, final int bFromIndex, final int bToIndex) {
+    return Arrays.equals(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+  }
+
+  static boolean equals(final float[] a, final int aFromIndex, final float[] b, final int bFromIndex, final int length) {
+    return VECTOR ? Vectors.equals(a, aFromIndex, b, bFromIndex, length) : equals0(a, aFromIndex, b, bFromIndex, length);
+  }
+
+  private static boolean equals0(final float[] a, int aFromIndex, final float[] b, int bFromIndex, final int length) {
+    for (final int i$ = aFromIndex + length; aFromIndex < i$; ++aFromIndex, ++bFromIndex) // [A]
+      if (a[aFromIndex] != b[bFromIndex])
+        return false;
+
+    return true;
+  }
+
+  static boolean equals(final double[] a, final int aFromIndex, final double[] b, final int bFromIndex, final int length) {
+    return VECTOR ? Vectors.equals(a, aFromIndex, b, bFromIndex, length) : equals0(a, aFromIndex, b, bFromIndex, length);
+  }
+
+  private static boolean equals0(final double[] a, int aFromIndex, final double[] b, int bFromIndex, final int length) {
+    for (final int i$ = aFromIndex + length; aFromIndex < i$; ++aFromIndex, ++bFromIndex) // [A]
+      if (a[aFromIndex] != b[bFromIndex])
+        return false;
+
+    return true;
+  }
+
+  static int indexOf(final byte[] array, final int off, final int len, final byte value) {
+    return VECTOR ? Vectors.indexOf(array, off, len, value) : indexOf0(array, off, len, value);
+  }
+
+  private static int indexOf0(final byte[] array, int off, final int len, final byte value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final char[] array, final int off, final int len, final char value) {
+    return VECTOR ? Vectors.indexOf(array, off, len, value) : indexOf0(array, off, len, value);
+  }
+
+  private static int indexOf0(final char[] array, int off, final int len, final char value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final short[] array, final int off, final int len, final short value) {
+    return VECTOR ? Vectors.indexOf(array, off, len, value) : indexOf0(array, off, len, value);
+  }
+
+  private static int indexOf0(final short[] array, int off, final int len, final short value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final int[] array, final int off, final int len, final int value) {
+    return VECTOR ? Vectors.indexOf(array, off, len, value) : indexOf0(array, off, len, value);
+  }
+
+  private static int indexOf0(final int[] array, int off, final int len, final int value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final long[] array, final int off, final int len, final long value) {
+    return VECTOR ? Vectors.indexOf(array, off, len, value) : indexOf0(array, off, len, value);
+  }
+
+  private static int indexOf0(final long[] array, int off, final int len, final long value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final float[] array, final int off, final int len, final float value) {
+    return VECTOR ? Vectors.indexOf(array, off, len, value) : indexOf0(array, off, len, value);
+  }
+
+  private static int indexOf0(final float[] array, int off, final int len, final float value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  static int indexOf(final double[] array, final int off, final int len, final double value) {
+    return VECTOR ? Vectors.indexOf(array, off, len, value) : indexOf0(array, off, len, value);
+  }
+
+  private static int indexOf0(final double[] array, int off, final int len, final double value) {
+    for (; off < len; ++off) // [A]
+      if (value == array[off])
+        return off;
+
+    return -1;
+  }
+
+  private ArrayIntrinsics() {
+  }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.function;
+
+/**
+ * Represents an operation upon two {@code <x>}-valued operands and producing
+ * a {@code <x>}-valued result. This is the primitive type specialization of
+ * {@link java.util.function.BinaryOperator} for {@code <x>}.
+ *
+ * @see java.util.function.BinaryOperator
+ */
+@FunctionalInterface
+public interface <X>BinaryOperator {
+  /**
+   * Applies this operator to the given operands.
+   *
+   * @param left The first operand.
+   * @param right The second operand.
+   * @return The operator result.
+   */
+  <x> applyAs<X>(<x> left, <x> right);
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.function;
+
+/**
+ * Represents an operation that accepts a {@code <x>}-valued and an
+ * object-valued argument, and returns no result. This is the
+ * {@code (<x>, reference)} specialization of
+ * {@link java.util.function.BiConsumer}. Unlike most other functional
+ * interfaces, {@link <X>ObjConsumer} is expected to operate via side-effects.
+ *
+ * @param <T> The type of the object argument to the operation.
+ * @see java.util.function.BiConsumer
+ */
+@FunctionalInterface
+public interface <X>ObjConsumer<T> {
+  /**
+   * Performs this operation on the given arguments.
+   *
+   * @param value The first input argument.
+   * @param t The second input argument.
+   */
+  void accept(<x> value, T t);
+}
\ No newline at end of file
@@ -192,6 +192,36 @@ public interface <X>Collection extends <X>Iterable, PrimitiveCollection {
     return removed;
   }
 
+  /**
+   * Performs a reduction on the values of this collection, using the provided
+   * identity value and an associative accumulation function, and returns the
+   * reduced value. This is equivalent to:
+   *
+   * <pre>{@code
+   * <x> result = identity;
+   * for (<x> value : this collection)
+   *   result = op.applyAs<X>(result, value);
+   * return result;
+   * }</pre>
+   *
+   * The default implementation traverses all values of the collection using its
+   * {@link #iterator()}.
+   *
+   * @param identity The identity value for the accumulation function, which is
+   *          returned if this collection is empty.
+   * @param op An associative function for combining two values.
+   * @return The result of the reduction.
+   * @throws NullPointerException If the specified function is null.
+   */
+  default <x> reduce(final <x> identity, final <X>BinaryOperator op) {
+    Objects.requireNonNull(op);
+    <x> result = identity;
+    for (final <X>Iterator i = iterator(); i.hasNext();) // [I]
+      result = op.applyAs<X>(result, i.next());
+
+    return result;
+  }
+
   /**
    * Retains only the values in this collection that are contained in the
    * specified collection. In other words, removes from this collection all of
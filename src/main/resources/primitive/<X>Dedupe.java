@@ -0,0 +1,156 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A parallel deduplication of a sorted range of {@code <x>} values, which
+ * moves the first of each run of equal values to the front of the range. The
+ * range is split into chunks that are compacted concurrently, each within its
+ * own bounds, after which the compacted chunks are stitched together by moving
+ * each to the end of the previous one. Whether the first value of a chunk
+ * continues the run at the end of the previous chunk is determined before any
+ * chunk is compacted, so the chunks are independent of each other.
+ */
+final class <X>Dedupe {
+  /**
+   * The minimum length of a chunk, below which the overhead of the task
+   * coordination outweighs the gain of compacting in parallel.
+   */
+  static final int MIN_ARRAY_DEDUPE_GRAN = 1 << 16;
+
+  /**
+   * Compacts the given chunk within its own bounds, and returns the number of
+   * values that remain.
+   *
+   * @param a the array to be compacted
+   * @param lo the index of the first element, inclusive, of the chunk
+   * @param hi the index of the last element, exclusive, of the chunk
+   * @param first whether the first value of the chunk is not equal to the
+   *          value that precedes it in the range
+   */
+  private static int compact(final <x>[] a, final int lo, final int hi, final boolean first) {
+    int w = first ? lo + 1 : lo;
+    <x> prev = a[lo];
+    for (int i = lo + 1; i < hi; ++i) { // [A]
+      final <x> value = a[i];
+      if (value != prev)
+        a[w++] = prev = value;
+    }
+
+    return w - lo;
+  }
+
+  private static final class Compactor extends RecursiveAction {
+    private final <x>[] a;
+    private final int lo;
+    private final int hi;
+    private final int gran;
+    private final boolean[] firsts;
+    private final int[] counts;
+    private final int from;
+    private final int to;
+
+    private Compactor(final <x>[] a, final int lo, final int hi, final int gran, final boolean[] firsts, final int[] counts, final int from, final int to) {
+      this.a = a;
+      this.lo = lo;
+      this.hi = hi;
+      this.gran = gran;
+      this.firsts = firsts;
+      this.counts = counts;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from == 1) {
+        final int start = lo + from * gran;
+        counts[from] = compact(a, start, hi - start <= gran ? hi : start + gran, firsts[from]);
+        return;
+      }
+
+      final int mid = (from + to) >>> 1;
+      invokeAll(new Compactor(a, lo, hi, gran, firsts, counts, from, mid), new Compactor(a, lo, hi, gran, firsts, counts, mid, to));
+    }
+  }
+
+  /**
+   * Deduplicates the given sorted range in parallel in the
+   * {@link ForkJoinPool#commonPool()}, such that the first value of each run
+   * of equal values is moved to the front of the range in order, and returns
+   * the number of unique values. If the range is shorter than twice
+   * {@link #MIN_ARRAY_DEDUPE_GRAN}, or the common pool has a parallelism of 1,
+   * the range is deduplicated sequentially.
+   *
+   * @param a the array to be deduplicated
+   * @param lo the index of the first element, inclusive, to be deduplicated
+   * @param hi the index of the last element, exclusive, to be deduplicated
+   * @return the number of unique values, which are at {@code [lo, lo + n)}
+   */
+  static int parallelDedupe(final <x>[] a, final int lo, final int hi) {
+    assert a != null && lo >= 0 && lo <= hi && hi <= a.length;
+
+    final int n = hi - lo;
+    final int p = ForkJoinPool.getCommonPoolParallelism();
+    if (n < MIN_ARRAY_DEDUPE_GRAN << 1 || p == 1)
+      return n == 0 ? 0 : compact(a, lo, hi, true);
+
+    final int g = n / (p << 2);
+    return parallelDedupe(a, lo, hi, g <= MIN_ARRAY_DEDUPE_GRAN ? MIN_ARRAY_DEDUPE_GRAN : g);
+  }
+
+  /**
+   * Deduplicates the given sorted range in chunks of the given length, which
+   * are compacted concurrently, and then stitched together.
+   *
+   * @param a the array to be deduplicated
+   * @param lo the index of the first element, inclusive, to be deduplicated
+   * @param hi the index of the last element, exclusive, to be deduplicated
+   * @param gran the length of a chunk
+   * @return the number of unique values, which are at {@code [lo, lo + n)}
+   */
+  static int parallelDedupe(final <x>[] a, final int lo, final int hi, final int gran) {
+    final int n = hi - lo;
+    if (n == 0)
+      return 0;
+
+    final int chunks = (n - 1) / gran + 1;
+    final boolean[] firsts = new boolean[chunks];
+    firsts[0] = true;
+    for (int i = 1; i < chunks; ++i) { // [A]
+      final int start = lo + i * gran;
+      firsts[i] = a[start - 1] != a[start];
+    }
+
+    final int[] counts = new int[chunks];
+    new Compactor(a, lo, hi, gran, firsts, counts, 0, chunks).invoke();
+
+    int w = lo + counts[0];
+    for (int i = 1; i < chunks; ++i) { // [A]
+      System.arraycopy(a, lo + i * gran, a, w, counts[i]);
+      w += counts[i];
+    }
+
+    return w - lo;
+  }
+
+  private <X>Dedupe() {
+  }
+}
\ No newline at end of file
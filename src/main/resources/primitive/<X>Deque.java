@@ -0,0 +1,250 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A linear collection of {@code <x>} values that supports insertion and removal at both ends.
+ * <p>
+ * This interface is a replica of the {@link java.util.Deque} interface that defines synonymous methods for a deque of
+ * {@code <x>} values instead of Object references. Since a {@code <x>} value cannot be {@code null}, the methods of
+ * {@link java.util.Deque} that return {@code null} to signal an empty deque ({@code peek}, {@code poll}, and their
+ * {@code First}/{@code Last} variants) are not replicated, and their throwing counterparts are to be used instead.
+ */
+public interface <X>Deque extends <X>Collection {
+  /**
+   * Inserts the specified value at the front of this deque.
+   *
+   * @param value The value to add.
+   * @throws IllegalStateException If the value cannot be added at this time due to capacity restrictions.
+   */
+  void addFirst(<x> value);
+
+  /**
+   * Inserts the specified value at the end of this deque.
+   * <p>
+   * This method is equivalent to {@link #add(<x>)}.
+   *
+   * @param value The value to add.
+   * @throws IllegalStateException If the value cannot be added at this time due to capacity restrictions.
+   */
+  void addLast(<x> value);
+
+  /**
+   * Inserts the specified value at the front of this deque unless it would violate capacity restrictions.
+   *
+   * @param value The value to add.
+   * @return {@code true} if the value was added to this deque, else {@code false}.
+   */
+  boolean offerFirst(<x> value);
+
+  /**
+   * Inserts the specified value at the end of this deque unless it would violate capacity restrictions.
+   *
+   * @param value The value to add.
+   * @return {@code true} if the value was added to this deque, else {@code false}.
+   */
+  boolean offerLast(<x> value);
+
+  /**
+   * Retrieves and removes the first value of this deque.
+   *
+   * @return The head of this deque.
+   * @throws NoSuchElementException If this deque is empty.
+   */
+  <x> removeFirst();
+
+  /**
+   * Retrieves and removes the last value of this deque.
+   *
+   * @return The tail of this deque.
+   * @throws NoSuchElementException If this deque is empty.
+   */
+  <x> removeLast();
+
+  /**
+   * Retrieves, but does not remove, the first value of this deque.
+   *
+   * @return The head of this deque.
+   * @throws NoSuchElementException If this deque is empty.
+   */
+  <x> getFirst();
+
+  /**
+   * Retrieves, but does not remove, the last value of this deque.
+   *
+   * @return The tail of this deque.
+   * @throws NoSuchElementException If this deque is empty.
+   */
+  <x> getLast();
+
+  /**
+   * Removes the first occurrence of the specified value from this deque. If the deque does not contain the value, it is unchanged.
+   *
+   * @param value The value to be removed from this deque, if present.
+   * @return {@code true} if a value was removed as a result of this call.
+   */
+  boolean removeFirstOccurrence(<x> value);
+
+  /**
+   * Removes the last occurrence of the specified value from this deque. If the deque does not contain the value, it is unchanged.
+   *
+   * @param value The value to be removed from this deque, if present.
+   * @return {@code true} if a value was removed as a result of this call.
+   */
+  boolean removeLastOccurrence(<x> value);
+
+  /**
+   * Inserts the specified value at the end of this deque.
+   * <p>
+   * This method is equivalent to {@link #addLast(<x>)}.
+   *
+   * @param value The value to add.
+   * @return {@code true} (as specified by {@link <X>Collection#add(<x>)}).
+   * @throws IllegalStateException If the value cannot be added at this time due to capacity restrictions.
+   */
+  @Override
+  boolean add(<x> value);
+
+  /**
+   * Inserts the specified value at the end of this deque unless it would violate capacity restrictions.
+   * <p>
+   * This method is equivalent to {@link #offerLast(<x>)}.
+   *
+   * @param value The value to add.
+   * @return {@code true} if the value was added to this deque, else {@code false}.
+   */
+  default boolean offer(final <x> value) {
+    return offerLast(value);
+  }
+
+  /**
+   * Retrieves and removes the head of the queue represented by this deque.
+   * <p>
+   * This method is equivalent to {@link #removeFirst()}.
+   *
+   * @return The head of the queue represented by this deque.
+   * @throws NoSuchElementException If this deque is empty.
+   */
+  default <x> remove() {
+    return removeFirst();
+  }
+
+  /**
+   * Retrieves, but does not remove, the head of the queue represented by this deque.
+   * <p>
+   * This method is equivalent to {@link #getFirst()}.
+   *
+   * @return The head of the queue represented by this deque.
+   * @throws NoSuchElementException If this deque is empty.
+   */
+  default <x> element() {
+    return getFirst();
+  }
+
+  /**
+   * Pushes a value onto the stack represented by this deque.
+   * <p>
+   * This method is equivalent to {@link #addFirst(<x>)}.
+   *
+   * @param value The value to push.
+   * @throws IllegalStateException If the value cannot be added at this time due to capacity restrictions.
+   */
+  default void push(final <x> value) {
+    addFirst(value);
+  }
+
+  /**
+   * Pops a value from the stack represented by this deque.
+   * <p>
+   * This method is equivalent to {@link #removeFirst()}.
+   *
+   * @return The value at the front of this deque (which is the top of the stack represented by this deque).
+   * @throws NoSuchElementException If this deque is empty.
+   */
+  default <x> pop() {
+    return removeFirst();
+  }
+
+  /**
+   * Removes the first occurrence of the specified value from this deque.
+   * <p>
+   * This method is equivalent to {@link #removeFirstOccurrence(<x>)}.
+   *
+   * @param value The value to be removed from this deque, if present.
+   * @return {@code true} if a value was removed as a result of this call.
+   */
+  @Override
+  default boolean remove(final <x> value) {
+    return removeFirstOccurrence(value);
+  }
+
+  /**
+   * Appends the values in the specified array to the end of this deque, in the order that they appear in the array.
+   *
+   * @param values Array containing values to be added to this deque.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @return {@code true} if this deque changed as a result of the call.
+   * @throws IndexOutOfBoundsException If the offset or length are out of range of the specified array.
+   * @throws NullPointerException If the specified array is null.
+   */
+  boolean addAll(<x>[] values, int offset, int length);
+
+  /**
+   * Removes at most {@code length} values from the head of this deque, and transfers them to the specified array starting at
+   * {@code offset}, in the order from first to last.
+   *
+   * @param a The array into which the values are to be transferred.
+   * @param offset The index in the specified array at which to transfer the first value.
+   * @param length The maximum number of values to transfer.
+   * @return The number of values transferred.
+   * @throws IndexOutOfBoundsException If the offset or length are out of range of the specified array.
+   * @throws NullPointerException If the specified array is null.
+   */
+  int drainTo(<x>[] a, int offset, int length);
+
+  /**
+   * Removes at most {@code a.length} values from the head of this deque, and transfers them to the specified array, in the order
+   * from first to last.
+   *
+   * @param a The array into which the values are to be transferred.
+   * @return The number of values transferred.
+   * @throws NullPointerException If the specified array is null.
+   */
+  default int drainTo(final <x>[] a) {
+    return drainTo(a, 0, a.length);
+  }
+
+  /**
+   * Returns an iterator over the values in this deque in proper sequence. The values will be returned in order from first (head)
+   * to last (tail).
+   *
+   * @return An iterator over the values in this deque in proper sequence.
+   */
+  @Override
+  <X>Iterator iterator();
+
+  /**
+   * Returns an iterator over the values in this deque in reverse sequential order. The values will be returned in order from last
+   * (tail) to first (head).
+   *
+   * @return An iterator over the values in this deque in reverse sequence.
+   */
+  <X>Iterator descendingIterator();
+}
\ No newline at end of file
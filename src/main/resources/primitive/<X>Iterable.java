@@ -16,6 +16,8 @@
 
 package org.libj.util.primitive;
 
+import java.util.Objects;
+
 /**
  * Interface that defines the {@link #iterator()} method for
  * {@link <X>Iterator}.
@@ -27,4 +29,23 @@ public interface <X>Iterable {
    * @return An iterator over values of type {@link <X>Iterator}.
    */
   <X>Iterator iterator();
+
+  /**
+   * Performs the given action for each value of this {@link <X>Iterable} until
+   * all values have been processed or the action throws an exception. The
+   * values are processed in the order of iteration, if that order is
+   * specified. Exceptions thrown by the action are relayed to the caller.
+   * <p>
+   * The default implementation traverses all values with the
+   * {@link #iterator()}. Implementations backed by an array should override
+   * this method to traverse the array directly.
+   *
+   * @param action The action to be performed for each value.
+   * @throws NullPointerException If the specified action is null.
+   */
+  default void forEach(final <X>Consumer action) {
+    Objects.requireNonNull(action);
+    for (final <X>Iterator i = iterator(); i.hasNext();) // [I]
+      action.accept(i.next());
+  }
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
+import org.libj.util.ArrayUtil;
+
 /**
  * An ordered collection (also known as a <i>sequence</i>), of {@code <x>}
  * values.
@@ -522,6 +524,54 @@ public interface <X>List extends <X>Collection {
    */
   void sort(<X>Comparator c);
 
+  /**
+   * Rearranges this list, such that the value at index {@code k} is the value
+   * that would be at that index if the list were sorted according to the
+   * specified comparator. All values before index {@code k} are less than or
+   * equal to it, and all values after it are greater than or equal to it. The
+   * selection runs in expected linear time, and is not stable.
+   *
+   * @param k The index of the value to select.
+   * @param c The comparator to determine the order of the list, or
+   *          {@code null} to select in natural order.
+   * @return The value at index {@code k}.
+   * @throws IndexOutOfBoundsException If {@code k} is out of range
+   *           ({@code k < 0 || k >= size()}).
+   */
+  default <x> select(final int k, final <X>Comparator c) {
+    final <x>[] a = toArray();
+    final <x> value = ArrayUtil.select(a, k, c);
+    final <X>ListIterator iterator = listIterator();
+    for (final <x> v : a) { // [A]
+      iterator.next();
+      iterator.set(v);
+    }
+
+    return value;
+  }
+
+  /**
+   * Sorts the {@code k} least values of this list into the first {@code k}
+   * indexes of this list, according to the specified comparator. The values at
+   * {@code [k, size())} are left in an unspecified order. The least values are
+   * selected in expected linear time, after which only they are sorted.
+   *
+   * @param k The number of least values to sort.
+   * @param c The comparator to determine the order of the list, or
+   *          {@code null} to sort in natural order.
+   * @throws IndexOutOfBoundsException If {@code k} is out of range
+   *           ({@code k < 0 || k > size()}).
+   */
+  default void partialSort(final int k, final <X>Comparator c) {
+    final <x>[] a = toArray();
+    ArrayUtil.partialSort(a, k, c);
+    final <X>ListIterator iterator = listIterator();
+    for (final <x> v : a) { // [A]
+      iterator.next();
+      iterator.set(v);
+    }
+  }
+
   /**
    * Sorts the specified paired array according to the order induced by the
    * specified comparator applied to the values in this list.
@@ -579,14 +629,13 @@ public interface <X>List extends <X>Collection {
     if (p.length != size())
       throw new IllegalArgumentException("The length of the paired array (" + p.length + ") does not match that of this list (" + size() + ")");
 
-    final int[] idx = PrimitiveSort.buildIndex(size());
-    final <X>Comparator comparator = c != null ? c : <X>Comparator.NATURAL;
-    PrimitiveSort.sortIndexed(p, this, idx, new IntComparator() {
-      @Override
-      public int compare(final int o1, final int o2) {
-        return comparator.compare(get(o1), get(o2));
-      }
-    });
+    final <x>[] a = toArray();
+    PrimitiveSort.sortPaired(p, a, 0, a.length, c != null ? c : <X>Comparator.NATURAL);
+    final <X>ListIterator iterator = listIterator();
+    for (final <x> value : a) { // [A]
+      iterator.next();
+      iterator.set(value);
+    }
   }
 
   /**
@@ -618,14 +667,9 @@ public interface <X>List extends <X>Collection {
     if (p.size() != size())
       throw new IllegalArgumentException("The size of the paired list (" + p.size() + ") does not match that of this list (" + size() + ")");
 
-    final int[] idx = PrimitiveSort.buildIndex(size());
-    final <X>Comparator comparator = c != null ? c : <X>Comparator.NATURAL;
-    PrimitiveSort.sortIndexed(p, this, idx, new IntComparator() {
-      @Override
-      public int compare(final int o1, final int o2) {
-        return comparator.compare(get(o1), get(o2));
-      }
-    });
+    final Object[] a = p.toArray();
+    sort(a, c);
+    PrimitiveSort.setAll(p, a);
   }
 
   /**
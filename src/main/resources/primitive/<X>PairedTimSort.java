@@ -105,6 +105,9 @@ class <X>PairedTimSort extends PrimitiveTimSort {
       tmpLen = workLen;
     }
 
+    // The paired values are indexed in tmpV as the values are in tmp, from tmpBase
+    tmpV = new Object[tmpBase + tmpLen];
+
     /*
      * Allocate runs-to-be-merged stack (which cannot be expanded). The stack
      * length requirements are described in listsort.txt. The C version always
@@ -318,6 +321,8 @@ class <X>PairedTimSort extends PrimitiveTimSort {
       v[lo] = v[hi];
       a[hi] = t;
       v[hi] = v0;
+      ++lo;
+      --hi;
     }
   }
 
@@ -598,7 +603,7 @@ class <X>PairedTimSort extends PrimitiveTimSort {
         }
         else {
           a[dest] = tmp[cursor1];
-          v[dest] = tmpV[cursor1];
+          v[dest++] = tmpV[cursor1++];
           ++count1;
           count2 = 0;
           if (--len1 == 1)
@@ -771,7 +776,7 @@ class <X>PairedTimSort extends PrimitiveTimSort {
         }
 
         a[dest] = tmp[cursor2];
-        v[dest] = tmpV[cursor2];
+        v[dest--] = tmpV[cursor2--];
         if (--len2 == 1)
           break outer;
 
@@ -787,7 +792,7 @@ class <X>PairedTimSort extends PrimitiveTimSort {
         }
 
         a[dest] = a[cursor1];
-        v[dest] = v[cursor1];
+        v[dest--] = v[cursor1--];
         if (--len1 == 0)
           break outer;
 
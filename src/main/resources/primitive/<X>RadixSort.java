@@ -0,0 +1,147 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+/**
+ * A least significant digit radix sort of {@code <x>} values in natural order,
+ * as defined by {@link <XX>#compare(<x>,<x>)}. The values are distributed by
+ * one byte of their keys per pass, from the least to the most significant
+ * byte, between the array and a workspace array of the same length as the
+ * range being sorted. The histograms of all bytes are counted in a single
+ * pass before the first distribution, and the passes of the bytes that are
+ * the same for all values are skipped. The sort performs no comparisons, runs
+ * in O(n) time, and is stable, which makes it usable to sort a paired array of
+ * objects in tandem.
+ *
+ * @see PrimitiveRadixSort#key(<x>)
+ */
+final class <X>RadixSort extends PrimitiveRadixSort {
+  private static final int DIGITS = <XX>.BYTES;
+
+  private static int[] count(final <x>[] a, final int lo, final int hi) {
+    final int[] counts = new int[DIGITS * RADIX];
+    for (int i = lo; i < hi; ++i) { // [A]
+      final long key = key(a[i]);
+      for (int d = 0; d < DIGITS; ++d) // [N]
+        ++counts[d * RADIX + (int)(key >>> d * DIGIT_BITS & RADIX - 1)];
+    }
+
+    return counts;
+  }
+
+  /**
+   * Sorts the given range in natural order.
+   *
+   * @param a the array to be sorted
+   * @param lo the index of the first element, inclusive, to be sorted
+   * @param hi the index of the last element, exclusive, to be sorted
+   */
+  static void sort(final <x>[] a, final int lo, final int hi) {
+    final int n = hi - lo;
+    if (n < 2)
+      return;
+
+    final int[] counts = count(a, lo, hi);
+    <x>[] src = a;
+    int srcBase = lo;
+    <x>[] dst = null;
+    int dstBase = 0;
+    for (int d = 0; d < DIGITS; ++d) { // [N]
+      if (!toOffsets(counts, d, n))
+        continue;
+
+      if (dst == null)
+        dst = new <x>[n];
+
+      final int offset = d * RADIX;
+      final int shift = d * DIGIT_BITS;
+      for (int i = srcBase, i$ = srcBase + n; i < i$; ++i) { // [A]
+        final <x> value = src[i];
+        dst[dstBase + counts[offset + (int)(key(value) >>> shift & RADIX - 1)]++] = value;
+      }
+
+      final <x>[] tmp = src;
+      src = dst;
+      dst = tmp;
+      final int tmpBase = srcBase;
+      srcBase = dstBase;
+      dstBase = tmpBase;
+    }
+
+    if (src != a)
+      System.arraycopy(src, 0, a, lo, n);
+  }
+
+  /**
+   * Sorts the given range in natural order, and permutes the same range of the
+   * paired array in tandem.
+   *
+   * @param a the array to be sorted
+   * @param v the paired array to be permuted in tandem with {@code a}
+   * @param lo the index of the first element, inclusive, to be sorted
+   * @param hi the index of the last element, exclusive, to be sorted
+   */
+  static void sort(final <x>[] a, final Object[] v, final int lo, final int hi) {
+    final int n = hi - lo;
+    if (n < 2)
+      return;
+
+    final int[] counts = count(a, lo, hi);
+    <x>[] src = a;
+    Object[] srcV = v;
+    int srcBase = lo;
+    <x>[] dst = null;
+    Object[] dstV = null;
+    int dstBase = 0;
+    for (int d = 0; d < DIGITS; ++d) { // [N]
+      if (!toOffsets(counts, d, n))
+        continue;
+
+      if (dst == null) {
+        dst = new <x>[n];
+        dstV = new Object[n];
+      }
+
+      final int offset = d * RADIX;
+      final int shift = d * DIGIT_BITS;
+      for (int i = srcBase, i$ = srcBase + n; i < i$; ++i) { // [A]
+        final <x> value = src[i];
+        final int j = dstBase + counts[offset + (int)(key(value) >>> shift & RADIX - 1)]++;
+        dst[j] = value;
+        dstV[j] = srcV[i];
+      }
+
+      final <x>[] tmp = src;
+      src = dst;
+      dst = tmp;
+      final Object[] tmpV = srcV;
+      srcV = dstV;
+      dstV = tmpV;
+      final int tmpBase = srcBase;
+      srcBase = dstBase;
+      dstBase = tmpBase;
+    }
+
+    if (src != a) {
+      System.arraycopy(src, 0, a, lo, n);
+      System.arraycopy(srcV, 0, v, lo, n);
+    }
+  }
+
+  private <X>RadixSort() {
+  }
+}
\ No newline at end of file
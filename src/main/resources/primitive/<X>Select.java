@@ -0,0 +1,156 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+/**
+ * An introselect of {@code <x>} values, which rearranges a range such that the
+ * value at a given index is the value that would be at that index if the range
+ * were sorted, all values before it are less than or equal to it, and all
+ * values after it are greater than or equal to it. The range is narrowed with
+ * a quickselect around median-of-three pivots, which runs in expected O(n)
+ * time. If the quickselect fails to narrow the range within a logarithmic
+ * number of partitions, the remainder of the range is selected with a heap,
+ * which bounds the worst case to O(n log n). A paired array of objects may be
+ * provided, which is permuted in tandem. The selection is not stable.
+ */
+final class <X>Select {
+  /**
+   * The length of a range below which the range is sorted with an insertion
+   * sort, rather than partitioned.
+   */
+  private static final int INSERTION_SORT_THRESHOLD = 16;
+
+  private static void swap(final <x>[] a, final Object[] v, final int i, final int j) {
+    final <x> t = a[i];
+    a[i] = a[j];
+    a[j] = t;
+    if (v != null) {
+      final Object o = v[i];
+      v[i] = v[j];
+      v[j] = o;
+    }
+  }
+
+  /**
+   * Rearranges the given range such that the value at index {@code k} is the
+   * value that would be at that index if the range were sorted.
+   *
+   * @param a the array in which to select
+   * @param v the paired array to be permuted in tandem with {@code a}, or
+   *          {@code null}
+   * @param lo the index of the first element, inclusive, of the range
+   * @param hi the index of the last element, exclusive, of the range
+   * @param k the index of the value to select, within {@code [lo, hi)}
+   * @param c the comparator to determine the order of the values
+   */
+  static void select(final <x>[] a, final Object[] v, int lo, int hi, final int k, final <X>Comparator c) {
+    int depth = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(hi - lo));
+    while (hi - lo > INSERTION_SORT_THRESHOLD) {
+      if (--depth < 0) {
+        heapSelect(a, v, lo, hi, k, c);
+        return;
+      }
+
+      final int p = partition(a, v, lo, hi, c);
+      if (k < p)
+        hi = p;
+      else if (k > p)
+        lo = p + 1;
+      else
+        return;
+    }
+
+    insertionSort(a, v, lo, hi, c);
+  }
+
+  /**
+   * Partitions the given range around the median of its first, middle, and
+   * last values, and returns the final index of the pivot. The range must have
+   * at least 3 values, and the values at its ends serve as the sentinels of
+   * the scans.
+   */
+  private static int partition(final <x>[] a, final Object[] v, final int lo, final int hi, final <X>Comparator c) {
+    final int last = hi - 1;
+    final int mid = (lo + last) >>> 1;
+    if (c.compare(a[mid], a[lo]) < 0)
+      swap(a, v, mid, lo);
+
+    if (c.compare(a[last], a[mid]) < 0) {
+      swap(a, v, last, mid);
+      if (c.compare(a[mid], a[lo]) < 0)
+        swap(a, v, mid, lo);
+    }
+
+    final int pivotIndex = last - 1;
+    swap(a, v, mid, pivotIndex);
+    final <x> pivot = a[pivotIndex];
+    int i = lo;
+    int j = pivotIndex;
+    while (true) {
+      while (c.compare(a[++i], pivot) < 0);
+      while (c.compare(pivot, a[--j]) < 0);
+      if (i >= j)
+        break;
+
+      swap(a, v, i, j);
+    }
+
+    swap(a, v, i, pivotIndex);
+    return i;
+  }
+
+  /**
+   * Selects the value at index {@code k} by keeping the {@code k - lo + 1}
+   * least values of the range in a max-heap at {@code [lo, k]}, and then
+   * moving the root of the heap to {@code k}.
+   */
+  private static void heapSelect(final <x>[] a, final Object[] v, final int lo, final int hi, final int k, final <X>Comparator c) {
+    final int n = k - lo + 1;
+    for (int i = (n >>> 1) - 1; i >= 0; --i) // [A]
+      siftDown(a, v, lo, i, n, c);
+
+    for (int i = k + 1; i < hi; ++i) { // [A]
+      if (c.compare(a[i], a[lo]) < 0) {
+        swap(a, v, i, lo);
+        siftDown(a, v, lo, 0, n, c);
+      }
+    }
+
+    swap(a, v, lo, k);
+  }
+
+  private static void siftDown(final <x>[] a, final Object[] v, final int base, int i, final int n, final <X>Comparator c) {
+    for (int child; (child = (i << 1) + 1) < n; i = child) { // [A]
+      if (child + 1 < n && c.compare(a[base + child], a[base + child + 1]) < 0)
+        ++child;
+
+      if (c.compare(a[base + i], a[base + child]) >= 0)
+        return;
+
+      swap(a, v, base + i, base + child);
+    }
+  }
+
+  private static void insertionSort(final <x>[] a, final Object[] v, final int lo, final int hi, final <X>Comparator c) {
+    for (int i = lo + 1; i < hi; ++i) // [A]
+      for (int j = i; j > lo && c.compare(a[j], a[j - 1]) < 0; --j) // [A]
+        swap(a, v, j, j - 1);
+  }
+
+  private <X>Select() {
+  }
+}
\ No newline at end of file
@@ -16,6 +16,9 @@
 
 package org.libj.util.primitive;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * A stable, adaptive, iterative mergesort that requires far fewer than n lg(n)
  * comparisons when running on partially sorted arrays, while offering
@@ -178,6 +181,93 @@ class <X>TimSort extends PrimitiveTimSort {
     assert ts.stackSize == 1;
   }
 
+  /**
+   * The minimum length of a range that is split into subtasks by
+   * {@link #parallelSort(<x>[],int,int,<X>Comparator)}. Ranges shorter than
+   * this are sorted sequentially, because the overhead of the task
+   * coordination outweighs the gain of sorting in parallel.
+   */
+  static final int MIN_ARRAY_SORT_GRAN = 1 << 13;
+
+  /**
+   * A task that sorts a range of the array by sorting its two halves in
+   * parallel, and then merging the sorted halves with the gallop-based
+   * {@link #mergeAt(int)}. Each task owns the slice of the shared workspace
+   * array that corresponds to its range, so all tasks together share the
+   * single workspace array allocated by
+   * {@link #parallelSort(<x>[],int,int,<X>Comparator)}.
+   */
+  private static final class Sorter extends RecursiveAction {
+    private final <x>[] a;
+    private final int lo;
+    private final int hi;
+    private final <X>Comparator c;
+    private final <x>[] work;
+    private final int workBase;
+    private final int gran;
+
+    private Sorter(final <x>[] a, final int lo, final int hi, final <X>Comparator c, final <x>[] work, final int workBase, final int gran) {
+      this.a = a;
+      this.lo = lo;
+      this.hi = hi;
+      this.c = c;
+      this.work = work;
+      this.workBase = workBase;
+      this.gran = gran;
+    }
+
+    @Override
+    protected void compute() {
+      final int len = hi - lo;
+      if (len <= gran) {
+        sort(a, lo, hi, c, work, workBase, len);
+        return;
+      }
+
+      final int mid = (lo + hi) >>> 1;
+      invokeAll(new Sorter(a, lo, mid, c, work, workBase, gran), new Sorter(a, mid, hi, c, work, workBase + mid - lo, gran));
+
+      // Skip the merge if the halves are already in order
+      if (c.compare(a[mid - 1], a[mid]) <= 0)
+        return;
+
+      final <X>TimSort ts = new <X>TimSort(a, c, work, workBase, len);
+      ts.pushRun(lo, mid - lo);
+      ts.pushRun(mid, hi - mid);
+      ts.mergeAt(0);
+    }
+  }
+
+  /**
+   * Sorts the given range in parallel in the {@link ForkJoinPool#commonPool()}.
+   * The range is split into subranges that are sorted concurrently, and the
+   * sorted subranges are merged pairwise with the same stable, gallop-based
+   * merge as is used by {@link #sort(<x>[],int,int,<X>Comparator,<x>[],int,int)}.
+   * The result is therefore identical to that of the sequential sort. All
+   * subtasks share a single workspace array of length {@code hi - lo}, which is
+   * the only temporary storage allocated by this method. If the range is
+   * shorter than {@link #MIN_ARRAY_SORT_GRAN}, or the common pool has a
+   * parallelism of 1, the range is sorted sequentially.
+   *
+   * @param a the array to be sorted
+   * @param lo the index of the first element, inclusive, to be sorted
+   * @param hi the index of the last element, exclusive, to be sorted
+   * @param c the comparator to use
+   */
+  static void parallelSort(final <x>[] a, final int lo, final int hi, final <X>Comparator c) {
+    assert c != null && a != null && lo >= 0 && lo <= hi && hi <= a.length;
+
+    final int n = hi - lo;
+    final int p = ForkJoinPool.getCommonPoolParallelism();
+    if (n <= MIN_ARRAY_SORT_GRAN || p == 1) {
+      sort(a, lo, hi, c, null, 0, 0);
+      return;
+    }
+
+    final int g = n / (p << 2);
+    new Sorter(a, lo, hi, c, new <x>[n], 0, g <= MIN_ARRAY_SORT_GRAN ? MIN_ARRAY_SORT_GRAN : g).invoke();
+  }
+
   /**
    * Sorts the specified portion of the specified array using a binary insertion
    * sort. This is the best method for sorting small numbers of elements. It
@@ -0,0 +1,792 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.libj.lang.Assertions;
+import org.libj.util.CollectionUtil;
+
+/**
+ * An unsynchronized implementation of a resizable circular array (ring buffer) of {@code <x>} values, which implements the
+ * {@link <X>Deque} interface. This class is the {@code <x>} counterpart of {@link org.libj.util.CircularArrayList}, and avoids the
+ * boxing of values.
+ * <p>
+ * The capacity of an {@link Array<X>Deque} is always a power of two, so that a logical index is dereferenced with a bitwise mask
+ * instead of the remainder operator. The {@link #addFirst(<x>)}, {@link #addLast(<x>)}, {@link #removeFirst()},
+ * {@link #removeLast()}, {@link #get(int)}, and {@link #size()} operations run in (amortized) constant time. The bulk
+ * {@link #addAll(<x>[],int,int)} and {@link #drainTo(<x>[],int,int)} operations transfer values with at most two
+ * {@link System#arraycopy(Object,int,Object,int,int)} calls each, which makes this class suitable as a sliding window over a stream
+ * of samples.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If multiple threads access an {@link Array<X>Deque} instance
+ * concurrently, and at least one of the threads modifies the deque structurally, it <i>must</i> be synchronized externally.
+ */
+public class Array<X>Deque implements <X>Deque {
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  /**
+   * The largest possible capacity.
+   */
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private <x>[] valueData;
+  private int head;
+  private int size;
+  private transient int modCount;
+
+  /**
+   * Creates an empty deque with an initial capacity of sixteen.
+   */
+  public Array<X>Deque() {
+    valueData = new <x>[DEFAULT_INITIAL_CAPACITY];
+  }
+
+  /**
+   * Creates an empty deque with an initial capacity sufficient to hold the specified number of values.
+   *
+   * @param initialCapacity The initial capacity of the deque, which is rounded up to the next power of two.
+   * @throws IllegalArgumentException If the specified initial capacity is negative.
+   */
+  public Array<X>Deque(final int initialCapacity) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+
+    valueData = new <x>[capacityFor(initialCapacity)];
+  }
+
+  /**
+   * Creates a deque containing the values of the specified array, in the order that they appear in the array.
+   *
+   * @param values The array whose values are to be placed into this deque.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @throws IndexOutOfBoundsException If the offset or length are out of range of the specified array.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Array<X>Deque(final <x>[] values, final int offset, final int length) {
+    this(length);
+    addAll(values, offset, length);
+  }
+
+  /**
+   * Creates a deque containing the values of the specified array, in the order that they appear in the array.
+   *
+   * @param values The array whose values are to be placed into this deque.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Array<X>Deque(final <x> ... values) {
+    this(values, 0, values.length);
+  }
+
+  /**
+   * Creates a deque containing the values of the specified collection, in the order they are returned by the collection's
+   * iterator.
+   *
+   * @param c The collection whose values are to be placed into this deque.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Array<X>Deque(final <X>Collection c) {
+    this(c.size());
+    addAll(c);
+  }
+
+  /**
+   * Creates a deque containing the values of the specified collection, in the order they are returned by the collection's
+   * iterator.
+   *
+   * @param c The collection whose values are to be placed into this deque.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Array<X>Deque(final Collection<<XX>> c) {
+    this(c.size());
+    addAll(c);
+  }
+
+  private static int capacityFor(final int minCapacity) {
+    if (minCapacity > MAXIMUM_CAPACITY)
+      throw new OutOfMemoryError("Required capacity exceeds maximum: " + minCapacity);
+
+    return HashPrimitiveSet.findNextPositivePowerOfTwo(Math.max(minCapacity, 1));
+  }
+
+  /**
+   * Increases the capacity of this {@link Array<X>Deque} instance, if necessary, to ensure that it can hold at least the number of
+   * values specified by the minimum capacity argument.
+   *
+   * @param minCapacity The desired minimum capacity.
+   */
+  public void ensureCapacity(final int minCapacity) {
+    if (minCapacity > valueData.length)
+      resize(capacityFor(Math.max(minCapacity, valueData.length << 1)));
+  }
+
+  /**
+   * Trims the capacity of this {@link Array<X>Deque} instance to the smallest power of two that is at least as large as the
+   * deque's current size. An application can use this operation to minimize the storage of an {@link Array<X>Deque} instance.
+   */
+  public void trimToSize() {
+    final int capacity = capacityFor(size);
+    if (capacity < valueData.length)
+      resize(capacity);
+  }
+
+  private void resize(final int capacity) {
+    final <x>[] valueData = new <x>[capacity];
+    copyTo(0, valueData, 0, size);
+    this.valueData = valueData;
+    head = 0;
+  }
+
+  /**
+   * Copies {@code length} values starting at the logical index {@code index} to the specified array.
+   */
+  private void copyTo(final int index, final <x>[] a, final int offset, final int length) {
+    final <x>[] valueData = this.valueData;
+    final int from = (head + index) & (valueData.length - 1);
+    final int first = Math.min(length, valueData.length - from);
+    System.arraycopy(valueData, from, a, offset, first);
+    System.arraycopy(valueData, 0, a, offset + first, length - first);
+  }
+
+  /**
+   * Returns the value at the specified position in this deque, where index {@code 0} is the head of this deque.
+   *
+   * @param index Index of the value to return.
+   * @return The value at the specified position in this deque.
+   * @throws IndexOutOfBoundsException If the index is out of range ({@code index < 0 || size() <= index}).
+   */
+  public <x> get(final int index) {
+    Assertions.assertRange("index", index, "size()", size, false);
+    return valueData[(head + index) & (valueData.length - 1)];
+  }
+
+  /**
+   * Replaces the value at the specified position in this deque with the specified value, where index {@code 0} is the head of
+   * this deque.
+   *
+   * @param index Index of the value to replace.
+   * @param value Value to be stored at the specified position.
+   * @return The value previously at the specified position.
+   * @throws IndexOutOfBoundsException If the index is out of range ({@code index < 0 || size() <= index}).
+   */
+  public <x> set(final int index, final <x> value) {
+    Assertions.assertRange("index", index, "size()", size, false);
+    final int i = (head + index) & (valueData.length - 1);
+    final <x> oldValue = valueData[i];
+    valueData[i] = value;
+    return oldValue;
+  }
+
+  @Override
+  public void addFirst(final <x> value) {
+    ++modCount;
+    ensureCapacity(size + 1);
+    valueData[head = (head - 1) & (valueData.length - 1)] = value;
+    ++size;
+  }
+
+  @Override
+  public void addLast(final <x> value) {
+    ++modCount;
+    ensureCapacity(size + 1);
+    valueData[(head + size) & (valueData.length - 1)] = value;
+    ++size;
+  }
+
+  @Override
+  public boolean offerFirst(final <x> value) {
+    addFirst(value);
+    return true;
+  }
+
+  @Override
+  public boolean offerLast(final <x> value) {
+    addLast(value);
+    return true;
+  }
+
+  @Override
+  public boolean add(final <x> value) {
+    addLast(value);
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <x>[] values, final int offset, final int length) {
+    Assertions.assertOffsetLength("offset", offset, "length", length, values.length);
+    if (length == 0)
+      return false;
+
+    ++modCount;
+    ensureCapacity(size + length);
+    final <x>[] valueData = this.valueData;
+    final int to = (head + size) & (valueData.length - 1);
+    final int first = Math.min(length, valueData.length - to);
+    System.arraycopy(values, offset, valueData, to, first);
+    System.arraycopy(values, offset + first, valueData, 0, length - first);
+    size += length;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <x> ... values) {
+    return addAll(values, 0, values.length);
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    ensureCapacity(size + i$);
+    if (c instanceof Array<X>Deque) {
+      final Array<X>Deque d = (Array<X>Deque)c;
+      final <x>[] values = new <x>[i$];
+      d.copyTo(0, values, 0, i$);
+      return addAll(values, 0, i$);
+    }
+
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        addLast(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        addLast(i.next());
+      while (i.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    ensureCapacity(size + i$);
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        addLast(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        addLast(it.next());
+      while (it.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public <x> removeFirst() {
+    if (size == 0)
+      throw new NoSuchElementException();
+
+    ++modCount;
+    final <x> value = valueData[head];
+    head = (head + 1) & (valueData.length - 1);
+    --size;
+    return value;
+  }
+
+  @Override
+  public <x> removeLast() {
+    if (size == 0)
+      throw new NoSuchElementException();
+
+    ++modCount;
+    return valueData[(head + --size) & (valueData.length - 1)];
+  }
+
+  @Override
+  public <x> getFirst() {
+    if (size == 0)
+      throw new NoSuchElementException();
+
+    return valueData[head];
+  }
+
+  @Override
+  public <x> getLast() {
+    if (size == 0)
+      throw new NoSuchElementException();
+
+    return valueData[(head + size - 1) & (valueData.length - 1)];
+  }
+
+  @Override
+  public int drainTo(final <x>[] a, final int offset, final int length) {
+    Assertions.assertOffsetLength("offset", offset, "length", length, a.length);
+    final int count = Math.min(length, size);
+    if (count == 0)
+      return 0;
+
+    ++modCount;
+    copyTo(0, a, offset, count);
+    head = (head + count) & (valueData.length - 1);
+    size -= count;
+    return count;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the specified value in this deque, where index {@code 0} is the head of this
+   * deque, or {@code -1} if this deque does not contain the value.
+   *
+   * @param value The value to search for.
+   * @return The index of the first occurrence of the specified value in this deque, or {@code -1} if this deque does not contain
+   *         the value.
+   */
+  public int indexOf(final <x> value) {
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    for (int i = 0; i < size; ++i) // [A]
+      if (valueData[(head + i) & mask] == value)
+        return i;
+
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last occurrence of the specified value in this deque, where index {@code 0} is the head of this
+   * deque, or {@code -1} if this deque does not contain the value.
+   *
+   * @param value The value to search for.
+   * @return The index of the last occurrence of the specified value in this deque, or {@code -1} if this deque does not contain
+   *         the value.
+   */
+  public int lastIndexOf(final <x> value) {
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    for (int i = size - 1; i >= 0; --i) // [A]
+      if (valueData[(head + i) & mask] == value)
+        return i;
+
+    return -1;
+  }
+
+  @Override
+  public boolean contains(final <x> value) {
+    return indexOf(value) > -1;
+  }
+
+  /**
+   * Removes the value at the specified position in this deque, where index {@code 0} is the head of this deque. The values on the
+   * shorter side of the specified position are shifted to close the gap.
+   *
+   * @param index The index of the value to be removed.
+   * @return The value previously at the specified position.
+   * @throws IndexOutOfBoundsException If the index is out of range ({@code index < 0 || size() <= index}).
+   */
+  public <x> removeIndex(final int index) {
+    Assertions.assertRange("index", index, "size()", size, false);
+    ++modCount;
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    final <x> value = valueData[(head + index) & mask];
+    if (index < size >> 1) {
+      for (int i = index; i > 0; --i) // [A]
+        valueData[(head + i) & mask] = valueData[(head + i - 1) & mask];
+
+      head = (head + 1) & mask;
+    }
+    else {
+      for (int i = index, i$ = size - 1; i < i$; ++i) // [A]
+        valueData[(head + i) & mask] = valueData[(head + i + 1) & mask];
+    }
+
+    --size;
+    return value;
+  }
+
+  @Override
+  public boolean removeFirstOccurrence(final <x> value) {
+    final int index = indexOf(value);
+    if (index < 0)
+      return false;
+
+    removeIndex(index);
+    return true;
+  }
+
+  @Override
+  public boolean removeLastOccurrence(final <x> value) {
+    final int index = lastIndexOf(value);
+    if (index < 0)
+      return false;
+
+    removeIndex(index);
+    return true;
+  }
+
+  /**
+   * Removes all of the values of this deque that satisfy the given predicate, compacting the remaining values in place with a
+   * single pass over this deque.
+   * <p>
+   * All values are tested before this deque is modified, so that if the predicate throws, this deque is left unchanged.
+   *
+   * @param filter A predicate which returns {@code true} for values to be removed.
+   * @return {@code true} if any values were removed.
+   * @throws NullPointerException If the specified filter is null.
+   */
+  @Override
+  public boolean removeIf(final <X>Predicate filter) {
+    Objects.requireNonNull(filter);
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    final int head = this.head;
+    final int size = this.size;
+    int r = 0;
+    while (r < size && !filter.test(valueData[(head + r) & mask])) // [A]
+      ++r;
+
+    if (r == size)
+      return false;
+
+    // A bit set of the values to remove, relative to the first
+    final int first = r;
+    final long[] removed = new long[((size - first - 1) >> 6) + 1];
+    removed[0] = 1L;
+    while (++r < size) // [A]
+      if (filter.test(valueData[(head + r) & mask]))
+        removed[(r - first) >> 6] |= 1L << (r - first);
+
+    ++modCount;
+    int w = first;
+    for (r = first; r < size; ++r) // [A]
+      if ((removed[(r - first) >> 6] & 1L << (r - first)) == 0)
+        valueData[(head + w++) & mask] = valueData[(head + r) & mask];
+
+    this.size = w;
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... a) {
+    if (a.length == 0)
+      return false;
+
+    return removeIf(value -> {
+      for (final <x> v : a) // [A]
+        if (v == value)
+          return true;
+
+      return false;
+    });
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    return removeIf(value -> !c.contains(value));
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    return removeIf(value -> !c.contains(value));
+  }
+
+  @Override
+  public void clear() {
+    ++modCount;
+    head = 0;
+    size = 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    if (a.length < size)
+      a = new <x>[size];
+
+    copyTo(0, a, 0, size);
+    if (a.length > size)
+      a[size] = <d>;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    if (a.length < size)
+      a = new <XX>[size];
+
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    for (int i = 0; i < size; ++i) // [A]
+      a[i] = valueData[(head + i) & mask];
+
+    if (a.length > size)
+      a[size] = null;
+
+    return a;
+  }
+
+  @Override
+  public <X>Iterator iterator() {
+    return new <X>Itr(false);
+  }
+
+  @Override
+  public <X>Iterator descendingIterator() {
+    return new <X>Itr(true);
+  }
+
+  private final class <X>Itr implements <X>Iterator {
+    private final boolean descending;
+    private int cursor;
+    private int lastRet = -1;
+    private int expectedModCount = modCount;
+
+    private <X>Itr(final boolean descending) {
+      this.descending = descending;
+      this.cursor = descending ? size - 1 : 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return descending ? cursor >= 0 : cursor < size;
+    }
+
+    @Override
+    public <x> next() {
+      checkForComodification();
+      final int i = cursor;
+      if (descending ? i < 0 : i >= size)
+        throw new NoSuchElementException();
+
+      cursor = descending ? i - 1 : i + 1;
+      return valueData[(head + (lastRet = i)) & (valueData.length - 1)];
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      removeIndex(lastRet);
+      if (!descending)
+        cursor = lastRet;
+
+      lastRet = -1;
+      expectedModCount = modCount;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+<_>  /**
+<_>   * A spliterator over a range of the logical indexes of this deque, which are dereferenced through the ring with the mask of
+<_>   * {@link #valueData}, as by the iterators. The spliterator is late-binding, as the range is bound to the size of this deque upon the
+<_>   * first traversal, split, or query of the estimated size. It splits the range exactly in halves, and thus reports
+<_>   * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}. Modification of the deque is detected after the traversal.
+<_>   */
+<_>  private final class <X>Splitr implements Spliterator.Of<X> {
+<_>    private int index;
+<_>    private int fence;
+<_>    private int expectedModCount;
+<_>
+<_>    private <X>Splitr(final int index, final int fence, final int expectedModCount) {
+<_>      this.index = index;
+<_>      this.fence = fence;
+<_>      this.expectedModCount = expectedModCount;
+<_>    }
+<_>
+<_>    private int getFence() {
+<_>      if (fence < 0) {
+<_>        expectedModCount = modCount;
+<_>        fence = size;
+<_>      }
+<_>
+<_>      return fence;
+<_>    }
+<_>
+<_>    @Override
+<_>    public <X>Splitr trySplit() {
+<_>      final int lo = index, mid = (lo + getFence()) >>> 1;
+<_>      return lo >= mid ? null : new <X>Splitr(lo, index = mid, expectedModCount);
+<_>    }
+<_>
+<_>    @Override
+<_>    public boolean tryAdvance(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      if (index >= getFence())
+<_>        return false;
+<_>
+<_>      final <x>[] valueData = Array<X>Deque.this.valueData;
+<_>      action.accept(valueData[(head + index++) & (valueData.length - 1)]);
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>
+<_>      return true;
+<_>    }
+<_>
+<_>    @Override
+<_>    public void forEachRemaining(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      final int fence = getFence();
+<_>      final <x>[] valueData = Array<X>Deque.this.valueData;
+<_>      final int head = Array<X>Deque.this.head;
+<_>      final int mask = valueData.length - 1;
+<_>      int i = index;
+<_>      index = fence;
+<_>      for (; i < fence; ++i) // [A]
+<_>        action.accept(valueData[(head + i) & mask]);
+<_>
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>    }
+<_>
+<_>    @Override
+<_>    public long estimateSize() {
+<_>      return getFence() - index;
+<_>    }
+<_>
+<_>    @Override
+<_>    public int characteristics() {
+<_>      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+<_>    }
+<_>  }
+<_>
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    return new <X>Splitr(0, -1, 0);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+
+  @Override
+  public Array<X>Deque clone() {
+    try {
+      final Array<X>Deque clone = (Array<X>Deque)super.clone();
+      clone.valueData = valueData.clone();
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Returns the hash code value for this deque, computed in the same manner as {@link java.util.List#hashCode()} over the values
+   * from first to last.
+   *
+   * @return The hash code value for this deque.
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    final <x>[] valueData = this.valueData;
+    final int mask = valueData.length - 1;
+    for (int i = 0; i < size; ++i) // [A]
+      hashCode = 31 * hashCode + <XX>.hashCode(valueData[(head + i) & mask]);
+
+    return hashCode;
+  }
+
+  /**
+   * Compares the specified object with this deque for equality. Returns {@code true} if and only if the specified object is also
+   * an {@link Array<X>Deque}, both deques have the same size, and all corresponding pairs of values in the two deques are
+   * <i>equal</i>, from first to last.
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Array<X>Deque))
+      return false;
+
+    final Array<X>Deque that = (Array<X>Deque)obj;
+    if (size != that.size)
+      return false;
+
+    final int mask = valueData.length - 1;
+    final int thatMask = that.valueData.length - 1;
+    for (int i = 0; i < size; ++i) // [A]
+      if (valueData[(head + i) & mask] != that.valueData[(that.head + i) & thatMask])
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Returns a string representation of this deque. The string representation consists of a list of the deque's values from first
+   * to last, enclosed in square brackets ({@code "[]"}). Adjacent values are separated by the characters {@code ", "} (comma and
+   * space).
+   *
+   * @return A string representation of this deque.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    final int mask = valueData.length - 1;
+    for (int i = 0; i < size; ++i) { // [A]
+      if (i > 0)
+        builder.append(", ");
+
+      builder.append(valueData[(head + i) & mask]);
+    }
+
+    builder.append(']');
+    return builder.toString();
+  }
+}
\ No newline at end of file
@@ -400,30 +400,115 @@ public class Array<X>List extends PrimitiveArrayList<<x>[]> implements <X>List,
     return value;
   }
 
+  /**
+   * Removes all of the values of this list that satisfy the given predicate, compacting the remaining values in a single pass.
+   * <p>
+   * All values are tested before this list is modified, so that if the predicate throws, this list is left unchanged. Each removal is
+   * propagated to the graph of sub-lists at the index that the removed value would have had if the values had been removed one by
+   * one, so that the bounds of the sub-lists are adjusted as they would be by successive calls to {@link #removeIndex(int)}.
+   *
+   * @param filter A predicate which returns {@code true} for values to be removed.
+   * @return {@code true} if any values were removed.
+   * @throws NullPointerException If the specified filter is null.
+   */
   @Override
-  public boolean retainAll(final Collection<<XX>> c) {
-    final int beforeSize = size;
-    for (int i = toIndex > -1 ? toIndex : size; i >= fromIndex; --i) { // [A]
-      if (!c.contains(valueData[i])) {
-        shiftLeft(i, 1);
-        updateState(i, -1);
-      }
+  public boolean removeIf(final <X>Predicate filter) {
+    Objects.requireNonNull(filter);
+    final <x>[] valueData = this.valueData;
+    final int end = size;
+    final int toIndex = this.toIndex > -1 ? this.toIndex : end;
+    int r = fromIndex;
+    while (r < toIndex && !filter.test(valueData[r])) // [A]
+      ++r;
+
+    if (r == toIndex)
+      return false;
+
+    // A bit set of the values to remove, relative to the first
+    final int first = r;
+    final long[] removed = new long[((toIndex - first - 1) >> 6) + 1];
+    removed[0] = 1L;
+    while (++r < toIndex) // [A]
+      if (filter.test(valueData[r]))
+        removed[(r - first) >> 6] |= 1L << (r - first);
+
+    int w = first;
+    for (r = first; r < toIndex; ++r) { // [A]
+      if ((removed[(r - first) >> 6] & 1L << (r - first)) != 0)
+        updateState(w, -1);
+      else
+        valueData[w++] = valueData[r];
     }
 
-    return beforeSize != size;
+    System.arraycopy(valueData, toIndex, valueData, w, end - toIndex);
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... a) {
+    if (a.length == 0)
+      return false;
+
+    return removeIf(value -> {
+      for (final <x> v : a) // [A]
+        if (v == value)
+          return true;
+
+      return false;
+    });
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    return removeIf(v -> !c.contains(v));
   }
 
   @Override
   public boolean retainAll(final <X>Collection c) {
-    final int beforeSize = size;
-    for (int i = toIndex > -1 ? toIndex : size; i >= fromIndex; --i) { // [A]
-      if (!c.contains(valueData[i])) {
-        shiftLeft(i, 1);
-        updateState(i, -1);
-      }
-    }
+    return removeIf(v -> !c.contains(v));
+  }
+
+  @Override
+  public void replaceAll(final <X>UnaryOperator operator) {
+    Objects.requireNonNull(operator);
+    final <x>[] valueData = this.valueData;
+    for (int i = fromIndex, i$ = toIndex > -1 ? toIndex : size; i < i$; ++i) // [A]
+      valueData[i] = operator.applyAs<X>(valueData[i]);
+
+    updateState(0, 0);
+  }
+
+  @Override
+  public void forEach(final <X>Consumer action) {
+    Objects.requireNonNull(action);
+    final int expectedModCount = modCount;
+    final <x>[] valueData = this.valueData;
+    for (int i = fromIndex, i$ = toIndex > -1 ? toIndex : size; i < i$ && modCount == expectedModCount; ++i) // [A]
+      action.accept(valueData[i]);
 
-    return beforeSize != size;
+    if (modCount != expectedModCount)
+      throw new ConcurrentModificationException();
+  }
+
+  @Override
+  public <x> reduce(final <x> identity, final <X>BinaryOperator op) {
+    Objects.requireNonNull(op);
+    final <x>[] valueData = this.valueData;
+    <x> result = identity;
+    for (int i = fromIndex, i$ = toIndex > -1 ? toIndex : size; i < i$; ++i) // [A]
+      result = op.applyAs<X>(result, valueData[i]);
+
+    return result;
   }
 
   @Override
@@ -450,13 +535,45 @@ public class Array<X>List extends PrimitiveArrayList<<x>[]> implements <X>List,
     ArrayUtil.sort(valueData, fromIndex, toIndex > -1 ? toIndex : size, c);
   }
 
+  /**
+   * Sorts this list in parallel, according to the order induced by the specified {@link <X>Comparator}. The sort is stable, and the
+   * result is identical to that of {@link #sort(<X>Comparator)}.
+   *
+   * @param c The {@link <X>Comparator} used to compare list elements, or {@code null} to sort in natural order.
+   * @see ArrayUtil#parallelSort(<x>[],int,int,<X>Comparator)
+   */
+  public void parallelSort(final <X>Comparator c) {
+    updateState(0, 0);
+    ArrayUtil.parallelSort(valueData, fromIndex, toIndex > -1 ? toIndex : size, c);
+  }
+
+  @Override
+  public <x> select(final int k, final <X>Comparator c) {
+    Assertions.assertRange("k", k, "size()", size(), false);
+    updateState(0, 0);
+    return ArrayUtil.select(valueData, fromIndex, toIndex > -1 ? toIndex : size, fromIndex + k, c);
+  }
+
+  @Override
+  public void partialSort(final int k, final <X>Comparator c) {
+    Assertions.assertRange("k", k, "size()", size(), true);
+    updateState(0, 0);
+    ArrayUtil.partialSort(valueData, fromIndex, toIndex > -1 ? toIndex : size, fromIndex + k, c);
+  }
+
   @Override
   public void sort(final Object[] p, final <X>Comparator c) {
     final int i$ = size();
     if (p.length != i$)
       throw new IllegalArgumentException("The length of the paired array (" + p.length + ") does not match that of this list (" + i$ + ")");
 
-    <X>PairedTimSort.sort(valueData, p, 0, i$, c != null ? c : <XX>::compare, null, 0, 0);
+    if (fromIndex != 0) {
+      <X>List.super.sort(p, c);
+      return;
+    }
+
+    updateState(0, 0);
+    PrimitiveSort.sortPaired(p, valueData, 0, i$, c != null ? c : <X>Comparator.NATURAL);
   }
 
   private class <X>Itr implements <X>Iterator {
@@ -566,6 +683,7 @@ public class Array<X>List extends PrimitiveArrayList<<x>[]> implements <X>List,
       checkForComodification();
       try {
         Array<X>List.this.set(lastRet - fromIndex, value);
+        expectedModCount = modCount;
       }
       catch (final IndexOutOfBoundsException e) {
         throw new ConcurrentModificationException();
@@ -686,19 +804,81 @@ public class Array<X>List extends PrimitiveArrayList<<x>[]> implements <X>List,
     }
   }
 
+<_>  /**
+<_>   * A spliterator over a range of {@link #valueData}, which splits the range exactly in halves, and thus reports
+<_>   * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}. Modification of the list is detected after the traversal.
+<_>   */
+<_>  private final class <X>Splitr implements Spliterator.Of<X> {
+<_>    private int index;
+<_>    private final int fence;
+<_>    private final int expectedModCount;
+<_>
+<_>    private <X>Splitr(final int index, final int fence, final int expectedModCount) {
+<_>      this.index = index;
+<_>      this.fence = fence;
+<_>      this.expectedModCount = expectedModCount;
+<_>    }
+<_>
+<_>    @Override
+<_>    public <X>Splitr trySplit() {
+<_>      final int lo = index, mid = (lo + fence) >>> 1;
+<_>      return lo >= mid ? null : new <X>Splitr(lo, index = mid, expectedModCount);
+<_>    }
+<_>
+<_>    @Override
+<_>    public boolean tryAdvance(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      if (index >= fence)
+<_>        return false;
+<_>
+<_>      action.accept(valueData[index++]);
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>
+<_>      return true;
+<_>    }
+<_>
+<_>    @Override
+<_>    public void forEachRemaining(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      final <x>[] valueData = Array<X>List.this.valueData;
+<_>      final int fence = this.fence;
+<_>      if (fence > valueData.length)
+<_>        throw new ConcurrentModificationException();
+<_>
+<_>      int i = index;
+<_>      index = fence;
+<_>      for (; i < fence; ++i) // [A]
+<_>        action.accept(valueData[i]);
+<_>
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>    }
+<_>
+<_>    @Override
+<_>    public long estimateSize() {
+<_>      return fence - index;
+<_>    }
+<_>
+<_>    @Override
+<_>    public int characteristics() {
+<_>      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+<_>    }
+<_>  }
+<_>
 <_>  @Override
 <_>  public Spliterator.Of<X> spliterator() {
-<_>    return Arrays.spliterator(valueData, fromIndex, toIndex > -1 ? toIndex : size);
+<_>    return new <X>Splitr(fromIndex, toIndex > -1 ? toIndex : size, modCount);
 <_>  }
 <_>
 <_>  @Override
 <_>  public <X>Stream stream() {
-<_>    return Arrays.stream(valueData, fromIndex, toIndex > -1 ? toIndex : size);
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
 <_>  }
 <_>
 <_>  @Override
 <_>  public <X>Stream parallelStream() {
-<_>    return Arrays.stream(valueData, fromIndex, toIndex > -1 ? toIndex : size).parallel();
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
 <_>  }
 
   @Override
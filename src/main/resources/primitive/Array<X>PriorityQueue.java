@@ -0,0 +1,670 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.libj.lang.Assertions;
+import org.libj.util.CollectionUtil;
+
+/**
+ * An unbounded or bounded priority queue of {@code <x>} values, implemented as an array-backed implicit
+ * <a href="https://en.wikipedia.org/wiki/D-ary_heap">d-ary heap</a>. This class replicates the API of the
+ * {@link java.util.PriorityQueue} class by defining synonymous methods for a queue of {@code <x>} values, which avoids the boxing
+ * of values and the virtual dispatch of {@link Comparable#compareTo(Object)}.
+ * <p>
+ * The values of the queue are ordered by the {@link <X>Comparator} provided at construction time, or by their natural ordering if
+ * no comparator is provided. The <i>head</i> of the queue is the <i>least</i> value with respect to the ordering.
+ * <p>
+ * The <i>arity</i> of the heap (the number of children of each node) is {@code 2} by default, yielding a binary heap. A larger
+ * arity (such as {@code 4} or {@code 8}) yields a shallower heap whose children are adjacent in memory, which trades more
+ * comparisons per level for fewer cache misses per operation.
+ * <p>
+ * A queue created with {@link #bounded(int,<X>Comparator)} retains at most a fixed number of values: the <i>greatest</i> values
+ * offered to it (i.e. the "top K"). Once a bounded queue is full, a value that is not greater than the head of the queue is
+ * rejected with a single comparison, without restructuring the heap, and a value that is greater than the head replaces it.
+ * <p>
+ * The {@link #offer(<x>)}, {@link #add(<x>)} and {@link #remove()} operations run in O(log(n)) time, the {@link #element()} and
+ * {@link #size()} operations run in constant time, and the {@link #remove(<x>)} and {@link #contains(<x>)} operations run in linear
+ * time. The iterator, {@link #toArray(<x>[])} and {@link #toString()} traverse the values in no particular order.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If multiple threads access an {@link Array<X>PriorityQueue}
+ * instance concurrently, and at least one of the threads modifies the queue structurally, it <i>must</i> be synchronized externally.
+ */
+public class Array<X>PriorityQueue implements <X>Collection {
+  private static final int DEFAULT_INITIAL_CAPACITY = 11;
+  private static final int DEFAULT_ARITY = 2;
+
+  private final <X>Comparator comparator;
+  private final int arity;
+  private final int maxSize;
+  private <x>[] valueData;
+  private int size;
+  private transient int modCount;
+
+  /**
+   * Creates an empty {@link Array<X>PriorityQueue} with the default initial capacity (11) that orders its values according to
+   * their natural ordering.
+   */
+  public Array<X>PriorityQueue() {
+    this(DEFAULT_INITIAL_CAPACITY, DEFAULT_ARITY, null);
+  }
+
+  /**
+   * Creates an empty {@link Array<X>PriorityQueue} with the specified initial capacity that orders its values according to their
+   * natural ordering.
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public Array<X>PriorityQueue(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_ARITY, null);
+  }
+
+  /**
+   * Creates an empty {@link Array<X>PriorityQueue} with the default initial capacity (11) that orders its values according to the
+   * specified comparator.
+   *
+   * @param comparator The comparator that will be used to order this queue, or {@code null} for natural ordering.
+   */
+  public Array<X>PriorityQueue(final <X>Comparator comparator) {
+    this(DEFAULT_INITIAL_CAPACITY, DEFAULT_ARITY, comparator);
+  }
+
+  /**
+   * Creates an empty {@link Array<X>PriorityQueue} with the specified initial capacity that orders its values according to the
+   * specified comparator.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param comparator The comparator that will be used to order this queue, or {@code null} for natural ordering.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public Array<X>PriorityQueue(final int initialCapacity, final <X>Comparator comparator) {
+    this(initialCapacity, DEFAULT_ARITY, comparator);
+  }
+
+  /**
+   * Creates an empty {@link Array<X>PriorityQueue} with the specified initial capacity and heap arity that orders its values
+   * according to the specified comparator.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param arity The number of children of each node of the heap.
+   * @param comparator The comparator that will be used to order this queue, or {@code null} for natural ordering.
+   * @throws IllegalArgumentException If the initial capacity is negative, or if the arity is less than {@code 2}.
+   */
+  public Array<X>PriorityQueue(final int initialCapacity, final int arity, final <X>Comparator comparator) {
+    this(initialCapacity, arity, Integer.MAX_VALUE, comparator);
+  }
+
+  /**
+   * Creates a new {@link Array<X>PriorityQueue} containing the values of the specified collection, that orders its values
+   * according to their natural ordering.
+   *
+   * @param c The collection whose values are to be placed into this queue.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Array<X>PriorityQueue(final <X>Collection c) {
+    this(c.size(), DEFAULT_ARITY, null);
+    addAll(c);
+  }
+
+  private Array<X>PriorityQueue(final int initialCapacity, final int arity, final int maxSize, final <X>Comparator comparator) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+
+    if (arity < 2)
+      throw new IllegalArgumentException("Illegal arity: " + arity);
+
+    if (maxSize < 1)
+      throw new IllegalArgumentException("Illegal maximum size: " + maxSize);
+
+    this.valueData = new <x>[Math.min(initialCapacity, maxSize)];
+    this.arity = arity;
+    this.maxSize = maxSize;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns a new bounded {@link Array<X>PriorityQueue} that retains at most {@code maxSize} values: the greatest values offered
+   * to it according to the specified comparator. The head of the returned queue is the least of the retained values.
+   *
+   * @param maxSize The maximum number of values retained by the queue.
+   * @param comparator The comparator that will be used to order the queue, or {@code null} for natural ordering.
+   * @return A new bounded {@link Array<X>PriorityQueue}.
+   * @throws IllegalArgumentException If {@code maxSize} is less than {@code 1}.
+   */
+  public static Array<X>PriorityQueue bounded(final int maxSize, final <X>Comparator comparator) {
+    return bounded(maxSize, DEFAULT_ARITY, comparator);
+  }
+
+  /**
+   * Returns a new bounded {@link Array<X>PriorityQueue} with the specified heap arity that retains at most {@code maxSize}
+   * values: the greatest values offered to it according to the specified comparator. The head of the returned queue is the least
+   * of the retained values. The queue starts with the default initial capacity (11), and grows as values are offered to it up to
+   * {@code maxSize}, so that a large bound does not allocate its capacity before it is needed.
+   *
+   * @param maxSize The maximum number of values retained by the queue.
+   * @param arity The number of children of each node of the heap.
+   * @param comparator The comparator that will be used to order the queue, or {@code null} for natural ordering.
+   * @return A new bounded {@link Array<X>PriorityQueue}.
+   * @throws IllegalArgumentException If {@code maxSize} is less than {@code 1}, or if the arity is less than {@code 2}.
+   */
+  public static Array<X>PriorityQueue bounded(final int maxSize, final int arity, final <X>Comparator comparator) {
+    return new Array<X>PriorityQueue(DEFAULT_INITIAL_CAPACITY, arity, maxSize, comparator);
+  }
+
+  /**
+   * Returns the comparator used to order the values in this queue, or {@code null} if this queue is sorted according to the
+   * natural ordering of its values.
+   *
+   * @return The comparator used to order the values in this queue, or {@code null} if this queue is sorted according to the
+   *         natural ordering of its values.
+   */
+  public <X>Comparator comparator() {
+    return comparator;
+  }
+
+  /**
+   * Returns the number of children of each node of the heap backing this queue.
+   *
+   * @return The number of children of each node of the heap backing this queue.
+   */
+  public int arity() {
+    return arity;
+  }
+
+  /**
+   * Returns the maximum number of values retained by this queue, which is {@link Integer#MAX_VALUE} if this queue is not bounded.
+   *
+   * @return The maximum number of values retained by this queue.
+   */
+  public int maxSize() {
+    return maxSize;
+  }
+
+  private int compare(final <x> a, final <x> b) {
+    return comparator == null ? <XX>.compare(a, b) : comparator.compare(a, b);
+  }
+
+  private void ensureCapacity(final int minCapacity) {
+    if (minCapacity > valueData.length) {
+      final int newCapacity = (int)Math.min(Math.max((valueData.length * 3L) / 2 + 1, minCapacity), maxSize);
+      valueData = Arrays.copyOf(valueData, newCapacity);
+    }
+  }
+
+  private void siftUp(int index, final <x> value) {
+    final <x>[] valueData = this.valueData;
+    final int arity = this.arity;
+    while (index > 0) {
+      final int parent = (index - 1) / arity;
+      final <x> p = valueData[parent];
+      if (compare(value, p) >= 0)
+        break;
+
+      valueData[index] = p;
+      index = parent;
+    }
+
+    valueData[index] = value;
+  }
+
+  private int siftDown(int index, final <x> value) {
+    final <x>[] valueData = this.valueData;
+    final int arity = this.arity;
+    final int size = this.size;
+    for (int child; (child = index * arity + 1) < size;) { // [A]
+      int least = child;
+      <x> c = valueData[child];
+      for (int i = child + 1, i$ = Math.min(child + arity, size); i < i$; ++i) { // [A]
+        if (compare(valueData[i], c) < 0) {
+          least = i;
+          c = valueData[i];
+        }
+      }
+
+      if (compare(value, c) <= 0)
+        break;
+
+      valueData[index] = c;
+      index = least;
+    }
+
+    valueData[index] = value;
+    return index;
+  }
+
+  private void heapify() {
+    final <x>[] valueData = this.valueData;
+    for (int i = (size - 2) / arity; i >= 0; --i) // [A]
+      siftDown(i, valueData[i]);
+  }
+
+  /**
+   * Inserts the specified value into this priority queue.
+   * <p>
+   * If this queue is bounded and full, the value is rejected if it is not greater than the head of this queue, and otherwise
+   * replaces the head of this queue.
+   *
+   * @param value The value to add.
+   * @return {@code true} if this queue changed as a result of the call, or {@code false} if the value was rejected by a bounded
+   *         queue.
+   */
+  public boolean offer(final <x> value) {
+    if (size < maxSize) {
+      ++modCount;
+      ensureCapacity(size + 1);
+      siftUp(size++, value);
+      return true;
+    }
+
+    if (compare(value, valueData[0]) <= 0)
+      return false;
+
+    ++modCount;
+    siftDown(0, value);
+    return true;
+  }
+
+  /**
+   * Inserts the specified value into this priority queue. This method is equivalent to {@link #offer(<x>)}.
+   *
+   * @param value The value to add.
+   * @return {@code true} if this queue changed as a result of the call, or {@code false} if the value was rejected by a bounded
+   *         queue.
+   */
+  @Override
+  public boolean add(final <x> value) {
+    return offer(value);
+  }
+
+  /**
+   * Inserts the values in the specified array into this queue. If this queue is not bounded, and the number of values to insert is
+   * large relative to the size of this queue, the heap is rebuilt in linear time instead of sifting up each value.
+   *
+   * @param values Array containing values to be added to this queue.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @return {@code true} if this queue changed as a result of the call.
+   * @throws IndexOutOfBoundsException If the offset or length are out of range of the specified array.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public boolean addAll(final <x>[] values, final int offset, final int length) {
+    Assertions.assertOffsetLength("offset", offset, "length", length, values.length);
+    if (length == 0)
+      return false;
+
+    if (maxSize != Integer.MAX_VALUE || length < size) {
+      boolean changed = false;
+      for (int i = offset, i$ = offset + length; i < i$; ++i) // [A]
+        changed |= offer(values[i]);
+
+      return changed;
+    }
+
+    ++modCount;
+    ensureCapacity(size + length);
+    System.arraycopy(values, offset, valueData, size, length);
+    size += length;
+    heapify();
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <x> ... values) {
+    return addAll(values, 0, values.length);
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    if (c.size() == 0)
+      return false;
+
+    final <x>[] values = c.toArray(new <x>[c.size()]);
+    return addAll(values, 0, values.length);
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    final <x>[] values = new <x>[i$];
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        values[i] = l.get(i);
+      while (++i < i$);
+    }
+    else {
+      int i = 0;
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        values[i++] = it.next();
+      while (it.hasNext());
+    }
+
+    return addAll(values, 0, i$);
+  }
+
+  /**
+   * Retrieves, but does not remove, the head of this queue.
+   *
+   * @return The head of this queue.
+   * @throws NoSuchElementException If this queue is empty.
+   */
+  public <x> element() {
+    if (size == 0)
+      throw new NoSuchElementException();
+
+    return valueData[0];
+  }
+
+  /**
+   * Retrieves and removes the head of this queue.
+   *
+   * @return The head of this queue.
+   * @throws NoSuchElementException If this queue is empty.
+   */
+  public <x> remove() {
+    if (size == 0)
+      throw new NoSuchElementException();
+
+    ++modCount;
+    final <x> head = valueData[0];
+    final <x> last = valueData[--size];
+    if (size > 0)
+      siftDown(0, last);
+
+    return head;
+  }
+
+  /**
+   * Removes at most {@code length} values from the head of this queue, and transfers them to the specified array starting at
+   * {@code offset}, in ascending order.
+   *
+   * @param a The array into which the values are to be transferred.
+   * @param offset The index in the specified array at which to transfer the first value.
+   * @param length The maximum number of values to transfer.
+   * @return The number of values transferred.
+   * @throws IndexOutOfBoundsException If the offset or length are out of range of the specified array.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public int drainTo(final <x>[] a, final int offset, final int length) {
+    Assertions.assertOffsetLength("offset", offset, "length", length, a.length);
+    final int count = Math.min(length, size);
+    for (int i = 0; i < count; ++i) // [A]
+      a[offset + i] = remove();
+
+    return count;
+  }
+
+  /**
+   * Removes at most {@code a.length} values from the head of this queue, and transfers them to the specified array, in ascending
+   * order.
+   *
+   * @param a The array into which the values are to be transferred.
+   * @return The number of values transferred.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public int drainTo(final <x>[] a) {
+    return drainTo(a, 0, a.length);
+  }
+
+  private int indexOf(final <x> value) {
+    final <x>[] valueData = this.valueData;
+    for (int i = 0; i < size; ++i) // [A]
+      if (valueData[i] == value)
+        return i;
+
+    return -1;
+  }
+
+  private void removeAt(final int index) {
+    ++modCount;
+    final <x> last = valueData[--size];
+    if (index == size)
+      return;
+
+    if (siftDown(index, last) == index)
+      siftUp(index, last);
+  }
+
+  @Override
+  public boolean contains(final <x> value) {
+    return indexOf(value) > -1;
+  }
+
+  /**
+   * Removes a single instance of the specified value from this queue, if it is present.
+   *
+   * @param value The value to be removed from this queue, if present.
+   * @return {@code true} if this queue changed as a result of the call.
+   */
+  @Override
+  public boolean remove(final <x> value) {
+    final int index = indexOf(value);
+    if (index < 0)
+      return false;
+
+    removeAt(index);
+    return true;
+  }
+
+  /**
+   * Removes all of the values of this queue that satisfy the given predicate, compacting the remaining values in place and
+   * rebuilding the heap in linear time.
+   * <p>
+   * All values are tested before this queue is modified, so that if the predicate throws, this queue is left unchanged.
+   *
+   * @param filter A predicate which returns {@code true} for values to be removed.
+   * @return {@code true} if any values were removed.
+   * @throws NullPointerException If the specified filter is null.
+   */
+  @Override
+  public boolean removeIf(final <X>Predicate filter) {
+    Objects.requireNonNull(filter);
+    final <x>[] valueData = this.valueData;
+    final int size = this.size;
+    int r = 0;
+    while (r < size && !filter.test(valueData[r])) // [A]
+      ++r;
+
+    if (r == size)
+      return false;
+
+    // A bit set of the values to remove, relative to the first
+    final int first = r;
+    final long[] removed = new long[((size - first - 1) >> 6) + 1];
+    removed[0] = 1L;
+    while (++r < size) // [A]
+      if (filter.test(valueData[r]))
+        removed[(r - first) >> 6] |= 1L << (r - first);
+
+    ++modCount;
+    int w = first;
+    for (r = first; r < size; ++r) // [A]
+      if ((removed[(r - first) >> 6] & 1L << (r - first)) == 0)
+        valueData[w++] = valueData[r];
+
+    this.size = w;
+    heapify();
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... a) {
+    if (a.length == 0)
+      return false;
+
+    return removeIf(value -> {
+      for (final <x> v : a) // [A]
+        if (v == value)
+          return true;
+
+      return false;
+    });
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    return removeIf(value -> !c.contains(value));
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    return removeIf(value -> !c.contains(value));
+  }
+
+  @Override
+  public void clear() {
+    ++modCount;
+    size = 0;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    if (a.length < size)
+      a = new <x>[size];
+
+    System.arraycopy(valueData, 0, a, 0, size);
+    if (a.length > size)
+      a[size] = <d>;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    if (a.length < size)
+      a = new <XX>[size];
+
+    for (int i = 0; i < size; ++i) // [A]
+      a[i] = valueData[i];
+
+    if (a.length > size)
+      a[size] = null;
+
+    return a;
+  }
+
+  /**
+   * Returns an iterator over the values in this queue. The iterator does not return the values in any particular order.
+   *
+   * @return An iterator over the values in this queue.
+   */
+  @Override
+  public <X>Iterator iterator() {
+    return new <X>Itr();
+  }
+
+  private final class <X>Itr implements <X>Iterator {
+    private int cursor;
+    private final int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < size;
+    }
+
+    @Override
+    public <x> next() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+
+      if (cursor >= size)
+        throw new NoSuchElementException();
+
+      return valueData[cursor++];
+    }
+  }
+
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    return Arrays.spliterator(valueData, 0, size);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return Arrays.stream(valueData, 0, size);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return Arrays.stream(valueData, 0, size).parallel();
+<_>  }
+
+  @Override
+  public Array<X>PriorityQueue clone() {
+    try {
+      final Array<X>PriorityQueue clone = (Array<X>PriorityQueue)super.clone();
+      clone.valueData = valueData.clone();
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Returns a string representation of this queue. The string representation consists of a list of the queue's values in the
+   * order they are stored in the underlying heap, enclosed in square brackets ({@code "[]"}). Adjacent values are separated by the
+   * characters {@code ", "} (comma and space).
+   *
+   * @return A string representation of this queue.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (int i = 0; i < size; ++i) { // [A]
+      if (i > 0)
+        builder.append(", ");
+
+      builder.append(valueData[i]);
+    }
+
+    builder.append(']');
+    return builder.toString();
+  }
+}
\ No newline at end of file
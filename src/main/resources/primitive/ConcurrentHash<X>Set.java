@@ -0,0 +1,911 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.Atomic<XX>Array;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.libj.util.CollectionUtil;
+
+/**
+ * A thread-safe {@link <X>Set} implementing <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing (closed
+ * hashing) with linear-probing for collision resolution</a> algorithm over a flat {@code <x>} array, without the boxing of values
+ * and the per-entry node overhead of {@link org.libj.util.ConcurrentHashSet}.
+ * <p>
+ * This class replicates the API of the {@link java.util.concurrent.ConcurrentHashMap#newKeySet()} set by defining synonymous
+ * methods for a set of {@code <x>} values instead of Object references. Its concurrency properties are as follows:
+ * <ul>
+ * <li>{@link #contains(<x>)} is wait-free: it performs a single bounded probe of the current table, and never blocks or
+ * retries.</li>
+ * <li>{@link #add(<x>)} and {@link #remove(<x>)} are lock-free outside of a resize: a value is inserted with a single
+ * compare-and-set of an empty slot, and removed with a single compare-and-set of its slot to a tombstone.</li>
+ * <li>A resize is cooperative: the thread that triggers it freezes the current table, and every thread that attempts to modify
+ * the set during the resize helps migrate the live values to the new table in chunks of {@link #TRANSFER_STRIDE} slots, rather
+ * than waiting idly for the resizing thread. Readers continue to probe the frozen table until the new table is published.</li>
+ * </ul>
+ * Iterators, {@link #size()}, {@link #toArray(<x>[])}, {@link #equals(Object)} and {@link #hashCode()} are weakly consistent,
+ * reflecting the state of the set at some point at or since their invocation.
+ */
+public class ConcurrentHash<X>Set extends HashPrimitiveSet implements <X>Set {
+  /**
+   * The load factor used when none specified in constructor.
+   */
+  static final float DEFAULT_LOAD_FACTOR = 0.55f;
+
+  /**
+   * Value that represents null in {@link Table#slots}.
+   */
+  static final <x> NULL = <d>;
+
+  /**
+   * Value that represents a removed value in {@link Table#slots}.
+   */
+  static final <x> REMOVED = <XX>.MIN_VALUE;
+
+  /**
+   * The number of slots claimed at a time by a thread helping to migrate a table.
+   */
+  static final int TRANSFER_STRIDE = 1 << 10;
+
+  /**
+   * The largest possible table capacity.
+   */
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  /**
+   * The number of writer counter stripes, each padded to its own cache line so as to avoid false sharing.
+   */
+  private static final int STRIPES = findNextPositivePowerOfTwo(Runtime.getRuntime().availableProcessors());
+  private static final int STRIPE_SHIFT = 4;
+
+  /**
+   * A table of slots. A table is mutable until it is frozen, after which its slots are never modified again, and its live values
+   * are migrated to {@link #next}.
+   */
+  private static final class Table {
+    private final Atomic<XX>Array slots;
+    private final int mask;
+    private final int threshold;
+
+    /**
+     * The number of non-{@link #NULL} slots (i.e. values and tombstones) in this table.
+     */
+    private final LongAdder used = new LongAdder();
+
+    /**
+     * Striped counts of the threads currently modifying this table.
+     */
+    private final AtomicIntegerArray writers = new AtomicIntegerArray(STRIPES << STRIPE_SHIFT);
+    private final AtomicBoolean frozen = new AtomicBoolean();
+    private final AtomicInteger transferIndex = new AtomicInteger();
+    private final AtomicInteger transferred = new AtomicInteger();
+    private volatile Table next;
+
+    private Table(final int capacity, final float loadFactor) {
+      this.slots = new Atomic<XX>Array(capacity);
+      this.mask = capacity - 1;
+      this.threshold = Math.min((int)(capacity * loadFactor), mask);
+    }
+
+    /**
+     * Registers the current thread as a writer of this table, and returns the stripe of the registration, or {@code -1} if this
+     * table is frozen.
+     *
+     * @return The stripe of the registration, or {@code -1} if this table is frozen.
+     */
+    private int enter() {
+      final int stripe = ((int)Thread.currentThread().getId() & (STRIPES - 1)) << STRIPE_SHIFT;
+      writers.incrementAndGet(stripe);
+      if (!frozen.get())
+        return stripe;
+
+      writers.decrementAndGet(stripe);
+      return -1;
+    }
+
+    private void exit(final int stripe) {
+      writers.decrementAndGet(stripe);
+    }
+
+    private boolean hasWriters() {
+      for (int i = 0, i$ = STRIPES << STRIPE_SHIFT; i < i$; i += 1 << STRIPE_SHIFT) // [N]
+        if (writers.get(i) != 0)
+          return true;
+
+      return false;
+    }
+
+    private boolean contains(final <x> value) {
+      final Atomic<XX>Array slots = this.slots;
+      final int mask = this.mask;
+      <x> slot;
+      for (int index = hash(<XX>.hashCode(value), mask), probes = 0; probes <= mask && (slot = slots.get(index)) != NULL; index = nextIndex(index, mask), ++probes) // [N]
+        if (slot == value)
+          return true;
+
+      return false;
+    }
+
+    /**
+     * Inserts the specified value into this table.
+     *
+     * @param value The value to insert.
+     * @return {@code 1} if the value was inserted, {@code 0} if the value was already present, or {@code -1} if this table has no
+     *         empty slot in the probe sequence of the value.
+     */
+    private int insert(final <x> value) {
+      final Atomic<XX>Array slots = this.slots;
+      final int mask = this.mask;
+      for (int index = hash(<XX>.hashCode(value), mask), probes = 0; probes <= mask; index = nextIndex(index, mask), ++probes) { // [N]
+        <x> slot = slots.get(index);
+        if (slot == NULL) {
+          if (slots.compareAndSet(index, NULL, value)) {
+            used.increment();
+            return 1;
+          }
+
+          // A slot never returns to NULL, so probing continues past the competing value
+          slot = slots.get(index);
+        }
+
+        if (slot == value)
+          return 0;
+      }
+
+      return -1;
+    }
+
+    private boolean remove(final <x> value) {
+      final Atomic<XX>Array slots = this.slots;
+      final int mask = this.mask;
+      <x> slot;
+      for (int index = hash(<XX>.hashCode(value), mask), probes = 0; probes <= mask && (slot = slots.get(index)) != NULL; index = nextIndex(index, mask), ++probes) // [N]
+        if (slot == value)
+          return slots.compareAndSet(index, value, REMOVED);
+
+      return false;
+    }
+  }
+
+  private final float loadFactor;
+  private transient volatile Table table;
+  private transient LongAdder count;
+
+  /**
+   * Whether this set contains the value representing {@link #NULL}.
+   */
+  private transient AtomicBoolean containsNull;
+
+  /**
+   * Whether this set contains the value representing {@link #REMOVED}.
+   */
+  private transient AtomicBoolean containsRemoved;
+
+  /**
+   * Creates an empty {@link ConcurrentHash<X>Set} with the default initial capacity (16) and the default load factor (0.55).
+   */
+  public ConcurrentHash<X>Set() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty {@link ConcurrentHash<X>Set} with the specified initial capacity and load factor.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the load factor less than {@code .1} or greater than
+   *           {@code .9}.
+   */
+  public ConcurrentHash<X>Set(final int initialCapacity, final float loadFactor) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+
+    if (loadFactor < .1f || Float.isNaN(loadFactor) || .9f < loadFactor)
+      throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+
+    this.loadFactor = loadFactor;
+    init(findNextPositivePowerOfTwo(Math.min(initialCapacity, MAXIMUM_CAPACITY)));
+  }
+
+  /**
+   * Creates an empty {@link ConcurrentHash<X>Set} with the specified initial capacity and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public ConcurrentHash<X>Set(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a new {@link ConcurrentHash<X>Set} with the same values as the specified collection. The {@link ConcurrentHash<X>Set}
+   * is created with default load factor (0.55) and an initial capacity sufficient to hold the values in the specified collection.
+   *
+   * @param c The collection whose values are to be added to this set.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public ConcurrentHash<X>Set(final <X>Collection c) {
+    this((int)(c.size() / DEFAULT_LOAD_FACTOR) + 1);
+    addAll(c);
+  }
+
+  /**
+   * Creates a new {@link ConcurrentHash<X>Set} with the same values as the specified collection. The {@link ConcurrentHash<X>Set}
+   * is created with default load factor (0.55) and an initial capacity sufficient to hold the values in the specified collection.
+   *
+   * @param c The collection whose values are to be added to this set.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public ConcurrentHash<X>Set(final Collection<<XX>> c) {
+    this((int)(c.size() / DEFAULT_LOAD_FACTOR) + 1);
+    addAll(c);
+  }
+
+  private void init(final int capacity) {
+    this.table = new Table(capacity, loadFactor);
+    this.count = new LongAdder();
+    this.containsNull = new AtomicBoolean();
+    this.containsRemoved = new AtomicBoolean();
+  }
+
+  @Override
+  public boolean add(final <x> value) {
+    if (value == NULL)
+      return containsNull.compareAndSet(false, true);
+
+    if (value == REMOVED)
+      return containsRemoved.compareAndSet(false, true);
+
+    for (Table t = table;;) { // [X]
+      final int stripe = t.enter();
+      if (stripe < 0) {
+        t = helpTransfer(t);
+        continue;
+      }
+
+      final int result;
+      try {
+        if ((result = t.insert(value)) > 0)
+          count.increment();
+      }
+      finally {
+        t.exit(stripe);
+      }
+
+      if (result == 0)
+        return false;
+
+      if (result > 0) {
+        if (t.used.sum() > t.threshold)
+          resize(t);
+
+        return true;
+      }
+
+      t = resize(t);
+    }
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        changed |= add(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        changed |= add(i.next());
+      while (i.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        changed |= add(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        changed |= add(it.next());
+      while (it.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean contains(final <x> value) {
+    if (value == NULL)
+      return containsNull.get();
+
+    if (value == REMOVED)
+      return containsRemoved.get();
+
+    return table.contains(value);
+  }
+
+  @Override
+  public boolean containsAll(final <X>Collection c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return true;
+
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        if (!contains(l.get(i)))
+          return false;
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        if (!contains(i.next()))
+          return false;
+      while (i.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return true;
+
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        if (!contains(l.get(i)))
+          return false;
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        if (!contains(it.next()))
+          return false;
+      while (it.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(final <x> value) {
+    if (value == NULL)
+      return containsNull.compareAndSet(true, false);
+
+    if (value == REMOVED)
+      return containsRemoved.compareAndSet(true, false);
+
+    for (Table t = table;;) { // [X]
+      final int stripe = t.enter();
+      if (stripe < 0) {
+        t = helpTransfer(t);
+        continue;
+      }
+
+      try {
+        if (!t.remove(value))
+          return false;
+
+        count.decrement();
+        return true;
+      }
+      finally {
+        t.exit(stripe);
+      }
+    }
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... a) {
+    boolean changed = false;
+    for (int i = 0, i$ = a.length; i < i$; ++i) // [A]
+      changed |= remove(a[i]);
+
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        changed |= remove(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        changed |= remove(i.next());
+      while (i.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        changed |= remove(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        changed |= remove(it.next());
+      while (it.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) { // [I]
+      final <x> value = i.next();
+      if (!c.contains(value))
+        changed |= remove(value);
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) { // [I]
+      final <x> value = i.next();
+      if (!c.contains(value))
+        changed |= remove(value);
+    }
+
+    return changed;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The values of this set are discarded by atomically replacing its table with an empty table of the same capacity. Values added
+   * concurrently with this method may or may not be retained.
+   */
+  @Override
+  public void clear() {
+    containsNull.set(false);
+    containsRemoved.set(false);
+    for (Table t = table;;) { // [X]
+      if (!t.frozen.compareAndSet(false, true)) {
+        t = helpTransfer(t);
+        continue;
+      }
+
+      final Table next = new Table(t.mask + 1, loadFactor);
+      t.transferIndex.set(t.mask + 1);
+      t.next = next;
+      while (t.hasWriters())
+        Thread.yield();
+
+      count.reset();
+      table = next;
+      return;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned value reflects the state of this set at some point at or since the invocation of this method, and may not
+   * account for concurrent modifications.
+   */
+  @Override
+  public int size() {
+    final long size = count.sum() + (containsNull.get() ? 1 : 0) + (containsRemoved.get() ? 1 : 0);
+    return size < 0 ? 0 : size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Freezes the specified table, if it is not already frozen, with a successor table of a capacity appropriate for the number of
+   * values in this set, and helps migrate its values to the successor.
+   *
+   * @param t The table to resize.
+   * @return The current table after the resize.
+   */
+  private Table resize(final Table t) {
+    if (!t.frozen.get()) {
+      final int capacity = t.mask + 1;
+      final long live = count.sum();
+      final int newCapacity = capacity < MAXIMUM_CAPACITY && live > t.threshold / 2 ? capacity << 1 : capacity;
+      if (newCapacity == capacity && live >= t.threshold)
+        throw new IllegalStateException("Capacity exceeded: " + capacity);
+
+      if (t.frozen.compareAndSet(false, true))
+        t.next = new Table(newCapacity, loadFactor);
+    }
+
+    return helpTransfer(t);
+  }
+
+  /**
+   * Helps migrate the values of the specified frozen table to its successor, and waits for the migration to complete.
+   *
+   * @param t The frozen table.
+   * @return The current table after the migration.
+   */
+  private Table helpTransfer(final Table t) {
+    Table next;
+    while ((next = t.next) == null)
+      Thread.yield();
+
+    while (t.hasWriters())
+      Thread.yield();
+
+    final Atomic<XX>Array slots = t.slots;
+    final int length = t.mask + 1;
+    for (int from; (from = t.transferIndex.getAndAdd(TRANSFER_STRIDE)) < length;) { // [N]
+      final int to = Math.min(from + TRANSFER_STRIDE, length);
+      for (int i = from; i < to; ++i) { // [N]
+        final <x> value = slots.get(i);
+        if (value != NULL && value != REMOVED)
+          next.insert(value);
+      }
+
+      if (t.transferred.addAndGet(to - from) == length)
+        table = next;
+    }
+
+    Table current;
+    while ((current = table) == t)
+      Thread.yield();
+
+    return current;
+  }
+
+  /**
+   * Compact the backing table by migrating its values to a table with a capacity just larger than the current size, giving
+   * consideration to the load factor, and discarding all tombstones left behind by removed values.
+   */
+  public void compact() {
+    for (Table t = table;;) { // [X]
+      if (!t.frozen.compareAndSet(false, true)) {
+        t = helpTransfer(t);
+        continue;
+      }
+
+      while (t.hasWriters())
+        Thread.yield();
+
+      final int idealCapacity = (int)Math.round(count.sum() * (1.0 / loadFactor)) + 1;
+      t.next = new Table(findNextPositivePowerOfTwo(Math.min(idealCapacity, MAXIMUM_CAPACITY)), loadFactor);
+      helpTransfer(t);
+      return;
+    }
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    final <x>[] in = a;
+    int size = 0;
+    for (final <X>Iterator i = iterator(); i.hasNext(); ++size) { // [I]
+      if (size == a.length)
+        a = Arrays.copyOf(a, Math.max(size(), size + (size >> 1) + 1));
+
+      a[size] = i.next();
+    }
+
+    if (a != in)
+      return size == a.length ? a : Arrays.copyOf(a, size);
+
+    if (size < a.length)
+      a[size] = NULL;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    final <XX>[] in = a;
+    int size = 0;
+    for (final <X>Iterator i = iterator(); i.hasNext(); ++size) { // [I]
+      if (size == a.length)
+        a = Arrays.copyOf(a, Math.max(size(), size + (size >> 1) + 1));
+
+      a[size] = i.next();
+    }
+
+    if (a != in)
+      return size == a.length ? a : Arrays.copyOf(a, size);
+
+    if (size < a.length)
+      a[size] = null;
+
+    return a;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned iterator is weakly consistent: it traverses the values present in this set upon its construction, and may (but
+   * is not guaranteed to) reflect any modifications subsequent to its construction. It never throws
+   * {@link java.util.ConcurrentModificationException}.
+   */
+  @Override
+  public <X>Iterator iterator() {
+    return new <X>Itr();
+  }
+
+  private final class <X>Itr implements <X>Iterator {
+    private final Atomic<XX>Array slots = table.slots;
+    private int index = -1;
+    private boolean hasNext;
+    private <x> next;
+    private <x> last;
+    private boolean isLastValid;
+    private boolean nullPending = containsNull.get();
+    private boolean removedPending = containsRemoved.get();
+
+    private <X>Itr() {
+      advance();
+    }
+
+    private void advance() {
+      final Atomic<XX>Array slots = this.slots;
+      for (int i$ = slots.length(); ++index < i$;) { // [N]
+        final <x> value = slots.get(index);
+        if (value != NULL && value != REMOVED) {
+          next = value;
+          hasNext = true;
+          return;
+        }
+      }
+
+      if (nullPending) {
+        nullPending = false;
+        next = NULL;
+        hasNext = true;
+      }
+      else if (removedPending) {
+        removedPending = false;
+        next = REMOVED;
+        hasNext = true;
+      }
+      else {
+        hasNext = false;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return hasNext;
+    }
+
+    @Override
+    public <x> next() {
+      if (!hasNext)
+        throw new NoSuchElementException();
+
+      last = next;
+      isLastValid = true;
+      advance();
+      return last;
+    }
+
+    @Override
+    public void remove() {
+      if (!isLastValid)
+        throw new IllegalStateException();
+
+      ConcurrentHash<X>Set.this.remove(last);
+      isLastValid = false;
+    }
+  }
+
+<_>  /**
+<_>   * {@inheritDoc}
+<_>   * <p>
+<_>   * The returned spliterator is weakly consistent, and reports {@link Spliterator#CONCURRENT}, {@link Spliterator#DISTINCT} and
+<_>   * {@link Spliterator#NONNULL}.
+<_>   */
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    final Atomic<XX>Array slots = table.slots;
+<_>    return new <X>Splitr(slots, 0, slots.length(), containsNull.get(), containsRemoved.get());
+<_>  }
+<_>
+<_>  private static final class <X>Splitr implements Spliterator.Of<X> {
+<_>    private final Atomic<XX>Array slots;
+<_>    private int index;
+<_>    private final int fence;
+<_>    private boolean nullPending;
+<_>    private boolean removedPending;
+<_>
+<_>    private <X>Splitr(final Atomic<XX>Array slots, final int index, final int fence, final boolean nullPending, final boolean removedPending) {
+<_>      this.slots = slots;
+<_>      this.index = index;
+<_>      this.fence = fence;
+<_>      this.nullPending = nullPending;
+<_>      this.removedPending = removedPending;
+<_>    }
+<_>
+<_>    @Override
+<_>    public Spliterator.Of<X> trySplit() {
+<_>      final int lo = index;
+<_>      final int mid = (lo + fence) >>> 1;
+<_>      if (mid - lo < TRANSFER_STRIDE)
+<_>        return null;
+<_>
+<_>      index = mid;
+<_>      return new <X>Splitr(slots, lo, mid, false, false);
+<_>    }
+<_>
+<_>    @Override
+<_>    public boolean tryAdvance(final <X>Consumer action) {
+<_>      while (index < fence) {
+<_>        final <x> value = slots.get(index++);
+<_>        if (value != NULL && value != REMOVED) {
+<_>          action.accept(value);
+<_>          return true;
+<_>        }
+<_>      }
+<_>
+<_>      if (nullPending) {
+<_>        nullPending = false;
+<_>        action.accept(NULL);
+<_>        return true;
+<_>      }
+<_>
+<_>      if (removedPending) {
+<_>        removedPending = false;
+<_>        action.accept(REMOVED);
+<_>        return true;
+<_>      }
+<_>
+<_>      return false;
+<_>    }
+<_>
+<_>    @Override
+<_>    public long estimateSize() {
+<_>      return fence - index + (nullPending ? 1 : 0) + (removedPending ? 1 : 0);
+<_>    }
+<_>
+<_>    @Override
+<_>    public int characteristics() {
+<_>      return Spliterator.CONCURRENT | Spliterator.DISTINCT | Spliterator.NONNULL;
+<_>    }
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+
+  @Override
+  public ConcurrentHash<X>Set clone() {
+    try {
+      final ConcurrentHash<X>Set clone = (ConcurrentHash<X>Set)super.clone();
+      clone.init(table.mask + 1);
+      for (final <X>Iterator i = iterator(); i.hasNext();) // [I]
+        clone.add(i.next());
+
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    final <x>[] values = toArray(new <x>[size()]);
+    out.writeInt(values.length);
+    for (final <x> value : values) // [A]
+      out.write<X>(value);
+  }
+
+  private void readObject(final ObjectInputStream in) throws ClassNotFoundException, IOException {
+    in.defaultReadObject();
+    final int size = in.readInt();
+    init(findNextPositivePowerOfTwo((int)(size / loadFactor) + 1));
+    for (int i = 0; i < size; ++i) // [N]
+      add(in.read<X>());
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof ConcurrentHash<X>Set))
+      return false;
+
+    final ConcurrentHash<X>Set that = (ConcurrentHash<X>Set)obj;
+    return size() == that.size() && containsAll(that);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (final <X>Iterator i = iterator(); i.hasNext();) // [I]
+      hashCode += <XX>.hashCode(i.next());
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (final <X>Iterator i = iterator(); i.hasNext();) // [I]
+      builder.append(i.next()).append(", ");
+
+    if (builder.length() > 1)
+      builder.setLength(builder.length() - 2);
+
+    builder.append(']');
+    return builder.toString();
+  }
+}
\ No newline at end of file
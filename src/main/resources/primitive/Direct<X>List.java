@@ -0,0 +1,981 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.<X>Buffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.libj.lang.Assertions;
+import org.libj.util.ArrayUtil;
+
+/**
+ * An unsynchronized implementation of a list of <x> values that are stored off-heap, in a chain of direct {@link ByteBuffer}
+ * chunks.
+ * <p>
+ * Unlike {@link Array<X>List}, which keeps its values in a single on-heap array that is copied to grow, this list allocates a new
+ * fixed-size chunk of native memory when it grows, and never moves the values already stored. A {@link Direct<X>List} can therefore
+ * hold datasets that exceed the practical size of a Java array without adding to the pressure on the garbage collector.
+ * <p>
+ * The {@code size}, {@code isEmpty}, {@code get}, and {@code set} operations run in constant time. The {@code add} operation runs
+ * in <i>amortized constant time</i>. All of the other operations run in linear time (roughly speaking). The number of values in a
+ * chunk is a power of two, so that the location of a value is computed with a shift and a mask.
+ * <p>
+ * The memory of the chunks is released explicitly with {@link #close()}. A list that is not closed releases its memory only when
+ * its chunks are garbage collected, which may be arbitrarily late, so it is recommended to use a {@link Direct<X>List} in a
+ * try-with-resources statement. A list must not be accessed by any thread once it is closed.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If multiple threads access a {@link Direct<X>List} instance
+ * concurrently, and at least one of the threads modifies the list structurally, it <i>must</i> be synchronized externally.
+ */
+public class Direct<X>List extends DirectPrimitiveList implements <X>List, RandomAccess {
+  private static final <X>Buffer[] EMPTY_CHUNKS = {};
+
+  private final int shift;
+  private final int mask;
+
+  private transient Direct<X>List root;
+  private transient Direct<X>List parent;
+  private transient int offset;
+
+  private transient ByteBuffer[] buffers;
+  private transient <X>Buffer[] chunks;
+  private transient int chunkCount;
+  private transient boolean closed;
+
+  private int size;
+  protected transient int modCount;
+
+  /**
+   * Creates an empty list with chunks of the default size.
+   */
+  public Direct<X>List() {
+    this(DEFAULT_CHUNK_BYTES / <XX>.BYTES);
+  }
+
+  /**
+   * Creates an empty list with chunks of the specified number of values, rounded up to the next power of two.
+   *
+   * @param chunkSize The number of values in a chunk.
+   * @throws IllegalArgumentException If the specified chunk size is not positive, or if a chunk would exceed
+   *           {@link Integer#MAX_VALUE} bytes.
+   */
+  public Direct<X>List(final int chunkSize) {
+    this.shift = chunkShift(chunkSize, <XX>.BYTES);
+    this.mask = (1 << shift) - 1;
+    this.root = this;
+    this.buffers = new ByteBuffer[0];
+    this.chunks = EMPTY_CHUNKS;
+  }
+
+  /**
+   * Creates a list with chunks of the default size containing the values of the specified array.
+   *
+   * @param values The array whose values are to be placed into this list.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Direct<X>List(final <x>[] values, final int offset, final int length) {
+    this();
+    addAll(values, offset, length);
+  }
+
+  /**
+   * Creates a list with chunks of the default size containing the values of the specified array.
+   *
+   * @param values The array whose values are to be placed into this list.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Direct<X>List(final <x> ... values) {
+    this(values, 0, values.length);
+  }
+
+  /**
+   * Creates a list with chunks of the default size containing the values of the specified collection, in the order they are
+   * returned by the collection's iterator.
+   *
+   * @param c The collection whose values are to be placed into this list.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Direct<X>List(final Collection<<XX>> c) {
+    this();
+    addAll(c);
+  }
+
+  /**
+   * Creates a sub-list that is a view of the specified range of the specified parent list.
+   *
+   * @param parent The parent list.
+   * @param offset The index in the root list of the first value of the sub-list.
+   * @param size The number of values in the sub-list.
+   * @throws NullPointerException If the specified parent list is null.
+   */
+  private Direct<X>List(final Direct<X>List parent, final int offset, final int size) {
+    this.shift = parent.shift;
+    this.mask = parent.mask;
+    this.root = parent.root;
+    this.parent = parent;
+    this.offset = offset;
+    this.size = size;
+    this.modCount = root.modCount;
+  }
+
+  /**
+   * Returns the value at the specified index of the root list.
+   *
+   * @param index The index in the root list.
+   * @return The value at the specified index of the root list.
+   */
+  private <x> read(final int index) {
+    return root.chunks[index >>> shift].get(index & mask);
+  }
+
+  /**
+   * Sets the value at the specified index of the root list.
+   *
+   * @param index The index in the root list.
+   * @param value The value to set.
+   */
+  private void write(final int index, final <x> value) {
+    root.chunks[index >>> shift].put(index & mask, value);
+  }
+
+  /**
+   * Copies {@code length} values in the root list from index {@code from} to index {@code to}, correctly handling the case of the
+   * source and destination ranges overlapping.
+   *
+   * @param from The index in the root list of the first value to copy.
+   * @param to The index in the root list to which to copy the first value.
+   * @param length The number of values to copy.
+   */
+  private void move(final int from, final int to, final int length) {
+    if (to > from) {
+      for (int i = length - 1; i >= 0; --i) // [A]
+        write(to + i, read(from + i));
+    }
+    else if (to < from) {
+      for (int i = 0; i < length; ++i) // [A]
+        write(to + i, read(from + i));
+    }
+  }
+
+  /**
+   * Opens a gap of {@code length} values at the specified index of the root list, by shifting the subsequent values to the right.
+   *
+   * @param index The index in the root list at which to open the gap.
+   * @param length The length of the gap.
+   */
+  private void openGap(final int index, final int length) {
+    final int end = root.size;
+    if (end > Integer.MAX_VALUE - length)
+      throw new OutOfMemoryError("Required capacity exceeds " + Integer.MAX_VALUE);
+
+    root.ensureCapacity(end + length);
+    move(index, index + length, end - index);
+  }
+
+  /**
+   * Closes a gap of {@code length} values at the specified index of the root list, by shifting the subsequent values to the left.
+   *
+   * @param index The index in the root list at which the gap starts.
+   * @param length The length of the gap.
+   */
+  private void closeGap(final int index, final int length) {
+    move(index + length, index, root.size - index - length);
+  }
+
+  /**
+   * Updates the size of this list and of all of its parents by the specified delta, and records a modification.
+   *
+   * @param delta The change in the number of values.
+   */
+  private void updateSizeAndModCount(final int delta) {
+    final int modCount = ++root.modCount;
+    Direct<X>List list = this;
+    do {
+      list.size += delta;
+      list.modCount = modCount;
+    }
+    while ((list = list.parent) != null);
+  }
+
+  private void checkForComodification() {
+    if (root.modCount != modCount)
+      throw new ConcurrentModificationException();
+  }
+
+  @Override
+  public <x> get(final int index) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, false);
+    return read(offset + index);
+  }
+
+  @Override
+  public boolean add(final <x> value) {
+    checkForComodification();
+    final int index = offset + size;
+    openGap(index, 1);
+    write(index, value);
+    updateSizeAndModCount(1);
+    return true;
+  }
+
+  @Override
+  public boolean add(int index, final <x> value) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, true);
+    index += offset;
+    openGap(index, 1);
+    write(index, value);
+    updateSizeAndModCount(1);
+    return true;
+  }
+
+  /**
+   * Appends all of the values in the specified array to the end of this list, in the order that they appear in the array.
+   *
+   * @param values Array containing values to be added to this list.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws IndexOutOfBoundsException If the offset or length are out of range
+   *           ({@code offset < 0 || values.length < offset + length}).
+   * @throws NullPointerException If the specified array is null.
+   */
+  @Override
+  public boolean addAll(final <x>[] values, final int offset, final int length) {
+    return addAll(size, values, offset, length);
+  }
+
+  /**
+   * Appends all of the values in the specified array to the end of this list, in the order that they appear in the array.
+   *
+   * @param values Array containing values to be added to this list.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws NullPointerException If the specified array is null.
+   */
+  @Override
+  public boolean addAll(final <x> ... values) {
+    return addAll(size, values, 0, values.length);
+  }
+
+  @Override
+  public boolean addAll(int index, final <x>[] values, final int offset, final int length) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, true);
+    Assertions.assertRangeArray(offset, offset + length, values.length);
+    if (length == 0)
+      return false;
+
+    index += this.offset;
+    openGap(index, length);
+    for (int i = 0; i < length; ++i) // [A]
+      write(index + i, values[offset + i]);
+
+    updateSizeAndModCount(length);
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    return addAll(size, c);
+  }
+
+  @Override
+  public boolean addAll(int index, final Collection<<XX>> c) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, true);
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    index += offset;
+    openGap(index, i$);
+    final Iterator<<XX>> it = c.iterator();
+    for (int i = 0; i < i$; ++i) // [I]
+      write(index + i, it.next());
+
+    updateSizeAndModCount(i$);
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    return addAll(size, c);
+  }
+
+  @Override
+  public boolean addAll(int index, final <X>Collection c) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, true);
+    if (c instanceof Direct<X>List && ((Direct<X>List)c).root == root)
+      return addAll(index, c.toArray(new <x>[c.size()]));
+
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    index += offset;
+    openGap(index, i$);
+    final <X>Iterator it = c.iterator();
+    for (int i = 0; i < i$; ++i) // [I]
+      write(index + i, it.next());
+
+    updateSizeAndModCount(i$);
+    return true;
+  }
+
+  @Override
+  public <x> set(int index, final <x> value) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, false);
+    index += offset;
+    final <x> oldValue = read(index);
+    write(index, value);
+    return oldValue;
+  }
+
+  @Override
+  public <x> removeIndex(int index) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, false);
+    index += offset;
+    final <x> value = read(index);
+    closeGap(index, 1);
+    updateSizeAndModCount(-1);
+    return value;
+  }
+
+  /**
+   * Removes all of the values of this list that satisfy the given predicate, compacting the remaining values in a single pass.
+   * <p>
+   * All values are tested before this list is modified, so that if the predicate throws, this list is left unchanged.
+   *
+   * @param filter A predicate which returns {@code true} for values to be removed.
+   * @return {@code true} if any values were removed.
+   * @throws NullPointerException If the specified filter is null.
+   */
+  @Override
+  public boolean removeIf(final <X>Predicate filter) {
+    Objects.requireNonNull(filter);
+    checkForComodification();
+    final int to = offset + size;
+    int r = offset;
+    while (r < to && !filter.test(read(r))) // [A]
+      ++r;
+
+    if (r == to)
+      return false;
+
+    // A bit set of the values to remove, relative to the first
+    final int first = r;
+    final long[] removed = new long[((to - first - 1) >> 6) + 1];
+    removed[0] = 1L;
+    while (++r < to) // [A]
+      if (filter.test(read(r)))
+        removed[(r - first) >> 6] |= 1L << (r - first);
+
+    int w = first;
+    for (r = first; r < to; ++r) // [A]
+      if ((removed[(r - first) >> 6] & 1L << (r - first)) == 0)
+        write(w++, read(r));
+
+    closeGap(w, to - w);
+    updateSizeAndModCount(w - to);
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... values) {
+    return removeIf(v -> ArrayUtil.contains(values, v));
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    return removeIf(c::contains);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    return removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    return removeIf(v -> !c.contains(v));
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    return removeIf(v -> !c.contains(v));
+  }
+
+  @Override
+  public int indexOf(final <x> value) {
+    checkForComodification();
+    for (int i = 0; i < size; ++i) // [A]
+      if (read(offset + i) == value)
+        return i;
+
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final <x> value) {
+    checkForComodification();
+    for (int i = size - 1; i >= 0; --i) // [A]
+      if (read(offset + i) == value)
+        return i;
+
+    return -1;
+  }
+
+  /**
+   * Sorts this list according to the order induced by the specified comparator. The sort is stable.
+   * <p>
+   * The values are sorted one chunk at a time on-heap, and the sorted chunks are then merged off-heap with a temporary list of the
+   * same size that is closed before this method returns. The on-heap memory required by this method is therefore bounded by the
+   * size of a single chunk.
+   *
+   * @param c The comparator to determine the order of the list. A {@code null} value indicates that the values' natural ordering
+   *          should be used.
+   */
+  @Override
+  public void sort(final <X>Comparator c) {
+    checkForComodification();
+    if (size < 2)
+      return;
+
+    final int run = Math.min(size, mask + 1);
+    final <x>[] work = new <x>[run];
+    for (int lo = 0; lo < size; lo += run) { // [A]
+      final int len = Math.min(run, size - lo);
+      for (int i = 0; i < len; ++i) // [A]
+        work[i] = read(offset + lo + i);
+
+      ArrayUtil.sort(work, 0, len, c);
+      for (int i = 0; i < len; ++i) // [A]
+        write(offset + lo + i, work[i]);
+    }
+
+    if (run < size) {
+      final <X>Comparator comparator = c != null ? c : <X>Comparator.NATURAL;
+      try (final Direct<X>List scratch = new Direct<X>List(mask + 1)) {
+        scratch.ensureCapacity(size);
+        Direct<X>List src = this;
+        Direct<X>List dst = scratch;
+        int srcBase = offset;
+        int dstBase = 0;
+        for (int width = run; width < size; width = width > size >>> 1 ? size : width << 1) { // [N]
+          for (int lo = 0, mid, hi; lo < size; lo = hi) { // [N]
+            mid = width >= size - lo ? size : lo + width;
+            hi = width >= size - mid ? size : mid + width;
+            merge(src, srcBase + lo, srcBase + mid, srcBase + hi, dst, dstBase + lo, comparator);
+          }
+
+          final Direct<X>List list = src;
+          src = dst;
+          dst = list;
+          final int base = srcBase;
+          srcBase = dstBase;
+          dstBase = base;
+        }
+
+        if (src != this)
+          for (int i = 0; i < size; ++i) // [A]
+            write(offset + i, src.read(i));
+      }
+    }
+
+    updateSizeAndModCount(0);
+  }
+
+  /**
+   * Merges the sorted ranges {@code [lo,mid)} and {@code [mid,hi)} of the root list of {@code src} into the root list of
+   * {@code dst} starting at index {@code to}.
+   */
+  private static void merge(final Direct<X>List src, int lo, final int mid, final int hi, final Direct<X>List dst, int to, final <X>Comparator c) {
+    int i = mid;
+    if (lo < mid && i < hi) {
+      <x> a = src.read(lo);
+      <x> b = src.read(i);
+      while (true) {
+        if (c.compare(a, b) <= 0) {
+          dst.write(to++, a);
+          if (++lo == mid)
+            break;
+
+          a = src.read(lo);
+        }
+        else {
+          dst.write(to++, b);
+          if (++i == hi)
+            break;
+
+          b = src.read(i);
+        }
+      }
+    }
+
+    while (lo < mid)
+      dst.write(to++, src.read(lo++));
+
+    while (i < hi)
+      dst.write(to++, src.read(i++));
+  }
+
+  @Override
+  public void clear() {
+    checkForComodification();
+    if (size == 0)
+      return;
+
+    closeGap(offset, size);
+    updateSizeAndModCount(-size);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private class <X>Itr implements <X>Iterator {
+    int cursor;
+    int lastRet = -1;
+    int expectedModCount = root.modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < size;
+    }
+
+    @Override
+    public <x> next() {
+      checkForComodification();
+      final int i = cursor;
+      if (i >= size)
+        throw new NoSuchElementException();
+
+      cursor = i + 1;
+      return read(offset + (lastRet = i));
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      Direct<X>List.this.removeIndex(lastRet);
+      cursor = lastRet;
+      lastRet = -1;
+      expectedModCount = root.modCount;
+    }
+
+    @Override
+    public void forEachRemaining(final <X>Consumer action) {
+      Objects.requireNonNull(action);
+      int i = cursor;
+      for (; i < size && root.modCount == expectedModCount; ++i) // [A]
+        action.accept(read(offset + i));
+
+      cursor = i;
+      lastRet = i - 1;
+      checkForComodification();
+    }
+
+    final void checkForComodification() {
+      if (root.modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+  private class <X>ListItr extends <X>Itr implements <X>ListIterator {
+    <X>ListItr(final int index) {
+      cursor = index;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return cursor != 0;
+    }
+
+    @Override
+    public int nextIndex() {
+      return cursor;
+    }
+
+    @Override
+    public int previousIndex() {
+      return cursor - 1;
+    }
+
+    @Override
+    public <x> previous() {
+      checkForComodification();
+      final int i = cursor - 1;
+      if (i < 0)
+        throw new NoSuchElementException();
+
+      cursor = i;
+      return read(offset + (lastRet = i));
+    }
+
+    @Override
+    public void set(final <x> value) {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      Direct<X>List.this.set(lastRet, value);
+    }
+
+    @Override
+    public void add(final <x> value) {
+      checkForComodification();
+      final int i = cursor;
+      Direct<X>List.this.add(i, value);
+      cursor = i + 1;
+      lastRet = -1;
+      expectedModCount = root.modCount;
+    }
+  }
+
+  @Override
+  public <X>Iterator iterator() {
+    checkForComodification();
+    return new <X>Itr();
+  }
+
+  @Override
+  public <X>ListIterator listIterator(final int index) {
+    checkForComodification();
+    Assertions.assertRange("index", index, "size()", size, true);
+    return new <X>ListItr(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned sub-list shares the off-heap memory of this list, and is invalidated when this list is closed. A structural
+   * modification of this list that is not made through the returned sub-list invalidates the sub-list, and any subsequent
+   * operation on it results in a {@link ConcurrentModificationException}.
+   */
+  @Override
+  public Direct<X>List subList(final int fromIndex, final int toIndex) {
+    checkForComodification();
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "size()", size);
+    return new Direct<X>List(this, offset + fromIndex, toIndex - fromIndex);
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    checkForComodification();
+    if (a.length < size)
+      a = new <x>[size];
+
+    for (int i = 0; i < size; ++i) // [A]
+      a[i] = read(offset + i);
+
+    if (a.length > size)
+      a[size] = <d>;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    checkForComodification();
+    if (a.length < size)
+      a = new <XX>[size];
+
+    for (int i = 0; i < size; ++i) // [A]
+      a[i] = read(offset + i);
+
+    if (a.length > size)
+      a[size] = null;
+
+    return a;
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, to ensure that it can hold at least the number of values specified by the
+   * minimum capacity argument. The capacity is increased by allocating whole chunks.
+   *
+   * @param minCapacity The desired minimum capacity.
+   * @throws IllegalStateException If this list is closed.
+   */
+  public void ensureCapacity(final int minCapacity) {
+    final Direct<X>List root = this.root;
+    if (root.closed)
+      throw new IllegalStateException("List is closed");
+
+    final int minChunks = (int)((minCapacity + (long)mask) >>> shift);
+    if (minChunks <= root.chunkCount)
+      return;
+
+    if (minChunks > root.chunks.length) {
+      final int length = Math.max(minChunks, root.chunks.length * 2 + 1);
+      root.buffers = Arrays.copyOf(root.buffers, length);
+      root.chunks = Arrays.copyOf(root.chunks, length);
+    }
+
+    final int bytes = <XX>.BYTES << shift;
+    for (int i = root.chunkCount; i < minChunks; ++i) { // [A]
+      final ByteBuffer buffer = allocate(bytes);
+      root.buffers[i] = buffer;
+      root.chunks[i] = as(buffer, root.chunks);
+    }
+
+    root.chunkCount = minChunks;
+  }
+
+  /**
+   * Releases the chunks of this list that are not needed to hold its current values.
+   *
+   * @throws UnsupportedOperationException If this list is a sub-list.
+   */
+  public void trimToSize() {
+    if (parent != null)
+      throw new UnsupportedOperationException("Cannot trim a sub-list");
+
+    final int minChunks = (int)((size + (long)mask) >>> shift);
+    for (int i = minChunks; i < chunkCount; ++i) { // [A]
+      free(buffers[i]);
+      buffers[i] = null;
+      chunks[i] = null;
+    }
+
+    if (minChunks < chunkCount) {
+      chunkCount = minChunks;
+      ++modCount;
+    }
+  }
+
+  /**
+   * Returns the number of values that the off-heap memory backing this list can hold without allocating another chunk.
+   *
+   * @return The number of values that the off-heap memory backing this list can hold without allocating another chunk.
+   */
+  public int capacity() {
+    return (int)Math.min((long)root.chunkCount << shift, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Releases the off-heap memory held by this list.
+   *
+   * @throws UnsupportedOperationException If this list is a sub-list.
+   */
+  @Override
+  public void close() {
+    if (parent != null)
+      throw new UnsupportedOperationException("Cannot close a sub-list");
+
+    if (closed)
+      return;
+
+    closed = true;
+    final ByteBuffer[] buffers = this.buffers;
+    final int chunkCount = this.chunkCount;
+    this.buffers = new ByteBuffer[0];
+    this.chunks = EMPTY_CHUNKS;
+    this.chunkCount = 0;
+    size = 0;
+    ++modCount;
+    for (int i = 0; i < chunkCount; ++i) // [A]
+      free(buffers[i]);
+  }
+
+<_>  private final class <X>Splitr implements Spliterator.Of<X> {
+<_>    private int index;
+<_>    private final int fence;
+<_>    private final int expectedModCount;
+<_>
+<_>    private <X>Splitr(final int index, final int fence, final int expectedModCount) {
+<_>      this.index = index;
+<_>      this.fence = fence;
+<_>      this.expectedModCount = expectedModCount;
+<_>    }
+<_>
+<_>    @Override
+<_>    public <X>Splitr trySplit() {
+<_>      final int lo = index, mid = (lo + fence) >>> 1;
+<_>      return lo >= mid ? null : new <X>Splitr(lo, index = mid, expectedModCount);
+<_>    }
+<_>
+<_>    @Override
+<_>    public boolean tryAdvance(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      if (index >= fence)
+<_>        return false;
+<_>
+<_>      action.accept(read(offset + index++));
+<_>      if (root.modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>
+<_>      return true;
+<_>    }
+<_>
+<_>    @Override
+<_>    public void forEachRemaining(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      for (final int i$ = fence; index < i$; ++index) // [A]
+<_>        action.accept(read(offset + index));
+<_>
+<_>      if (root.modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>    }
+<_>
+<_>    @Override
+<_>    public long estimateSize() {
+<_>      return fence - index;
+<_>    }
+<_>
+<_>    @Override
+<_>    public int characteristics() {
+<_>      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+<_>    }
+<_>  }
+<_>
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    checkForComodification();
+<_>    return new <X>Splitr(0, size, root.modCount);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+
+  /**
+   * Returns a new root {@link Direct<X>List} with its own off-heap memory that contains the values of this list. The returned list
+   * must be closed independently of this list.
+   *
+   * @return A new root {@link Direct<X>List} that contains the values of this list.
+   */
+  @Override
+  public Direct<X>List clone() {
+    checkForComodification();
+    final Direct<X>List clone = new Direct<X>List(mask + 1);
+    clone.ensureCapacity(size);
+    for (int i = 0; i < size; ++i) // [A]
+      clone.write(i, read(offset + i));
+
+    clone.size = size;
+    return clone;
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    checkForComodification();
+    out.defaultWriteObject();
+    for (int i = 0; i < size; ++i) // [A]
+      out.write<X>(read(offset + i));
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    root = this;
+    buffers = new ByteBuffer[0];
+    chunks = EMPTY_CHUNKS;
+    ensureCapacity(size);
+    for (int i = 0; i < size; ++i) // [A]
+      write(i, in.read<X>());
+  }
+
+  /**
+   * Returns the hash code value for this list.
+   *
+   * @return The hash code value for this list.
+   */
+  @Override
+  public int hashCode() {
+    checkForComodification();
+    int hashCode = 1;
+    for (int i = 0; i < size; ++i) // [A]
+      hashCode = 31 * hashCode + <XX>.hashCode(read(offset + i));
+
+    return hashCode;
+  }
+
+  /**
+   * Compares the specified object with this list for equality. Returns {@code true} if and only if the specified object is also a
+   * {@link Direct<X>List}, both lists have the same size, and all corresponding pairs of values in the two lists are <i>equal</i>.
+   * In other words, two lists are defined to be equal if they contain the same values in the same order.
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Direct<X>List))
+      return false;
+
+    final Direct<X>List that = (Direct<X>List)obj;
+    checkForComodification();
+    that.checkForComodification();
+    if (size != that.size)
+      return false;
+
+    for (int i = 0; i < size; ++i) // [A]
+      if (read(offset + i) != that.read(that.offset + i))
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Returns a string representation of this list. The string representation consists of a list of the list's values in order,
+   * enclosed in square brackets ({@code "[]"}). Adjacent values are separated by the characters {@code ", "} (comma and space).
+   *
+   * @return A string representation of this list.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (int i = 0; i < size; ++i) { // [A]
+      if (i > 0)
+        builder.append(", ");
+
+      builder.append(read(offset + i));
+    }
+
+    return builder.append(']').toString();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,259 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.libj.util.function.<X><Y>Consumer;
+
+/**
+ * An immutable multimap of {@code <x>} keys to {@code <y>} values in the
+ * <a href="https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_row_(CSR,_CRS_or_Yale_format)">compressed sparse row</a>
+ * layout: the keys are stored in a sorted array, the values of all keys are stored contiguously in a single array, and the values
+ * of the key at index {@code i} occupy the range {@code [offsets[i],offsets[i + 1])} of the values array.
+ * <p>
+ * A {@link Frozen<X><Y>MultiMap} is created with {@link Hash<X><Y>ListMap#freeze()} or {@link Hash<X><Y>SetMap#freeze()}, and
+ * occupies 4 bytes per key in addition to the size of its keys and values, irrespective of the number of values of each key. The
+ * values of a key are located by binary search of the keys.
+ */
+public class Frozen<X><Y>MultiMap implements Serializable {
+  private static final <y>[] EMPTY_VALUES = {};
+
+  private final <x>[] keys;
+  private final int[] offsets;
+  private final <y>[] values;
+  private final boolean sorted;
+
+  /**
+   * Creates a new {@link Frozen<X><Y>MultiMap} with the keys and values of the specified map.
+   *
+   * @param map The map of keys to collections of values.
+   * @param sorted Whether the values of each key are to be sorted.
+   * @throws ArithmeticException If the total number of values exceeds {@link Integer#MAX_VALUE}.
+   */
+  Frozen<X><Y>MultiMap(final Hash<X>ObjectMap<? extends <Y>Collection> map, final boolean sorted) {
+    final <x>[] keys = map.keys();
+    Arrays.sort(keys);
+    final int[] offsets = new int[keys.length + 1];
+    for (int i = 0, i$ = keys.length; i < i$; ++i) // [A]
+      offsets[i + 1] = Math.addExact(offsets[i], map.get(keys[i]).size());
+
+    final <y>[] values = new <y>[offsets[keys.length]];
+    for (int i = 0, i$ = keys.length; i < i$; ++i) { // [A]
+      int j = offsets[i];
+      for (final <Y>Iterator it = map.get(keys[i]).iterator(); it.hasNext();) // [I]
+        values[j++] = it.next();
+
+      if (sorted)
+        Arrays.sort(values, offsets[i], j);
+    }
+
+    this.keys = keys;
+    this.offsets = offsets;
+    this.values = values;
+    this.sorted = sorted;
+  }
+
+  private int indexOf(final <x> key) {
+    return Arrays.binarySearch(keys, key);
+  }
+
+  /**
+   * Returns the number of keys in this multimap.
+   *
+   * @return The number of keys in this multimap.
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Returns {@code true} if this multimap contains no keys.
+   *
+   * @return {@code true} if this multimap contains no keys.
+   */
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  /**
+   * Returns the total number of values of all keys in this multimap.
+   *
+   * @return The total number of values of all keys in this multimap.
+   */
+  public int valueCount() {
+    return values.length;
+  }
+
+  /**
+   * Returns {@code true} if this multimap contains a mapping for the specified key.
+   *
+   * @param key The key whose presence in this multimap is to be tested.
+   * @return {@code true} if this multimap contains a mapping for the specified key.
+   */
+  public boolean containsKey(final <x> key) {
+    return indexOf(key) >= 0;
+  }
+
+  /**
+   * Returns {@code true} if the specified value is one of the values of the specified key. The values of a key are searched with a
+   * binary search if this multimap was created from a {@link Hash<X><Y>SetMap}, and sequentially otherwise.
+   *
+   * @param key The key.
+   * @param value The value whose presence is to be tested.
+   * @return {@code true} if the specified value is one of the values of the specified key.
+   */
+  public boolean contains(final <x> key, final <y> value) {
+    final int index = indexOf(key);
+    if (index < 0)
+      return false;
+
+    final int fromIndex = offsets[index];
+    final int toIndex = offsets[index + 1];
+    if (sorted)
+      return Arrays.binarySearch(values, fromIndex, toIndex, value) >= 0;
+
+    for (int i = fromIndex; i < toIndex; ++i) // [A]
+      if (values[i] == value)
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Returns the number of values of the specified key.
+   *
+   * @param key The key.
+   * @return The number of values of the specified key, or {@code 0} if this multimap contains no mapping for the key.
+   */
+  public int count(final <x> key) {
+    final int index = indexOf(key);
+    return index < 0 ? 0 : offsets[index + 1] - offsets[index];
+  }
+
+  /**
+   * Returns a new array of the values of the specified key.
+   *
+   * @param key The key.
+   * @return A new array of the values of the specified key, which is empty if this multimap contains no mapping for the key.
+   */
+  public <y>[] get(final <x> key) {
+    final int index = indexOf(key);
+    return index < 0 ? EMPTY_VALUES : Arrays.copyOfRange(values, offsets[index], offsets[index + 1]);
+  }
+
+  /**
+   * Returns the value at the specified index of the values of the specified key.
+   *
+   * @param key The key.
+   * @param index The index of the value among the values of the key.
+   * @return The value at the specified index of the values of the specified key.
+   * @throws IndexOutOfBoundsException If the index is out of range {@code (index < 0 || index >= count(key))}.
+   */
+  public <y> get(final <x> key, final int index) {
+    final int keyIndex = indexOf(key);
+    final int count = keyIndex < 0 ? 0 : offsets[keyIndex + 1] - offsets[keyIndex];
+    if (index < 0 || index >= count)
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+
+    return values[offsets[keyIndex] + index];
+  }
+
+  /**
+   * Performs the given action for each value of the specified key.
+   *
+   * @param key The key.
+   * @param action The action to be performed for each value of the key.
+   * @throws NullPointerException If the specified action is null.
+   */
+  public void forEach(final <x> key, final <Y>Consumer action) {
+    Objects.requireNonNull(action);
+    final int index = indexOf(key);
+    if (index >= 0)
+      for (int i = offsets[index], i$ = offsets[index + 1]; i < i$; ++i) // [A]
+        action.accept(values[i]);
+  }
+
+  /**
+   * Performs the given action for each pair of key and value in this multimap, in ascending order of the keys.
+   *
+   * @param action The action to be performed for each pair of key and value.
+   * @throws NullPointerException If the specified action is null.
+   */
+  public void forEach(final <X><Y>Consumer action) {
+    Objects.requireNonNull(action);
+    for (int i = 0, i$ = keys.length; i < i$; ++i) { // [A]
+      final <x> key = keys[i];
+      for (int j = offsets[i], j$ = offsets[i + 1]; j < j$; ++j) // [A]
+        action.accept(key, values[j]);
+    }
+  }
+
+  /**
+   * Returns a new array of the keys in this multimap, in ascending order.
+   *
+   * @return A new array of the keys in this multimap, in ascending order.
+   */
+  public <x>[] keys() {
+    return keys.clone();
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Frozen<X><Y>MultiMap))
+      return false;
+
+    final Frozen<X><Y>MultiMap that = (Frozen<X><Y>MultiMap)obj;
+    return Arrays.equals(keys, that.keys) && Arrays.equals(offsets, that.offsets) && Arrays.equals(values, that.values);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = Arrays.hashCode(keys);
+    hashCode = 31 * hashCode + Arrays.hashCode(offsets);
+    hashCode = 31 * hashCode + Arrays.hashCode(values);
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('{');
+    for (int i = 0, i$ = keys.length; i < i$; ++i) { // [A]
+      if (i > 0)
+        builder.append(", ");
+
+      builder.append(keys[i]).append("=[");
+      for (int j = offsets[i], j$ = offsets[i + 1]; j < j$; ++j) { // [A]
+        if (j > offsets[i])
+          builder.append(", ");
+
+        builder.append(values[j]);
+      }
+
+      builder.append(']');
+    }
+
+    builder.append('}');
+    return builder.toString();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+/**
+ * A multimap of {@code <x>} keys to lists of {@code <y>} values, which maps each key to an {@link Array<Y>List} in a
+ * {@link Hash<X>ObjectMap}. Neither the keys nor the values are boxed.
+ * <p>
+ * This class replicates the API of the {@link org.libj.util.MultiHashMap} class by defining synonymous methods for a multimap of
+ * {@code <x>} keys to {@code <y>} values instead of Object references. A multimap that is no longer modified can be converted with
+ * {@link #freeze()} to a {@link Frozen<X><Y>MultiMap}, which stores all of its keys and values in three flat arrays.
+ */
+public class Hash<X><Y>ListMap extends Hash<X>ObjectMap<Array<Y>List> {
+  /**
+   * Creates an empty {@link Hash<X><Y>ListMap} with the default initial capacity (16) and the default load factor (0.55).
+   */
+  public Hash<X><Y>ListMap() {
+    super();
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>ListMap} with the specified initial capacity and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public Hash<X><Y>ListMap(final int initialCapacity) {
+    super(initialCapacity);
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>ListMap} with the specified initial capacity and load factor.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the load factor less than {@code .1} or greater than
+   *           {@code .9}.
+   */
+  public Hash<X><Y>ListMap(final int initialCapacity, final float loadFactor) {
+    super(initialCapacity, loadFactor);
+  }
+
+  /**
+   * Returns the list of values of the specified key. If there is no mapping for the key, a new empty list is created, registered
+   * with the key, and returned.
+   *
+   * @param key The key.
+   * @return The list of values of the specified key, which is never {@code null}.
+   */
+  public Array<Y>List getOrNew(final <x> key) {
+    Array<Y>List values = get(key);
+    if (values == null)
+      put(key, values = new Array<Y>List());
+
+    return values;
+  }
+
+  /**
+   * Adds a value to the list of values of the specified key.
+   *
+   * @param key The key.
+   * @param value The value to be added.
+   * @return The list of values of the specified key, which is never {@code null}.
+   */
+  public Array<Y>List add(final <x> key, final <y> value) {
+    final Array<Y>List values = getOrNew(key);
+    values.add(value);
+    return values;
+  }
+
+  /**
+   * Adds the specified values to the list of values of the specified key.
+   *
+   * @param key The key.
+   * @param values The values to be added.
+   * @return The list of values of the specified key, which is never {@code null}.
+   * @throws NullPointerException If the specified array of values is null.
+   */
+  public Array<Y>List addAll(final <x> key, final <y> ... values) {
+    final Array<Y>List list = getOrNew(key);
+    list.addAll(values);
+    return list;
+  }
+
+  /**
+   * Removes the first occurrence of the specified value from the list of values of the specified key. If the list becomes empty,
+   * the mapping for the key is removed.
+   *
+   * @param key The key.
+   * @param value The value to be removed.
+   * @return {@code true} if the list of values of the specified key contained the specified value.
+   */
+  public boolean removeValue(final <x> key, final <y> value) {
+    final Array<Y>List values = get(key);
+    if (values == null || !values.remove(value))
+      return false;
+
+    if (values.size() == 0)
+      remove(key);
+
+    return true;
+  }
+
+  /**
+   * Returns the total number of values of all keys in this multimap.
+   *
+   * @return The total number of values of all keys in this multimap.
+   */
+  public long valueCount() {
+    final long[] count = {0};
+    forEach((k, v) -> count[0] += v.size());
+    return count[0];
+  }
+
+  /**
+   * Returns a new {@link Frozen<X><Y>MultiMap} with the keys and values of this multimap, which is not backed by this multimap.
+   *
+   * @return A new {@link Frozen<X><Y>MultiMap} with the keys and values of this multimap.
+   */
+  public Frozen<X><Y>MultiMap freeze() {
+    return new Frozen<X><Y>MultiMap(this, false);
+  }
+
+  /**
+   * Returns a copy of this multimap, in which the list of each key is a copy of the list of the key in this multimap.
+   *
+   * @return A copy of this multimap.
+   */
+  @Override
+  public Hash<X><Y>ListMap clone() {
+    final Hash<X><Y>ListMap clone = (Hash<X><Y>ListMap)super.clone();
+    clone.forEach((k, v) -> clone.put(k, v.clone()));
+    return clone;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,560 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+import org.libj.util.function.<X><Y>Consumer;
+
+/**
+ * A map of {@code <x>} keys to {@code <y>} values implementing
+ * <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing (closed hashing) with linear-probing for collision
+ * resolution</a> algorithm, with allocation-free operation in steady state when expanded.
+ * <p>
+ * This class replicates the API of the {@link java.util.HashMap} class by defining synonymous methods for a map of {@code <x>}
+ * keys to {@code <y>} values instead of Object references. Since a {@code <y>} value cannot be {@code null}, the methods that
+ * return a value for a key that is not present in this map return {@code 0}.
+ */
+public class Hash<X><Y>Map extends HashPrimitiveMap {
+  /**
+   * Value that represents null in {@link #keyData}.
+   */
+  static final <x> NULL = <d>;
+
+  private final float loadFactor;
+  private int resizeThreshold;
+
+  /**
+   * Whether this map contains the key representing {@link #NULL}.
+   */
+  private boolean containsNull;
+  private <y> nullValue;
+  private <x>[] keyData;
+  private <y>[] valueData;
+  private int size;
+  private transient int modCount;
+
+  /**
+   * Creates an empty {@link Hash<X><Y>Map} with the default initial capacity (16) and the default load factor (0.55).
+   */
+  public Hash<X><Y>Map() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>Map} with the specified initial capacity and load factor.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the load factor less than {@code .1} or greater than
+   *           {@code .9}.
+   */
+  public Hash<X><Y>Map(final int initialCapacity, final float loadFactor) {
+    this.loadFactor = assertLoadFactor(loadFactor);
+    final int capacity = findNextPositivePowerOfTwo(initialCapacity);
+    this.resizeThreshold = (int)(capacity * loadFactor);
+    this.keyData = new <x>[capacity];
+    this.valueData = new <y>[capacity];
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>Map} with the specified initial capacity and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public Hash<X><Y>Map(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a new {@link Hash<X><Y>Map} with the same mappings as the specified map. The {@link Hash<X><Y>Map} is created with
+   * default load factor (0.55) and an initial capacity sufficient to hold the mappings in the specified map.
+   *
+   * @param m The map whose mappings are to be placed in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  public Hash<X><Y>Map(final Hash<X><Y>Map m) {
+    this((int)(m.size() / DEFAULT_LOAD_FACTOR) + 1);
+    putAll(m);
+  }
+
+  /**
+   * Returns the index of the specified key in {@link #keyData}, or {@code -1} if the key is not present.
+   *
+   * @param key The key, which must not be {@link #NULL}.
+   * @return The index of the specified key in {@link #keyData}, or {@code -1} if the key is not present.
+   */
+  private int indexOf(final <x> key) {
+    final <x>[] keyData = this.keyData;
+    final int mask = keyData.length - 1;
+    for (int index = hash(<XX>.hashCode(key), mask); keyData[index] != NULL; index = nextIndex(index, mask)) // [A]
+      if (keyData[index] == key)
+        return index;
+
+    return -1;
+  }
+
+  /**
+   * Returns the index at which the specified key is present in {@link #keyData}, or {@code -index - 1} where {@code index} is
+   * the empty slot at which the key is to be inserted.
+   *
+   * @param key The key, which must not be {@link #NULL}.
+   * @return The index of the specified key in {@link #keyData}, or {@code -index - 1} if the key is not present.
+   */
+  private int insertionIndexOf(final <x> key) {
+    final <x>[] keyData = this.keyData;
+    final int mask = keyData.length - 1;
+    int index = hash(<XX>.hashCode(key), mask);
+    for (; keyData[index] != NULL; index = nextIndex(index, mask)) // [A]
+      if (keyData[index] == key)
+        return index;
+
+    return -index - 1;
+  }
+
+  /**
+   * Inserts the specified mapping at the specified empty index in {@link #keyData}, and rehashes this map if its size exceeds the
+   * resize threshold.
+   *
+   * @param index The index of the empty slot.
+   * @param key The key.
+   * @param value The value.
+   */
+  private void insertAt(final int index, final <x> key, final <y> value) {
+    ++modCount;
+    keyData[index] = key;
+    valueData[index] = value;
+    if (++size > resizeThreshold)
+      rehash(keyData.length * 2);
+  }
+
+  /**
+   * Returns {@code true} if this map contains a mapping for the specified key.
+   *
+   * @param key The key whose presence in this map is to be tested.
+   * @return {@code true} if this map contains a mapping for the specified key.
+   */
+  public boolean containsKey(final <x> key) {
+    return key == NULL ? containsNull : indexOf(key) > -1;
+  }
+
+  /**
+   * Returns {@code true} if this map maps one or more keys to the specified value.
+   *
+   * @param value The value whose presence in this map is to be tested.
+   * @return {@code true} if this map maps one or more keys to the specified value.
+   */
+  public boolean containsValue(final <y> value) {
+    if (containsNull && nullValue == value)
+      return true;
+
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL && valueData[i] == value)
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code 0} if this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @return The value to which the specified key is mapped, or {@code 0} if this map contains no mapping for the key.
+   * @see #getOrDefault(<x>,<y>)
+   */
+  public <y> get(final <x> key) {
+    return getOrDefault(key, (<y>)0);
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @param defaultValue The default mapping of the key.
+   * @return The value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping for the key.
+   */
+  public <y> getOrDefault(final <x> key, final <y> defaultValue) {
+    if (key == NULL)
+      return containsNull ? nullValue : defaultValue;
+
+    final int index = indexOf(key);
+    return index < 0 ? defaultValue : valueData[index];
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map. If the map previously contained a mapping for the key, the
+   * old value is replaced.
+   *
+   * @param key The key with which the specified value is to be associated.
+   * @param value The value to be associated with the specified key.
+   * @return The previous value associated with {@code key}, or {@code 0} if there was no mapping for {@code key}.
+   */
+  public <y> put(final <x> key, final <y> value) {
+    if (key == NULL) {
+      final <y> oldValue = containsNull ? nullValue : (<y>)0;
+      if (!containsNull) {
+        ++modCount;
+        containsNull = true;
+      }
+
+      nullValue = value;
+      return oldValue;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, value);
+      return (<y>)0;
+    }
+
+    final <y> oldValue = valueData[index];
+    valueData[index] = value;
+    return oldValue;
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to this map. These mappings will replace any mappings that this map had for
+   * any of the keys currently in the specified map.
+   *
+   * @param m Mappings to be stored in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  public void putAll(final Hash<X><Y>Map m) {
+    final <x>[] keyData = m.keyData;
+    final <y>[] valueData = m.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        put(keyData[i], valueData[i]);
+
+    if (m.containsNull)
+      put(NULL, m.nullValue);
+  }
+
+  /**
+   * Removes the mapping for the specified key from this map if present.
+   *
+   * @param key The key whose mapping is to be removed from the map.
+   * @return The previous value associated with {@code key}, or {@code 0} if there was no mapping for {@code key}.
+   */
+  public <y> remove(final <x> key) {
+    if (key == NULL) {
+      if (!containsNull)
+        return (<y>)0;
+
+      ++modCount;
+      containsNull = false;
+      final <y> oldValue = nullValue;
+      nullValue = (<y>)0;
+      return oldValue;
+    }
+
+    final int index = indexOf(key);
+    if (index < 0)
+      return (<y>)0;
+
+    ++modCount;
+    final <y> oldValue = valueData[index];
+    keyData[index] = NULL;
+    valueData[index] = (<y>)0;
+    compactChain(index);
+    --size;
+    return oldValue;
+  }
+
+  /**
+   * Adds the specified delta to the value to which the specified key is mapped, or associates the key with the delta if this map
+   * contains no mapping for the key.
+   *
+   * @param key The key with which the resulting value is to be associated.
+   * @param delta The value to add.
+   * @return The new value associated with the specified key.
+   */
+  public <y> addTo(final <x> key, final <y> delta) {
+    if (key == NULL) {
+      if (containsNull)
+        return nullValue = (<y>)(nullValue + delta);
+
+      ++modCount;
+      containsNull = true;
+      return nullValue = delta;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, delta);
+      return delta;
+    }
+
+    return valueData[index] = (<y>)(valueData[index] + delta);
+  }
+
+  /**
+   * If the specified key is not already associated with a value, associates it with the given value. Otherwise, replaces the
+   * associated value with the result of the given remapping function.
+   *
+   * @param key The key with which the resulting value is to be associated.
+   * @param value The value to be merged with the existing value associated with the key or, if no existing value is associated
+   *          with the key, to be associated with the key.
+   * @param remappingFunction The function to recompute a value if present.
+   * @return The new value associated with the specified key.
+   * @throws NullPointerException If the specified remapping function is null.
+   */
+  public <y> merge(final <x> key, final <y> value, final <Y>BinaryOperator remappingFunction) {
+    Objects.requireNonNull(remappingFunction);
+    if (key == NULL) {
+      if (containsNull)
+        return nullValue = remappingFunction.applyAs<Y>(nullValue, value);
+
+      ++modCount;
+      containsNull = true;
+      return nullValue = value;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, value);
+      return value;
+    }
+
+    return valueData[index] = remappingFunction.applyAs<Y>(valueData[index], value);
+  }
+
+  /**
+   * If the specified key is not already associated with a value, attempts to compute its value using the given mapping function
+   * and enters it into this map.
+   *
+   * @param key The key with which the specified value is to be associated.
+   * @param mappingFunction The function to compute a value.
+   * @return The current (existing or computed) value associated with the specified key.
+   * @throws NullPointerException If the specified mapping function is null.
+   * @throws ConcurrentModificationException If it is detected that the mapping function modified this map.
+   */
+  public <y> computeIfAbsent(final <x> key, final <X>To<Y>Function mappingFunction) {
+    Objects.requireNonNull(mappingFunction);
+    if (key == NULL) {
+      if (containsNull)
+        return nullValue;
+
+      final int modCount = this.modCount;
+      final <y> value = mappingFunction.applyAs<Y>(key);
+      if (modCount != this.modCount)
+        throw new ConcurrentModificationException();
+
+      ++this.modCount;
+      containsNull = true;
+      return nullValue = value;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index > -1)
+      return valueData[index];
+
+    final int modCount = this.modCount;
+    final <y> value = mappingFunction.applyAs<Y>(key);
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+
+    insertAt(-index - 1, key, value);
+    return value;
+  }
+
+  /**
+   * Performs the given action for each mapping in this map until all mappings have been processed or the action throws an
+   * exception.
+   *
+   * @param action The action to be performed for each mapping.
+   * @throws NullPointerException If the specified action is null.
+   * @throws ConcurrentModificationException If it is detected that the action modified this map.
+   */
+  public void forEach(final <X><Y>Consumer action) {
+    Objects.requireNonNull(action);
+    final int modCount = this.modCount;
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        action.accept(keyData[i], valueData[i]);
+
+    if (containsNull)
+      action.accept(NULL, nullValue);
+
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+  }
+
+  /**
+   * Returns an array containing all of the keys in this map.
+   *
+   * @return An array containing all of the keys in this map.
+   */
+  public <x>[] keys() {
+    final <x>[] keys = new <x>[size()];
+    final <x>[] keyData = this.keyData;
+    int j = 0;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        keys[j++] = keyData[i];
+
+    if (containsNull)
+      keys[j] = NULL;
+
+    return keys;
+  }
+
+  @Override
+  public int size() {
+    return containsNull ? size + 1 : size;
+  }
+
+  @Override
+  public void clear() {
+    if (size() > 0) {
+      ++modCount;
+      Arrays.fill(keyData, NULL);
+      Arrays.fill(valueData, (<y>)0);
+      containsNull = false;
+      nullValue = (<y>)0;
+      size = 0;
+    }
+  }
+
+  private void compactChain(int deleteIndex) {
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    final int mask = keyData.length - 1;
+    int index = deleteIndex;
+    while (true) {
+      index = nextIndex(index, mask);
+      if (keyData[index] == NULL)
+        return;
+
+      if (isMovable(index, hash(<XX>.hashCode(keyData[index]), mask), deleteIndex)) {
+        keyData[deleteIndex] = keyData[index];
+        valueData[deleteIndex] = valueData[index];
+        keyData[index] = NULL;
+        valueData[index] = (<y>)0;
+        deleteIndex = index;
+      }
+    }
+  }
+
+  private void rehash(final int newCapacity) {
+    ++modCount;
+    final int mask = newCapacity - 1;
+    this.resizeThreshold = (int)(newCapacity * loadFactor);
+    final <x>[] keyData = new <x>[newCapacity];
+    final <y>[] valueData = new <y>[newCapacity];
+    final <x>[] oldKeyData = this.keyData;
+    final <y>[] oldValueData = this.valueData;
+    for (int i = 0, i$ = oldKeyData.length; i < i$; ++i) { // [A]
+      final <x> key = oldKeyData[i];
+      if (key != NULL) {
+        int newHash = hash(<XX>.hashCode(key), mask);
+        for (; keyData[newHash] != NULL; newHash = ++newHash & mask); // [N]
+        keyData[newHash] = key;
+        valueData[newHash] = oldValueData[i];
+      }
+    }
+
+    this.keyData = keyData;
+    this.valueData = valueData;
+  }
+
+  /**
+   * Compact the backing arrays by rehashing with a capacity just larger than current size and giving consideration to the load
+   * factor.
+   */
+  public void compact() {
+    final int idealCapacity = (int)Math.round(size() * (1.0 / loadFactor));
+    rehash(findNextPositivePowerOfTwo(Math.max(idealCapacity, size + 1)));
+  }
+
+  @Override
+  public Hash<X><Y>Map clone() {
+    try {
+      final Hash<X><Y>Map clone = (Hash<X><Y>Map)super.clone();
+      clone.keyData = keyData.clone();
+      clone.valueData = valueData.clone();
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Hash<X><Y>Map))
+      return false;
+
+    final Hash<X><Y>Map that = (Hash<X><Y>Map)obj;
+    if (size != that.size || containsNull != that.containsNull || containsNull && nullValue != that.nullValue)
+      return false;
+
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) { // [A]
+      if (keyData[i] != NULL) {
+        final int index = that.indexOf(keyData[i]);
+        if (index < 0 || that.valueData[index] != valueData[i])
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = containsNull ? <XX>.hashCode(NULL) ^ <YY>.hashCode(nullValue) : 0;
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        hashCode += <XX>.hashCode(keyData[i]) ^ <YY>.hashCode(valueData[i]);
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('{');
+    final <x>[] keyData = this.keyData;
+    final <y>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        builder.append(keyData[i]).append('=').append(valueData[i]).append(", ");
+
+    if (containsNull)
+      builder.append(NULL).append('=').append(nullValue).append(", ");
+
+    if (builder.length() > 1)
+      builder.setLength(builder.length() - 2);
+
+    builder.append('}');
+    return builder.toString();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+/**
+ * A multimap of {@code <x>} keys to sets of {@code <y>} values, which maps each key to a {@link Hash<Y>Set} in a
+ * {@link Hash<X>ObjectMap}. Neither the keys nor the values are boxed.
+ * <p>
+ * This class replicates the API of the {@link org.libj.util.MultiHashMap} class by defining synonymous methods for a multimap of
+ * {@code <x>} keys to {@code <y>} values instead of Object references. A multimap that is no longer modified can be converted with
+ * {@link #freeze()} to a {@link Frozen<X><Y>MultiMap}, which stores all of its keys and values in three flat arrays, with the
+ * values of each key in ascending order.
+ */
+public class Hash<X><Y>SetMap extends Hash<X>ObjectMap<Hash<Y>Set> {
+  /**
+   * Creates an empty {@link Hash<X><Y>SetMap} with the default initial capacity (16) and the default load factor (0.55).
+   */
+  public Hash<X><Y>SetMap() {
+    super();
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>SetMap} with the specified initial capacity and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public Hash<X><Y>SetMap(final int initialCapacity) {
+    super(initialCapacity);
+  }
+
+  /**
+   * Creates an empty {@link Hash<X><Y>SetMap} with the specified initial capacity and load factor.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the load factor less than {@code .1} or greater than
+   *           {@code .9}.
+   */
+  public Hash<X><Y>SetMap(final int initialCapacity, final float loadFactor) {
+    super(initialCapacity, loadFactor);
+  }
+
+  /**
+   * Returns the set of values of the specified key. If there is no mapping for the key, a new empty set is created, registered
+   * with the key, and returned.
+   *
+   * @param key The key.
+   * @return The set of values of the specified key, which is never {@code null}.
+   */
+  public Hash<Y>Set getOrNew(final <x> key) {
+    Hash<Y>Set values = get(key);
+    if (values == null)
+      put(key, values = new Hash<Y>Set(4));
+
+    return values;
+  }
+
+  /**
+   * Adds a value to the set of values of the specified key, if it is not already present.
+   *
+   * @param key The key.
+   * @param value The value to be added.
+   * @return The set of values of the specified key, which is never {@code null}.
+   */
+  public Hash<Y>Set add(final <x> key, final <y> value) {
+    final Hash<Y>Set values = getOrNew(key);
+    values.add(value);
+    return values;
+  }
+
+  /**
+   * Adds the specified values to the set of values of the specified key, if they are not already present.
+   *
+   * @param key The key.
+   * @param values The values to be added.
+   * @return The set of values of the specified key, which is never {@code null}.
+   * @throws NullPointerException If the specified array of values is null.
+   */
+  public Hash<Y>Set addAll(final <x> key, final <y> ... values) {
+    final Hash<Y>Set set = getOrNew(key);
+    set.addAll(values);
+    return set;
+  }
+
+  /**
+   * Returns whether the set of values of the specified key contains the specified value.
+   *
+   * @param key The key.
+   * @param value The value whose presence is to be tested.
+   * @return {@code true} if the set of values of the specified key contains the specified value.
+   */
+  public boolean contains(final <x> key, final <y> value) {
+    final Hash<Y>Set values = get(key);
+    return values != null && values.contains(value);
+  }
+
+  /**
+   * Removes the specified value from the set of values of the specified key. If the set becomes empty, the mapping for the key is
+   * removed.
+   *
+   * @param key The key.
+   * @param value The value to be removed.
+   * @return {@code true} if the set of values of the specified key contained the specified value.
+   */
+  public boolean removeValue(final <x> key, final <y> value) {
+    final Hash<Y>Set values = get(key);
+    if (values == null || !values.remove(value))
+      return false;
+
+    if (values.size() == 0)
+      remove(key);
+
+    return true;
+  }
+
+  /**
+   * Returns the total number of values of all keys in this multimap.
+   *
+   * @return The total number of values of all keys in this multimap.
+   */
+  public long valueCount() {
+    final long[] count = {0};
+    forEach((k, v) -> count[0] += v.size());
+    return count[0];
+  }
+
+  /**
+   * Returns a new {@link Frozen<X><Y>MultiMap} with the keys and values of this multimap, which is not backed by this multimap. The
+   * values of each key are sorted in ascending order, so that {@link Frozen<X><Y>MultiMap#contains(<x>,<y>)} runs in logarithmic
+   * time.
+   *
+   * @return A new {@link Frozen<X><Y>MultiMap} with the keys and values of this multimap.
+   */
+  public Frozen<X><Y>MultiMap freeze() {
+    return new Frozen<X><Y>MultiMap(this, true);
+  }
+
+  /**
+   * Returns a copy of this multimap, in which the set of each key is a copy of the set of the key in this multimap.
+   *
+   * @return A copy of this multimap.
+   */
+  @Override
+  public Hash<X><Y>SetMap clone() {
+    final Hash<X><Y>SetMap clone = (Hash<X><Y>SetMap)super.clone();
+    clone.forEach((k, v) -> clone.put(k, v.clone()));
+    return clone;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,556 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import org.libj.util.function.<X>ObjConsumer;
+
+/**
+ * A map of {@code <x>} keys to object values implementing
+ * <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing (closed hashing) with linear-probing for collision
+ * resolution</a> algorithm, with allocation-free operation in steady state when expanded.
+ * <p>
+ * This class replicates the API of the {@link java.util.HashMap} class by defining synonymous methods for a map of {@code <x>}
+ * keys to object values, which avoids the boxing of keys.
+ *
+ * @param <V> The type of mapped values.
+ */
+public class Hash<X>ObjectMap<V> extends HashPrimitiveMap {
+  /**
+   * Value that represents null in {@link #keyData}.
+   */
+  static final <x> NULL = <d>;
+
+  private final float loadFactor;
+  private int resizeThreshold;
+
+  /**
+   * Whether this map contains the key representing {@link #NULL}.
+   */
+  private boolean containsNull;
+  private V nullValue;
+  private <x>[] keyData;
+  private Object[] valueData;
+  private int size;
+  private transient int modCount;
+
+  /**
+   * Creates an empty {@link Hash<X>ObjectMap} with the default initial capacity (16) and the default load factor (0.55).
+   */
+  public Hash<X>ObjectMap() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty {@link Hash<X>ObjectMap} with the specified initial capacity and load factor.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the load factor less than {@code .1} or greater than
+   *           {@code .9}.
+   */
+  public Hash<X>ObjectMap(final int initialCapacity, final float loadFactor) {
+    this.loadFactor = assertLoadFactor(loadFactor);
+    final int capacity = findNextPositivePowerOfTwo(initialCapacity);
+    this.resizeThreshold = (int)(capacity * loadFactor);
+    this.keyData = new <x>[capacity];
+    this.valueData = new Object[capacity];
+  }
+
+  /**
+   * Creates an empty {@link Hash<X>ObjectMap} with the specified initial capacity and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public Hash<X>ObjectMap(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a new {@link Hash<X>ObjectMap} with the same mappings as the specified map. The {@link Hash<X>ObjectMap} is created
+   * with default load factor (0.55) and an initial capacity sufficient to hold the mappings in the specified map.
+   *
+   * @param m The map whose mappings are to be placed in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  public Hash<X>ObjectMap(final Hash<X>ObjectMap<? extends V> m) {
+    this((int)(m.size() / DEFAULT_LOAD_FACTOR) + 1);
+    putAll(m);
+  }
+
+  private int indexOf(final <x> key) {
+    final <x>[] keyData = this.keyData;
+    final int mask = keyData.length - 1;
+    for (int index = hash(<XX>.hashCode(key), mask); keyData[index] != NULL; index = nextIndex(index, mask)) // [A]
+      if (keyData[index] == key)
+        return index;
+
+    return -1;
+  }
+
+  private int insertionIndexOf(final <x> key) {
+    final <x>[] keyData = this.keyData;
+    final int mask = keyData.length - 1;
+    int index = hash(<XX>.hashCode(key), mask);
+    for (; keyData[index] != NULL; index = nextIndex(index, mask)) // [A]
+      if (keyData[index] == key)
+        return index;
+
+    return -index - 1;
+  }
+
+  private void insertAt(final int index, final <x> key, final V value) {
+    ++modCount;
+    keyData[index] = key;
+    valueData[index] = value;
+    if (++size > resizeThreshold)
+      rehash(keyData.length * 2);
+  }
+
+  @SuppressWarnings("unchecked")
+  private V valueAt(final int index) {
+    return (V)valueData[index];
+  }
+
+  /**
+   * Returns {@code true} if this map contains a mapping for the specified key.
+   *
+   * @param key The key whose presence in this map is to be tested.
+   * @return {@code true} if this map contains a mapping for the specified key.
+   */
+  public boolean containsKey(final <x> key) {
+    return key == NULL ? containsNull : indexOf(key) > -1;
+  }
+
+  /**
+   * Returns {@code true} if this map maps one or more keys to the specified value.
+   *
+   * @param value The value whose presence in this map is to be tested.
+   * @return {@code true} if this map maps one or more keys to the specified value.
+   */
+  public boolean containsValue(final Object value) {
+    if (containsNull && Objects.equals(nullValue, value))
+      return true;
+
+    final <x>[] keyData = this.keyData;
+    final Object[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL && Objects.equals(valueData[i], value))
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code null} if this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @return The value to which the specified key is mapped, or {@code null} if this map contains no mapping for the key.
+   */
+  public V get(final <x> key) {
+    return getOrDefault(key, null);
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @param defaultValue The default mapping of the key.
+   * @return The value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping for the key.
+   */
+  public V getOrDefault(final <x> key, final V defaultValue) {
+    if (key == NULL)
+      return containsNull ? nullValue : defaultValue;
+
+    final int index = indexOf(key);
+    return index < 0 ? defaultValue : valueAt(index);
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map. If the map previously contained a mapping for the key, the
+   * old value is replaced.
+   *
+   * @param key The key with which the specified value is to be associated.
+   * @param value The value to be associated with the specified key.
+   * @return The previous value associated with {@code key}, or {@code null} if there was no mapping for {@code key}.
+   */
+  public V put(final <x> key, final V value) {
+    if (key == NULL) {
+      final V oldValue = nullValue;
+      if (!containsNull) {
+        ++modCount;
+        containsNull = true;
+      }
+
+      nullValue = value;
+      return oldValue;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, value);
+      return null;
+    }
+
+    final V oldValue = valueAt(index);
+    valueData[index] = value;
+    return oldValue;
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to this map. These mappings will replace any mappings that this map had for
+   * any of the keys currently in the specified map.
+   *
+   * @param m Mappings to be stored in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  public void putAll(final Hash<X>ObjectMap<? extends V> m) {
+    final <x>[] keyData = m.keyData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        put(keyData[i], m.valueAt(i));
+
+    if (m.containsNull)
+      put(NULL, m.nullValue);
+  }
+
+  /**
+   * Removes the mapping for the specified key from this map if present.
+   *
+   * @param key The key whose mapping is to be removed from the map.
+   * @return The previous value associated with {@code key}, or {@code null} if there was no mapping for {@code key}.
+   */
+  public V remove(final <x> key) {
+    if (key == NULL) {
+      if (!containsNull)
+        return null;
+
+      ++modCount;
+      containsNull = false;
+      final V oldValue = nullValue;
+      nullValue = null;
+      return oldValue;
+    }
+
+    final int index = indexOf(key);
+    return index < 0 ? null : removeAt(index);
+  }
+
+  private V removeAt(final int index) {
+    ++modCount;
+    final V oldValue = valueAt(index);
+    keyData[index] = NULL;
+    valueData[index] = null;
+    compactChain(index);
+    --size;
+    return oldValue;
+  }
+
+  /**
+   * If the specified key is not already associated with a value or is associated with null, associates it with the given value.
+   * Otherwise, replaces the associated value with the result of the given remapping function, or removes it if the result is
+   * {@code null}.
+   *
+   * @param key The key with which the resulting value is to be associated.
+   * @param value The non-null value to be merged with the existing value associated with the key or, if no existing value or a null
+   *          value is associated with the key, to be associated with the key.
+   * @param remappingFunction The function to recompute a value if present.
+   * @return The new value associated with the specified key, or null if no value is associated with the key.
+   * @throws NullPointerException If the specified value or remapping function is null.
+   */
+  public V merge(final <x> key, final V value, final BiFunction<? super V,? super V,? extends V> remappingFunction) {
+    Objects.requireNonNull(value);
+    Objects.requireNonNull(remappingFunction);
+    if (key == NULL) {
+      if (!containsNull || nullValue == null) {
+        put(NULL, value);
+        return value;
+      }
+
+      final int modCount = this.modCount;
+      final V newValue = remappingFunction.apply(nullValue, value);
+      if (modCount != this.modCount)
+        throw new ConcurrentModificationException();
+
+      if (newValue == null)
+        remove(NULL);
+      else
+        nullValue = newValue;
+
+      return newValue;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, value);
+      return value;
+    }
+
+    final V oldValue = valueAt(index);
+    if (oldValue == null) {
+      valueData[index] = value;
+      return value;
+    }
+
+    final int modCount = this.modCount;
+    final V newValue = remappingFunction.apply(oldValue, value);
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+
+    if (newValue == null)
+      removeAt(index);
+    else
+      valueData[index] = newValue;
+
+    return newValue;
+  }
+
+  /**
+   * If the specified key is not already associated with a value (or is mapped to {@code null}), attempts to compute its value using
+   * the given mapping function and enters it into this map unless {@code null}.
+   *
+   * @param key The key with which the specified value is to be associated.
+   * @param mappingFunction The function to compute a value.
+   * @return The current (existing or computed) value associated with the specified key, or null if the computed value is null.
+   * @throws NullPointerException If the specified mapping function is null.
+   * @throws ConcurrentModificationException If it is detected that the mapping function modified this map.
+   */
+  public V computeIfAbsent(final <x> key, final <X>Function<? extends V> mappingFunction) {
+    Objects.requireNonNull(mappingFunction);
+    if (key == NULL) {
+      if (containsNull && nullValue != null)
+        return nullValue;
+
+      final int modCount = this.modCount;
+      final V value = mappingFunction.apply(key);
+      if (modCount != this.modCount)
+        throw new ConcurrentModificationException();
+
+      if (value != null)
+        put(NULL, value);
+
+      return value;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index > -1) {
+      final V oldValue = valueAt(index);
+      if (oldValue != null)
+        return oldValue;
+    }
+
+    final int modCount = this.modCount;
+    final V value = mappingFunction.apply(key);
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+
+    if (value != null) {
+      if (index < 0)
+        insertAt(-index - 1, key, value);
+      else
+        valueData[index] = value;
+    }
+
+    return value;
+  }
+
+  /**
+   * Performs the given action for each mapping in this map until all mappings have been processed or the action throws an
+   * exception.
+   *
+   * @param action The action to be performed for each mapping.
+   * @throws NullPointerException If the specified action is null.
+   * @throws ConcurrentModificationException If it is detected that the action modified this map.
+   */
+  public void forEach(final <X>ObjConsumer<? super V> action) {
+    Objects.requireNonNull(action);
+    final int modCount = this.modCount;
+    final <x>[] keyData = this.keyData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        action.accept(keyData[i], valueAt(i));
+
+    if (containsNull)
+      action.accept(NULL, nullValue);
+
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+  }
+
+  /**
+   * Returns an array containing all of the keys in this map.
+   *
+   * @return An array containing all of the keys in this map.
+   */
+  public <x>[] keys() {
+    final <x>[] keys = new <x>[size()];
+    final <x>[] keyData = this.keyData;
+    int j = 0;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        keys[j++] = keyData[i];
+
+    if (containsNull)
+      keys[j] = NULL;
+
+    return keys;
+  }
+
+  @Override
+  public int size() {
+    return containsNull ? size + 1 : size;
+  }
+
+  @Override
+  public void clear() {
+    if (size() > 0) {
+      ++modCount;
+      Arrays.fill(keyData, NULL);
+      Arrays.fill(valueData, null);
+      containsNull = false;
+      nullValue = null;
+      size = 0;
+    }
+  }
+
+  private void compactChain(int deleteIndex) {
+    final <x>[] keyData = this.keyData;
+    final Object[] valueData = this.valueData;
+    final int mask = keyData.length - 1;
+    int index = deleteIndex;
+    while (true) {
+      index = nextIndex(index, mask);
+      if (keyData[index] == NULL)
+        return;
+
+      if (isMovable(index, hash(<XX>.hashCode(keyData[index]), mask), deleteIndex)) {
+        keyData[deleteIndex] = keyData[index];
+        valueData[deleteIndex] = valueData[index];
+        keyData[index] = NULL;
+        valueData[index] = null;
+        deleteIndex = index;
+      }
+    }
+  }
+
+  private void rehash(final int newCapacity) {
+    ++modCount;
+    final int mask = newCapacity - 1;
+    this.resizeThreshold = (int)(newCapacity * loadFactor);
+    final <x>[] keyData = new <x>[newCapacity];
+    final Object[] valueData = new Object[newCapacity];
+    final <x>[] oldKeyData = this.keyData;
+    final Object[] oldValueData = this.valueData;
+    for (int i = 0, i$ = oldKeyData.length; i < i$; ++i) { // [A]
+      final <x> key = oldKeyData[i];
+      if (key != NULL) {
+        int newHash = hash(<XX>.hashCode(key), mask);
+        for (; keyData[newHash] != NULL; newHash = ++newHash & mask); // [N]
+        keyData[newHash] = key;
+        valueData[newHash] = oldValueData[i];
+      }
+    }
+
+    this.keyData = keyData;
+    this.valueData = valueData;
+  }
+
+  /**
+   * Compact the backing arrays by rehashing with a capacity just larger than current size and giving consideration to the load
+   * factor.
+   */
+  public void compact() {
+    final int idealCapacity = (int)Math.round(size() * (1.0 / loadFactor));
+    rehash(findNextPositivePowerOfTwo(Math.max(idealCapacity, size + 1)));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Hash<X>ObjectMap<V> clone() {
+    try {
+      final Hash<X>ObjectMap<V> clone = (Hash<X>ObjectMap<V>)super.clone();
+      clone.keyData = keyData.clone();
+      clone.valueData = valueData.clone();
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Hash<X>ObjectMap))
+      return false;
+
+    final Hash<X>ObjectMap<?> that = (Hash<X>ObjectMap<?>)obj;
+    if (size != that.size || containsNull != that.containsNull || containsNull && !Objects.equals(nullValue, that.nullValue))
+      return false;
+
+    final <x>[] keyData = this.keyData;
+    final Object[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) { // [A]
+      if (keyData[i] != NULL) {
+        final int index = that.indexOf(keyData[i]);
+        if (index < 0 || !Objects.equals(that.valueData[index], valueData[i]))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = containsNull ? <XX>.hashCode(NULL) ^ Objects.hashCode(nullValue) : 0;
+    final <x>[] keyData = this.keyData;
+    final Object[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        hashCode += <XX>.hashCode(keyData[i]) ^ Objects.hashCode(valueData[i]);
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('{');
+    final <x>[] keyData = this.keyData;
+    final Object[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != NULL)
+        builder.append(keyData[i]).append('=').append(valueData[i] == this ? "(this Map)" : valueData[i]).append(", ");
+
+    if (containsNull)
+      builder.append(NULL).append('=').append(nullValue == this ? "(this Map)" : nullValue).append(", ");
+
+    if (builder.length() > 1)
+      builder.setLength(builder.length() - 2);
+
+    builder.append('}');
+    return builder.toString();
+  }
+}
\ No newline at end of file
@@ -23,6 +23,7 @@ import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.RandomAccess;
 
 import org.libj.util.CollectionUtil;
@@ -379,30 +380,122 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
     return changed;
   }
 
+  /**
+   * Removes all of the values of this set that satisfy the given predicate, in a single pass over the hash table.
+   * <p>
+   * The slots of the table are visited in order, starting after an empty slot, such that each run of occupied slots is visited from
+   * its start. Once a value of a run has been removed, each value that follows it in the run is moved back to the first empty slot of
+   * its probe sequence, which is never past the slot of the value. A run is thus compacted as it is visited, rather than by a separate
+   * {@code compactChain} walk of the rest of the run for each removed value.
+   *
+   * @param filter A predicate which returns {@code true} for values to be removed.
+   * @return {@code true} if any values were removed.
+   * @throws NullPointerException If the specified filter is null.
+   */
   @Override
-  public boolean retainAll(final <X>Collection c) {
-    final <x>[] values = new <x>[this.valueData.length];
-    System.arraycopy(this.valueData, 0, values, 0, values.length);
-
+  public boolean removeIf(final <X>Predicate filter) {
+    Objects.requireNonNull(filter);
     boolean changed = false;
-    for (final <x> value : values) // [A]
-      if (!c.contains(value))
-        changed |= remove(value);
+    if (containsNull && filter.test(NULL)) {
+      ++modCount;
+      containsNull = false;
+      changed = true;
+    }
 
-    return changed;
+    if (size == 0)
+      return changed;
+
+    final <x>[] values = this.valueData;
+    final int mask = values.length - 1;
+    final int beforeSize = size;
+    int i = 0;
+    while (values[i] != NULL)
+      ++i;
+
+    boolean compact = false;
+    try {
+      for (final int i$ = i + values.length; ++i <= i$;) { // [A]
+        final int index = i & mask;
+        final <x> value = values[index];
+        if (value == NULL) {
+          compact = false;
+        }
+        else if (filter.test(value)) {
+          values[index] = NULL;
+          --size;
+          compact = true;
+        }
+        else if (compact) {
+          values[index] = NULL;
+          int j = hash(<XX>.hashCode(value), mask);
+          while (values[j] != NULL)
+            j = nextIndex(j, mask);
+
+          values[j] = value;
+        }
+      }
+    }
+    finally {
+      // If the filter has thrown, the rest of the run must still be compacted for its values to remain reachable
+      if (compact) {
+        for (int index; values[index = i & mask] != NULL; ++i) { // [A]
+          final <x> value = values[index];
+          values[index] = NULL;
+          int j = hash(<XX>.hashCode(value), mask);
+          while (values[j] != NULL)
+            j = nextIndex(j, mask);
+
+          values[j] = value;
+        }
+      }
+
+      if (size != beforeSize)
+        ++modCount;
+    }
+
+    return changed || size != beforeSize;
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    return removeIf(v -> !c.contains(v));
   }
 
   @Override
   public boolean retainAll(final Collection<<XX>> c) {
-    final <x>[] values = new <x>[this.valueData.length];
-    System.arraycopy(this.valueData, 0, values, 0, values.length);
+    return removeIf(v -> !c.contains(v));
+  }
 
-    boolean changed = false;
-    for (final <x> value : values) // [A]
-      if (!c.contains(value))
-        changed |= remove(value);
+  @Override
+  public void forEach(final <X>Consumer action) {
+    Objects.requireNonNull(action);
+    final int expectedModCount = modCount;
+    if (containsNull)
+      action.accept(NULL);
 
-    return changed;
+    final <x>[] values = this.valueData;
+    for (int i = 0, i$ = values.length; i < i$ && modCount == expectedModCount; ++i) { // [A]
+      final <x> value = values[i];
+      if (value != NULL)
+        action.accept(value);
+    }
+
+    if (modCount != expectedModCount)
+      throw new ConcurrentModificationException();
+  }
+
+  @Override
+  public <x> reduce(final <x> identity, final <X>BinaryOperator op) {
+    Objects.requireNonNull(op);
+    <x> result = containsNull ? op.applyAs<X>(identity, NULL) : identity;
+    final <x>[] values = this.valueData;
+    for (int i = 0, i$ = values.length; i < i$; ++i) { // [A]
+      final <x> value = values[i];
+      if (value != NULL)
+        result = op.applyAs<X>(result, value);
+    }
+
+    return result;
   }
 
   @Override
@@ -562,9 +655,106 @@ public class Hash<X>Set extends HashPrimitiveSet implements <X>Set {
     }
   }
 
+<_>  /**
+<_>   * A spliterator over a range of the hash table, which splits the range in halves, and skips the slots that hold {@link #NULL}. The
+<_>   * value represented by {@link #NULL} is reported by the spliterator of the first range, if the set contains it. Only the spliterator
+<_>   * of the whole table reports {@link Spliterator#SIZED}, because the values are not distributed evenly across the table.
+<_>   */
+<_>  private final class <X>Splitr implements Spliterator.Of<X> {
+<_>    private final <x>[] values;
+<_>    private int index;
+<_>    private final int fence;
+<_>    private boolean withNull;
+<_>    private boolean sized;
+<_>    private int est;
+<_>    private final int expectedModCount;
+<_>
+<_>    private <X>Splitr(final <x>[] values, final int index, final int fence, final boolean withNull, final boolean sized, final int est, final int expectedModCount) {
+<_>      this.values = values;
+<_>      this.index = index;
+<_>      this.fence = fence;
+<_>      this.withNull = withNull;
+<_>      this.sized = sized;
+<_>      this.est = est;
+<_>      this.expectedModCount = expectedModCount;
+<_>    }
+<_>
+<_>    @Override
+<_>    public <X>Splitr trySplit() {
+<_>      final int lo = index, mid = (lo + fence) >>> 1;
+<_>      if (lo >= mid)
+<_>        return null;
+<_>
+<_>      final boolean withNull = this.withNull;
+<_>      this.withNull = false;
+<_>      sized = false;
+<_>      return new <X>Splitr(values, lo, index = mid, withNull, false, est >>>= 1, expectedModCount);
+<_>    }
+<_>
+<_>    @Override
+<_>    public boolean tryAdvance(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      if (withNull) {
+<_>        withNull = false;
+<_>        action.accept(NULL);
+<_>      }
+<_>      else {
+<_>        while (true) {
+<_>          if (index >= fence)
+<_>            return false;
+<_>
+<_>          final <x> value = values[index++];
+<_>          if (value != NULL) {
+<_>            action.accept(value);
+<_>            break;
+<_>          }
+<_>        }
+<_>      }
+<_>
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>
+<_>      if (est > 0)
+<_>        --est;
+<_>
+<_>      return true;
+<_>    }
+<_>
+<_>    @Override
+<_>    public void forEachRemaining(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      if (withNull) {
+<_>        withNull = false;
+<_>        action.accept(NULL);
+<_>      }
+<_>
+<_>      final <x>[] values = this.values;
+<_>      final int fence = this.fence;
+<_>      int i = index;
+<_>      index = fence;
+<_>      est = 0;
+<_>      for (<x> value; i < fence; ++i) // [A]
+<_>        if ((value = values[i]) != NULL)
+<_>          action.accept(value);
+<_>
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>    }
+<_>
+<_>    @Override
+<_>    public long estimateSize() {
+<_>      return est;
+<_>    }
+<_>
+<_>    @Override
+<_>    public int characteristics() {
+<_>      return (sized ? Spliterator.SIZED : 0) | Spliterator.DISTINCT;
+<_>    }
+<_>  }
+<_>
 <_>  @Override
 <_>  public Spliterator.Of<X> spliterator() {
-<_>    throw new UnsupportedOperationException();
+<_>    return new <X>Splitr(valueData, 0, valueData.length, containsNull, true, size(), modCount);
 <_>  }
 <_>
 <_>  @Override
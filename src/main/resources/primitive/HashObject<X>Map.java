@@ -0,0 +1,523 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+
+/**
+ * A map of object keys to {@code <x>} values implementing
+ * <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing (closed hashing) with linear-probing for collision
+ * resolution</a> algorithm, with allocation-free operation in steady state when expanded.
+ * <p>
+ * This class replicates the API of the {@link java.util.HashMap} class by defining synonymous methods for a map of object keys to
+ * {@code <x>} values, which avoids the boxing of values. Since a {@code <x>} value cannot be {@code null}, the methods that return
+ * a value for a key that is not present in this map return {@code 0}. This map permits the {@code null} key.
+ *
+ * @param <K> The type of keys maintained by this map.
+ */
+public class HashObject<X>Map<K> extends HashPrimitiveMap {
+  private final float loadFactor;
+  private int resizeThreshold;
+
+  /**
+   * Whether this map contains the {@code null} key.
+   */
+  private boolean containsNull;
+  private <x> nullValue;
+  private Object[] keyData;
+  private <x>[] valueData;
+  private int size;
+  private transient int modCount;
+
+  /**
+   * Creates an empty {@link HashObject<X>Map} with the default initial capacity (16) and the default load factor (0.55).
+   */
+  public HashObject<X>Map() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty {@link HashObject<X>Map} with the specified initial capacity and load factor.
+   *
+   * @param initialCapacity The initial capacity.
+   * @param loadFactor The load factor.
+   * @throws IllegalArgumentException If the initial capacity is negative or the load factor less than {@code .1} or greater than
+   *           {@code .9}.
+   */
+  public HashObject<X>Map(final int initialCapacity, final float loadFactor) {
+    this.loadFactor = assertLoadFactor(loadFactor);
+    final int capacity = findNextPositivePowerOfTwo(initialCapacity);
+    this.resizeThreshold = (int)(capacity * loadFactor);
+    this.keyData = new Object[capacity];
+    this.valueData = new <x>[capacity];
+  }
+
+  /**
+   * Creates an empty {@link HashObject<X>Map} with the specified initial capacity and the default load factor (0.55).
+   *
+   * @param initialCapacity The initial capacity.
+   * @throws IllegalArgumentException If the initial capacity is negative.
+   */
+  public HashObject<X>Map(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a new {@link HashObject<X>Map} with the same mappings as the specified map. The {@link HashObject<X>Map} is created
+   * with default load factor (0.55) and an initial capacity sufficient to hold the mappings in the specified map.
+   *
+   * @param m The map whose mappings are to be placed in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  public HashObject<X>Map(final HashObject<X>Map<? extends K> m) {
+    this((int)(m.size() / DEFAULT_LOAD_FACTOR) + 1);
+    putAll(m);
+  }
+
+  private int indexOf(final Object key) {
+    final Object[] keyData = this.keyData;
+    final int mask = keyData.length - 1;
+    Object k;
+    for (int index = hash(key, mask); (k = keyData[index]) != null; index = nextIndex(index, mask)) // [A]
+      if (k == key || k.equals(key))
+        return index;
+
+    return -1;
+  }
+
+  private int insertionIndexOf(final Object key) {
+    final Object[] keyData = this.keyData;
+    final int mask = keyData.length - 1;
+    int index = hash(key, mask);
+    Object k;
+    for (; (k = keyData[index]) != null; index = nextIndex(index, mask)) // [A]
+      if (k == key || k.equals(key))
+        return index;
+
+    return -index - 1;
+  }
+
+  private void insertAt(final int index, final K key, final <x> value) {
+    ++modCount;
+    keyData[index] = key;
+    valueData[index] = value;
+    if (++size > resizeThreshold)
+      rehash(keyData.length * 2);
+  }
+
+  @SuppressWarnings("unchecked")
+  private K keyAt(final int index) {
+    return (K)keyData[index];
+  }
+
+  /**
+   * Returns {@code true} if this map contains a mapping for the specified key.
+   *
+   * @param key The key whose presence in this map is to be tested.
+   * @return {@code true} if this map contains a mapping for the specified key.
+   */
+  public boolean containsKey(final Object key) {
+    return key == null ? containsNull : indexOf(key) > -1;
+  }
+
+  /**
+   * Returns {@code true} if this map maps one or more keys to the specified value.
+   *
+   * @param value The value whose presence in this map is to be tested.
+   * @return {@code true} if this map maps one or more keys to the specified value.
+   */
+  public boolean containsValue(final <x> value) {
+    if (containsNull && nullValue == value)
+      return true;
+
+    final Object[] keyData = this.keyData;
+    final <x>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != null && valueData[i] == value)
+        return true;
+
+    return false;
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code 0} if this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @return The value to which the specified key is mapped, or {@code 0} if this map contains no mapping for the key.
+   * @see #getOrDefault(Object,<x>)
+   */
+  public <x> get(final Object key) {
+    return getOrDefault(key, (<x>)0);
+  }
+
+  /**
+   * Returns the value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping for the key.
+   *
+   * @param key The key whose associated value is to be returned.
+   * @param defaultValue The default mapping of the key.
+   * @return The value to which the specified key is mapped, or {@code defaultValue} if this map contains no mapping for the key.
+   */
+  public <x> getOrDefault(final Object key, final <x> defaultValue) {
+    if (key == null)
+      return containsNull ? nullValue : defaultValue;
+
+    final int index = indexOf(key);
+    return index < 0 ? defaultValue : valueData[index];
+  }
+
+  /**
+   * Associates the specified value with the specified key in this map. If the map previously contained a mapping for the key, the
+   * old value is replaced.
+   *
+   * @param key The key with which the specified value is to be associated.
+   * @param value The value to be associated with the specified key.
+   * @return The previous value associated with {@code key}, or {@code 0} if there was no mapping for {@code key}.
+   */
+  public <x> put(final K key, final <x> value) {
+    if (key == null) {
+      final <x> oldValue = containsNull ? nullValue : (<x>)0;
+      if (!containsNull) {
+        ++modCount;
+        containsNull = true;
+      }
+
+      nullValue = value;
+      return oldValue;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, value);
+      return (<x>)0;
+    }
+
+    final <x> oldValue = valueData[index];
+    valueData[index] = value;
+    return oldValue;
+  }
+
+  /**
+   * Copies all of the mappings from the specified map to this map. These mappings will replace any mappings that this map had for
+   * any of the keys currently in the specified map.
+   *
+   * @param m Mappings to be stored in this map.
+   * @throws NullPointerException If the specified map is null.
+   */
+  public void putAll(final HashObject<X>Map<? extends K> m) {
+    final Object[] keyData = m.keyData;
+    final <x>[] valueData = m.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != null)
+        put(m.keyAt(i), valueData[i]);
+
+    if (m.containsNull)
+      put(null, m.nullValue);
+  }
+
+  /**
+   * Removes the mapping for the specified key from this map if present.
+   *
+   * @param key The key whose mapping is to be removed from the map.
+   * @return The previous value associated with {@code key}, or {@code 0} if there was no mapping for {@code key}.
+   */
+  public <x> remove(final Object key) {
+    if (key == null) {
+      if (!containsNull)
+        return (<x>)0;
+
+      ++modCount;
+      containsNull = false;
+      final <x> oldValue = nullValue;
+      nullValue = (<x>)0;
+      return oldValue;
+    }
+
+    final int index = indexOf(key);
+    if (index < 0)
+      return (<x>)0;
+
+    ++modCount;
+    final <x> oldValue = valueData[index];
+    keyData[index] = null;
+    valueData[index] = (<x>)0;
+    compactChain(index);
+    --size;
+    return oldValue;
+  }
+
+  /**
+   * Adds the specified delta to the value to which the specified key is mapped, or associates the key with the delta if this map
+   * contains no mapping for the key.
+   *
+   * @param key The key with which the resulting value is to be associated.
+   * @param delta The value to add.
+   * @return The new value associated with the specified key.
+   */
+  public <x> addTo(final K key, final <x> delta) {
+    if (key == null) {
+      if (containsNull)
+        return nullValue = (<x>)(nullValue + delta);
+
+      ++modCount;
+      containsNull = true;
+      return nullValue = delta;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, delta);
+      return delta;
+    }
+
+    return valueData[index] = (<x>)(valueData[index] + delta);
+  }
+
+  /**
+   * If the specified key is not already associated with a value, associates it with the given value. Otherwise, replaces the
+   * associated value with the result of the given remapping function.
+   *
+   * @param key The key with which the resulting value is to be associated.
+   * @param value The value to be merged with the existing value associated with the key or, if no existing value is associated
+   *          with the key, to be associated with the key.
+   * @param remappingFunction The function to recompute a value if present.
+   * @return The new value associated with the specified key.
+   * @throws NullPointerException If the specified remapping function is null.
+   */
+  public <x> merge(final K key, final <x> value, final <X>BinaryOperator remappingFunction) {
+    Objects.requireNonNull(remappingFunction);
+    if (key == null) {
+      if (containsNull)
+        return nullValue = remappingFunction.applyAs<X>(nullValue, value);
+
+      ++modCount;
+      containsNull = true;
+      return nullValue = value;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index < 0) {
+      insertAt(-index - 1, key, value);
+      return value;
+    }
+
+    return valueData[index] = remappingFunction.applyAs<X>(valueData[index], value);
+  }
+
+  /**
+   * If the specified key is not already associated with a value, attempts to compute its value using the given mapping function
+   * and enters it into this map.
+   *
+   * @param key The key with which the specified value is to be associated.
+   * @param mappingFunction The function to compute a value.
+   * @return The current (existing or computed) value associated with the specified key.
+   * @throws NullPointerException If the specified mapping function is null.
+   * @throws ConcurrentModificationException If it is detected that the mapping function modified this map.
+   */
+  public <x> computeIfAbsent(final K key, final To<X>Function<? super K> mappingFunction) {
+    Objects.requireNonNull(mappingFunction);
+    if (key == null) {
+      if (containsNull)
+        return nullValue;
+
+      final int modCount = this.modCount;
+      final <x> value = mappingFunction.applyAs<X>(key);
+      if (modCount != this.modCount)
+        throw new ConcurrentModificationException();
+
+      ++this.modCount;
+      containsNull = true;
+      return nullValue = value;
+    }
+
+    final int index = insertionIndexOf(key);
+    if (index > -1)
+      return valueData[index];
+
+    final int modCount = this.modCount;
+    final <x> value = mappingFunction.applyAs<X>(key);
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+
+    insertAt(-index - 1, key, value);
+    return value;
+  }
+
+  /**
+   * Performs the given action for each mapping in this map until all mappings have been processed or the action throws an
+   * exception.
+   *
+   * @param action The action to be performed for each mapping.
+   * @throws NullPointerException If the specified action is null.
+   * @throws ConcurrentModificationException If it is detected that the action modified this map.
+   */
+  public void forEach(final Obj<X>Consumer<? super K> action) {
+    Objects.requireNonNull(action);
+    final int modCount = this.modCount;
+    final Object[] keyData = this.keyData;
+    final <x>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != null)
+        action.accept(keyAt(i), valueData[i]);
+
+    if (containsNull)
+      action.accept(null, nullValue);
+
+    if (modCount != this.modCount)
+      throw new ConcurrentModificationException();
+  }
+
+  @Override
+  public int size() {
+    return containsNull ? size + 1 : size;
+  }
+
+  @Override
+  public void clear() {
+    if (size() > 0) {
+      ++modCount;
+      Arrays.fill(keyData, null);
+      Arrays.fill(valueData, (<x>)0);
+      containsNull = false;
+      nullValue = (<x>)0;
+      size = 0;
+    }
+  }
+
+  private void compactChain(int deleteIndex) {
+    final Object[] keyData = this.keyData;
+    final <x>[] valueData = this.valueData;
+    final int mask = keyData.length - 1;
+    int index = deleteIndex;
+    while (true) {
+      index = nextIndex(index, mask);
+      if (keyData[index] == null)
+        return;
+
+      if (isMovable(index, hash(keyData[index], mask), deleteIndex)) {
+        keyData[deleteIndex] = keyData[index];
+        valueData[deleteIndex] = valueData[index];
+        keyData[index] = null;
+        valueData[index] = (<x>)0;
+        deleteIndex = index;
+      }
+    }
+  }
+
+  private void rehash(final int newCapacity) {
+    ++modCount;
+    final int mask = newCapacity - 1;
+    this.resizeThreshold = (int)(newCapacity * loadFactor);
+    final Object[] keyData = new Object[newCapacity];
+    final <x>[] valueData = new <x>[newCapacity];
+    final Object[] oldKeyData = this.keyData;
+    final <x>[] oldValueData = this.valueData;
+    for (int i = 0, i$ = oldKeyData.length; i < i$; ++i) { // [A]
+      final Object key = oldKeyData[i];
+      if (key != null) {
+        int newHash = hash(key, mask);
+        for (; keyData[newHash] != null; newHash = ++newHash & mask); // [N]
+        keyData[newHash] = key;
+        valueData[newHash] = oldValueData[i];
+      }
+    }
+
+    this.keyData = keyData;
+    this.valueData = valueData;
+  }
+
+  /**
+   * Compact the backing arrays by rehashing with a capacity just larger than current size and giving consideration to the load
+   * factor.
+   */
+  public void compact() {
+    final int idealCapacity = (int)Math.round(size() * (1.0 / loadFactor));
+    rehash(findNextPositivePowerOfTwo(Math.max(idealCapacity, size + 1)));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public HashObject<X>Map<K> clone() {
+    try {
+      final HashObject<X>Map<K> clone = (HashObject<X>Map<K>)super.clone();
+      clone.keyData = keyData.clone();
+      clone.valueData = valueData.clone();
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof HashObject<X>Map))
+      return false;
+
+    final HashObject<X>Map<?> that = (HashObject<X>Map<?>)obj;
+    if (size != that.size || containsNull != that.containsNull || containsNull && nullValue != that.nullValue)
+      return false;
+
+    final Object[] keyData = this.keyData;
+    final <x>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) { // [A]
+      if (keyData[i] != null) {
+        final int index = that.indexOf(keyData[i]);
+        if (index < 0 || that.valueData[index] != valueData[i])
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = containsNull ? <XX>.hashCode(nullValue) : 0;
+    final Object[] keyData = this.keyData;
+    final <x>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != null)
+        hashCode += keyData[i].hashCode() ^ <XX>.hashCode(valueData[i]);
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('{');
+    final Object[] keyData = this.keyData;
+    final <x>[] valueData = this.valueData;
+    for (int i = 0, i$ = keyData.length; i < i$; ++i) // [A]
+      if (keyData[i] != null)
+        builder.append(keyData[i] == this ? "(this Map)" : keyData[i]).append('=').append(valueData[i]).append(", ");
+
+    if (containsNull)
+      builder.append("null=").append(nullValue).append(", ");
+
+    if (builder.length() > 1)
+      builder.setLength(builder.length() - 2);
+
+    builder.append('}');
+    return builder.toString();
+  }
+}
\ No newline at end of file
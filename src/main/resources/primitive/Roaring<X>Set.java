@@ -0,0 +1,735 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterators;
+
+import org.libj.util.CollectionUtil;
+
+/**
+ * An {@link <X>Set} implementing a <a href="https://roaringbitmap.org/">Roaring bitmap</a>, which partitions its values by their
+ * high-order bits into chunks of 2^16 values, and stores the 16 low-order bits of the values of each chunk in a container whose
+ * representation is chosen by the density of the chunk: a sorted array for sparse chunks, a bitmap for dense chunks, and runs of
+ * consecutive values for chunks compacted with {@link #runOptimize()}.
+ * <p>
+ * A {@link Roaring<X>Set} occupies as little as 2 bytes per value, and computes the intersection, union and difference of two sets
+ * container by container with {@link #and(Roaring<X>Set,Roaring<X>Set)}, {@link #or(Roaring<X>Set,Roaring<X>Set)} and
+ * {@link #andNot(Roaring<X>Set,Roaring<X>Set)}. Values are iterated in ascending unsigned order.
+ */
+public class Roaring<X>Set implements <X>Set {
+  private static final int MAGIC = 0x524F4152;
+
+  private transient <x>[] keys;
+  private transient RoaringContainer[] containers;
+  private transient int count;
+  private transient long cardinality;
+  private transient int modCount;
+
+  /**
+   * Creates an empty {@link Roaring<X>Set}.
+   */
+  public Roaring<X>Set() {
+    this.keys = new <x>[4];
+    this.containers = new RoaringContainer[4];
+  }
+
+  /**
+   * Creates a new {@link Roaring<X>Set} with the same values as the specified collection.
+   *
+   * @param c The collection whose values are to be added to this set.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Roaring<X>Set(final <X>Collection c) {
+    this();
+    addAll(c);
+  }
+
+  /**
+   * Creates a new {@link Roaring<X>Set} with the same values as the specified collection.
+   *
+   * @param c The collection whose values are to be added to this set.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Roaring<X>Set(final Collection<<XX>> c) {
+    this();
+    addAll(c);
+  }
+
+  private static <x> key(final <x> value) {
+    return value >>> 16;
+  }
+
+  private static int low(final <x> value) {
+    return (int)(value & 0xFFFF);
+  }
+
+  private int indexOf(final <x> key) {
+    return Arrays.binarySearch(keys, 0, count, key);
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (capacity > keys.length) {
+      final int length = Math.max(capacity, keys.length + (keys.length >> 1));
+      keys = Arrays.copyOf(keys, length);
+      containers = Arrays.copyOf(containers, length);
+    }
+  }
+
+  private void insert(final int index, final <x> key, final RoaringContainer container) {
+    ensureCapacity(count + 1);
+    System.arraycopy(keys, index, keys, index + 1, count - index);
+    System.arraycopy(containers, index, containers, index + 1, count - index);
+    keys[index] = key;
+    containers[index] = container;
+    ++count;
+  }
+
+  private void delete(final int index) {
+    System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, count - index - 1);
+    containers[--count] = null;
+  }
+
+  private void append(final <x> key, final RoaringContainer container) {
+    ensureCapacity(count + 1);
+    keys[count] = key;
+    containers[count++] = container;
+    cardinality += container.cardinality();
+  }
+
+  /**
+   * Replaces the contents of this set with the contents of the specified set, which is the result of a set operation that either
+   * only adds values to this set or only removes values from it, and which therefore differs from this set only if its cardinality
+   * differs.
+   */
+  private boolean assign(final Roaring<X>Set s) {
+    if (cardinality == s.cardinality)
+      return false;
+
+    keys = s.keys;
+    containers = s.containers;
+    count = s.count;
+    cardinality = s.cardinality;
+    ++modCount;
+    return true;
+  }
+
+  @Override
+  public boolean add(final <x> value) {
+    final <x> key = key(value);
+    final int low = low(value);
+    final int index = indexOf(key);
+    if (index < 0) {
+      insert(-index - 1, key, new RoaringContainer.ArrayContainer(low));
+    }
+    else {
+      final RoaringContainer container = containers[index];
+      final int cardinality = container.cardinality();
+      if ((containers[index] = container.add(low)).cardinality() == cardinality)
+        return false;
+    }
+
+    ++cardinality;
+    ++modCount;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    if (c instanceof Roaring<X>Set)
+      return assign(or(this, (Roaring<X>Set)c));
+
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        changed |= add(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        changed |= add(i.next());
+      while (i.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        changed |= add(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        changed |= add(it.next());
+      while (it.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean contains(final <x> value) {
+    final int index = indexOf(key(value));
+    return index >= 0 && containers[index].contains(low(value));
+  }
+
+  @Override
+  public boolean containsAll(final <X>Collection c) {
+    if (c instanceof Roaring<X>Set) {
+      final Roaring<X>Set s = (Roaring<X>Set)c;
+      return s.cardinality <= cardinality && and(this, s).cardinality == s.cardinality;
+    }
+
+    final int i$ = c.size();
+    if (i$ == 0)
+      return true;
+
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        if (!contains(l.get(i)))
+          return false;
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        if (!contains(i.next()))
+          return false;
+      while (i.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return true;
+
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        if (!contains(l.get(i)))
+          return false;
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        if (!contains(it.next()))
+          return false;
+      while (it.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(final <x> value) {
+    final int index = indexOf(key(value));
+    if (index < 0)
+      return false;
+
+    final RoaringContainer container = containers[index];
+    final int cardinality = container.cardinality();
+    final RoaringContainer removed = containers[index] = container.remove(low(value));
+    if (removed.cardinality() == cardinality)
+      return false;
+
+    if (cardinality == 1)
+      delete(index);
+
+    --this.cardinality;
+    ++modCount;
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... a) {
+    boolean changed = false;
+    for (int i = 0, i$ = a.length; i < i$; ++i) // [A]
+      changed |= remove(a[i]);
+
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    if (c instanceof Roaring<X>Set)
+      return assign(andNot(this, (Roaring<X>Set)c));
+
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        changed |= remove(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        changed |= remove(i.next());
+      while (i.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    boolean changed = false;
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        changed |= remove(l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        changed |= remove(it.next());
+      while (it.hasNext());
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    if (c instanceof Roaring<X>Set)
+      return assign(and(this, (Roaring<X>Set)c));
+
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) { // [I]
+      if (!c.contains(i.next())) {
+        i.remove();
+        changed = true;
+      }
+    }
+
+    return changed;
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    boolean changed = false;
+    for (final <X>Iterator i = iterator(); i.hasNext();) { // [I]
+      if (!c.contains(i.next())) {
+        i.remove();
+        changed = true;
+      }
+    }
+
+    return changed;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(containers, 0, count, null);
+    count = 0;
+    cardinality = 0;
+    ++modCount;
+  }
+
+  /**
+   * Returns the number of values in this set, which may exceed {@link Integer#MAX_VALUE}.
+   *
+   * @return The number of values in this set.
+   */
+  public long cardinality() {
+    return cardinality;
+  }
+
+  /**
+   * Returns the number of values in this set, or {@link Integer#MAX_VALUE} if this set contains more than
+   * {@link Integer#MAX_VALUE} values.
+   *
+   * @return The number of values in this set, or {@link Integer#MAX_VALUE} if this set contains more than
+   *         {@link Integer#MAX_VALUE} values.
+   * @see #cardinality()
+   */
+  @Override
+  public int size() {
+    return (int)Math.min(cardinality, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return cardinality == 0;
+  }
+
+  /**
+   * Converts each container of this set to its most compact representation, including runs of consecutive values, which are not
+   * otherwise produced by mutations of the set. A container of runs is converted back to an array or bitmap when it is next
+   * modified.
+   */
+  public void runOptimize() {
+    for (int i = 0; i < count; ++i) // [A]
+      containers[i] = containers[i].optimize();
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    final int size = size();
+    if (a.length < size)
+      a = new <x>[size];
+
+    final <X>Iterator i = iterator();
+    for (int j = 0; j < size; ++j) // [A]
+      a[j] = i.next();
+
+    if (a.length > size)
+      a[size] = <d>;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    final int size = size();
+    if (a.length < size)
+      a = new <XX>[size];
+
+    final <X>Iterator i = iterator();
+    for (int j = 0; j < size; ++j) // [A]
+      a[j] = i.next();
+
+    if (a.length > size)
+      a[size] = null;
+
+    return a;
+  }
+
+  @Override
+  public <X>Iterator iterator() {
+    return new <X>Itr();
+  }
+
+  private final class <X>Itr implements <X>Iterator {
+    private int index;
+    private RoaringContainer.Cursor cursor = count == 0 ? null : containers[0].cursor(0);
+    private boolean canRemove;
+    private <x> last;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      while (cursor != null && !cursor.hasNext())
+        cursor = ++index < count ? containers[index].cursor(0) : null;
+
+      return cursor != null;
+    }
+
+    @Override
+    public <x> next() {
+      checkForComodification();
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      canRemove = true;
+      return last = (<x>)(keys[index] << 16 | cursor.next());
+    }
+
+    @Override
+    public void remove() {
+      if (!canRemove)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      Roaring<X>Set.this.remove(last);
+      canRemove = false;
+      expectedModCount = modCount;
+
+      // The removal may have replaced or deleted the container, so the cursor is re-positioned after the removed value
+      index = indexOf(key(last));
+      if (index >= 0) {
+        cursor = containers[index].cursor(low(last) + 1);
+      }
+      else {
+        index = -index - 1;
+        cursor = index < count ? containers[index].cursor(0) : null;
+      }
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    final <X>Iterator iterator = iterator();
+<_>    return new Spliterators.Abstract<X>Spliterator(size(), Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.SIZED) {
+<_>      @Override
+<_>      public boolean tryAdvance(final <X>Consumer action) {
+<_>        if (!iterator.hasNext())
+<_>          return false;
+<_>
+<_>        action.accept(iterator.next());
+<_>        return true;
+<_>      }
+<_>    };
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+
+  /**
+   * Returns a new {@link Roaring<X>Set} with the values that are in both of the specified sets.
+   *
+   * @param a The first set.
+   * @param b The second set.
+   * @return A new {@link Roaring<X>Set} with the values that are in both of the specified sets.
+   * @throws NullPointerException If {@code a} or {@code b} is null.
+   */
+  public static Roaring<X>Set and(final Roaring<X>Set a, final Roaring<X>Set b) {
+    final Roaring<X>Set result = new Roaring<X>Set();
+    for (int i = 0, j = 0; i < a.count && j < b.count;) { // [A]
+      final <x> x = a.keys[i];
+      final <x> y = b.keys[j];
+      if (x < y) {
+        ++i;
+      }
+      else if (x > y) {
+        ++j;
+      }
+      else {
+        final RoaringContainer container = RoaringContainer.and(a.containers[i++], b.containers[j++]);
+        if (container != null)
+          result.append(x, container);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Returns a new {@link Roaring<X>Set} with the values that are in either of the specified sets.
+   *
+   * @param a The first set.
+   * @param b The second set.
+   * @return A new {@link Roaring<X>Set} with the values that are in either of the specified sets.
+   * @throws NullPointerException If {@code a} or {@code b} is null.
+   */
+  public static Roaring<X>Set or(final Roaring<X>Set a, final Roaring<X>Set b) {
+    final Roaring<X>Set result = new Roaring<X>Set();
+    result.ensureCapacity(a.count + b.count);
+    int i = 0, j = 0;
+    while (i < a.count && j < b.count) {
+      final <x> x = a.keys[i];
+      final <x> y = b.keys[j];
+      if (x < y)
+        result.append(x, a.containers[i++].clone());
+      else if (x > y)
+        result.append(y, b.containers[j++].clone());
+      else
+        result.append(x, RoaringContainer.or(a.containers[i++], b.containers[j++]));
+    }
+
+    while (i < a.count)
+      result.append(a.keys[i], a.containers[i++].clone());
+
+    while (j < b.count)
+      result.append(b.keys[j], b.containers[j++].clone());
+
+    return result;
+  }
+
+  /**
+   * Returns a new {@link Roaring<X>Set} with the values of the first set that are not in the second set.
+   *
+   * @param a The set from which values are to be excluded.
+   * @param b The set of values to exclude.
+   * @return A new {@link Roaring<X>Set} with the values of {@code a} that are not in {@code b}.
+   * @throws NullPointerException If {@code a} or {@code b} is null.
+   */
+  public static Roaring<X>Set andNot(final Roaring<X>Set a, final Roaring<X>Set b) {
+    final Roaring<X>Set result = new Roaring<X>Set();
+    result.ensureCapacity(a.count);
+    for (int i = 0, j = 0; i < a.count; ++i) { // [A]
+      final <x> x = a.keys[i];
+      while (j < b.count && b.keys[j] < x)
+        ++j;
+
+      final RoaringContainer container = j < b.count && b.keys[j] == x ? RoaringContainer.andNot(a.containers[i], b.containers[j]) : a.containers[i].clone();
+      if (container != null)
+        result.append(x, container);
+    }
+
+    return result;
+  }
+
+  /**
+   * Writes the values of this set to the specified {@link DataOutput} in a compact binary format of its containers, which is read
+   * with {@link #deserialize(DataInput)}.
+   *
+   * @param out The {@link DataOutput}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code out} is null.
+   */
+  public void serialize(final DataOutput out) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(count);
+    for (int i = 0; i < count; ++i) { // [A]
+      out.write<X>(keys[i]);
+      containers[i].write(out);
+    }
+  }
+
+  /**
+   * Returns a new {@link Roaring<X>Set} with the values read from the specified {@link DataInput}, as written with
+   * {@link #serialize(DataOutput)}.
+   *
+   * @param in The {@link DataInput}.
+   * @return A new {@link Roaring<X>Set} with the values read from the specified {@link DataInput}.
+   * @throws IOException If an I/O error has occurred, or if the input is malformed.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public static Roaring<X>Set deserialize(final DataInput in) throws IOException {
+    final Roaring<X>Set set = new Roaring<X>Set();
+    set.read(in);
+    return set;
+  }
+
+  private void read(final DataInput in) throws IOException {
+    if (in.readInt() != MAGIC)
+      throw new IOException("Malformed input: not a Roaring<X>Set");
+
+    final int count = in.readInt();
+    if (count < 0)
+      throw new IOException("Malformed input: negative number of containers");
+
+    keys = new <x>[Math.max(4, count)];
+    containers = new RoaringContainer[keys.length];
+    for (int i = 0; i < count; ++i) { // [A]
+      final <x> key = in.read<X>();
+      if (key < 0 || key > key(-1) || this.count > 0 && key <= keys[this.count - 1])
+        throw new IOException("Malformed input: keys are not in ascending order");
+
+      append(key, RoaringContainer.read(in));
+    }
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    serialize(out);
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    read(in);
+  }
+
+  @Override
+  public Roaring<X>Set clone() {
+    try {
+      final Roaring<X>Set clone = (Roaring<X>Set)super.clone();
+      clone.keys = keys.clone();
+      clone.containers = new RoaringContainer[containers.length];
+      for (int i = 0; i < count; ++i) // [A]
+        clone.containers[i] = containers[i].clone();
+
+      clone.modCount = 0;
+      return clone;
+    }
+    catch (final CloneNotSupportedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Roaring<X>Set))
+      return false;
+
+    final Roaring<X>Set that = (Roaring<X>Set)obj;
+    if (count != that.count || cardinality != that.cardinality)
+      return false;
+
+    for (int i = 0; i < count; ++i) // [A]
+      if (keys[i] != that.keys[i] || !containers[i].equalValues(that.containers[i]))
+        return false;
+
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (final <X>Iterator i = iterator(); i.hasNext();) // [I]
+      hashCode += <XX>.hashCode(i.next());
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (final <X>Iterator i = iterator(); i.hasNext();) // [I]
+      builder.append(i.next()).append(", ");
+
+    if (builder.length() > 1)
+      builder.setLength(builder.length() - 2);
+
+    builder.append(']');
+    return builder.toString();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,907 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import org.libj.lang.Assertions;
+import org.libj.util.ArrayUtil;
+import org.libj.util.CollectionUtil;
+
+/**
+ * An unsynchronized implementation of a resizable list of <x> values that are stored in fixed-size chunks.
+ * <p>
+ * Unlike {@link Array<X>List}, which grows by copying its values to a larger array, this list grows by allocating another chunk,
+ * and never copies the values already stored. The number of values in a chunk is a power of two, so that the location of a value
+ * is computed with a shift and a mask. A {@link Segmented<X>List} is therefore suited for very large lists, for which the copy and
+ * the transient doubling of memory of a contiguous grow would be prohibitive.
+ * <p>
+ * The {@code size}, {@code isEmpty}, {@code get}, and {@code set} operations run in constant time. The {@code add} operation runs
+ * in <i>amortized constant time</i>. All of the other operations run in linear time (roughly speaking).
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong> If multiple threads access a {@link Segmented<X>List}
+ * instance concurrently, and at least one of the threads modifies the list structurally, it <i>must</i> be synchronized externally.
+ * (A structural modification is any operation that adds or deletes one or more elements, or explicitly resizes the backing
+ * chunks; merely setting the value of an element is not a structural modification.)
+ */
+public class Segmented<X>List extends PrimitiveArrayList<<x>[][]> implements <X>List, RandomAccess {
+  /** The default number of values in a chunk. */
+  static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+
+  private static final <x>[][] EMPTY_VALUEDATA = {};
+
+  private final int shift;
+  private final int mask;
+
+  /**
+   * Creates an empty list with chunks of the default size.
+   */
+  public Segmented<X>List() {
+    this(0, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates an empty list with chunks of the default size, and with the specified initial capacity.
+   *
+   * @param initialCapacity The initial capacity of the list.
+   * @throws IllegalArgumentException If the specified initial capacity is negative.
+   */
+  public Segmented<X>List(final int initialCapacity) {
+    this(initialCapacity, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates an empty list with the specified initial capacity, and with chunks of the specified number of values, rounded up to
+   * the next power of two.
+   *
+   * @param initialCapacity The initial capacity of the list.
+   * @param chunkSize The number of values in a chunk.
+   * @throws IllegalArgumentException If the specified initial capacity is negative, or if the specified chunk size is not positive
+   *           or exceeds {@code 2^30}.
+   */
+  public Segmented<X>List(final int initialCapacity, final int chunkSize) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+
+    if (chunkSize <= 0 || chunkSize > 1 << 30)
+      throw new IllegalArgumentException("Illegal chunk size: " + chunkSize);
+
+    shift = 32 - Integer.numberOfLeadingZeros(chunkSize - 1);
+    mask = (1 << shift) - 1;
+    fromIndex = 0;
+    valueData = EMPTY_VALUEDATA;
+    ensureCapacity(initialCapacity);
+  }
+
+  /**
+   * Creates a list with chunks of the default size containing the values of the specified array.
+   *
+   * @param values The array whose values are to be placed into this list.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Segmented<X>List(final <x>[] values, final int offset, final int length) {
+    this(length, DEFAULT_CHUNK_SIZE);
+    addAll(values, offset, length);
+  }
+
+  /**
+   * Creates a list with chunks of the default size containing the values of the specified array.
+   *
+   * @param values The array whose values are to be placed into this list.
+   * @throws NullPointerException If the specified array is null.
+   */
+  public Segmented<X>List(final <x> ... values) {
+    this(values, 0, values.length);
+  }
+
+  /**
+   * Creates a list with chunks of the default size containing the values of the specified collection, in the order they are
+   * returned by the collection's iterator.
+   *
+   * @param c The collection whose values are to be placed into this list.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public Segmented<X>List(final Collection<<XX>> c) {
+    this(c.size(), DEFAULT_CHUNK_SIZE);
+    addAll(c);
+  }
+
+  /**
+   * Creates a sub-list, and integrates it into the specified parent list's sub-list graph. A sub-list instance shares the parent
+   * list's {@link #valueData}, and modifications made to any list in the graph of sub-lists are propagated with the
+   * {@link PrimitiveArrayList#updateState(int,int)} method.
+   *
+   * @param parent The parent list.
+   * @param fromIndex Low endpoint (inclusive) of the subList.
+   * @param toIndex High endpoint (exclusive) of the subList.
+   * @throws NullPointerException If the specified parent list is null.
+   */
+  private Segmented<X>List(final Segmented<X>List parent, final int fromIndex, final int toIndex) {
+    super(parent, fromIndex, toIndex);
+    this.shift = parent.shift;
+    this.mask = parent.mask;
+  }
+
+  /**
+   * Copies {@code length} values in {@code valueData} from index {@code from} to index {@code to}, one chunk-aligned segment at a
+   * time, correctly handling the case of the source and destination ranges overlapping.
+   *
+   * @param from The index of the first value to copy.
+   * @param to The index to which to copy the first value.
+   * @param length The number of values to copy.
+   */
+  private void move(int from, int to, int length) {
+    final <x>[][] valueData = this.valueData;
+    if (to > from) {
+      for (int n; length > 0; length -= n) { // [N]
+        final int s = (from + length - 1) & mask;
+        final int d = (to + length - 1) & mask;
+        n = Math.min(length, Math.min(s, d) + 1);
+        System.arraycopy(valueData[(from + length - 1) >>> shift], s + 1 - n, valueData[(to + length - 1) >>> shift], d + 1 - n, n);
+      }
+    }
+    else if (to < from) {
+      for (int n; length > 0; from += n, to += n, length -= n) { // [N]
+        final int s = from & mask;
+        final int d = to & mask;
+        n = Math.min(length, mask + 1 - Math.max(s, d));
+        System.arraycopy(valueData[from >>> shift], s, valueData[to >>> shift], d, n);
+      }
+    }
+  }
+
+  /**
+   * Shifts the values in {@code valueData} right a distance of {@code dist} starting from {@code index}.
+   *
+   * @param start Index from which to shift the values to the right.
+   * @param dist Distance to shift the values by.
+   */
+  private void shiftRight(final int start, final int dist) {
+    ensureCapacity(size + dist);
+    move(start, start + dist, size - start);
+  }
+
+  /**
+   * Shifts the values in {@code valueData} left a distance of {@code dist} starting from {@code index}.
+   *
+   * @param start Index from which to shift the values to the left.
+   * @param dist Distance to shift the values by.
+   */
+  private void shiftLeft(final int start, final int dist) {
+    move(start + dist, start, size - start - dist);
+  }
+
+  private <x> value(final int index) {
+    return valueData[index >>> shift][index & mask];
+  }
+
+  private void value(final int index, final <x> value) {
+    valueData[index >>> shift][index & mask] = value;
+  }
+
+  @Override
+  public <x> get(final int index) {
+    Assertions.assertRange("index", index, "size()", size(), false);
+    return value(fromIndex + index);
+  }
+
+  @Override
+  public boolean add(final <x> value) {
+    final int index = toIndex > -1 ? toIndex : size;
+    shiftRight(index, 1);
+    value(updateState(index, 1), value);
+    return true;
+  }
+
+  @Override
+  public boolean add(int index, final <x> value) {
+    Assertions.assertRange("index", index, "size()", size(), true);
+    index += fromIndex;
+    shiftRight(index, 1);
+    value(updateState(index, 1), value);
+    return true;
+  }
+
+  /**
+   * Appends all of the values in the specified array to the end of this list, in the order that they appear in the array.
+   *
+   * @param values Array containing values to be added to this list.
+   * @param offset The index of the first value to add.
+   * @param length The number of values to add.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws IndexOutOfBoundsException If the offset or length are out of range
+   *           ({@code offset < 0 || values.length < offset + length}).
+   * @throws NullPointerException If the specified array is null.
+   */
+  @Override
+  public boolean addAll(final <x>[] values, final int offset, final int length) {
+    return addAll(size(), values, offset, length);
+  }
+
+  /**
+   * Appends all of the values in the specified array to the end of this list, in the order that they appear in the array.
+   *
+   * @param values Array containing values to be added to this list.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws NullPointerException If the specified array is null.
+   */
+  @Override
+  public boolean addAll(final <x> ... values) {
+    return addAll(size(), values, 0, values.length);
+  }
+
+  @Override
+  public boolean addAll(int index, final <x>[] values, int offset, int length) {
+    Assertions.assertRange("index", index, "size()", size(), true);
+    Assertions.assertRangeArray(offset, offset + length, values.length);
+    if (length == 0)
+      return false;
+
+    index += fromIndex;
+    shiftRight(index, length);
+    updateState(index, length);
+    for (int n; length > 0; index += n, offset += n, length -= n) { // [N]
+      final int i = index & mask;
+      n = Math.min(length, mask + 1 - i);
+      System.arraycopy(values, offset, valueData[index >>> shift], i, n);
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    return addAll(c, size());
+  }
+
+  @Override
+  public boolean addAll(final int index, final Collection<<XX>> c) {
+    Assertions.assertRange("index", index, "size()", size(), true);
+    return addAll(c, index);
+  }
+
+  protected boolean addAll(final Collection<<XX>> c, int index) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    index += fromIndex;
+    shiftRight(index, i$);
+    updateState(index, i$);
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        value(index++, l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        value(index++, it.next());
+      while (it.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    return addAll(c, size());
+  }
+
+  @Override
+  public boolean addAll(final int index, final <X>Collection c) {
+    Assertions.assertRange("index", index, "size()", size(), true);
+    return addAll(c, index);
+  }
+
+  protected boolean addAll(final <X>Collection c, int index) {
+    if (c instanceof Segmented<X>List && ((Segmented<X>List)c).valueData == valueData)
+      return addAll(index, c.toArray(new <x>[c.size()]));
+
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    index += fromIndex;
+    shiftRight(index, i$);
+    updateState(index, i$);
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        value(index++, l.get(i));
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator it = c.iterator(); do // [I]
+        value(index++, it.next());
+      while (it.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public <x> set(int index, final <x> value) {
+    Assertions.assertRange("index", index, "size()", size(), false);
+    index += fromIndex;
+    final <x> oldValue = value(index);
+    value(index, value);
+    updateState(0, 0);
+    return oldValue;
+  }
+
+  @Override
+  public <x> removeIndex(int index) {
+    Assertions.assertRange("index", index, "size()", size(), false);
+    index += fromIndex;
+    final <x> value = value(index);
+    shiftLeft(index, 1);
+    updateState(index, -1);
+    return value;
+  }
+
+  /**
+   * Removes all of the values of this list that satisfy the given predicate, compacting the remaining values in a single pass.
+   * <p>
+   * All values are tested before this list is modified, so that if the predicate throws, this list is left unchanged. Each removal is
+   * propagated to the graph of sub-lists at the index that the removed value would have had if the values had been removed one by
+   * one, as in {@link Array<X>List#removeIf(<X>Predicate)}.
+   *
+   * @param filter A predicate which returns {@code true} for values to be removed.
+   * @return {@code true} if any values were removed.
+   * @throws NullPointerException If the specified filter is null.
+   */
+  @Override
+  public boolean removeIf(final <X>Predicate filter) {
+    Objects.requireNonNull(filter);
+    final int end = size;
+    final int toIndex = this.toIndex > -1 ? this.toIndex : end;
+    int r = fromIndex;
+    while (r < toIndex && !filter.test(value(r))) // [A]
+      ++r;
+
+    if (r == toIndex)
+      return false;
+
+    // A bit set of the values to remove, relative to the first
+    final int first = r;
+    final long[] removed = new long[((toIndex - first - 1) >> 6) + 1];
+    removed[0] = 1L;
+    while (++r < toIndex) // [A]
+      if (filter.test(value(r)))
+        removed[(r - first) >> 6] |= 1L << (r - first);
+
+    int w = first;
+    for (r = first; r < toIndex; ++r) { // [A]
+      if ((removed[(r - first) >> 6] & 1L << (r - first)) != 0)
+        updateState(w, -1);
+      else
+        value(w++, value(r));
+    }
+
+    move(toIndex, w, end - toIndex);
+    return true;
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    return removeIf(v -> !c.contains(v));
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    return removeIf(v -> !c.contains(v));
+  }
+
+  @Override
+  public void clear() {
+    final int toIndex = this.toIndex > -1 ? this.toIndex : size;
+    shiftLeft(fromIndex, toIndex - fromIndex);
+    super.clear();
+  }
+
+  @Override
+  public int indexOf(final <x> value) {
+    for (int i = fromIndex, i$ = toIndex > -1 ? toIndex : size; i < i$; ++i) // [A]
+      if (value(i) == value)
+        return i - fromIndex;
+
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(final <x> value) {
+    for (int i = (toIndex > -1 ? toIndex : size) - 1; i >= fromIndex; --i) // [A]
+      if (value(i) == value)
+        return i - fromIndex;
+
+    return -1;
+  }
+
+  /**
+   * Sorts this list according to the order induced by the specified comparator. The sort is stable.
+   * <p>
+   * The values of each chunk are sorted in place with {@link ArrayUtil#sort(<x>[],int,int,<X>Comparator)}, and the sorted chunks
+   * are then merged. The merge requires temporary chunks for the values in this list, but never a contiguous array of the size of
+   * this list, and the temporary chunks that hold the result of the final merge replace the chunks of this list without a copy.
+   *
+   * @param c The comparator to determine the order of the list. A {@code null} value indicates that the values' natural ordering
+   *          should be used.
+   */
+  @Override
+  public void sort(final <X>Comparator c) {
+    updateState(0, 0);
+    final int from = fromIndex;
+    final int to = toIndex > -1 ? toIndex : size;
+    if (to - from < 2)
+      return;
+
+    final int firstChunk = from >>> shift;
+    final int lastChunk = (to - 1) >>> shift;
+    final int[] runs = new int[lastChunk - firstChunk + 2];
+    runs[0] = from;
+    for (int k = firstChunk, r = 1; k <= lastChunk; ++k, ++r) { // [A]
+      final int lo = runs[r - 1];
+      final int hi = runs[r] = k == lastChunk ? to : (k + 1) << shift;
+      ArrayUtil.sort(valueData[k], lo & mask, ((hi - 1) & mask) + 1, c);
+    }
+
+    if (firstChunk == lastChunk)
+      return;
+
+    final <X>Comparator comparator = c != null ? c : <X>Comparator.NATURAL;
+    final <x>[][] scratch = new <x>[valueData.length][];
+    for (int k = firstChunk; k <= lastChunk; ++k) // [A]
+      scratch[k] = new <x>[mask + 1];
+
+    <x>[][] src = valueData;
+    <x>[][] dst = scratch;
+    for (int count = runs.length - 1; count > 1; count = (count + 1) >>> 1) { // [N]
+      int r = 0;
+      for (; r + 2 <= count; r += 2) // [A]
+        merge(src, dst, runs[r], runs[r + 1], runs[r + 2], comparator);
+
+      if (r < count)
+        merge(src, dst, runs[r], runs[r + 1], runs[r + 1], comparator);
+
+      for (int i = 1, j = 2; j <= count; ++i, j += 2) // [A]
+        runs[i] = runs[j];
+
+      runs[(count + 1) >>> 1] = to;
+      final <x>[][] tmp = src;
+      src = dst;
+      dst = tmp;
+    }
+
+    if (src == scratch) {
+      for (int k = firstChunk; k <= lastChunk; ++k) { // [A]
+        final int lo = k == firstChunk ? from & mask : 0;
+        final int hi = k == lastChunk ? ((to - 1) & mask) + 1 : mask + 1;
+        if (lo == 0 && hi == mask + 1)
+          valueData[k] = scratch[k];
+        else
+          System.arraycopy(scratch[k], lo, valueData[k], lo, hi - lo);
+      }
+    }
+  }
+
+  /**
+   * Merges the sorted ranges {@code [lo,mid)} and {@code [mid,hi)} of the chunks {@code src} into the same range of the chunks
+   * {@code dst}.
+   */
+  private void merge(final <x>[][] src, final <x>[][] dst, final int lo, final int mid, final int hi, final <X>Comparator c) {
+    int i = lo, j = mid, k = lo;
+    if (i < mid && j < hi) {
+      <x> a = src[i >>> shift][i & mask];
+      <x> b = src[j >>> shift][j & mask];
+      while (true) {
+        if (c.compare(a, b) <= 0) {
+          dst[k >>> shift][k++ & mask] = a;
+          if (++i == mid)
+            break;
+
+          a = src[i >>> shift][i & mask];
+        }
+        else {
+          dst[k >>> shift][k++ & mask] = b;
+          if (++j == hi)
+            break;
+
+          b = src[j >>> shift][j & mask];
+        }
+      }
+    }
+
+    for (; i < mid; ++i, ++k) // [A]
+      dst[k >>> shift][k & mask] = src[i >>> shift][i & mask];
+
+    for (; j < hi; ++j, ++k) // [A]
+      dst[k >>> shift][k & mask] = src[j >>> shift][j & mask];
+  }
+
+  private class <X>Itr implements <X>Iterator {
+    int cursor = Segmented<X>List.this.fromIndex;
+    int lastRet = -1;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor != (toIndex > -1 ? toIndex : size);
+    }
+
+    @Override
+    public <x> next() {
+      checkForComodification();
+      final int i = cursor;
+      if (i >= (toIndex > -1 ? toIndex : size))
+        throw new NoSuchElementException();
+
+      if (i >>> shift >= valueData.length)
+        throw new ConcurrentModificationException();
+
+      cursor = i + 1;
+      return value(lastRet = i);
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      try {
+        Segmented<X>List.this.removeIndex(lastRet - fromIndex);
+        cursor = lastRet;
+        lastRet = -1;
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void forEachRemaining(final <X>Consumer action) {
+      Objects.requireNonNull(action);
+      int i = cursor;
+      if (i >= (toIndex > -1 ? toIndex : size))
+        return;
+
+      if (i >>> shift >= valueData.length)
+        throw new ConcurrentModificationException();
+
+      for (; i < (toIndex > -1 ? toIndex : size) && modCount == expectedModCount; ++i) // [A]
+        action.accept(value(i));
+
+      cursor = i;
+      lastRet = i - 1;
+      checkForComodification();
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+  private class <X>ListItr extends <X>Itr implements <X>ListIterator {
+    <X>ListItr(final int index) {
+      cursor = index + fromIndex;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return cursor != fromIndex;
+    }
+
+    @Override
+    public int nextIndex() {
+      return cursor - fromIndex;
+    }
+
+    @Override
+    public int previousIndex() {
+      return cursor - fromIndex - 1;
+    }
+
+    @Override
+    public <x> previous() {
+      checkForComodification();
+      final int i = cursor - 1;
+      if (i < fromIndex)
+        throw new NoSuchElementException();
+
+      if (i >>> shift >= valueData.length)
+        throw new ConcurrentModificationException();
+
+      cursor = i;
+      return value(lastRet = i);
+    }
+
+    @Override
+    public void set(final <x> value) {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      try {
+        Segmented<X>List.this.set(lastRet - fromIndex, value);
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void add(final <x> value) {
+      checkForComodification();
+      try {
+        final int i = cursor;
+        Segmented<X>List.this.add(i - fromIndex, value);
+        cursor = i + 1;
+        lastRet = -1;
+        expectedModCount = modCount;
+      }
+      catch (final IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public <X>Iterator iterator() {
+    return new <X>Itr();
+  }
+
+  @Override
+  public <X>ListIterator listIterator(final int index) {
+    Assertions.assertRange("index", index, "size()", size(), true);
+    return new <X>ListItr(index);
+  }
+
+  @Override
+  public Segmented<X>List subList(final int fromIndex, final int toIndex) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "size()", size());
+    if (this.toIndex < 0)
+      this.toIndex = size;
+
+    return new Segmented<X>List(this, fromIndex + this.fromIndex, toIndex + this.fromIndex);
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    final int size = size();
+    if (a.length < size)
+      a = new <x>[size];
+
+    for (int i = 0, index = fromIndex, n; i < size; i += n, index += n) { // [N]
+      final int j = index & mask;
+      n = Math.min(size - i, mask + 1 - j);
+      System.arraycopy(valueData[index >>> shift], j, a, i, n);
+    }
+
+    if (a.length > size)
+      a[size] = <d>;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    final int size = size();
+    if (a.length < size)
+      a = new <XX>[size];
+
+    for (int i = fromIndex, i$ = toIndex > -1 ? toIndex : this.size; i < i$; ++i) // [A]
+      a[i - fromIndex] = value(i);
+
+    if (a.length > size)
+      a[size] = null;
+
+    return a;
+  }
+
+  /**
+   * Releases the chunks of this {@link Segmented<X>List} instance that are not needed to hold the list's current values. An
+   * application can use this operation to minimize the storage of a {@link Segmented<X>List} instance.
+   */
+  public void trimToSize() {
+    final int chunks = (int)((size + (long)mask) >>> shift);
+    if (chunks < valueData.length) {
+      this.valueData = chunks == 0 ? EMPTY_VALUEDATA : Arrays.copyOf(valueData, chunks);
+      updateState(0, 0);
+    }
+  }
+
+  /**
+   * Increases the capacity of this {@link Segmented<X>List} instance, if necessary, to ensure that it can hold at least the number
+   * of values specified by the minimum capacity argument. The capacity is increased by allocating whole chunks, and the values
+   * already in this list are not copied.
+   *
+   * @param minCapacity The desired minimum capacity.
+   */
+  public void ensureCapacity(final int minCapacity) {
+    final int chunks = (int)((minCapacity + (long)mask) >>> shift);
+    if (chunks > valueData.length) {
+      this.valueData = Arrays.copyOf(valueData, Math.max(chunks, valueData.length + (valueData.length >> 1)));
+      updateState(0, 0);
+    }
+
+    for (int k = chunks - 1; k >= 0 && valueData[k] == null; --k) // [A]
+      valueData[k] = new <x>[mask + 1];
+  }
+
+<_>  private final class <X>Splitr implements Spliterator.Of<X> {
+<_>    private int index;
+<_>    private final int fence;
+<_>    private final int expectedModCount;
+<_>
+<_>    private <X>Splitr(final int index, final int fence, final int expectedModCount) {
+<_>      this.index = index;
+<_>      this.fence = fence;
+<_>      this.expectedModCount = expectedModCount;
+<_>    }
+<_>
+<_>    @Override
+<_>    public <X>Splitr trySplit() {
+<_>      final int lo = index, mid = (lo + fence) >>> 1;
+<_>      return lo >= mid ? null : new <X>Splitr(lo, index = mid, expectedModCount);
+<_>    }
+<_>
+<_>    @Override
+<_>    public boolean tryAdvance(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      if (index >= fence)
+<_>        return false;
+<_>
+<_>      // The chunks may have been released by a structural modification, so check before reading from them
+<_>      checkForComodification();
+<_>      action.accept(value(index++));
+<_>      checkForComodification();
+<_>      return true;
+<_>    }
+<_>
+<_>    @Override
+<_>    public void forEachRemaining(final <X>Consumer action) {
+<_>      Objects.requireNonNull(action);
+<_>      for (final int i$ = fence; index < i$ && modCount == expectedModCount; ++index) // [A]
+<_>        action.accept(value(index));
+<_>
+<_>      checkForComodification();
+<_>    }
+<_>
+<_>    private void checkForComodification() {
+<_>      if (modCount != expectedModCount)
+<_>        throw new ConcurrentModificationException();
+<_>    }
+<_>
+<_>    @Override
+<_>    public long estimateSize() {
+<_>      return fence - index;
+<_>    }
+<_>
+<_>    @Override
+<_>    public int characteristics() {
+<_>      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+<_>    }
+<_>  }
+<_>
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    return new <X>Splitr(fromIndex, toIndex > -1 ? toIndex : size, modCount);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+
+  /**
+   * Returns a copy of this list with chunks of the same size, containing the values in this list. If this list has sub-lists, or is
+   * itself a sub-list of another list, neither the parent nor the children or siblings will be cloned.
+   *
+   * @return A copy of this list.
+   */
+  @Override
+  public Segmented<X>List clone() {
+    final Segmented<X>List clone = new Segmented<X>List(size(), mask + 1);
+    for (int i = 0, i$ = size(), index = fromIndex, n; i < i$; i += n, index += n) { // [N]
+      final int j = index & mask;
+      n = Math.min(i$ - i, mask + 1 - Math.max(j, i & mask));
+      System.arraycopy(valueData[index >>> shift], j, clone.valueData[i >>> shift], i & mask, n);
+    }
+
+    clone.size = size();
+    return clone;
+  }
+
+  /**
+   * Returns the hash code value for this list.
+   *
+   * @return The hash code value for this list.
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    final int i$ = toIndex > -1 ? toIndex : size;
+    for (int i = fromIndex; i < i$; ++i) // [A]
+      hashCode = 31 * hashCode + <XX>.hashCode(value(i));
+
+    return hashCode;
+  }
+
+  /**
+   * Compares the specified object with this list for equality. Returns {@code true} if and only if the specified object is also a
+   * {@link Segmented<X>List}, both lists have the same size, and all corresponding pairs of values in the two lists are
+   * <i>equal</i>. In other words, two lists are defined to be equal if they contain the same values in the same order.
+   */
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof Segmented<X>List))
+      return false;
+
+    final Segmented<X>List that = (Segmented<X>List)obj;
+    final int size = size();
+    if (size != that.size())
+      return false;
+
+    for (int i = 0; i < size; ++i) // [A]
+      if (value(fromIndex + i) != that.value(that.fromIndex + i))
+        return false;
+
+    return true;
+  }
+
+  /**
+   * Returns a string representation of this list. The string representation consists of a list of the list's values in order,
+   * enclosed in square brackets ({@code "[]"}). Adjacent values are separated by the characters {@code ", "} (comma and space).
+   * Values are converted to strings as by {@link String#valueOf(Object)}.
+   *
+   * @return A string representation of this list.
+   */
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (int i = fromIndex, i$ = toIndex > -1 ? toIndex : size; i < i$; ++i) { // [A]
+      if (i > fromIndex)
+        builder.append(", ");
+
+      builder.append(value(i));
+    }
+
+    return builder.append(']').toString();
+  }
+}
\ No newline at end of file
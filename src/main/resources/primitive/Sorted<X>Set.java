@@ -0,0 +1,203 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link <X>Set} that provides a total ordering of its values, and methods
+ * to navigate to the closest matches of given values.
+ * <p>
+ * This interface is a replica of the {@link java.util.NavigableSet} interface
+ * that defines synonymous methods for a set of {@code <x>} values instead of
+ * Object references. As a {@code <x>} cannot be {@code null}, the navigation
+ * methods return a specified default value when there is no match.
+ */
+public interface Sorted<X>Set extends <X>Set {
+  /**
+   * Returns the comparator used to order the values in this set.
+   *
+   * @return The comparator used to order the values in this set.
+   */
+  <X>Comparator comparator();
+
+  /**
+   * Returns the first (lowest) value currently in this set.
+   *
+   * @return The first (lowest) value currently in this set.
+   * @throws NoSuchElementException If this set is empty.
+   */
+  <x> first();
+
+  /**
+   * Returns the last (highest) value currently in this set.
+   *
+   * @return The last (highest) value currently in this set.
+   * @throws NoSuchElementException If this set is empty.
+   */
+  <x> last();
+
+  /**
+   * Returns the greatest value in this set strictly less than the specified
+   * value, or {@code defaultValue} if there is no such value.
+   *
+   * @param value The value to match.
+   * @param defaultValue The value to return if there is no match.
+   * @return The greatest value less than {@code value}, or
+   *         {@code defaultValue} if there is no such value.
+   */
+  <x> lower(<x> value, <x> defaultValue);
+
+  /**
+   * Returns the greatest value in this set less than or equal to the specified
+   * value, or {@code defaultValue} if there is no such value.
+   *
+   * @param value The value to match.
+   * @param defaultValue The value to return if there is no match.
+   * @return The greatest value less than or equal to {@code value}, or
+   *         {@code defaultValue} if there is no such value.
+   */
+  <x> floor(<x> value, <x> defaultValue);
+
+  /**
+   * Returns the least value in this set greater than or equal to the specified
+   * value, or {@code defaultValue} if there is no such value.
+   *
+   * @param value The value to match.
+   * @param defaultValue The value to return if there is no match.
+   * @return The least value greater than or equal to {@code value}, or
+   *         {@code defaultValue} if there is no such value.
+   */
+  <x> ceiling(<x> value, <x> defaultValue);
+
+  /**
+   * Returns the least value in this set strictly greater than the specified
+   * value, or {@code defaultValue} if there is no such value.
+   *
+   * @param value The value to match.
+   * @param defaultValue The value to return if there is no match.
+   * @return The least value greater than {@code value}, or
+   *         {@code defaultValue} if there is no such value.
+   */
+  <x> higher(<x> value, <x> defaultValue);
+
+  /**
+   * Returns a view of the portion of this set whose values range from
+   * {@code fromValue} to {@code toValue}. The returned set is backed by this
+   * set, so changes in the returned set are reflected in this set, and
+   * vice-versa. The returned set throws an {@link IllegalArgumentException} on
+   * an attempt to insert a value outside its range.
+   *
+   * @param fromValue Low endpoint of the values in the returned set.
+   * @param fromInclusive {@code true} if the low endpoint is to be included in
+   *          the returned view.
+   * @param toValue High endpoint of the values in the returned set.
+   * @param toInclusive {@code true} if the high endpoint is to be included in
+   *          the returned view.
+   * @return A view of the portion of this set whose values range from
+   *         {@code fromValue} to {@code toValue}.
+   * @throws IllegalArgumentException If {@code fromValue} is greater than
+   *           {@code toValue}, or if this set itself has a restricted range,
+   *           and {@code fromValue} or {@code toValue} lies outside the bounds
+   *           of the range.
+   */
+  Sorted<X>Set subSet(<x> fromValue, boolean fromInclusive, <x> toValue, boolean toInclusive);
+
+  /**
+   * Returns a view of the portion of this set whose values range from
+   * {@code fromValue}, inclusive, to {@code toValue}, exclusive.
+   *
+   * @param fromValue Low endpoint (inclusive) of the values in the returned
+   *          set.
+   * @param toValue High endpoint (exclusive) of the values in the returned
+   *          set.
+   * @return A view of the portion of this set whose values range from
+   *         {@code fromValue}, inclusive, to {@code toValue}, exclusive.
+   * @throws IllegalArgumentException If {@code fromValue} is greater than
+   *           {@code toValue}, or if this set itself has a restricted range,
+   *           and {@code fromValue} or {@code toValue} lies outside the bounds
+   *           of the range.
+   * @see #subSet(<x>,boolean,<x>,boolean)
+   */
+  default Sorted<X>Set subSet(final <x> fromValue, final <x> toValue) {
+    return subSet(fromValue, true, toValue, false);
+  }
+
+  /**
+   * Returns a view of the portion of this set whose values are less than (or
+   * equal to, if {@code inclusive} is true) {@code toValue}.
+   *
+   * @param toValue High endpoint of the values in the returned set.
+   * @param inclusive {@code true} if the high endpoint is to be included in the
+   *          returned view.
+   * @return A view of the portion of this set whose values are less than (or
+   *         equal to, if {@code inclusive} is true) {@code toValue}.
+   * @throws IllegalArgumentException If this set itself has a restricted
+   *           range, and {@code toValue} lies outside the bounds of the range.
+   * @see #subSet(<x>,boolean,<x>,boolean)
+   */
+  Sorted<X>Set headSet(<x> toValue, boolean inclusive);
+
+  /**
+   * Returns a view of the portion of this set whose values are strictly less
+   * than {@code toValue}.
+   *
+   * @param toValue High endpoint (exclusive) of the values in the returned
+   *          set.
+   * @return A view of the portion of this set whose values are strictly less
+   *         than {@code toValue}.
+   * @throws IllegalArgumentException If this set itself has a restricted
+   *           range, and {@code toValue} lies outside the bounds of the range.
+   * @see #headSet(<x>,boolean)
+   */
+  default Sorted<X>Set headSet(final <x> toValue) {
+    return headSet(toValue, false);
+  }
+
+  /**
+   * Returns a view of the portion of this set whose values are greater than
+   * (or equal to, if {@code inclusive} is true) {@code fromValue}.
+   *
+   * @param fromValue Low endpoint of the values in the returned set.
+   * @param inclusive {@code true} if the low endpoint is to be included in the
+   *          returned view.
+   * @return A view of the portion of this set whose values are greater than
+   *         (or equal to, if {@code inclusive} is true) {@code fromValue}.
+   * @throws IllegalArgumentException If this set itself has a restricted
+   *           range, and {@code fromValue} lies outside the bounds of the
+   *           range.
+   * @see #subSet(<x>,boolean,<x>,boolean)
+   */
+  Sorted<X>Set tailSet(<x> fromValue, boolean inclusive);
+
+  /**
+   * Returns a view of the portion of this set whose values are greater than or
+   * equal to {@code fromValue}.
+   *
+   * @param fromValue Low endpoint (inclusive) of the values in the returned
+   *          set.
+   * @return A view of the portion of this set whose values are greater than or
+   *         equal to {@code fromValue}.
+   * @throws IllegalArgumentException If this set itself has a restricted
+   *           range, and {@code fromValue} lies outside the bounds of the
+   *           range.
+   * @see #tailSet(<x>,boolean)
+   */
+  default Sorted<X>Set tailSet(final <x> fromValue) {
+    return tailSet(fromValue, true);
+  }
+}
\ No newline at end of file
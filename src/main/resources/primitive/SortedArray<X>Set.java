@@ -0,0 +1,747 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterators;
+
+import org.libj.util.ArrayUtil;
+import org.libj.util.CollectionUtil;
+
+/**
+ * A {@link Sorted<X>Set} of {@code <x>} values stored in a sorted array, which is searched with
+ * {@link ArrayUtil#binaryClosestSearch(<x>[],int,int,<x>,<X>Comparator)}.
+ * <p>
+ * The {@code contains}, {@code floor}, {@code ceiling}, {@code lower} and {@code higher} operations run in logarithmic time, and
+ * {@code first} and {@code last} in constant time. The {@code add} and {@code remove} operations shift the values above the
+ * insertion point, and the {@code addAll} operation merges the sorted values of the specified collection in linear time. The values
+ * occupy a single array with no per-value overhead.
+ * <p>
+ * The views returned by {@link #subSet(<x>,boolean,<x>,boolean)}, {@link #headSet(<x>,boolean)} and {@link #tailSet(<x>,boolean)}
+ * are backed by this set, and resolve their bounds against the array at the time of each operation.
+ * <p>
+ * <strong>Note that this implementation is not synchronized.</strong>
+ */
+public class SortedArray<X>Set implements Sorted<X>Set {
+  private static final <x>[] EMPTY_VALUEDATA = {};
+
+  private final SortedArray<X>Set root;
+  private transient <X>Comparator comparator;
+
+  private final boolean fromBounded;
+  private final <x> fromValue;
+  private final boolean fromInclusive;
+  private final boolean toBounded;
+  private final <x> toValue;
+  private final boolean toInclusive;
+
+  private <x>[] valueData;
+  private int size;
+  private transient int modCount;
+
+  /**
+   * Creates an empty {@link SortedArray<X>Set} ordered by the natural ordering of its values.
+   */
+  public SortedArray<X>Set() {
+    this(10, null);
+  }
+
+  /**
+   * Creates an empty {@link SortedArray<X>Set} ordered by the specified comparator.
+   *
+   * @param c The comparator that will be used to order this set, or {@code null} for the natural ordering of its values.
+   */
+  public SortedArray<X>Set(final <X>Comparator c) {
+    this(10, c);
+  }
+
+  /**
+   * Creates an empty {@link SortedArray<X>Set} with the specified initial capacity, ordered by the specified comparator.
+   *
+   * @param initialCapacity The initial capacity of the set.
+   * @param c The comparator that will be used to order this set, or {@code null} for the natural ordering of its values.
+   * @throws IllegalArgumentException If the specified initial capacity is negative.
+   */
+  public SortedArray<X>Set(final int initialCapacity, final <X>Comparator c) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+
+    this.root = this;
+    this.comparator = c != null ? c : <X>Comparator.NATURAL;
+    this.fromBounded = false;
+    this.fromValue = (<x>)<d>;
+    this.fromInclusive = false;
+    this.toBounded = false;
+    this.toValue = (<x>)<d>;
+    this.toInclusive = false;
+    this.valueData = initialCapacity == 0 ? EMPTY_VALUEDATA : new <x>[initialCapacity];
+  }
+
+  /**
+   * Creates a new {@link SortedArray<X>Set} with the values of the specified collection, ordered by the natural ordering of its
+   * values.
+   *
+   * @param c The collection whose values are to be added to this set.
+   * @throws NullPointerException If the specified collection is null.
+   */
+  public SortedArray<X>Set(final <X>Collection c) {
+    this(c.size(), null);
+    addAll(c);
+  }
+
+  /**
+   * Creates a new {@link SortedArray<X>Set} with the values of the specified collection, ordered by the natural ordering of its
+   * values.
+   *
+   * @param c The collection whose values are to be added to this set.
+   * @throws NullPointerException If the specified collection is null, or if it contains a null value.
+   */
+  public SortedArray<X>Set(final Collection<<XX>> c) {
+    this(c.size(), null);
+    addAll(c);
+  }
+
+  /**
+   * Creates a view of the specified root set restricted to the specified range.
+   */
+  private SortedArray<X>Set(final SortedArray<X>Set root, final boolean fromBounded, final <x> fromValue, final boolean fromInclusive, final boolean toBounded, final <x> toValue, final boolean toInclusive) {
+    this.root = root;
+    this.comparator = root.comparator;
+    this.fromBounded = fromBounded;
+    this.fromValue = fromValue;
+    this.fromInclusive = fromInclusive;
+    this.toBounded = toBounded;
+    this.toValue = toValue;
+    this.toInclusive = toInclusive;
+  }
+
+  /**
+   * Returns the index of the specified value in the array of the root set, or {@code -(insertion point) - 1} if the value is not
+   * present.
+   */
+  private int search(final <x> value) {
+    final SortedArray<X>Set root = this.root;
+    final int index = ArrayUtil.binaryClosestSearch(root.valueData, 0, root.size, value, comparator);
+    return index < root.size && comparator.compare(root.valueData[index], value) == 0 ? index : -index - 1;
+  }
+
+  private int ceilingIndex(final <x> value) {
+    final int index = search(value);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  private int higherIndex(final <x> value) {
+    final int index = search(value);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  /**
+   * Returns the index in the array of the root set of the first value in the range of this set.
+   */
+  private int fromIndex() {
+    return !fromBounded ? 0 : fromInclusive ? ceilingIndex(fromValue) : higherIndex(fromValue);
+  }
+
+  /**
+   * Returns the index in the array of the root set after the last value in the range of this set.
+   */
+  private int toIndex(final int fromIndex) {
+    final int toIndex = !toBounded ? root.size : toInclusive ? higherIndex(toValue) : ceilingIndex(toValue);
+    return Math.max(fromIndex, toIndex);
+  }
+
+  private boolean tooLow(final <x> value) {
+    if (!fromBounded)
+      return false;
+
+    final int c = comparator.compare(value, fromValue);
+    return c < 0 || c == 0 && !fromInclusive;
+  }
+
+  private boolean tooHigh(final <x> value) {
+    if (!toBounded)
+      return false;
+
+    final int c = comparator.compare(value, toValue);
+    return c > 0 || c == 0 && !toInclusive;
+  }
+
+  private boolean inRange(final <x> value) {
+    return !tooLow(value) && !tooHigh(value);
+  }
+
+  private boolean inRange(final <x> value, final boolean inclusive) {
+    if (inclusive)
+      return inRange(value);
+
+    return (!fromBounded || comparator.compare(value, fromValue) >= 0) && (!toBounded || comparator.compare(value, toValue) <= 0);
+  }
+
+  private void checkRange(final <x> value) {
+    if (!inRange(value))
+      throw new IllegalArgumentException("Value out of range: " + value);
+  }
+
+  /**
+   * Removes the values in the range {@code [fromIndex,toIndex)} of the array of the root set.
+   */
+  private void removeRange(final int fromIndex, final int toIndex) {
+    final SortedArray<X>Set root = this.root;
+    System.arraycopy(root.valueData, toIndex, root.valueData, fromIndex, root.size - toIndex);
+    root.size -= toIndex - fromIndex;
+    ++root.modCount;
+  }
+
+  /**
+   * Increases the capacity of this set, if necessary, to ensure that it can hold at least the number of values specified by the
+   * minimum capacity argument. If this set is a view, the capacity of the set backing it is increased.
+   *
+   * @param minCapacity The desired minimum capacity.
+   */
+  public void ensureCapacity(final int minCapacity) {
+    final SortedArray<X>Set root = this.root;
+    if (minCapacity > root.valueData.length) {
+      root.valueData = Arrays.copyOf(root.valueData, Math.max((root.valueData.length * 3) / 2 + 1, minCapacity));
+      ++root.modCount;
+    }
+  }
+
+  /**
+   * Trims the capacity of this set to its size. If this set is a view, the capacity of the set backing it is trimmed.
+   */
+  public void trimToSize() {
+    final SortedArray<X>Set root = this.root;
+    if (root.size < root.valueData.length) {
+      root.valueData = root.size == 0 ? EMPTY_VALUEDATA : Arrays.copyOf(root.valueData, root.size);
+      ++root.modCount;
+    }
+  }
+
+  @Override
+  public <X>Comparator comparator() {
+    return comparator;
+  }
+
+  @Override
+  public boolean add(final <x> value) {
+    checkRange(value);
+    int index = search(value);
+    if (index >= 0)
+      return false;
+
+    index = -index - 1;
+    final SortedArray<X>Set root = this.root;
+    ensureCapacity(root.size + 1);
+    System.arraycopy(root.valueData, index, root.valueData, index + 1, root.size - index);
+    root.valueData[index] = value;
+    ++root.size;
+    ++root.modCount;
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final <X>Collection c) {
+    final int size = c.size();
+    if (size == 0)
+      return false;
+
+    return addAll(c.toArray(new <x>[size]), size);
+  }
+
+  @Override
+  public boolean addAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return false;
+
+    final <x>[] values = new <x>[i$];
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        values[i] = l.get(i);
+      while (++i < i$);
+    }
+    else {
+      int i = 0;
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        values[i++] = it.next();
+      while (it.hasNext());
+    }
+
+    return addAll(values, i$);
+  }
+
+  /**
+   * Sorts the specified values, and merges them with the values of this set.
+   */
+  private boolean addAll(final <x>[] values, final int length) {
+    for (int i = 0; i < length; ++i) // [A]
+      checkRange(values[i]);
+
+    if (length == 1)
+      return add(values[0]);
+
+    ArrayUtil.sort(values, 0, length, comparator == <X>Comparator.NATURAL ? null : comparator);
+
+    final SortedArray<X>Set root = this.root;
+    final <x>[] valueData = root.valueData;
+    final int size = root.size;
+    final <x>[] merged = new <x>[Math.max(size + length, valueData.length)];
+    int i = 0, j = 0, k = 0;
+    while (i < size && j < length) {
+      final int c = comparator.compare(valueData[i], values[j]);
+      if (c < 0)
+        merged[k++] = valueData[i++];
+      else if (c > 0 && (k == 0 || comparator.compare(merged[k - 1], values[j]) != 0))
+        merged[k++] = values[j++];
+      else
+        ++j;
+    }
+
+    while (i < size)
+      merged[k++] = valueData[i++];
+
+    for (; j < length; ++j) // [A]
+      if (k == 0 || comparator.compare(merged[k - 1], values[j]) != 0)
+        merged[k++] = values[j];
+
+    if (k == size)
+      return false;
+
+    root.valueData = merged;
+    root.size = k;
+    ++root.modCount;
+    return true;
+  }
+
+  @Override
+  public boolean contains(final <x> value) {
+    return inRange(value) && search(value) >= 0;
+  }
+
+  @Override
+  public boolean containsAll(final <X>Collection c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return true;
+
+    if (c instanceof <X>List && c instanceof RandomAccess) {
+      final <X>List l = (<X>List)c;
+      int i = 0; do // [RA]
+        if (!contains(l.get(i)))
+          return false;
+      while (++i < i$);
+    }
+    else {
+      final <X>Iterator i = c.iterator(); do // [I]
+        if (!contains(i.next()))
+          return false;
+      while (i.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(final Collection<<XX>> c) {
+    final int i$ = c.size();
+    if (i$ == 0)
+      return true;
+
+    final List<<XX>> l;
+    if (c instanceof List && CollectionUtil.isRandomAccess(l = (List<<XX>>)c)) {
+      int i = 0; do // [RA]
+        if (!contains(l.get(i)))
+          return false;
+      while (++i < i$);
+    }
+    else {
+      final Iterator<<XX>> it = c.iterator(); do // [I]
+        if (!contains(it.next()))
+          return false;
+      while (it.hasNext());
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(final <x> value) {
+    if (!inRange(value))
+      return false;
+
+    final int index = search(value);
+    if (index < 0)
+      return false;
+
+    removeRange(index, index + 1);
+    return true;
+  }
+
+  @Override
+  public boolean removeAll(final <x> ... a) {
+    boolean changed = false;
+    for (int i = 0, i$ = a.length; i < i$; ++i) // [A]
+      changed |= remove(a[i]);
+
+    return changed;
+  }
+
+  @Override
+  public boolean removeAll(final <X>Collection c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<<XX>> c) {
+    return c.size() > 0 && removeIf(c::contains);
+  }
+
+  @Override
+  public boolean retainAll(final <X>Collection c) {
+    return removeIf(v -> !c.contains(v));
+  }
+
+  @Override
+  public boolean retainAll(final Collection<<XX>> c) {
+    return removeIf(v -> !c.contains(v));
+  }
+
+  /**
+   * Removes all of the values of this set that satisfy the specified predicate, compacting the remaining values in a single pass.
+   * <p>
+   * All values are tested before this set is modified, so that if the predicate throws, this set is left unchanged.
+   *
+   * @param filter A predicate which returns {@code true} for values to be removed.
+   * @return {@code true} if any values were removed.
+   * @throws NullPointerException If the specified filter is null.
+   */
+  @Override
+  public boolean removeIf(final <X>Predicate filter) {
+    Objects.requireNonNull(filter);
+    final int fromIndex = fromIndex();
+    final int toIndex = toIndex(fromIndex);
+    final <x>[] valueData = root.valueData;
+    int i = fromIndex;
+    while (i < toIndex && !filter.test(valueData[i])) // [A]
+      ++i;
+
+    if (i == toIndex)
+      return false;
+
+    // A bit set of the values to remove, relative to the first
+    final int first = i;
+    final long[] removed = new long[((toIndex - first - 1) >> 6) + 1];
+    removed[0] = 1L;
+    while (++i < toIndex) // [A]
+      if (filter.test(valueData[i]))
+        removed[(i - first) >> 6] |= 1L << (i - first);
+
+    int k = first;
+    for (i = first; i < toIndex; ++i) // [A]
+      if ((removed[(i - first) >> 6] & 1L << (i - first)) == 0)
+        valueData[k++] = valueData[i];
+
+    removeRange(k, toIndex);
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    final int fromIndex = fromIndex();
+    final int toIndex = toIndex(fromIndex);
+    if (fromIndex < toIndex)
+      removeRange(fromIndex, toIndex);
+  }
+
+  @Override
+  public int size() {
+    if (root == this)
+      return size;
+
+    final int fromIndex = fromIndex();
+    return toIndex(fromIndex) - fromIndex;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public <x> first() {
+    final int fromIndex = fromIndex();
+    if (fromIndex == toIndex(fromIndex))
+      throw new NoSuchElementException();
+
+    return root.valueData[fromIndex];
+  }
+
+  @Override
+  public <x> last() {
+    final int fromIndex = fromIndex();
+    final int toIndex = toIndex(fromIndex);
+    if (fromIndex == toIndex)
+      throw new NoSuchElementException();
+
+    return root.valueData[toIndex - 1];
+  }
+
+  @Override
+  public <x> lower(final <x> value, final <x> defaultValue) {
+    final int fromIndex = fromIndex();
+    final int index = Math.min(ceilingIndex(value), toIndex(fromIndex)) - 1;
+    return index >= fromIndex ? root.valueData[index] : defaultValue;
+  }
+
+  @Override
+  public <x> floor(final <x> value, final <x> defaultValue) {
+    final int fromIndex = fromIndex();
+    final int index = Math.min(higherIndex(value), toIndex(fromIndex)) - 1;
+    return index >= fromIndex ? root.valueData[index] : defaultValue;
+  }
+
+  @Override
+  public <x> ceiling(final <x> value, final <x> defaultValue) {
+    final int fromIndex = fromIndex();
+    final int index = Math.max(ceilingIndex(value), fromIndex);
+    return index < toIndex(fromIndex) ? root.valueData[index] : defaultValue;
+  }
+
+  @Override
+  public <x> higher(final <x> value, final <x> defaultValue) {
+    final int fromIndex = fromIndex();
+    final int index = Math.max(higherIndex(value), fromIndex);
+    return index < toIndex(fromIndex) ? root.valueData[index] : defaultValue;
+  }
+
+  @Override
+  public SortedArray<X>Set subSet(final <x> fromValue, final boolean fromInclusive, final <x> toValue, final boolean toInclusive) {
+    if (comparator.compare(fromValue, toValue) > 0)
+      throw new IllegalArgumentException("fromValue > toValue");
+
+    if (!inRange(fromValue, fromInclusive))
+      throw new IllegalArgumentException("fromValue out of range: " + fromValue);
+
+    if (!inRange(toValue, toInclusive))
+      throw new IllegalArgumentException("toValue out of range: " + toValue);
+
+    return new SortedArray<X>Set(root, true, fromValue, fromInclusive, true, toValue, toInclusive);
+  }
+
+  @Override
+  public SortedArray<X>Set headSet(final <x> toValue, final boolean inclusive) {
+    if (!inRange(toValue, inclusive))
+      throw new IllegalArgumentException("toValue out of range: " + toValue);
+
+    return new SortedArray<X>Set(root, fromBounded, fromValue, fromInclusive, true, toValue, inclusive);
+  }
+
+  @Override
+  public SortedArray<X>Set tailSet(final <x> fromValue, final boolean inclusive) {
+    if (!inRange(fromValue, inclusive))
+      throw new IllegalArgumentException("fromValue out of range: " + fromValue);
+
+    return new SortedArray<X>Set(root, true, fromValue, inclusive, toBounded, toValue, toInclusive);
+  }
+
+  @Override
+  public SortedArray<X>Set subSet(final <x> fromValue, final <x> toValue) {
+    return subSet(fromValue, true, toValue, false);
+  }
+
+  @Override
+  public SortedArray<X>Set headSet(final <x> toValue) {
+    return headSet(toValue, false);
+  }
+
+  @Override
+  public SortedArray<X>Set tailSet(final <x> fromValue) {
+    return tailSet(fromValue, true);
+  }
+
+  @Override
+  public <x>[] toArray(<x>[] a) {
+    final int fromIndex = fromIndex();
+    final int size = toIndex(fromIndex) - fromIndex;
+    if (a.length < size)
+      a = new <x>[size];
+
+    System.arraycopy(root.valueData, fromIndex, a, 0, size);
+    if (a.length > size)
+      a[size] = <d>;
+
+    return a;
+  }
+
+  @Override
+  public <XX>[] toArray(<XX>[] a) {
+    final int fromIndex = fromIndex();
+    final int size = toIndex(fromIndex) - fromIndex;
+    if (a.length < size)
+      a = new <XX>[size];
+
+    final <x>[] valueData = root.valueData;
+    for (int i = 0; i < size; ++i) // [A]
+      a[i] = valueData[fromIndex + i];
+
+    if (a.length > size)
+      a[size] = null;
+
+    return a;
+  }
+
+  @Override
+  public <X>Iterator iterator() {
+    return new <X>Itr();
+  }
+
+  private final class <X>Itr implements <X>Iterator {
+    private int cursor = fromIndex();
+    private int end = toIndex(cursor);
+    private int lastRet = -1;
+    private int expectedModCount = root.modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor < end;
+    }
+
+    @Override
+    public <x> next() {
+      checkForComodification();
+      if (cursor >= end)
+        throw new NoSuchElementException();
+
+      return root.valueData[lastRet = cursor++];
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0)
+        throw new IllegalStateException();
+
+      checkForComodification();
+      removeRange(lastRet, lastRet + 1);
+      cursor = lastRet;
+      lastRet = -1;
+      --end;
+      expectedModCount = root.modCount;
+    }
+
+    private void checkForComodification() {
+      if (root.modCount != expectedModCount)
+        throw new ConcurrentModificationException();
+    }
+  }
+
+<_>  @Override
+<_>  public Spliterator.Of<X> spliterator() {
+<_>    final int fromIndex = fromIndex();
+<_>    final int characteristics = Spliterator.DISTINCT | Spliterator.ORDERED | (comparator == <X>Comparator.NATURAL ? Spliterator.SORTED : 0);
+<_>    return Spliterators.spliterator(root.valueData, fromIndex, toIndex(fromIndex), characteristics);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream stream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), false);
+<_>  }
+<_>
+<_>  @Override
+<_>  public <X>Stream parallelStream() {
+<_>    return StreamSupport.<x>Stream(spliterator(), true);
+<_>  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeByte(comparator == <X>Comparator.NATURAL ? 0 : comparator == <X>Comparator.REVERSE ? 1 : 2);
+    if (comparator != <X>Comparator.NATURAL && comparator != <X>Comparator.REVERSE)
+      out.writeObject(comparator);
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    final byte type = in.readByte();
+    comparator = type == 0 ? <X>Comparator.NATURAL : type == 1 ? <X>Comparator.REVERSE : (<X>Comparator)in.readObject();
+  }
+
+  /**
+   * Returns a new {@link SortedArray<X>Set} with the values and comparator of this set. If this set is a view, the returned set
+   * contains only the values in the range of the view, and is not bounded by it.
+   *
+   * @return A new {@link SortedArray<X>Set} with the values and comparator of this set.
+   */
+  @Override
+  public SortedArray<X>Set clone() {
+    final int fromIndex = fromIndex();
+    final int size = toIndex(fromIndex) - fromIndex;
+    final SortedArray<X>Set clone = new SortedArray<X>Set(size, comparator);
+    System.arraycopy(root.valueData, fromIndex, clone.valueData, 0, size);
+    clone.size = size;
+    return clone;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this)
+      return true;
+
+    if (!(obj instanceof SortedArray<X>Set))
+      return false;
+
+    final SortedArray<X>Set that = (SortedArray<X>Set)obj;
+    return size() == that.size() && containsAll(that);
+  }
+
+  @Override
+  public int hashCode() {
+    final int fromIndex = fromIndex();
+    final <x>[] valueData = root.valueData;
+    int hashCode = 0;
+    for (int i = fromIndex, i$ = toIndex(fromIndex); i < i$; ++i) // [A]
+      hashCode += <XX>.hashCode(valueData[i]);
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    final int fromIndex = fromIndex();
+    final <x>[] valueData = root.valueData;
+    final StringBuilder builder = new StringBuilder();
+    builder.append('[');
+    for (int i = fromIndex, i$ = toIndex(fromIndex); i < i$; ++i) { // [A]
+      if (i > fromIndex)
+        builder.append(", ");
+
+      builder.append(valueData[i]);
+    }
+
+    builder.append(']');
+    return builder.toString();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import org.libj.lang.Assertions;
+import org.libj.util.ArrayUtil;
+
+/**
+ * An immutable search index of a sorted array of {@code <x>} values, which answers the queries of
+ * {@link ArrayUtil#binaryClosestSearch(<x>[],int,int,<x>)} in fewer cache misses.
+ * <p>
+ * The index holds a copy of the values in the Eytzinger (breadth-first) order of an implicit binary search tree, in which the children
+ * of the node at position {@code k} are at positions {@code 2k} and {@code 2k + 1}. A search thus descends through a contiguous prefix
+ * of the array, and the first levels of the tree, which every search visits, share the same few cache lines. The position of the node
+ * at which a search ends is mapped to the index of the value in the sorted array by a parallel array of ranks.
+ * <p>
+ * If the index fits in {@link #BRANCHLESS_MAX_BYTES}, the descent is branchless, as the next position is computed from the result of
+ * the comparison rather than selected by a branch, which avoids the mispredictions of a classic binary search. Larger indexes are
+ * descended with a branch instead, because the speculative execution of the predicted branch loads the next levels of the tree ahead of
+ * the comparisons, which hides more of the memory latency than the branchless descent saves.
+ * <p>
+ * The values are copied upon construction, and later modifications of the sorted array are not reflected in the index.
+ */
+public final class Static<X>SearchIndex {
+  /** The maximum size in bytes of the tree of an index for which the descent is branchless. */
+  static final int BRANCHLESS_MAX_BYTES = 1 << 21;
+
+  /** The maximum number of values of an index, for which the positions {@code 2k + 1} of the descent do not overflow. */
+  static final int MAX_SIZE = (1 << 30) - 1;
+
+  private final <x>[] tree;
+  private final int[] rank;
+  private final int size;
+  private final int toIndex;
+  private final boolean branchless;
+
+  /**
+   * Creates a new {@link Static<X>SearchIndex} of the specified sorted array.
+   *
+   * @param a The sorted array.
+   * @throws IllegalArgumentException If {@code a.length > MAX_SIZE}, which is {@code 2^30 - 1}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public Static<X>SearchIndex(final <x>[] a) {
+    this(a, 0, a.length);
+  }
+
+  /**
+   * Creates a new {@link Static<X>SearchIndex} of the specified range of the sorted array. The indexes returned by
+   * {@link #binaryClosestSearch(<x>)} are indexes of {@code a}, within {@code [fromIndex, toIndex]}.
+   *
+   * @param a The sorted array.
+   * @param fromIndex The starting index of the sorted array to index.
+   * @param toIndex The ending index of the sorted array to index.
+   * @throws IllegalArgumentException If {@code fromIndex > toIndex}, or if {@code toIndex - fromIndex > MAX_SIZE}, which is
+   *           {@code 2^30 - 1}.
+   * @throws ArrayIndexOutOfBoundsException If {@code fromIndex < 0} or {@code toIndex > a.length}.
+   * @throws NullPointerException If {@code a} is null.
+   */
+  public Static<X>SearchIndex(final <x>[] a, final int fromIndex, final int toIndex) {
+    Assertions.assertRangeArray(fromIndex, toIndex, a.length);
+    this.size = toIndex - fromIndex;
+    if (size > MAX_SIZE)
+      throw new IllegalArgumentException("size (" + size + ") > " + MAX_SIZE);
+
+    this.toIndex = toIndex;
+    this.tree = new <x>[size + 1];
+    this.rank = new int[size + 1];
+    this.branchless = (long)size * <XX>.BYTES <= BRANCHLESS_MAX_BYTES;
+    build(a, fromIndex, 1);
+  }
+
+  /**
+   * Fills the subtree rooted at position {@code k} with the values of the sorted array starting at index {@code i}, in order, and
+   * returns the index of the first value that is not in the subtree.
+   */
+  private int build(final <x>[] a, int i, final int k) {
+    if (k > size)
+      return i;
+
+    i = build(a, i, k << 1);
+    tree[k] = a[i];
+    rank[k] = i;
+    return build(a, i + 1, (k << 1) + 1);
+  }
+
+  /**
+   * Returns the number of values in this index.
+   *
+   * @return The number of values in this index.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Find the index of the sorted array whose value most closely matches the value provided: the index of a value equal to {@code key}
+   * if one exists, and otherwise the index at which {@code key} would be inserted, which is {@code toIndex} if {@code key} is greater
+   * than all values.
+   * <p>
+   * <b>Note:</b> If the array contains several values equal to {@code key}, the index of the <i>first</i> of them is returned. This
+   * differs from {@link ArrayUtil#binaryClosestSearch(<x>[],int,int,<x>)}, which returns the index of whichever of them its bisection
+   * reaches first. The two methods return the same index for arrays of distinct values.
+   *
+   * @param key The value to match.
+   * @return The closest index of the sorted array matching the desired value, which is the index of the first value equal to
+   *         {@code key} if the array contains several.
+   */
+  public int binaryClosestSearch(final <x> key) {
+    final <x>[] tree = this.tree;
+    final int size = this.size;
+    int k = 1;
+    if (branchless) {
+      while (k <= size) // [A]
+        k = (k << 1) + (tree[k] < key ? 1 : 0);
+    }
+    else {
+      while (k <= size) { // [A]
+        if (tree[k] < key)
+          k = (k << 1) + 1;
+        else
+          k <<= 1;
+      }
+    }
+
+    // The search ended at the leaf below the node of the least value not less than the key, after having turned left at that node
+    // and right at all nodes below it, so the node is found by removing the trailing right turns and the left turn from the path
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    return k == 0 ? toIndex : rank[k];
+  }
+}
\ No newline at end of file
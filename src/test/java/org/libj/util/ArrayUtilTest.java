@@ -21,6 +21,7 @@ import static org.junit.Assert.*;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.Random;
 
 import org.junit.Test;
 import org.libj.lang.Strings;
@@ -88,6 +89,77 @@ public class ArrayUtilTest {
     assertEquals(5, ArrayUtil.binaryClosestSearch(sorted, 40));
   }
 
+  @Test
+  public void testBinaryClosestSearchAll() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : new int[] {0, 1, 2, 100, 10000}) { // [A]
+      // Distinct values, for which the batch search matches the search of each key
+      final int[] a = new int[size];
+      for (int i = 0, v = -size; i < size; ++i) // [A]
+        a[i] = v += 1 + random.nextInt(4);
+
+      final Integer[] boxed = new Integer[size];
+      for (int i = 0; i < size; ++i) // [A]
+        boxed[i] = a[i];
+
+      for (final int m : new int[] {0, 1, 10, size, 4 * size}) { // [A]
+        final int[] keys = new int[m];
+        for (int i = 0; i < m; ++i) // [A]
+          keys[i] = random.nextInt(6 * size + 20) - 2 * size - 10;
+
+        final int[] out = new int[m];
+        for (int pass = 0; pass < 2; ++pass) { // [N]
+          if (pass == 1)
+            Arrays.sort(keys);
+
+          ArrayUtil.binaryClosestSearchAll(a, keys, out);
+          for (int i = 0; i < m; ++i) // [A]
+            assertEquals("seed: " + seed + ", size: " + size + ", m: " + m, ArrayUtil.binaryClosestSearch(a, keys[i]), out[i]);
+
+          final Integer[] boxedKeys = new Integer[m];
+          for (int i = 0; i < m; ++i) // [A]
+            boxedKeys[i] = keys[i];
+
+          final int[] boxedOut = new int[m];
+          ArrayUtil.binaryClosestSearchAll(boxed, boxedKeys, boxedOut);
+          assertArrayEquals("seed: " + seed + ", size: " + size + ", m: " + m, out, boxedOut);
+
+          final int from = size / 3;
+          final int to = size - size / 4;
+          ArrayUtil.binaryClosestSearchAll(a, from, to, keys, out);
+          for (int i = 0; i < m; ++i) // [A]
+            assertEquals("seed: " + seed + ", size: " + size + ", m: " + m, ArrayUtil.binaryClosestSearch(a, from, to, keys[i]), out[i]);
+        }
+      }
+
+      // Duplicate values, for which the index of the first equal value is stored
+      final long[] d = new long[size];
+      for (int i = 0; i < size; ++i) // [A]
+        d[i] = random.nextInt(size / 8 + 1);
+
+      Arrays.sort(d);
+      final long[] keys = new long[size];
+      for (int i = 0; i < size; ++i) // [A]
+        keys[i] = random.nextInt(size / 8 + 3) - 1;
+
+      Arrays.sort(keys);
+      final int[] out = new int[size];
+      ArrayUtil.binaryClosestSearchAll(d, keys, out);
+      for (int i = 0; i < size; ++i) { // [A]
+        assertTrue("seed: " + seed, out[i] == size || d[out[i]] >= keys[i]);
+        assertTrue("seed: " + seed, out[i] == 0 || d[out[i] - 1] < keys[i]);
+      }
+    }
+
+    try {
+      ArrayUtil.binaryClosestSearchAll(new int[3], new int[2], new int[1]);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
   @Test
   public void testTransform() {
     assertArrayEquals(new String[] {"ONE", "TWO", "THREE"}, ArrayUtil.replaceAll(String::toUpperCase, "one", "two", "three"));
@@ -757,4 +829,146 @@ public class ArrayUtilTest {
     assertDedupe(new Integer[] {1, 2, 2, 3, 4, 5, 5, 6, 7, 7, 8, 8, 9}, 9, c);
     assertDedupe(new Integer[] {1, 1, 1, 2, 2, 3, 4, 5, 5, 6, 7, 7, 8, 8, 9, 9, 9, 9}, 9, c);
   }
+
+  @Test
+  public void testVector() {
+    // The methods are vectorized only in the multi-release jar of the vector profile, with the jdk.incubator.vector module
+    final Random random = new Random(0);
+    for (int len = 0; len < 300; ++len) { // [N]
+      final int[] ints = new int[len];
+      final double[] doubles = new double[len];
+      for (int i = 0; i < len; ++i) { // [A]
+        ints[i] = random.nextInt(16);
+        doubles[i] = ints[i];
+      }
+
+      final double[] copy = doubles.clone();
+      for (int off = 0; off <= len; off += 1 + len / 8) { // [N]
+        for (int value = 0; value < 17; ++value) { // [N]
+          int expected = -1;
+          for (int i = off; i < len; ++i) { // [A]
+            if (ints[i] == value) {
+              expected = i;
+              break;
+            }
+          }
+
+          assertEquals(expected, ArrayIntrinsics.indexOf(ints, off, len, value));
+          assertEquals(expected, ArrayIntrinsics.indexOf(doubles, off, len, value));
+        }
+
+        assertTrue(ArrayIntrinsics.equals(doubles, off, copy, off, len - off));
+        if (off < len) {
+          copy[len - 1] = Double.NaN;
+          assertFalse(ArrayIntrinsics.equals(doubles, off, copy, off, len - off));
+          copy[len - 1] = doubles[len - 1];
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testIndexOf() {
+    for (int len = 0; len < 150; ++len) { // [N]
+      final byte[] bytes = new byte[len];
+      final char[] chars = new char[len];
+      final short[] shorts = new short[len];
+      final int[] ints = new int[len];
+      final long[] longs = new long[len];
+      final float[] floats = new float[len];
+      final double[] doubles = new double[len];
+      for (int i = 0; i < len; ++i) { // [A]
+        bytes[i] = (byte)i;
+        chars[i] = (char)i;
+        shorts[i] = (short)i;
+        ints[i] = i;
+        longs[i] = i;
+        floats[i] = i;
+        doubles[i] = i;
+      }
+
+      for (int i = 0; i < len; ++i) { // [A]
+        assertEquals(i, ArrayUtil.indexOf(bytes, (byte)i));
+        assertEquals(i, ArrayUtil.indexOf(chars, (char)i));
+        assertEquals(i, ArrayUtil.indexOf(shorts, (short)i));
+        assertEquals(i, ArrayUtil.indexOf(ints, i));
+        assertEquals(i, ArrayUtil.indexOf(longs, i));
+        assertEquals(i, ArrayUtil.indexOf(floats, i));
+        assertEquals(i, ArrayUtil.indexOf(doubles, i));
+        assertEquals(i, ArrayUtil.indexOf(ints, i, len, i));
+        assertEquals(-1, ArrayUtil.indexOf(ints, i + 1, len, i));
+        assertEquals(-1, ArrayUtil.indexOf(ints, 0, i, i));
+        assertEquals(-1, ArrayUtil.indexOf(doubles, 0, i, i));
+        assertTrue(ArrayUtil.contains(bytes, (byte)i));
+      }
+
+      assertEquals(-1, ArrayUtil.indexOf(chars, (char)len));
+      assertEquals(-1, ArrayUtil.indexOf(shorts, (short)-1));
+      assertEquals(-1, ArrayUtil.indexOf(ints, len));
+      assertEquals(-1, ArrayUtil.indexOf(ints, len + 1, len, 0));
+      assertEquals(-1, ArrayUtil.indexOf(floats, Float.NaN));
+      assertEquals(-1, ArrayUtil.indexOf(doubles, Double.NaN));
+      assertFalse(ArrayUtil.contains(longs, -1L));
+      if (len > 0) {
+        assertEquals(0, ArrayUtil.indexOf(floats, -0f));
+        assertEquals(0, ArrayUtil.indexOf(doubles, -0d));
+      }
+    }
+
+    final byte[] bytes = new byte[200];
+    bytes[130] = bytes[190] = -1;
+    assertEquals(130, ArrayUtil.indexOf(bytes, (byte)-1));
+    assertEquals(190, ArrayUtil.indexOf(bytes, 131, 200, (byte)-1));
+    assertEquals(-1, ArrayUtil.indexOf(bytes, 131, 190, (byte)-1));
+  }
+
+  @Test
+  public void testEquals() {
+    for (int len = 0; len < 150; ++len) { // [N]
+      final int[] a = new int[len + 3];
+      final int[] b = new int[len + 5];
+      final double[] c = new double[len + 3];
+      final double[] d = new double[len + 5];
+      final float[] e = new float[len + 3];
+      final float[] f = new float[len + 5];
+      for (int i = 0; i < len; ++i) // [A]
+        a[i + 1] = b[i + 4] = i;
+
+      for (int i = 0; i < len; ++i) // [A]
+        c[i + 1] = d[i + 4] = e[i + 1] = f[i + 4] = i;
+
+      assertTrue(ArrayUtil.equals(a, 1, len + 1, b, 4, len + 4));
+      assertFalse(ArrayUtil.equals(a, 1, len + 1, b, 4, len + 5));
+      assertTrue(ArrayUtil.equals(c, 1, len + 1, d, 4, len + 4));
+      assertTrue(ArrayUtil.equals(e, 1, len + 1, f, 4, len + 4));
+      for (int i = 0; i < len; ++i) { // [A]
+        ++a[i + 1];
+        ++c[i + 1];
+        ++f[i + 4];
+        assertFalse(ArrayUtil.equals(a, 1, len + 1, b, 4, len + 4));
+        assertFalse(ArrayUtil.equals(c, 1, len + 1, d, 4, len + 4));
+        assertFalse(ArrayUtil.equals(e, 1, len + 1, f, 4, len + 4));
+        --a[i + 1];
+        --c[i + 1];
+        --f[i + 4];
+      }
+    }
+
+    final double[] zeros = new double[100];
+    final double[] negativeZeros = new double[100];
+    Arrays.fill(negativeZeros, -0.0);
+    assertTrue(ArrayUtil.equals(zeros, 0, 100, negativeZeros, 0, 100));
+    negativeZeros[99] = Double.NaN;
+    zeros[99] = Double.NaN;
+    assertFalse(ArrayUtil.equals(zeros, 0, 100, negativeZeros, 0, 100));
+    assertTrue(ArrayUtil.equals(new double[] {0.0}, 0, 1, new double[] {-0.0}, 0, 1));
+    assertFalse(ArrayUtil.equals(new double[] {Double.NaN}, 0, 1, new double[] {Double.NaN}, 0, 1));
+
+    try {
+      ArrayUtil.equals(new byte[2], 0, 3, new byte[3], 0, 3);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
 }
\ No newline at end of file
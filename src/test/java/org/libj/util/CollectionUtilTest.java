@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 
@@ -162,6 +163,17 @@ public class CollectionUtilTest {
     assertDedupe(Arrays.asList(1, 2), 2, c);
     assertDedupe(Arrays.asList(1, 2, 2, 3, 4, 5, 5, 6, 7, 7, 8, 8, 9), 9, c);
     assertDedupe(Arrays.asList(1, 1, 1, 2, 2, 3, 4, 5, 5, 6, 7, 7, 8, 8, 9, 9, 9, 9), 9, c);
+    assertDedupe(new LinkedList<>(Arrays.asList(1, 1, 1, 2, 2, 3, 4, 5, 5, 6, 7, 7, 8, 8, 9, 9, 9, 9)), 9, c);
+
+    // A list longer than the depth of the stack
+    final int size = 1 << 20;
+    final ArrayList<Integer> list = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) // [RA]
+      list.add(i / 3);
+
+    assertEquals((size - 1) / 3 + 1, CollectionUtil.dedupe(list, c));
+    for (int i = 0, i$ = (size - 1) / 3 + 1; i < i$; ++i) // [RA]
+      assertEquals(i, (int)list.get(i));
   }
 
   @Test
@@ -236,6 +248,49 @@ public class CollectionUtilTest {
     }
   }
 
+  @Test
+  public void testBinaryClosestSearchAll() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : new int[] {0, 1, 2, 100, 10000}) { // [A]
+      final ArrayIntList a = new ArrayIntList(size);
+      final ArrayList<Integer> arrayList = new ArrayList<>(size);
+      for (int i = 0, v = -size; i < size; ++i) { // [N]
+        a.add(v += 1 + random.nextInt(4));
+        arrayList.add(v);
+      }
+
+      final LinkedList<Integer> linkedList = new LinkedList<>(arrayList);
+      for (final int m : new int[] {0, 1, 10, size, 4 * size}) { // [A]
+        final int[] keys = new int[m];
+        for (int i = 0; i < m; ++i) // [A]
+          keys[i] = random.nextInt(6 * size + 20) - 2 * size - 10;
+
+        final int[] out = new int[m];
+        for (int pass = 0; pass < 2; ++pass) { // [N]
+          if (pass == 1)
+            Arrays.sort(keys);
+
+          CollectionUtil.binaryClosestSearchAll(a, keys, out);
+          for (int i = 0; i < m; ++i) // [A]
+            assertEquals("seed: " + seed + ", size: " + size + ", m: " + m, CollectionUtil.binaryClosestSearch(a, keys[i]), out[i]);
+
+          final ArrayList<Integer> boxedKeys = new ArrayList<>(m);
+          for (int i = 0; i < m; ++i) // [A]
+            boxedKeys.add(keys[i]);
+
+          final int[] boxedOut = new int[m];
+          CollectionUtil.binaryClosestSearchAll(arrayList, boxedKeys, boxedOut);
+          assertArrayEquals("seed: " + seed + ", size: " + size + ", m: " + m, out, boxedOut);
+
+          Arrays.fill(boxedOut, -1);
+          CollectionUtil.binaryClosestSearchAll(linkedList, boxedKeys, boxedOut, Integer::compare);
+          assertArrayEquals("seed: " + seed + ", size: " + size + ", m: " + m, out, boxedOut);
+        }
+      }
+    }
+  }
+
   @Test
   public void testBinaryClosestSearchArrayByteList() {
     for (int r = 0; r < 100; ++r) { // [N]
@@ -18,7 +18,9 @@ package org.libj.util;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 import org.libj.util.Diff.Mod;
@@ -111,4 +113,86 @@ public class DiffTest {
       for (final Mod mod : mods) // [L]
         logger.info(mod.toString());
   }
+
+  private static String newString(final Random random, final int length, final int alphabet) {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; ++i) // [A]
+      chars[i] = (char)('a' + random.nextInt(alphabet));
+
+    return new String(chars);
+  }
+
+  private static int lcs(final String a, final String b) {
+    final int[][] lengths = new int[a.length() + 1][b.length() + 1];
+    for (int i = 1; i <= a.length(); ++i) // [N]
+      for (int j = 1; j <= b.length(); ++j) // [N]
+        lengths[i][j] = a.charAt(i - 1) == b.charAt(j - 1) ? lengths[i - 1][j - 1] + 1 : Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+
+    return lengths[a.length()][b.length()];
+  }
+
+  @Test
+  public void testShortest() {
+    final Random random = new Random(0);
+    for (int n = 0; n < 5000; ++n) { // [N]
+      final int alphabet = 1 + random.nextInt(4);
+      final String source = newString(random, random.nextInt(40), alphabet);
+      final String target = newString(random, random.nextInt(40), alphabet);
+      assertDiff(target, source);
+
+      // The number of deleted and inserted characters is the least possible
+      int cost = 0;
+      for (final Mod mod : new Diff(source, target, Diff.Engine.MYERS, 0).getMods()) { // [L]
+        if (mod instanceof Diff.Replace)
+          cost += 2 * mod.length;
+        else if (!(mod instanceof Diff.Equal))
+          cost += mod.length;
+      }
+
+      assertEquals("source: " + source + ", target: " + target, source.length() + target.length() - 2 * lcs(source, target), cost);
+    }
+  }
+
+  private static void assertBytes(final String source, final String target, final byte ... expected) {
+    assertArrayEquals(expected, new Diff(source, target).toBytes());
+    assertEquals(target, Diff.decode(expected).patch(source));
+  }
+
+  @Test
+  public void testBytes() {
+    // The encodings of the diff-match-patch steps of these strings, as derived by hand from its common prefix and suffix, containment
+    // and single character cases, and the conversion of its steps to mods, which are unchanged since before the native steps
+    assertBytes("abc", "abc", (byte)0x00);
+    assertBytes("abcdef", "abcXYdef", (byte)0x17, (byte)0x92, (byte)0xC2, (byte)0xCF, (byte)0x80);
+    assertBytes("abcdef", "bcd", (byte)0x12, (byte)0xFB, (byte)0x00);
+    assertBytes("abcXdef", "abcYdef", (byte)0x17, (byte)0xCA, (byte)0xC8);
+    assertBytes("aXc", "aYZc", (byte)0x0F, (byte)0xAB, (byte)0x25, (byte)0x68);
+    assertBytes("aXYc", "aZc", (byte)0x0F, (byte)0xAB, (byte)0x4C);
+    assertBytes("abc", "abcde", (byte)0x17, (byte)0x93, (byte)0x23, (byte)0x28);
+
+    // A length of 9 bits, for an insert of 256 characters
+    final char[] chars = new char[256];
+    Arrays.fill(chars, 'a');
+    final byte[] expected = new byte[2 + chars.length];
+    expected[0] = 0x49;
+    Arrays.fill(expected, 2, expected.length, (byte)'a');
+    assertBytes("", new String(chars), expected);
+  }
+
+  @Test
+  public void testByteBoundary() {
+    // The encoding of the trailing Delete ends at the last bit of the last byte, which must not be mistaken for padding
+    final Diff diff = new Diff("accacccaa", "aaaaaaaaaaaaaaaaaaaaaa", Diff.Engine.MYERS, 0);
+    assertEquals("aaaaaaaaaaaaaaaaaaaaaa", Diff.decode(diff.toBytes()).patch("accacccaa"));
+  }
+
+  @Test
+  public void testTimeout() {
+    final Random random = new Random(0);
+    final String source = newString(random, 200000, 2);
+    final String target = newString(random, 200000, 2);
+    final Diff diff = new Diff(source, target, Diff.Engine.MYERS, 1);
+    assertEquals(target, diff.patch(source));
+    assertEquals(target, Diff.decode(diff.toBytes()).patch(source));
+  }
 }
\ No newline at end of file
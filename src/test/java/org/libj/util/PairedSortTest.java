@@ -19,11 +19,17 @@ package org.libj.util;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.Test;
 import org.libj.lang.ToArrayList;
+import org.libj.util.primitive.ArrayIntList;
 import org.libj.util.primitive.IntComparator;
+import org.libj.util.primitive.IntList;
 
 public class PairedSortTest {
   private static final int ITERATIONS = 100;
@@ -144,4 +150,75 @@ public class PairedSortTest {
   public void test10000() {
     testN(10000);
   }
+
+  private static void testLarge(final List<Integer> data, final IntComparator c) {
+    final int n = 1 << 20;
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final int[] order = new int[n];
+    for (int i = 0; i < n; ++i) { // [A]
+      order[i] = random.nextInt(n >> 4);
+      data.add(i);
+    }
+
+    final int[] expected = order.clone();
+    Arrays.sort(expected);
+    CollectionUtil.sort(data, order, c);
+    assertArrayEquals("seed: " + seed, expected, order);
+    final Integer[] sorted = data.toArray(new Integer[n]);
+    for (int i = 1; i < n; ++i) // [A]
+      if (order[i - 1] == order[i])
+        assertTrue("seed: " + seed, sorted[i - 1] < sorted[i]);
+  }
+
+  @Test
+  public void testLargeNatural() {
+    testLarge(new ArrayList<>(), IntComparator.NATURAL);
+  }
+
+  @Test
+  public void testLargeComparator() {
+    testLarge(new ArrayList<>(), (i1, i2) -> Integer.compare(i1, i2));
+  }
+
+  @Test
+  public void testLargeLinkedList() {
+    testLarge(new LinkedList<>(), (i1, i2) -> Integer.compare(i1, i2));
+  }
+
+  @Test
+  public void testObjectOrder() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final int n = 100000;
+    final String[] order = new String[n];
+    final Object[] data = new Object[n];
+    for (int i = 0; i < n; ++i) { // [A]
+      order[i] = random.nextInt(20) == 0 ? null : String.valueOf(random.nextInt(1000));
+      data[i] = i;
+    }
+
+    final List<String> list = new ArrayList<>(Arrays.asList(order));
+    final List<Object> listData = new LinkedList<>(Arrays.asList(data));
+
+    ArrayUtil.sort(data, order);
+    CollectionUtil.sort(listData, list);
+    assertEquals("seed: " + seed, Arrays.asList(order), list);
+    assertEquals("seed: " + seed, Arrays.asList(data), listData);
+    for (int i = 1; i < n; ++i) { // [A]
+      final String o1 = order[i - 1];
+      final String o2 = order[i];
+      final int c = o1 == null ? o2 == null ? 0 : -1 : o2 == null ? 1 : o1.compareTo(o2);
+      assertTrue("seed: " + seed, c < 0 || c == 0 && (Integer)data[i - 1] < (Integer)data[i]);
+    }
+  }
+
+  @Test
+  public void testSubList() {
+    final IntList list = new ArrayIntList(9, 8, 3, 2, 1, 0, 7, 6);
+    final Object[] p = {"3", "2", "1", "0"};
+    list.subList(2, 6).sort(p);
+    assertEquals(new ArrayIntList(9, 8, 0, 1, 2, 3, 7, 6), list);
+    assertArrayEquals(new Object[] {"0", "1", "2", "3"}, p);
+  }
 }
\ No newline at end of file
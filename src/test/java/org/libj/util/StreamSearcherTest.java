@@ -18,10 +18,28 @@ package org.libj.util;
 
 import static org.junit.Assert.*;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.PushbackReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 import org.junit.Test;
+import org.libj.util.primitive.LongIterator;
 
 public class StreamSearcherTest {
   @Test
@@ -39,4 +57,350 @@ public class StreamSearcherTest {
     assertEquals(3, searcher.search(test1, bytes, 0));
     assertEquals(3, searcher.search(test2, bytes, 0));
   }
+
+  @Test
+  public void testPatternsOfDifferentLengths() throws IOException {
+    final StreamSearcher.Byte searcher = new StreamSearcher.Byte(new byte[] {1}, new byte[] {0, 0, 0, 2});
+    assertEquals(5, searcher.search(new ByteArrayInputStream(new byte[] {0, 0, 0, 0, 2, 1})));
+    assertEquals(2, new StreamSearcher.Char("c".toCharArray(), "abc".toCharArray()).search(new CharArrayReader("xcabc".toCharArray())));
+  }
+
+  private static byte[] newBytes(final Random random, final int length, final int alphabet) {
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; ++i) // [A]
+      bytes[i] = (byte)random.nextInt(alphabet);
+
+    return bytes;
+  }
+
+  private static ArrayList<String> naiveMatches(final byte[] data, final byte[][] patterns) {
+    final ArrayList<String> matches = new ArrayList<>();
+    for (int end = 1; end <= data.length; ++end) { // [N]
+      for (int p = 0; p < patterns.length; ++p) { // [A]
+        final byte[] pattern = patterns[p];
+        final int start = end - pattern.length;
+        boolean match = start >= 0;
+        for (int i = 0; match && i < pattern.length; ++i) // [A]
+          match = data[start + i] == pattern[i];
+
+        if (match)
+          matches.add(end + ":" + p);
+      }
+    }
+
+    return matches;
+  }
+
+  @Test
+  public void testMultiByte() throws IOException {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (int n = 0; n < 500; ++n) { // [N]
+      final int alphabet = 1 + random.nextInt(4);
+      final byte[][] patterns = new byte[1 + random.nextInt(8)][];
+      for (int p = 0; p < patterns.length; ++p) // [A]
+        patterns[p] = newBytes(random, 1 + random.nextInt(5), alphabet);
+
+      final byte[] data = newBytes(random, random.nextInt(200), alphabet);
+      final ArrayList<String> expected = naiveMatches(data, patterns);
+
+      // Patterns that end at the same position are reported from the longest to the shortest
+      final ArrayList<String> actual = new ArrayList<>();
+      final StreamSearcher.MultiByte searcher = new StreamSearcher.MultiByte(patterns);
+      assertEquals(data.length, searcher.search(new ByteArrayInputStream(data), (p, end) -> actual.add(end + ":" + p)));
+      expected.sort((a, b) -> {
+        final int c = Integer.compare(Integer.parseInt(a.split(":")[0]), Integer.parseInt(b.split(":")[0]));
+        if (c != 0)
+          return c;
+
+        final int pa = Integer.parseInt(a.split(":")[1]);
+        final int pb = Integer.parseInt(b.split(":")[1]);
+        final int l = Integer.compare(patterns[pb].length, patterns[pa].length);
+        return l != 0 ? l : Integer.compare(pa, pb);
+      });
+
+      // Duplicate patterns end at the same state, and only the first of them is reported
+      for (int i = expected.size() - 1; i >= 0; --i) { // [RA]
+        final String[] match = expected.get(i).split(":");
+        final int p = Integer.parseInt(match[1]);
+        for (int q = 0; q < p; ++q) { // [A]
+          if (Arrays.equals(patterns[q], patterns[p])) {
+            expected.remove(i);
+            break;
+          }
+        }
+      }
+
+      assertEquals("seed: " + seed, expected, actual);
+
+      final int first = expected.size() == 0 ? data.length : Integer.parseInt(expected.get(0).split(":")[0]);
+      final byte[] buffer = new byte[data.length + 1];
+      final ByteArrayInputStream in = new ByteArrayInputStream(data);
+      assertEquals("seed: " + seed, first, searcher.search(in, buffer, 0));
+      assertEquals("seed: " + seed, data.length - first, in.available());
+      for (int i = 0; i < first; ++i) // [A]
+        assertEquals("seed: " + seed, data[i], buffer[i]);
+
+      final int[] stops = {0};
+      final long stop = searcher.search(new ByteArrayInputStream(data), (p, end) -> ++stops[0] < 2);
+      assertEquals("seed: " + seed, expected.size() < 2 ? data.length : Long.parseLong(expected.get(1).split(":")[0]), stop);
+    }
+  }
+
+  @Test
+  public void testMultiChar() throws IOException {
+    final StreamSearcher.MultiChar searcher = new StreamSearcher.MultiChar("he".toCharArray(), "she".toCharArray(), "his".toCharArray(), "hers".toCharArray(), "\u4e2d\u6587".toCharArray());
+    final char[] data = "ushers \u4e2d\u6587 this".toCharArray();
+    final ArrayList<String> actual = new ArrayList<>();
+    assertEquals(data.length, searcher.search(new CharArrayReader(data), (p, end) -> actual.add(end + ":" + p)));
+    assertEquals(Arrays.asList("4:1", "4:0", "6:3", "9:4", "14:2"), actual);
+
+    final char[] buffer = new char[data.length];
+    final CharArrayReader in = new CharArrayReader(data);
+    assertEquals(4, searcher.search(in, buffer, 0));
+    assertEquals(5, searcher.search(in, buffer, 4));
+    assertEquals("ushers \u4e2d\u6587", new String(buffer, 0, 9));
+  }
+
+  @Test
+  public void testMultiIllegalPatterns() {
+    try {
+      new StreamSearcher.MultiByte();
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new StreamSearcher.MultiChar("a".toCharArray(), new char[0]);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  /**
+   * Returns an {@link InputStream} of the specified bytes that returns at most 3 bytes from each read, and does not support mark.
+   */
+  private static InputStream newTrickleStream(final byte[] data) {
+    return new ByteArrayInputStream(data) {
+      @Override
+      public synchronized int read(final byte[] b, final int off, final int len) {
+        return super.read(b, off, Math.min(3, len));
+      }
+
+      @Override
+      public boolean markSupported() {
+        return false;
+      }
+    };
+  }
+
+  private static byte[] remaining(final InputStream in) throws IOException {
+    final ByteBuffer remaining = ByteBuffer.allocate(256);
+    for (int b; (b = in.read()) != -1;) // [ST]
+      remaining.put((byte)b);
+
+    return Arrays.copyOf(remaining.array(), remaining.position());
+  }
+
+  @Test
+  public void testBlockSearch() throws IOException {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (int n = 0; n < 500; ++n) { // [N]
+      final int alphabet = 1 + random.nextInt(4);
+      final byte[][] patterns = new byte[1 + random.nextInt(4)][];
+      for (int p = 0; p < patterns.length; ++p) // [A]
+        patterns[p] = newBytes(random, 1 + random.nextInt(5), alphabet);
+
+      final byte[] data = newBytes(random, random.nextInt(200), alphabet);
+      final StreamSearcher.Byte kmp = new StreamSearcher.Byte(patterns);
+      final StreamSearcher.MultiByte multi = new StreamSearcher.MultiByte(patterns);
+
+      // The expected end of each successive match, and the bytes that remain after it
+      final ByteArrayInputStream expected = new ByteArrayInputStream(data);
+      final PushbackInputStream pushback = new PushbackInputStream(newTrickleStream(data), 8);
+      final BufferedInputStream buffered = new BufferedInputStream(newTrickleStream(data), 4);
+      final ByteArrayInputStream marked = new ByteArrayInputStream(data);
+      final ByteBuffer heap = ByteBuffer.wrap(data);
+      final ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data);
+      direct.flip();
+      final ReadableByteChannel channel = Channels.newChannel(newTrickleStream(data));
+      final ByteBuffer channelBuffer = ByteBuffer.allocate(1 + random.nextInt(7));
+      channelBuffer.flip();
+      for (int advanced; (advanced = kmp.search(expected)) > 0;) { // [ST]
+        final String message = "seed: " + seed;
+        assertEquals(message, advanced, multi.search(pushback, new byte[8]));
+        assertEquals(message, advanced, kmp.search(buffered, new byte[1 + random.nextInt(8)]));
+        assertEquals(message, advanced, multi.search(marked));
+        assertEquals(message, advanced, multi.search(channel, channelBuffer));
+        assertEquals(message, advanced, multi.search(heap));
+        assertEquals(message, advanced, kmp.search(direct));
+      }
+
+      assertEquals(0, remaining(pushback).length);
+      assertEquals(0, remaining(buffered).length);
+      assertEquals(0, remaining(marked).length);
+      assertEquals(0, channelBuffer.remaining());
+    }
+  }
+
+  @Test
+  public void testBlockSearchPushback() throws IOException {
+    final StreamSearcher.MultiChar searcher = new StreamSearcher.MultiChar("--a".toCharArray(), "--b".toCharArray());
+    final char[] data = "xx--yy--b zz--a tail".toCharArray();
+    final PushbackReader in = new PushbackReader(new CharArrayReader(data), 16);
+    assertEquals(9, searcher.search(in, new char[16]));
+    assertEquals(6, new StreamSearcher.Char("--a".toCharArray()).search(in, new char[4]));
+    assertEquals(' ', in.read());
+
+    final ByteArrayInputStream bytes = new ByteArrayInputStream("xx--yy--b zz--a tail".getBytes());
+    assertEquals(9, new StreamSearcher.MultiByte("--b".getBytes()).search(bytes, new byte[64]));
+    assertEquals(' ', bytes.read());
+
+    try {
+      searcher.search(new InputStreamReader(bytes), new char[16]);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  private static ArrayList<Long> toList(final LongIterator iterator) {
+    final ArrayList<Long> list = new ArrayList<>();
+    while (iterator.hasNext())
+      list.add(iterator.next());
+
+    return list;
+  }
+
+  @Test
+  public void testMappedSearch() throws IOException {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final Path path = Files.createTempFile("streamsearcher", ".bin");
+    try {
+      for (int n = 0; n < 100; ++n) { // [N]
+        final int alphabet = 1 + random.nextInt(4);
+        final byte[][] patterns = new byte[1 + random.nextInt(3)][];
+        for (int p = 0; p < patterns.length; ++p) // [A]
+          patterns[p] = newBytes(random, 1 + random.nextInt(6), alphabet);
+
+        final byte[] data = newBytes(random, random.nextInt(2000), alphabet);
+        Files.write(path, data);
+
+        // The start offsets of the matches, in the order of their end, with duplicate patterns reported once
+        final ArrayList<Long> expected = new ArrayList<>();
+        final StreamSearcher.MultiByte searcher = new StreamSearcher.MultiByte(patterns);
+        searcher.search(new ByteArrayInputStream(data), (p, end) -> expected.add(end - patterns[p].length));
+
+        final int window = 1 + random.nextInt(64);
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+          assertEquals("seed: " + seed, expected, toList(searcher.search(channel, window, false)));
+          assertEquals("seed: " + seed, expected, toList(searcher.search(channel, window, true)));
+          assertEquals("seed: " + seed, expected, toList(searcher.search(channel, false)));
+        }
+
+        assertEquals("seed: " + seed, expected, toList(searcher.search(path, window, true)));
+        if (patterns.length == 1)
+          assertEquals("seed: " + seed, expected, toList(new StreamSearcher.Byte(patterns).search(path, false)));
+      }
+    }
+    finally {
+      Files.delete(path);
+    }
+  }
+
+  /**
+   * Returns the segments of the specified bytes between the delimiters, each followed by the index of the pattern of the delimiter
+   * that ended it, matched naively from the end of the previous delimiter, with the longest delimiter preferred.
+   */
+  private static ArrayList<String> split(final byte[] data, final byte[][] patterns) {
+    final ArrayList<String> segments = new ArrayList<>();
+    int start = 0;
+    for (int end = 1; end <= data.length; ++end) { // [A]
+      int delimiter = -1;
+      for (int p = 0; p < patterns.length; ++p) { // [A]
+        final int from = end - patterns[p].length;
+        if (from >= start && (delimiter == -1 || patterns[p].length > patterns[delimiter].length) && Arrays.equals(patterns[p], Arrays.copyOfRange(data, from, end)))
+          delimiter = p;
+      }
+
+      if (delimiter != -1) {
+        segments.add(new String(data, start, end - patterns[delimiter].length - start) + ":" + delimiter);
+        start = end;
+      }
+    }
+
+    if (start < data.length)
+      segments.add(new String(data, start, data.length - start) + ":-1");
+
+    return segments;
+  }
+
+  private static ArrayList<String> toList(final StreamSearcher.MultiByte.Splitter splitter) {
+    final ArrayList<String> list = new ArrayList<>();
+    while (splitter.hasNext()) {
+      final ByteBuffer segment = splitter.next();
+      list.add(new String(segment.array(), segment.position(), segment.remaining()) + ":" + splitter.delimiter());
+    }
+
+    return list;
+  }
+
+  @Test
+  public void testSplit() {
+    final StreamSearcher.MultiByte searcher = new StreamSearcher.MultiByte("\r\n".getBytes(), "\n".getBytes());
+    final byte[] data = "a\r\nbb\n\nccc\r\r\n".getBytes();
+    final ArrayList<String> expected = new ArrayList<>(Arrays.asList("a:0", "bb:1", ":1", "ccc\r:0"));
+    assertEquals(expected, toList(searcher.split(new ByteArrayInputStream(data), new byte[64])));
+
+    // The buffer is not grown, so all segments are returned in the same view
+    final StreamSearcher.MultiByte.Splitter reused = searcher.split(new ByteArrayInputStream(data), new byte[64]);
+    final ByteBuffer first = reused.next();
+    while (reused.hasNext())
+      assertSame(first, reused.next());
+
+    assertEquals(expected, toList(searcher.split(newTrickleStream(data), new byte[1])));
+
+    expected.add("tail:-1");
+    final byte[] tail = "a\r\nbb\n\nccc\r\r\ntail".getBytes();
+    assertEquals(expected, toList(searcher.split(Channels.newChannel(new ByteArrayInputStream(tail)), new byte[2])));
+
+    final StreamSearcher.MultiByte.Splitter splitter = new StreamSearcher.Byte("\n".getBytes()).split(new ByteArrayInputStream(new byte[0]), new byte[4]);
+    assertFalse(splitter.hasNext());
+    try {
+      splitter.next();
+      fail("Expected NoSuchElementException");
+    }
+    catch (final NoSuchElementException e) {
+    }
+
+    try {
+      searcher.split(new ByteArrayInputStream(data), new byte[0]);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testSplitRandom() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (int n = 0; n < 500; ++n) { // [N]
+      final int alphabet = 1 + random.nextInt(4);
+      final byte[][] patterns = new byte[1 + random.nextInt(4)][];
+      for (int p = 0; p < patterns.length; ++p) // [A]
+        patterns[p] = newBytes(random, 1 + random.nextInt(5), alphabet);
+
+      final byte[] data = newBytes(random, random.nextInt(200), alphabet);
+      final ArrayList<String> expected = split(data, patterns);
+      final StreamSearcher.MultiByte searcher = new StreamSearcher.MultiByte(patterns);
+      final String message = "seed: " + seed;
+      assertEquals(message, expected, toList(searcher.split(newTrickleStream(data), new byte[1 + random.nextInt(8)])));
+      assertEquals(message, expected, toList(searcher.split(Channels.newChannel(newTrickleStream(data)), new byte[1 + random.nextInt(8)])));
+    }
+  }
 }
\ No newline at end of file
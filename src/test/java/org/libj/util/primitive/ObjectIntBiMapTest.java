@@ -0,0 +1,147 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ObjectIntBiMapTest {
+  private static void assertMap(final Map<String,Integer> expected, final ObjectIntBiMap<String> map, final FrozenObjectIntBiMap<String> frozen) {
+    assertEquals(expected.size(), map.size());
+    assertEquals(expected.size(), frozen.size());
+    for (final Map.Entry<String,Integer> entry : expected.entrySet()) { // [S]
+      final int id = entry.getValue();
+      assertEquals(id, map.getId(entry.getKey()));
+      assertEquals(id, frozen.getId(entry.getKey()));
+      assertEquals(entry.getKey(), map.getKey(id));
+      assertEquals(entry.getKey(), frozen.getKey(id));
+    }
+
+    assertEquals(ObjectIntBiMap.NOT_FOUND, map.getId("x"));
+    assertEquals(ObjectIntBiMap.NOT_FOUND, frozen.getId("x"));
+    assertEquals(ObjectIntBiMap.NOT_FOUND, map.getId(null));
+    assertEquals(ObjectIntBiMap.NOT_FOUND, frozen.getId(null));
+  }
+
+  @Test
+  public void testIntern() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final Map<String,Integer> expected = new HashMap<>();
+    final ObjectIntBiMap<String> map = new ObjectIntBiMap<>(0);
+    for (int i = 0; i < 20000; ++i) { // [N]
+      final String key = String.valueOf(random.nextInt(10000));
+      final Integer id = expected.computeIfAbsent(key, k -> expected.size());
+      assertEquals("seed: " + seed, id.intValue(), map.intern(key));
+    }
+
+    assertMap(expected, map, map.freeze());
+    assertArrayEquals(map.keys(), map.freeze().keys());
+
+    final int[] count = {0};
+    map.forEach((k, v) -> assertEquals(count[0]++, v));
+    assertEquals(map.size(), count[0]);
+
+    try {
+      map.forEach((k, v) -> map.intern("x"));
+      fail("Expected ConcurrentModificationException");
+    }
+    catch (final ConcurrentModificationException e) {
+    }
+  }
+
+  @Test
+  public void testIdOutOfBounds() {
+    final ObjectIntBiMap<String> map = new ObjectIntBiMap<>();
+    map.intern("a");
+    try {
+      map.getKey(1);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+
+    try {
+      map.intern(null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+  }
+
+  @Test
+  public void testCloneClearEquals() {
+    final ObjectIntBiMap<String> map = new ObjectIntBiMap<>();
+    for (int i = 0; i < 100; ++i) // [N]
+      map.intern("k" + i);
+
+    final ObjectIntBiMap<String> clone = map.clone();
+    assertEquals(map, clone);
+    assertEquals(map.hashCode(), clone.hashCode());
+    assertEquals(map.hashCode(), map.freeze().hashCode());
+    assertEquals(map.toString(), map.freeze().toString());
+    assertEquals(map, map.freeze().thaw());
+    assertEquals(map.freeze(), clone.freeze());
+
+    clone.intern("z");
+    assertNotEquals(map, clone);
+    assertNotEquals(map.freeze(), clone.freeze());
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertFalse(map.containsKey("k0"));
+    assertEquals(0, map.intern("k1"));
+    assertEquals(101, clone.size());
+    assertEquals("{k1=0}", map.toString());
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    final ObjectIntBiMap<String> map = new ObjectIntBiMap<>();
+    for (int i = 0; i < 1000; ++i) // [N]
+      map.intern("k" + i);
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(map);
+      out.writeObject(map.freeze());
+    }
+
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      @SuppressWarnings("unchecked")
+      final ObjectIntBiMap<String> read = (ObjectIntBiMap<String>)in.readObject();
+      assertEquals(map, read);
+      assertEquals(999, read.getId("k999"));
+      assertEquals(1000, read.intern("new"));
+
+      @SuppressWarnings("unchecked")
+      final FrozenObjectIntBiMap<String> frozen = (FrozenObjectIntBiMap<String>)in.readObject();
+      assertEquals(map.freeze(), frozen);
+      assertEquals(500, frozen.getId("k500"));
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+
+import org.junit.Assert;
+
+/**
+ * Assertions of the values of a {@link <X>Collection} in the order of its iterator, which are shared by the tests of the
+ * {@code <x>} collections.
+ */
+@SuppressWarnings("all")
+abstract class <X>CollectionTest extends PrimitiveCollectionTest {
+  static void assertCollection(final Collection<<XX>> expected, final <X>Collection actual, final String message) {
+    Assert.assertEquals(message, expected.size(), actual.size());
+    final <X>Iterator iterator = actual.iterator();
+    for (final <XX> value : expected) // [I]
+      Assert.assertEquals(message, value, (<XX>)iterator.next());
+  }
+
+  static void assertValues(final <X>Collection actual, final int ... expected) {
+    Assert.assertEquals(expected.length, actual.size());
+    final <X>Iterator iterator = actual.iterator();
+    for (int i = 0; i < expected.length; ++i) // [A]
+      assertEquals((<x>)expected[i], iterator.next());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.libj.util.ArrayUtil;
+import org.libj.util.Iterators;
+
+@SuppressWarnings("all")
+public class <X>DedupeTest {
+  private static final int[] SIZES = {0, 1, 2, 3, 100, 1000, 10000};
+  private static final int[] GRANS = {1, 2, 3, 7, 64, 1000};
+
+  private static <x>[] newArray(final Random random, final int size, final int distinct) {
+    final <x>[] a = new <x>[size];
+    for (int i = 0; i < size; ++i) // [A]
+      a[i] = (<x>)random.nextInt(distinct);
+
+    return a;
+  }
+
+  private static <x>[] expected(final <x>[] a) {
+    final <x>[] expected = a.clone();
+    Arrays.sort(expected);
+    return Arrays.copyOf(expected, ArrayUtil.dedupe(expected));
+  }
+
+  @Test
+  public void testParallelDedupe() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : SIZES) { // [A]
+      for (final int distinct : new int[] {1, 3, 100}) { // [A]
+        final <x>[] sorted = newArray(random, size, distinct);
+        Arrays.sort(sorted);
+        final <x>[] expected = expected(sorted);
+        for (final int gran : GRANS) { // [A]
+          final String message = "seed: " + seed + ", size: " + size + ", distinct: " + distinct + ", gran: " + gran;
+          final <x>[] a = sorted.clone();
+          final int n = <X>Dedupe.parallelDedupe(a, 0, size, gran);
+          assertEquals(message, expected.length, n);
+          assertTrue(message, Arrays.equals(expected, Arrays.copyOf(a, n)));
+
+          // Dedupe a range, and check that the values after the range are untouched
+          final int from = size / 3;
+          final int to = size - size / 4;
+          final <x>[] range = sorted.clone();
+          final <x>[] rangeExpected = expected(Arrays.copyOfRange(sorted, from, to));
+          final int m = <X>Dedupe.parallelDedupe(range, from, to, gran);
+          assertEquals(message, rangeExpected.length, m);
+          assertTrue(message, Arrays.equals(rangeExpected, Arrays.copyOfRange(range, from, from + m)));
+          assertTrue(message, Arrays.equals(Arrays.copyOfRange(sorted, to, size), Arrays.copyOfRange(range, to, size)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testArrayUtil() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : SIZES) { // [A]
+      final <x>[] a = newArray(random, size, 100);
+      final <x>[] expected = expected(a);
+      final int n = ArrayUtil.parallelDedupe(a);
+      assertEquals("seed: " + seed + ", size: " + size, expected.length, n);
+      assertTrue("seed: " + seed + ", size: " + size, Arrays.equals(expected, Arrays.copyOf(a, n)));
+    }
+  }
+
+  @Test
+  public void testIterator() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : SIZES) { // [A]
+      final <x>[] sorted = newArray(random, size, 100);
+      Arrays.sort(sorted);
+      final <x>[] expected = expected(sorted);
+      final <X>Iterator iterator = Iterators.dedupe(new Array<X>List(sorted).iterator());
+      for (final <x> value : expected) { // [A]
+        assertTrue("seed: " + seed + ", size: " + size, iterator.hasNext());
+        assertTrue("seed: " + seed + ", size: " + size, value == iterator.next());
+      }
+
+      assertFalse("seed: " + seed + ", size: " + size, iterator.hasNext());
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.libj.util.ArrayUtil;
+
+@SuppressWarnings("all")
+public class <X>RadixSortTest {
+  private static final int[] SIZES = {0, 1, 2, 100, PrimitiveRadixSort.RADIX_SORT_THRESHOLD - 1, PrimitiveRadixSort.RADIX_SORT_THRESHOLD, 50000};
+
+  // Includes the values whose order is defined specially by <XX>.compare() for the floating point types
+  private static final <x>[] SPECIAL = {(<x>)-0.0, (<x>)0.0, (<x>)Double.NaN, (<x>)-Double.NaN, (<x>)Double.POSITIVE_INFINITY, (<x>)Double.NEGATIVE_INFINITY, <XX>.MIN_VALUE, <XX>.MAX_VALUE};
+
+  private static <x>[] newArray(final Random random, final int size) {
+    final <x>[] a = new <x>[size];
+    for (int i = 0; i < size; ++i) { // [A]
+      final int r = random.nextInt(10);
+      a[i] = r == 0 ? SPECIAL[random.nextInt(SPECIAL.length)] : r < 5 ? (<x>)(random.nextInt(200) - 100) : (<x>)random.nextLong();
+    }
+
+    return a;
+  }
+
+  @Test
+  public void testRadixSort() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : SIZES) { // [A]
+      final <x>[] expected = newArray(random, size);
+      final <x>[] actual = expected.clone();
+      final <x>[] natural = expected.clone();
+      Arrays.sort(expected);
+      ArrayUtil.radixSort(actual);
+      ArrayUtil.sort(natural, <X>Comparator.NATURAL);
+      assertTrue("seed: " + seed + ", size: " + size, Arrays.equals(expected, actual));
+      assertTrue("seed: " + seed + ", size: " + size, Arrays.equals(expected, natural));
+
+      // Sort a range, and check that the values outside of the range are untouched
+      final <x>[] range = newArray(random, size);
+      final <x>[] rangeExpected = range.clone();
+      final int from = size / 3;
+      final int to = size - size / 4;
+      Arrays.sort(rangeExpected, from, to);
+      ArrayUtil.radixSort(range, from, to);
+      assertTrue("seed: " + seed + ", size: " + size, Arrays.equals(rangeExpected, range));
+    }
+  }
+
+  @Test
+  public void testPaired() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : SIZES) { // [A]
+      final <x>[] order = newArray(random, size);
+      final Object[] data = new Object[size];
+      for (int i = 0; i < size; ++i) // [A]
+        data[i] = i;
+
+      final <x>[] expectedOrder = order.clone();
+      final Object[] expectedData = data.clone();
+
+      // A comparator other than NATURAL is sorted with the stable TimSort, which the radix sort must match exactly
+      ArrayUtil.sort(expectedData, expectedOrder, (a, b) -> <XX>.compare(a, b));
+      ArrayUtil.sort(data, order);
+      assertTrue("seed: " + seed + ", size: " + size, Arrays.equals(expectedOrder, order));
+      assertArrayEquals("seed: " + seed + ", size: " + size, expectedData, data);
+    }
+  }
+
+  @Test
+  public void testRangeCheck() {
+    try {
+      ArrayUtil.radixSort(new <x>[3], 2, 1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      ArrayUtil.radixSort(new <x>[3], 0, 4);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
+}
\ No newline at end of file
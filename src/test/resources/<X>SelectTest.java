@@ -0,0 +1,185 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.libj.util.ArrayUtil;
+
+@SuppressWarnings("all")
+public class <X>SelectTest {
+  private static final int[] SIZES = {1, 2, 3, 16, 17, 100, 1000, 100000};
+
+  private static <x>[] newArray(final Random random, final int size, final int pattern) {
+    final <x>[] a = new <x>[size];
+    for (int i = 0; i < size; ++i) { // [A]
+      switch (pattern) {
+        case 0:
+          a[i] = (<x>)random.nextLong();
+          break;
+        case 1:
+          a[i] = (<x>)random.nextInt(4);
+          break;
+        case 2:
+          a[i] = (<x>)(i % 100);
+          break;
+        default:
+          a[i] = (<x>)(size - i);
+      }
+    }
+
+    return a;
+  }
+
+  private static void assertSelected(final String message, final <x>[] expected, final <x>[] a, final int k) {
+    assertTrue(message, a[k] == expected[k]);
+    for (int i = 0; i < k; ++i) // [A]
+      assertTrue(message, <XX>.compare(a[i], a[k]) <= 0);
+
+    for (int i = k + 1; i < a.length; ++i) // [A]
+      assertTrue(message, <XX>.compare(a[i], a[k]) >= 0);
+
+    final <x>[] sorted = a.clone();
+    Arrays.sort(sorted);
+    assertTrue(message, Arrays.equals(expected, sorted));
+  }
+
+  @Test
+  public void testSelect() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (int pattern = 0; pattern < 4; ++pattern) { // [N]
+      for (final int size : SIZES) { // [A]
+        for (final int k : new int[] {0, size / 2, size - 1, random.nextInt(size)}) { // [A]
+          final String message = "seed: " + seed + ", pattern: " + pattern + ", size: " + size + ", k: " + k;
+          final <x>[] a = newArray(random, size, pattern);
+          final <x>[] expected = a.clone();
+          Arrays.sort(expected);
+          assertTrue(message, ArrayUtil.select(a, k, null) == expected[k]);
+          assertSelected(message, expected, a, k);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPartialSort() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (int pattern = 0; pattern < 4; ++pattern) { // [N]
+      for (final int size : SIZES) { // [A]
+        for (final int k : new int[] {0, 1, size / 2, size, random.nextInt(size + 1)}) { // [A]
+          final String message = "seed: " + seed + ", pattern: " + pattern + ", size: " + size + ", k: " + k;
+          final <x>[] a = newArray(random, size, pattern);
+          final <x>[] expected = a.clone();
+          Arrays.sort(expected);
+          ArrayUtil.partialSort(a, k, <X>Comparator.REVERSE);
+          for (int i = 0; i < k; ++i) // [A]
+            assertTrue(message, a[i] == expected[size - 1 - i]);
+
+          Arrays.sort(a);
+          assertTrue(message, Arrays.equals(expected, a));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPaired() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : SIZES) { // [A]
+      final int k = random.nextInt(size);
+      final String message = "seed: " + seed + ", size: " + size + ", k: " + k;
+      final <x>[] order = newArray(random, size, 1);
+      final <x>[] original = order.clone();
+      final Object[] data = new Object[size];
+      for (int i = 0; i < size; ++i) // [A]
+        data[i] = i;
+
+      final <x>[] expected = order.clone();
+      Arrays.sort(expected);
+      assertTrue(message, ArrayUtil.select(data, order, k, null) == expected[k]);
+      assertSelected(message, expected, order, k);
+      for (int i = 0; i < size; ++i) // [A]
+        assertTrue(message, original[(Integer)data[i]] == order[i]);
+
+      ArrayUtil.partialSort(data, order, k, null);
+      for (int i = 0; i < size; ++i) // [A]
+        assertTrue(message, original[(Integer)data[i]] == order[i]);
+
+      for (int i = 0; i < k; ++i) // [A]
+        assertTrue(message, order[i] == expected[i]);
+    }
+  }
+
+  @Test
+  public void testList() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final <x>[] a = newArray(random, 1000, 0);
+    final Array<X>List list = new Array<X>List(a);
+    final Array<X>List subList = list.subList(100, 900);
+    final <x>[] expected = Arrays.copyOfRange(a, 100, 900);
+    Arrays.sort(expected);
+
+    assertTrue("seed: " + seed, subList.select(400, null) == expected[400]);
+    subList.partialSort(50, null);
+    for (int i = 0; i < 50; ++i) // [A]
+      assertTrue("seed: " + seed, subList.get(i) == expected[i]);
+
+    for (int i = 0; i < 100; ++i) { // [A]
+      assertTrue("seed: " + seed, list.get(i) == a[i]);
+      assertTrue("seed: " + seed, list.get(900 + i) == a[900 + i]);
+    }
+
+    try {
+      subList.select(800, null);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testRangeCheck() {
+    try {
+      ArrayUtil.select(new <x>[3], 2, 1, 1, null);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      ArrayUtil.select(new <x>[3], 3, null);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+
+    try {
+      ArrayUtil.partialSort(new <x>[3], 4, null);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
+}
\ No newline at end of file
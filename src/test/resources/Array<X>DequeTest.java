@@ -0,0 +1,297 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Array<X>DequeTest extends <X>CollectionTest {
+  @Test
+  public void testAddRemoveBothEnds() {
+    final Array<X>Deque deque = new Array<X>Deque(2);
+    deque.addLast((<x>)1);
+    deque.addLast((<x>)2);
+    deque.addFirst((<x>)0);
+    deque.push((<x>)3);
+    assertValues(deque, 3, 0, 1, 2);
+    assertEquals((<x>)3, deque.getFirst());
+    assertEquals((<x>)2, deque.getLast());
+    assertEquals((<x>)3, deque.pop());
+    assertEquals((<x>)2, deque.removeLast());
+    assertEquals((<x>)0, deque.remove());
+    assertEquals((<x>)1, deque.element());
+    assertEquals((<x>)1, deque.removeFirst());
+    assertTrue(deque.isEmpty());
+    try {
+      deque.removeFirst();
+      fail("Expected NoSuchElementException");
+    }
+    catch (final NoSuchElementException e) {
+    }
+
+    try {
+      deque.getLast();
+      fail("Expected NoSuchElementException");
+    }
+    catch (final NoSuchElementException e) {
+    }
+  }
+
+  @Test
+  public void testSlidingWindow() {
+    final Array<X>Deque deque = new Array<X>Deque(8);
+    for (int i = 0; i < 100; ++i) { // [N]
+      deque.addLast((<x>)i);
+      if (deque.size() > 5)
+        deque.removeFirst();
+
+      Assert.assertEquals(Math.min(i + 1, 5), deque.size());
+      assertEquals((<x>)i, deque.getLast());
+      assertEquals((<x>)Math.max(0, i - 4), deque.getFirst());
+    }
+  }
+
+  @Test
+  public void testAddAllDrainToWrapped() {
+    final Array<X>Deque deque = new Array<X>Deque(8);
+    for (int i = 0; i < 6; ++i) // [N]
+      deque.addLast((<x>)i);
+
+    final <x>[] drained = new <x>[4];
+    Assert.assertEquals(4, deque.drainTo(drained));
+    for (int i = 0; i < 4; ++i) // [N]
+      assertEquals((<x>)i, drained[i]);
+
+    // The values now wrap around the end of the backing array
+    final <x>[] values = new <x>[10];
+    for (int i = 0; i < values.length; ++i) // [N]
+      values[i] = (<x>)(i + 6);
+
+    assertTrue(deque.addAll(values, 2, 5));
+    Assert.assertEquals(7, deque.size());
+    final <x>[] expected = {(<x>)4, (<x>)5, (<x>)8, (<x>)9, (<x>)10, (<x>)11, (<x>)12};
+    assertArrayEquals(expected, deque.toArray(new <x>[0]));
+
+    final <x>[] all = new <x>[10];
+    Assert.assertEquals(7, deque.drainTo(all, 1, 9));
+    for (int i = 0; i < expected.length; ++i) // [N]
+      assertEquals(expected[i], all[i + 1]);
+
+    assertTrue(deque.isEmpty());
+    Assert.assertEquals(0, deque.drainTo(all));
+  }
+
+  @Test
+  public void testIterators() {
+    final Array<X>Deque deque = new Array<X>Deque(4);
+    for (int i = 0; i < 3; ++i) // [N]
+      deque.addLast((<x>)i);
+
+    for (int i = 3; i < 6; ++i) // [N]
+      deque.addFirst((<x>)i);
+
+    final <X>Iterator iterator = deque.iterator();
+    final <X>Iterator descending = deque.descendingIterator();
+    final <x>[] expected = {(<x>)5, (<x>)4, (<x>)3, (<x>)0, (<x>)1, (<x>)2};
+    for (int i = 0; i < expected.length; ++i) { // [N]
+      assertEquals(expected[i], iterator.next());
+      assertEquals(expected[expected.length - 1 - i], descending.next());
+    }
+
+    assertFalse(iterator.hasNext());
+    assertFalse(descending.hasNext());
+
+    for (final <X>Iterator i = deque.iterator(); i.hasNext();) // [I]
+      if (i.next() % 2 == 0)
+        i.remove();
+
+    assertValues(deque, 5, 3, 1);
+
+    final <X>Iterator i = deque.iterator();
+    deque.addLast((<x>)7);
+    try {
+      i.next();
+      fail("Expected ConcurrentModificationException");
+    }
+    catch (final ConcurrentModificationException e) {
+    }
+  }
+
+  @Test
+  public void testRemoveOccurrenceAndBulk() {
+    final Array<X>Deque deque = new Array<X>Deque((<x>)1, (<x>)2, (<x>)3, (<x>)2, (<x>)1);
+    assertTrue(deque.removeLastOccurrence((<x>)1));
+    assertTrue(deque.removeFirstOccurrence((<x>)2));
+    assertFalse(deque.removeFirstOccurrence((<x>)9));
+    assertValues(deque, 1, 3, 2);
+
+    deque.addAll((<x>)4, (<x>)5, (<x>)6);
+    assertTrue(deque.removeAll((<x>)3, (<x>)5));
+    assertValues(deque, 1, 2, 4, 6);
+    assertTrue(deque.retainAll(new Array<X>List((<x>)2, (<x>)6)));
+    assertValues(deque, 2, 6);
+    assertFalse(deque.retainAll(new Array<X>List((<x>)2, (<x>)6)));
+  }
+
+  @Test
+  public void testRemoveIfThrows() {
+    final Array<X>Deque deque = new Array<X>Deque(128);
+    for (int i = 0; i < 100; ++i) // [N]
+      deque.addFirst((<x>)(99 - i));
+
+    final int[] tested = {0};
+    try {
+      deque.removeIf(v -> {
+        if (++tested[0] == 90)
+          throw new IllegalStateException();
+
+        return v % 3 == 0;
+      });
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    Assert.assertEquals(100, deque.size());
+    for (int i = 0; i < 100; ++i) // [N]
+      assertEquals((<x>)i, deque.get(i));
+
+    assertTrue(deque.removeIf(v -> v % 3 == 0));
+    Assert.assertEquals(66, deque.size());
+    for (int i = 0; i < 66; ++i) // [N]
+      assertEquals((<x>)(i / 2 * 3 + i % 2 + 1), deque.get(i));
+  }
+
+  @Test
+  public void testCloneEqualsHashCode() {
+    final Array<X>Deque a = new Array<X>Deque(4);
+    final Array<X>Deque b = new Array<X>Deque(64);
+    for (int i = 0; i < 10; ++i) { // [N]
+      a.addFirst((<x>)i);
+      b.addLast((<x>)(9 - i));
+    }
+
+    Assert.assertEquals(a, b);
+    Assert.assertEquals(a.hashCode(), b.hashCode());
+
+    final Array<X>Deque clone = a.clone();
+    Assert.assertEquals(a, clone);
+    clone.removeFirst();
+    Assert.assertNotEquals(a, clone);
+    Assert.assertEquals(10, a.size());
+
+    b.trimToSize();
+    Assert.assertEquals(a, b);
+  }
+
+<_>  @Test
+<_>  public void testSpliterator() {
+<_>    final int size = 1000;
+<_>    final Array<X>Deque deque = new Array<X>Deque(size);
+<_>    // Moves the head towards the end of the backing array, so that the values wrap around its end
+<_>    for (int i = 0; i < size - size / 5; ++i) { // [N]
+<_>      deque.addLast((<x>)0);
+<_>      deque.removeFirst();
+<_>    }
+<_>
+<_>    for (int i = 0; i < size / 2; ++i) // [N]
+<_>      deque.addLast((<x>)i);
+<_>
+<_>    // The spliterator is bound to the values upon its first use
+<_>    final Spliterator.Of<X> spliterator = deque.spliterator();
+<_>    for (int i = size / 2; i < size; ++i) // [N]
+<_>      deque.addLast((<x>)i);
+<_>
+<_>    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+<_>    Assert.assertEquals(size, spliterator.estimateSize());
+<_>    final Spliterator.Of<X> prefix = spliterator.trySplit();
+<_>    Assert.assertEquals(size / 2, prefix.estimateSize());
+<_>    Assert.assertEquals(size / 2, spliterator.estimateSize());
+<_>    assertTrue(prefix.tryAdvance((<X>Consumer)v -> Assert.assertEquals(0, (int)v)));
+<_>    Assert.assertEquals(size / 2 - 1, prefix.estimateSize());
+<_>
+<_>    final int[] count = {0};
+<_>    spliterator.forEachRemaining((<X>Consumer)v -> Assert.assertEquals(size / 2 + count[0]++, (int)v));
+<_>    Assert.assertEquals(size / 2, count[0]);
+<_>    assertFalse(spliterator.tryAdvance((<X>Consumer)v -> fail()));
+<_>
+<_>    Assert.assertEquals((double)size * (size - 1) / 2, (double)deque.parallelStream().sum(), 0);
+<_>    for (int i = 0; i < size; ++i) // [N]
+<_>      assertEquals((<x>)i, deque.get(i));
+<_>
+<_>    final Spliterator.Of<X> concurrent = deque.spliterator();
+<_>    concurrent.estimateSize();
+<_>    deque.addLast((<x>)0);
+<_>    try {
+<_>      concurrent.forEachRemaining((<X>Consumer)v -> {});
+<_>      fail("Expected ConcurrentModificationException");
+<_>    }
+<_>    catch (final ConcurrentModificationException e) {
+<_>    }
+<_>  }
+<_>
+  @Test
+  public void testBehavesLikeArrayDeque() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final ArrayDeque<<XX>> expected = new ArrayDeque<>();
+    final Array<X>Deque actual = new Array<X>Deque(1);
+    for (int i = 0; i < 20000; ++i) { // [N]
+      final String message = "seed: " + seed;
+      final <x> value = (<x>)random.nextInt(100);
+      switch (random.nextInt(7)) {
+        case 0:
+          expected.addFirst(value);
+          actual.addFirst(value);
+          break;
+        case 1:
+        case 2:
+          expected.addLast(value);
+          actual.addLast(value);
+          break;
+        case 3:
+          if (!expected.isEmpty())
+            Assert.assertEquals(message, expected.removeFirst(), (<XX>)actual.removeFirst());
+          break;
+        case 4:
+          if (!expected.isEmpty())
+            Assert.assertEquals(message, expected.removeLast(), (<XX>)actual.removeLast());
+          break;
+        case 5:
+          Assert.assertEquals(message, expected.removeFirstOccurrence(value), actual.removeFirstOccurrence(value));
+          break;
+        default:
+          final int length = random.nextInt(8);
+          final <x>[] a = new <x>[length];
+          final int drained = actual.drainTo(a);
+          Assert.assertEquals(message, Math.min(length, expected.size()), drained);
+          for (int j = 0; j < drained; ++j) // [N]
+            Assert.assertEquals(message, expected.removeFirst(), (<XX>)a[j]);
+      }
+
+      assertCollection(expected, actual, message);
+    }
+  }
+}
\ No newline at end of file
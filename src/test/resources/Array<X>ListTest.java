@@ -20,7 +20,9 @@ import static org.junit.Assert.*;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import org.junit.Assert;
@@ -454,6 +456,29 @@ public class Array<X>ListTest extends PrimitiveCollectionTest {
     assertTrue(list.containsAll(new Array<X>List((<x>)4, (<x>)10, (<x>)99)));
   }
 
+  @Test
+  public void testParallelSort() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    // Compares on the low 3 bits only, so that the order of the many equal elements reveals whether the sort is stable
+    final <X>Comparator c = (a, b) -> Integer.compare((int)a & 7, (int)b & 7);
+    for (final int size : new int[] {0, 100, 20000, 100000}) { // [A]
+      final Array<X>List expected = new Array<X>List(size);
+      for (int i = 0; i < size; ++i) // [N]
+        expected.add((<x>)random.nextInt(Short.MAX_VALUE));
+
+      final Array<X>List actual = expected.clone();
+      expected.sort(c);
+      actual.parallelSort(c);
+      Assert.assertEquals("seed: " + seed, expected, actual);
+
+      final Array<X>List subList = actual.subList(size / 4, size / 2);
+      subList.parallelSort(<X>Comparator.REVERSE);
+      for (int i = 1, i$ = subList.size(); i < i$; ++i) // [RA]
+        assertTrue("seed: " + seed, subList.get(i - 1) >= subList.get(i));
+    }
+  }
+
   @Test
   public void testIterator() {
     final <x>[] values = {7, 3, 5, 4, 6, 9, 1, 8, 0};
@@ -783,4 +808,155 @@ public class Array<X>ListTest extends PrimitiveCollectionTest {
 
     Assert.assertEquals(expected.toString(), list.toString());
   }
+
+  @Test
+  public void testRemoveIf() {
+    final Array<X>List list = new Array<X>List();
+    for (int i = 0; i < 1000; ++i) // [N]
+      list.add((<x>)(i % 100));
+
+    final Array<X>List subList = list.subList(100, 900);
+    final Array<X>List tail = list.subList(900, 1000);
+    assertFalse(subList.removeIf(v -> v > 100));
+    assertTrue(subList.removeIf(v -> v % 3 == 0));
+    assertEquals(528, subList.size());
+    assertEquals(728, list.size());
+    assertEquals(100, tail.size());
+    for (int i = 0; i < 100; ++i) { // [RA]
+      assertEquals(i, list.get(i));
+      assertEquals(i, tail.get(i));
+    }
+
+    for (int i = 0, i$ = subList.size(); i < i$; ++i) { // [RA]
+      final int expected = i % 66 / 2 * 3 + i % 2 + 1;
+      assertEquals(expected, subList.get(i));
+      assertEquals(expected, list.get(100 + i));
+    }
+
+    assertTrue(list.removeAll((<x>)1, (<x>)2));
+    assertEquals(728 - 20, list.size());
+    assertFalse(list.contains((<x>)1));
+    assertTrue(list.retainAll(Arrays.asList((<XX>)(<x>)4, (<XX>)(<x>)5)));
+    assertEquals(20, list.size());
+
+    try {
+      list.removeIf(null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+  }
+
+  @Test
+  public void testRemoveIfThrows() {
+    final Array<X>List list = new Array<X>List();
+    for (int i = 0; i < 100; ++i) // [N]
+      list.add((<x>)i);
+
+    final Array<X>List subList = list.subList(20, 80);
+    final Array<X>List tail = list.subList(80, 100);
+    final int[] tested = {0};
+    try {
+      subList.removeIf(v -> {
+        if (++tested[0] == 40)
+          throw new IllegalStateException();
+
+        return v % 2 == 0;
+      });
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    tested[0] = 0;
+    try {
+      list.removeIf(v -> {
+        if (++tested[0] == 90)
+          throw new IllegalStateException();
+
+        return v % 3 == 0;
+      });
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    assertEquals(100, list.size());
+    assertEquals(60, subList.size());
+    assertEquals(20, tail.size());
+    for (int i = 0; i < 100; ++i) // [RA]
+      assertEquals(i, list.get(i));
+
+    for (int i = 0; i < 60; ++i) // [RA]
+      assertEquals(20 + i, subList.get(i));
+
+    for (int i = 0; i < 20; ++i) // [RA]
+      assertEquals(80 + i, tail.get(i));
+
+    assertTrue(subList.removeIf(v -> v % 2 == 0));
+    assertEquals(70, list.size());
+    assertEquals(30, subList.size());
+    assertEquals(80, tail.get(0));
+  }
+
+  @Test
+  public void testBulkOperations() {
+    final Array<X>List list = new Array<X>List();
+    for (int i = 0; i < 100; ++i) // [N]
+      list.add((<x>)i);
+
+    final Array<X>List subList = list.subList(10, 20);
+    subList.replaceAll(v -> (<x>)(v + 1));
+    for (int i = 0; i < 100; ++i) // [RA]
+      assertEquals(i < 10 || i >= 20 ? i : i + 1, list.get(i));
+
+    final long[] sum = {0};
+    subList.forEach((<X>Consumer)v -> sum[0] += (long)v);
+    assertEquals(155, sum[0]);
+    assertEquals(20, subList.reduce((<x>)0, (a, b) -> a < b ? b : a));
+    assertEquals(7, subList.reduce((<x>)7, (a, b) -> a < b ? a : b));
+    assertEquals(7, list.subList(5, 5).reduce((<x>)7, (a, b) -> a < b ? b : a));
+
+    try {
+      list.forEach((<X>Consumer)v -> list.add(v));
+      fail("Expected ConcurrentModificationException");
+    }
+    catch (final ConcurrentModificationException e) {
+    }
+  }
+
+<_>  @Test
+<_>  public void testSpliterator() {
+<_>    final int size = 10000;
+<_>    final Array<X>List list = new Array<X>List(size);
+<_>    for (int i = 0; i < size; ++i) // [N]
+<_>      list.add((<x>)i);
+<_>
+<_>    final Spliterator.Of<X> spliterator = list.spliterator();
+<_>    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+<_>    assertEquals(size, spliterator.estimateSize());
+<_>    final Spliterator.Of<X> prefix = spliterator.trySplit();
+<_>    assertEquals(size / 2, prefix.estimateSize());
+<_>    assertEquals(size / 2, spliterator.estimateSize());
+<_>    assertTrue(prefix.tryAdvance((<X>Consumer)v -> assertEquals(0, (int)v)));
+<_>    assertEquals(size / 2 - 1, prefix.estimateSize());
+<_>
+<_>    final int[] count = {0};
+<_>    spliterator.forEachRemaining((<X>Consumer)v -> assertEquals(size / 2 + count[0]++, (int)v));
+<_>    assertEquals(size / 2, count[0]);
+<_>    assertFalse(spliterator.tryAdvance((<X>Consumer)v -> fail()));
+<_>
+<_>    assertEquals((double)size * (size - 1) / 2, (double)list.parallelStream().sum());
+<_>    assertEquals(size - 200, list.subList(100, size - 100).parallelStream().count());
+<_>    assertEquals((double)(size - 1) * (size - 200) / 2, (double)list.subList(100, size - 100).parallelStream().sum());
+<_>
+<_>    final Spliterator.Of<X> concurrent = list.spliterator();
+<_>    list.add((<x>)0);
+<_>    try {
+<_>      concurrent.forEachRemaining((<X>Consumer)v -> {});
+<_>      fail("Expected ConcurrentModificationException");
+<_>    }
+<_>    catch (final ConcurrentModificationException e) {
+<_>    }
+<_>  }
 }
\ No newline at end of file
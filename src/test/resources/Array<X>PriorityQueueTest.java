@@ -0,0 +1,274 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Array<X>PriorityQueueTest extends PrimitiveCollectionTest {
+  private static final int[] ARITIES = {2, 3, 4, 8};
+
+  private static <x>[] random(final Random random, final int length) {
+    final <x>[] values = new <x>[length];
+    for (int i = 0; i < length; ++i) // [A]
+      values[i] = (<x>)random.nextInt(100);
+
+    return values;
+  }
+
+  @Test
+  public void testEmpty() {
+    final Array<X>PriorityQueue queue = new Array<X>PriorityQueue();
+    assertTrue(queue.isEmpty());
+    try {
+      queue.element();
+      fail("Expected NoSuchElementException");
+    }
+    catch (final NoSuchElementException e) {
+    }
+
+    try {
+      queue.remove();
+      fail("Expected NoSuchElementException");
+    }
+    catch (final NoSuchElementException e) {
+    }
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new Array<X>PriorityQueue(-1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new Array<X>PriorityQueue(1, 1, null);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Array<X>PriorityQueue.bounded(0, null);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testOrdering() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int arity : ARITIES) { // [A]
+      for (final <X>Comparator c : new <X>Comparator[] {null, <X>Comparator.REVERSE}) { // [A]
+        final <x>[] values = random(random, 1000);
+        final Array<X>PriorityQueue queue = new Array<X>PriorityQueue(0, arity, c);
+        for (final <x> value : values) // [A]
+          assertTrue(queue.offer(value));
+
+        final <x>[] expected = values.clone();
+        Arrays.sort(expected);
+        if (c != null)
+          for (int i = 0, j = expected.length - 1; i < j; ++i, --j) { // [A]
+            final <x> tmp = expected[i];
+            expected[i] = expected[j];
+            expected[j] = tmp;
+          }
+
+        for (int i = 0; i < expected.length; ++i) // [A]
+          assertEquals(expected[i], queue.remove());
+
+        assertTrue("seed: " + seed, queue.isEmpty());
+      }
+    }
+  }
+
+  @Test
+  public void testBulkAddHeapify() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int arity : ARITIES) { // [A]
+      final Array<X>PriorityQueue queue = new Array<X>PriorityQueue(0, arity, null);
+      queue.add((<x>)50);
+      final <x>[] values = random(random, 500);
+      assertTrue(queue.addAll(values, 0, values.length));
+      Assert.assertEquals(501, queue.size());
+
+      final <x>[] drained = new <x>[queue.size()];
+      Assert.assertEquals(drained.length, queue.drainTo(drained));
+      for (int i = 1; i < drained.length; ++i) // [A]
+        assertTrue("seed: " + seed, drained[i - 1] <= drained[i]);
+    }
+  }
+
+  @Test
+  public void testBoundedTopK() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int arity : ARITIES) { // [A]
+      final int k = 10;
+      final Array<X>PriorityQueue queue = Array<X>PriorityQueue.bounded(k, arity, null);
+      final <x>[] values = random(random, 1000);
+      for (final <x> value : values) // [A]
+        queue.offer(value);
+
+      Assert.assertEquals(k, queue.size());
+      final <x>[] expected = values.clone();
+      Arrays.sort(expected);
+      final <x>[] actual = new <x>[k];
+      queue.drainTo(actual);
+      assertArrayEquals(Arrays.copyOfRange(expected, expected.length - k, expected.length), actual);
+    }
+  }
+
+  @Test
+  public void testBoundedGrows() {
+    // A bound that is too large to be allocated up front
+    final Array<X>PriorityQueue large = Array<X>PriorityQueue.bounded(1 << 30, null);
+    for (int i = 0; i < 100; ++i) // [N]
+      assertTrue(large.offer((<x>)i));
+
+    Assert.assertEquals(100, large.size());
+    assertEquals((<x>)0, large.element());
+
+    // A bound beyond the default initial capacity, which the queue grows up to
+    final Array<X>PriorityQueue queue = Array<X>PriorityQueue.bounded(50, null);
+    for (int i = 0; i < 100; ++i) // [N]
+      queue.offer((<x>)i);
+
+    Assert.assertEquals(50, queue.size());
+    final <x>[] actual = new <x>[50];
+    queue.drainTo(actual);
+    for (int i = 0; i < 50; ++i) // [N]
+      assertEquals((<x>)(50 + i), actual[i]);
+  }
+
+  @Test
+  public void testBoundedRejectsWithoutRestructuring() {
+    final Array<X>PriorityQueue queue = Array<X>PriorityQueue.bounded(3, null);
+    assertTrue(queue.offer((<x>)5));
+    assertTrue(queue.offer((<x>)7));
+    assertTrue(queue.offer((<x>)6));
+    final <x>[] before = queue.toArray(new <x>[3]);
+
+    assertFalse(queue.offer((<x>)5));
+    assertFalse(queue.offer((<x>)1));
+    assertArrayEquals(before, queue.toArray(new <x>[3]));
+
+    assertTrue(queue.offer((<x>)9));
+    assertEquals((<x>)6, queue.element());
+    Assert.assertEquals(3, queue.size());
+  }
+
+  @Test
+  public void testRemoveValue() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int arity : ARITIES) { // [A]
+      final PriorityQueue<<XX>> expected = new PriorityQueue<>();
+      final Array<X>PriorityQueue actual = new Array<X>PriorityQueue(1, arity, null);
+      for (int i = 0; i < 5000; ++i) { // [N]
+        final <x> value = (<x>)random.nextInt(100);
+        switch (random.nextInt(4)) {
+          case 0:
+            Assert.assertEquals("seed: " + seed, expected.remove(value), actual.remove(value));
+            break;
+          case 1:
+            if (!expected.isEmpty())
+              Assert.assertEquals("seed: " + seed, expected.poll(), (<XX>)actual.remove());
+            break;
+          default:
+            expected.add(value);
+            actual.add(value);
+        }
+
+        Assert.assertEquals("seed: " + seed, expected.size(), actual.size());
+        if (!expected.isEmpty())
+          Assert.assertEquals("seed: " + seed, expected.peek(), (<XX>)actual.element());
+      }
+    }
+  }
+
+  @Test
+  public void testRemoveIfRetainAll() {
+    final Array<X>PriorityQueue queue = new Array<X>PriorityQueue();
+    for (int i = 0; i < 20; ++i) // [N]
+      queue.add((<x>)(19 - i));
+
+    assertTrue(queue.removeAll((<x>)0, (<x>)1, (<x>)2));
+    assertFalse(queue.contains((<x>)1));
+    assertEquals((<x>)3, queue.element());
+    assertTrue(queue.retainAll(new Array<X>List((<x>)5, (<x>)10, (<x>)15)));
+    Assert.assertEquals(3, queue.size());
+    assertEquals((<x>)5, queue.remove());
+    assertEquals((<x>)10, queue.remove());
+    assertEquals((<x>)15, queue.remove());
+  }
+
+  @Test
+  public void testRemoveIfThrows() {
+    final Array<X>PriorityQueue queue = new Array<X>PriorityQueue(128);
+    for (int i = 0; i < 100; ++i) // [N]
+      queue.add((<x>)(99 - i));
+
+    final int[] tested = {0};
+    try {
+      queue.removeIf(v -> {
+        if (++tested[0] == 90)
+          throw new IllegalStateException();
+
+        return v % 3 == 0;
+      });
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    Assert.assertEquals(100, queue.size());
+    final Array<X>PriorityQueue clone = queue.clone();
+    for (int i = 0; i < 100; ++i) // [N]
+      assertEquals((<x>)i, clone.remove());
+
+    assertTrue(queue.removeIf(v -> v % 3 == 0));
+    Assert.assertEquals(66, queue.size());
+    for (int i = 0; i < 66; ++i) // [N]
+      assertEquals((<x>)(i / 2 * 3 + i % 2 + 1), queue.remove());
+  }
+
+  @Test
+  public void testClone() {
+    final Array<X>PriorityQueue queue = new Array<X>PriorityQueue(<X>Comparator.REVERSE);
+    queue.addAll((<x>)3, (<x>)1, (<x>)2);
+    final Array<X>PriorityQueue clone = queue.clone();
+    assertEquals((<x>)3, clone.remove());
+    Assert.assertEquals(3, queue.size());
+    assertEquals((<x>)3, queue.element());
+    assertSame(<X>Comparator.REVERSE, clone.comparator());
+  }
+}
\ No newline at end of file
@@ -0,0 +1,293 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Direct<X>ListTest extends <X>CollectionTest {
+  @Test
+  public void testChunkSize() {
+    try (final Direct<X>List list = new Direct<X>List(5)) {
+      Assert.assertEquals(0, list.capacity());
+      list.add((<x>)1);
+      Assert.assertEquals(8, list.capacity());
+      list.ensureCapacity(9);
+      Assert.assertEquals(16, list.capacity());
+      list.trimToSize();
+      Assert.assertEquals(8, list.capacity());
+    }
+
+    try {
+      new Direct<X>List(0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testGrowAcrossChunks() {
+    try (final Direct<X>List list = new Direct<X>List(4)) {
+      for (int i = 0; i < 100; ++i) // [N]
+        list.add((<x>)i);
+
+      Assert.assertEquals(100, list.size());
+      for (int i = 0; i < 100; ++i) // [N]
+        assertEquals((<x>)i, list.get(i));
+
+      assertEquals((<x>)7, list.set(7, (<x>)70));
+      assertEquals((<x>)70, list.get(7));
+      Assert.assertEquals(7, list.indexOf((<x>)70));
+      Assert.assertEquals(-1, list.indexOf((<x>)7));
+    }
+  }
+
+  @Test
+  public void testBehavesLikeArrayList() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final List<<XX>> expected = new ArrayList<>();
+    try (final Direct<X>List actual = new Direct<X>List(8)) {
+      for (int i = 0; i < 5000; ++i) { // [N]
+        final String message = "seed: " + seed;
+        final <x> value = (<x>)random.nextInt(100);
+        switch (random.nextInt(6)) {
+          case 0:
+            final int index = random.nextInt(expected.size() + 1);
+            expected.add(index, value);
+            actual.add(index, value);
+            break;
+          case 1:
+            if (expected.size() > 0) {
+              final int remove = random.nextInt(expected.size());
+              Assert.assertEquals(message, expected.remove(remove), (<XX>)actual.removeIndex(remove));
+            }
+            break;
+          case 2:
+            final <x>[] values = {value, (<x>)(value + 1), (<x>)(value + 2)};
+            final int at = random.nextInt(expected.size() + 1);
+            expected.addAll(at, Arrays.asList((<XX>)values[0], (<XX>)values[1], (<XX>)values[2]));
+            actual.addAll(at, values);
+            break;
+          case 3:
+            Assert.assertEquals(message, expected.remove((<XX>)value), actual.remove(value));
+            break;
+          default:
+            expected.add(value);
+            actual.add(value);
+        }
+
+        assertCollection(expected, actual, message);
+      }
+    }
+  }
+
+  @Test
+  public void testSubList() {
+    try (final Direct<X>List list = new Direct<X>List(4)) {
+      for (int i = 0; i < 10; ++i) // [N]
+        list.add((<x>)i);
+
+      final Direct<X>List subList = list.subList(2, 8);
+      assertValues(subList, 2, 3, 4, 5, 6, 7);
+
+      subList.add((<x>)20);
+      subList.removeIndex(0);
+      assertValues(subList, 3, 4, 5, 6, 7, 20);
+      assertValues(list, 0, 1, 3, 4, 5, 6, 7, 20, 8, 9);
+
+      final Direct<X>List subSubList = subList.subList(1, 3);
+      subSubList.clear();
+      assertValues(subList, 3, 6, 7, 20);
+      assertValues(list, 0, 1, 3, 6, 7, 20, 8, 9);
+
+      assertTrue(subList.removeIf(v -> v % 2 == 0));
+      assertValues(subList, 3, 7);
+      assertValues(list, 0, 1, 3, 7, 8, 9);
+
+      list.add((<x>)10);
+      try {
+        subList.get(0);
+        fail("Expected ConcurrentModificationException");
+      }
+      catch (final ConcurrentModificationException e) {
+      }
+
+      try {
+        list.subList(0, 1).close();
+        fail("Expected UnsupportedOperationException");
+      }
+      catch (final UnsupportedOperationException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testRemoveIfThrows() {
+    try (final Direct<X>List list = new Direct<X>List(8)) {
+      for (int i = 0; i < 100; ++i) // [N]
+        list.add((<x>)i);
+
+      final Direct<X>List subList = list.subList(20, 80);
+      final int[] tested = {0};
+      try {
+        subList.removeIf(v -> {
+          if (++tested[0] == 40)
+            throw new IllegalStateException();
+
+          return v % 2 == 0;
+        });
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+      }
+
+      Assert.assertEquals(100, list.size());
+      Assert.assertEquals(60, subList.size());
+      for (int i = 0; i < 100; ++i) // [N]
+        assertEquals((<x>)i, list.get(i));
+
+      assertTrue(subList.removeIf(v -> v % 2 == 0));
+      Assert.assertEquals(70, list.size());
+      Assert.assertEquals(30, subList.size());
+      for (int i = 0; i < 30; ++i) // [N]
+        assertEquals((<x>)(21 + 2 * i), subList.get(i));
+
+      assertEquals((<x>)80, list.get(50));
+    }
+  }
+
+  @Test
+  public void testSort() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int length : new int[] {0, 1, 7, 8, 9, 100, 1000}) { // [A]
+      final <x>[] values = new <x>[length];
+      for (int i = 0; i < length; ++i) // [A]
+        values[i] = (<x>)random.nextInt(100);
+
+      try (final Direct<X>List list = new Direct<X>List(8)) {
+        list.add((<x>)-1);
+        list.addAll(values);
+        list.add((<x>)-1);
+        list.subList(1, length + 1).sort();
+
+        final <x>[] expected = values.clone();
+        Arrays.sort(expected);
+        assertEquals((<x>)-1, list.get(0));
+        assertEquals((<x>)-1, list.get(length + 1));
+        for (int i = 0; i < length; ++i) // [A]
+          assertEquals(expected[i], list.get(i + 1));
+
+        list.sort(<X>Comparator.REVERSE);
+        for (int i = 1; i < list.size(); ++i) // [A]
+          assertTrue("seed: " + seed, list.get(i - 1) >= list.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testIterator() {
+    try (final Direct<X>List list = new Direct<X>List(2)) {
+      list.addAll((<x>)1, (<x>)2, (<x>)3, (<x>)4, (<x>)5);
+      for (final <X>Iterator i = list.iterator(); i.hasNext();) // [I]
+        if (i.next() % 2 == 0)
+          i.remove();
+
+      assertValues(list, 1, 3, 5);
+
+      final <X>ListIterator i = list.listIterator(3);
+      assertEquals((<x>)5, i.previous());
+      i.set((<x>)6);
+      i.add((<x>)4);
+      assertValues(list, 1, 3, 4, 6);
+
+      final <X>Iterator iterator = list.iterator();
+      list.add((<x>)7);
+      try {
+        iterator.next();
+        fail("Expected ConcurrentModificationException");
+      }
+      catch (final ConcurrentModificationException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testClose() {
+    final Direct<X>List list = new Direct<X>List((<x>)1, (<x>)2);
+    list.close();
+    assertTrue(list.isEmpty());
+    Assert.assertEquals(0, list.capacity());
+    list.close();
+    try {
+      list.add((<x>)3);
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+  }
+
+  @Test
+  public void testCloneEqualsSerialize() throws Exception {
+    try (
+      final Direct<X>List list = new Direct<X>List(4);
+      final Direct<X>List clone = list.clone();
+    ) {
+      for (int i = 0; i < 10; ++i) // [N]
+        list.add((<x>)i);
+
+      try (final Direct<X>List copy = list.clone()) {
+        Assert.assertEquals(list, copy);
+        Assert.assertEquals(list.hashCode(), copy.hashCode());
+        copy.removeIndex(0);
+        Assert.assertNotEquals(list, copy);
+        Assert.assertEquals(10, list.size());
+      }
+
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(list.subList(2, 6));
+      }
+
+      try (
+        final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        final Direct<X>List read = (Direct<X>List)in.readObject();
+      ) {
+        assertValues(read, 2, 3, 4, 5);
+        read.add((<x>)6);
+        assertValues(read, 2, 3, 4, 5, 6);
+      }
+
+      assertTrue(clone.isEmpty());
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Frozen<X><Y>MultiMapTest {
+  @Test
+  public void testListMap() {
+    final Hash<X><Y>ListMap map = new Hash<X><Y>ListMap();
+    assertEquals(0, map.valueCount());
+    map.add((<x>)1, (<y>)3);
+    map.add((<x>)1, (<y>)3);
+    map.addAll((<x>)2, (<y>)5, (<y>)4);
+    assertEquals(2, map.size());
+    assertEquals(4, map.valueCount());
+    assertEquals(2, map.get((<x>)1).size());
+    assertSame(map.get((<x>)2), map.getOrNew((<x>)2));
+    assertTrue(map.getOrNew((<x>)7).isEmpty());
+    assertEquals(3, map.size());
+
+    assertFalse(map.removeValue((<x>)2, (<y>)9));
+    assertFalse(map.removeValue((<x>)9, (<y>)5));
+    assertTrue(map.removeValue((<x>)2, (<y>)5));
+    assertTrue(map.removeValue((<x>)2, (<y>)4));
+    assertFalse(map.containsKey((<x>)2));
+
+    final Hash<X><Y>ListMap clone = map.clone();
+    assertEquals(map, clone);
+    clone.add((<x>)1, (<y>)6);
+    assertEquals(2, map.get((<x>)1).size());
+    assertEquals(3, clone.get((<x>)1).size());
+  }
+
+  @Test
+  public void testSetMap() {
+    final Hash<X><Y>SetMap map = new Hash<X><Y>SetMap();
+    assertTrue(map.add((<x>)1, (<y>)3).contains((<y>)3));
+    map.addAll((<x>)1, (<y>)3, (<y>)2);
+    assertEquals(2, map.valueCount());
+    assertTrue(map.contains((<x>)1, (<y>)2));
+    assertFalse(map.contains((<x>)1, (<y>)4));
+    assertFalse(map.contains((<x>)2, (<y>)2));
+
+    final Hash<X><Y>SetMap clone = map.clone();
+    assertTrue(map.removeValue((<x>)1, (<y>)3));
+    assertTrue(map.removeValue((<x>)1, (<y>)2));
+    assertTrue(map.isEmpty());
+    assertEquals(2, clone.valueCount());
+  }
+
+  @Test
+  public void testFreeze() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final String message = "seed: " + seed;
+    final Map<<XX>,List<<YY>>> expected = new HashMap<>();
+    final Hash<X><Y>ListMap lists = new Hash<X><Y>ListMap();
+    final Hash<X><Y>SetMap sets = new Hash<X><Y>SetMap();
+    for (int i = 0; i < 1000; ++i) { // [N]
+      final <x> key = (<x>)random.nextInt(50);
+      final <y> value = (<y>)random.nextInt(100);
+      expected.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+      lists.add(key, value);
+      sets.add(key, value);
+    }
+
+    final Frozen<X><Y>MultiMap frozenList = lists.freeze();
+    final Frozen<X><Y>MultiMap frozenSet = sets.freeze();
+    assertEquals(message, expected.size(), frozenList.size());
+    assertEquals(message, expected.size(), frozenSet.size());
+    assertEquals(message, 1000, frozenList.valueCount());
+    assertEquals(message, sets.valueCount(), frozenSet.valueCount());
+
+    final <x>[] keys = frozenList.keys();
+    assertTrue(message, Arrays.equals(keys, frozenSet.keys()));
+    for (int i = 1; i < keys.length; ++i) // [A]
+      assertTrue(message, keys[i - 1] < keys[i]);
+
+    for (int k = -1; k < 51; ++k) { // [N]
+      final <x> key = (<x>)k;
+      final List<<YY>> values = expected.get(key);
+      if (values == null) {
+        assertFalse(message, frozenList.containsKey(key));
+        assertEquals(message, 0, frozenList.count(key));
+        assertEquals(message, 0, frozenSet.get(key).length);
+        continue;
+      }
+
+      assertTrue(message, frozenSet.containsKey(key));
+      final <y>[] listValues = frozenList.get(key);
+      assertEquals(message, values.size(), listValues.length);
+      for (int i = 0, i$ = values.size(); i < i$; ++i) { // [RA]
+        assertEquals(message, values.get(i), (<YY>)listValues[i]);
+        assertEquals(message, values.get(i), (<YY>)frozenList.get(key, i));
+      }
+
+      final <y>[] setValues = frozenSet.get(key);
+      assertEquals(message, sets.get(key).size(), setValues.length);
+      for (int i = 1; i < setValues.length; ++i) // [A]
+        assertTrue(message, setValues[i - 1] < setValues[i]);
+
+      for (int v = -1; v < 101; ++v) { // [N]
+        final <y> value = (<y>)v;
+        assertEquals(message, values.contains(value), frozenList.contains(key, value));
+        assertEquals(message, values.contains(value), frozenSet.contains(key, value));
+      }
+
+      final int[] count = {0};
+      frozenList.forEach(key, v -> assertEquals(message, values.get(count[0]++), (<YY>)v));
+      assertEquals(message, values.size(), count[0]);
+    }
+
+    final long[] count = {0};
+    frozenSet.forEach((k, v) -> {
+      assertTrue(message, sets.contains(k, v));
+      ++count[0];
+    });
+    assertEquals(message, frozenSet.valueCount(), count[0]);
+
+    try {
+      frozenList.get(keys[0], frozenList.count(keys[0]));
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+
+  @Test
+  public void testEqualsSerialize() throws Exception {
+    final Hash<X><Y>ListMap map = new Hash<X><Y>ListMap();
+    map.addAll((<x>)3, (<y>)2, (<y>)1);
+    map.add((<x>)1, (<y>)4);
+    final Frozen<X><Y>MultiMap frozen = map.freeze();
+    assertEquals(frozen, map.freeze());
+    assertEquals(frozen.hashCode(), map.freeze().hashCode());
+    assertNotEquals(frozen, new Hash<X><Y>ListMap().freeze());
+    assertEquals("{" + (<x>)1 + "=[" + (<y>)4 + "], " + (<x>)3 + "=[" + (<y>)2 + ", " + (<y>)1 + "]}", frozen.toString());
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(frozen);
+    }
+
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertEquals(frozen, in.readObject());
+    }
+  }
+}
\ No newline at end of file
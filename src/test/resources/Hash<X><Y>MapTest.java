@@ -0,0 +1,176 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Hash<X><Y>MapTest {
+  private final Hash<X><Y>Map testMap = new Hash<X><Y>Map(4);
+
+  @Test
+  public void initiallyContainsNoKeys() {
+    for (int i = 0; i < 100; ++i) // [N]
+      assertFalse(testMap.containsKey((<x>)i));
+
+    assertTrue(testMap.isEmpty());
+  }
+
+  @Test
+  public void getReturnsZeroOrDefaultForMissingKey() {
+    assertEquals(<YY>.valueOf((<y>)0), <YY>.valueOf(testMap.get((<x>)7)));
+    assertEquals(<YY>.valueOf((<y>)3), <YY>.valueOf(testMap.getOrDefault((<x>)7, (<y>)3)));
+  }
+
+  @Test
+  public void putReturnsPreviousValue() {
+    assertEquals(<YY>.valueOf((<y>)0), <YY>.valueOf(testMap.put((<x>)1, (<y>)5)));
+    assertEquals(<YY>.valueOf((<y>)5), <YY>.valueOf(testMap.put((<x>)1, (<y>)6)));
+    assertEquals(<YY>.valueOf((<y>)6), <YY>.valueOf(testMap.get((<x>)1)));
+    assertEquals(1, testMap.size());
+  }
+
+  @Test
+  public void supportsNullKey() {
+    testMap.put(Hash<X><Y>Map.NULL, (<y>)9);
+    assertTrue(testMap.containsKey(Hash<X><Y>Map.NULL));
+    assertTrue(testMap.containsValue((<y>)9));
+    assertEquals(1, testMap.size());
+    assertEquals(<YY>.valueOf((<y>)9), <YY>.valueOf(testMap.remove(Hash<X><Y>Map.NULL)));
+    assertFalse(testMap.containsKey(Hash<X><Y>Map.NULL));
+    assertEquals(0, testMap.size());
+  }
+
+  @Test
+  public void addToAccumulates() {
+    for (int i = 0; i < 10; ++i) // [N]
+      testMap.addTo((<x>)(i % 3), (<y>)1);
+
+    assertEquals(<YY>.valueOf((<y>)4), <YY>.valueOf(testMap.get((<x>)0)));
+    assertEquals(<YY>.valueOf((<y>)3), <YY>.valueOf(testMap.get((<x>)1)));
+    assertEquals(<YY>.valueOf((<y>)3), <YY>.valueOf(testMap.get((<x>)2)));
+  }
+
+  @Test
+  public void mergeRemapsExistingValue() {
+    assertEquals(<YY>.valueOf((<y>)2), <YY>.valueOf(testMap.merge((<x>)5, (<y>)2, (a, b) -> (<y>)(a * b))));
+    assertEquals(<YY>.valueOf((<y>)6), <YY>.valueOf(testMap.merge((<x>)5, (<y>)3, (a, b) -> (<y>)(a * b))));
+  }
+
+  @Test
+  public void computeIfAbsentComputesOnce() {
+    final int[] calls = {0};
+    assertEquals(<YY>.valueOf((<y>)8), <YY>.valueOf(testMap.computeIfAbsent((<x>)4, k -> {
+      ++calls[0];
+      return (<y>)(k * 2);
+    })));
+    assertEquals(<YY>.valueOf((<y>)8), <YY>.valueOf(testMap.computeIfAbsent((<x>)4, k -> {
+      ++calls[0];
+      return (<y>)0;
+    })));
+    assertEquals(1, calls[0]);
+  }
+
+  @Test(expected = ConcurrentModificationException.class)
+  public void computeIfAbsentDetectsModification() {
+    testMap.computeIfAbsent((<x>)4, k -> {
+      testMap.put((<x>)5, (<y>)5);
+      return (<y>)1;
+    });
+  }
+
+  @Test
+  public void forEachVisitsAllMappings() {
+    final HashMap<<XX>,<YY>> expected = new HashMap<>();
+    for (int i = 0; i < 50; ++i) { // [N]
+      testMap.put((<x>)i, (<y>)(i + 1));
+      expected.put((<x>)i, (<y>)(i + 1));
+    }
+
+    final HashMap<<XX>,<YY>> actual = new HashMap<>();
+    testMap.forEach((k, v) -> actual.put(k, v));
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void behavesLikeHashMap() {
+    final long seed = System.nanoTime();
+    final Random r = new Random(seed);
+    final HashMap<<XX>,<YY>> expected = new HashMap<>();
+    for (int i = 0; i < 10000; ++i) { // [N]
+      final <x> key = (<x>)r.nextInt(100);
+      final <y> value = (<y>)r.nextInt(100);
+      switch (r.nextInt(4)) {
+        case 0:
+          final <YY> previous = expected.put(key, value);
+          assertEquals("Fail with seed:" + seed, previous != null ? previous : <YY>.valueOf((<y>)0), <YY>.valueOf(testMap.put(key, value)));
+          break;
+        case 1:
+          final <YY> removed = expected.remove(key);
+          assertEquals("Fail with seed:" + seed, removed != null ? removed : <YY>.valueOf((<y>)0), <YY>.valueOf(testMap.remove(key)));
+          break;
+        case 2:
+          assertEquals("Fail with seed:" + seed, expected.merge(key, value, (a, b) -> (<y>)(a + b)), <YY>.valueOf(testMap.addTo(key, value)));
+          break;
+        default:
+          assertEquals("Fail with seed:" + seed, expected.containsKey(key), testMap.containsKey(key));
+      }
+
+      assertEquals("Fail with seed:" + seed, expected.size(), testMap.size());
+    }
+
+    for (final <XX> key : expected.keySet()) // [S]
+      assertEquals("Fail with seed:" + seed, expected.get(key), <YY>.valueOf(testMap.get(key)));
+
+    assertEquals("Fail with seed:" + seed, expected.hashCode(), testMap.hashCode());
+  }
+
+  @Test
+  public void cloneAndCompactAreEqual() {
+    for (int i = 0; i < 100; ++i) // [N]
+      testMap.put((<x>)i, (<y>)i);
+
+    for (int i = 0; i < 100; i += 2) // [N]
+      testMap.remove((<x>)i);
+
+    final Hash<X><Y>Map clone = testMap.clone();
+    assertEquals(testMap, clone);
+    clone.compact();
+    assertEquals(testMap, clone);
+    assertEquals(testMap.hashCode(), clone.hashCode());
+    assertEquals(50, clone.size());
+
+    clone.put((<x>)1, (<y>)2);
+    assertNotEquals(testMap, clone);
+  }
+
+  @Test
+  public void clearRemovesAllMappings() {
+    testMap.put((<x>)1, (<y>)1);
+    testMap.put(Hash<X><Y>Map.NULL, (<y>)1);
+    testMap.clear();
+    assertEquals(0, testMap.size());
+    assertFalse(testMap.containsKey((<x>)1));
+    assertFalse(testMap.containsKey(Hash<X><Y>Map.NULL));
+  }
+}
\ No newline at end of file
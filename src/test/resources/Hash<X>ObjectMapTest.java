@@ -0,0 +1,92 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Hash<X>ObjectMapTest {
+  private final Hash<X>ObjectMap<String> testMap = new Hash<X>ObjectMap<>(4);
+
+  @Test
+  public void getReturnsNullOrDefaultForMissingKey() {
+    assertNull(testMap.get((<x>)7));
+    assertEquals("a", testMap.getOrDefault((<x>)7, "a"));
+  }
+
+  @Test
+  public void supportsNullKey() {
+    assertNull(testMap.put(Hash<X>ObjectMap.NULL, "a"));
+    assertEquals("a", testMap.get(Hash<X>ObjectMap.NULL));
+    assertTrue(testMap.containsValue("a"));
+    assertEquals("a", testMap.remove(Hash<X>ObjectMap.NULL));
+    assertEquals(0, testMap.size());
+  }
+
+  @Test
+  public void mergeConcatenatesAndRemovesOnNull() {
+    assertEquals("a", testMap.merge((<x>)1, "a", String::concat));
+    assertEquals("ab", testMap.merge((<x>)1, "b", String::concat));
+    assertNull(testMap.merge((<x>)1, "c", (a, b) -> null));
+    assertFalse(testMap.containsKey((<x>)1));
+  }
+
+  @Test
+  public void computeIfAbsentDoesNotStoreNull() {
+    assertNull(testMap.computeIfAbsent((<x>)1, k -> null));
+    assertFalse(testMap.containsKey((<x>)1));
+    assertEquals("1", testMap.computeIfAbsent((<x>)1, k -> String.valueOf((int)k)));
+    assertEquals("1", testMap.computeIfAbsent((<x>)1, k -> "x"));
+  }
+
+  @Test
+  public void behavesLikeHashMap() {
+    final long seed = System.nanoTime();
+    final Random r = new Random(seed);
+    final HashMap<<XX>,String> expected = new HashMap<>();
+    for (int i = 0; i < 10000; ++i) { // [N]
+      final <x> key = (<x>)r.nextInt(100);
+      final String value = String.valueOf(r.nextInt(100));
+      switch (r.nextInt(3)) {
+        case 0:
+          assertEquals("Fail with seed:" + seed, expected.put(key, value), testMap.put(key, value));
+          break;
+        case 1:
+          assertEquals("Fail with seed:" + seed, expected.remove(key), testMap.remove(key));
+          break;
+        default:
+          assertEquals("Fail with seed:" + seed, expected.get(key), testMap.get(key));
+      }
+
+      assertEquals("Fail with seed:" + seed, expected.size(), testMap.size());
+    }
+
+    final HashMap<<XX>,String> actual = new HashMap<>();
+    testMap.forEach((k, v) -> actual.put(k, v));
+    assertEquals("Fail with seed:" + seed, expected, actual);
+    assertEquals("Fail with seed:" + seed, expected.hashCode(), testMap.hashCode());
+
+    final Hash<X>ObjectMap<String> clone = testMap.clone();
+    clone.compact();
+    assertEquals("Fail with seed:" + seed, testMap, clone);
+  }
+}
\ No newline at end of file
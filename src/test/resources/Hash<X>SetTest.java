@@ -18,7 +18,9 @@ package org.libj.util.primitive;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.NoSuchElementException;
 import java.util.Random;
@@ -686,6 +688,123 @@ public class Hash<X>SetTest extends PrimitiveCollectionTest {
     assertContainsElements(values);
   }
 
+  @Test
+  public void testRemoveIf() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (int n = 0; n < 1000; ++n) { // [N]
+      final Hash<X>Set set = new Hash<X>Set(random.nextInt(32));
+      final HashSet<<XX>> expected = new HashSet<>();
+      for (int i = 0, i$ = random.nextInt(100); i < i$; ++i) { // [N]
+        final <x> value = (<x>)random.nextInt(100);
+        set.add(value);
+        expected.add(value);
+      }
+
+      final int mod = 1 + random.nextInt(4);
+      Assert.assertEquals("seed: " + seed, expected.removeIf(v -> v % mod == 0), set.removeIf(v -> v % mod == 0));
+      Assert.assertEquals("seed: " + seed, expected.size(), set.size());
+      for (final <XX> value : expected) // [S]
+        assertTrue("seed: " + seed, set.contains(value));
+
+      // A filter that throws must leave the values that were not removed reachable
+      final int[] count = {random.nextInt(50)};
+      try {
+        set.removeIf(v -> {
+          if (--count[0] < 0)
+            throw new IllegalStateException();
+
+          return random.nextBoolean();
+        });
+      }
+      catch (final IllegalStateException e) {
+      }
+
+      final <x>[] remaining = set.toArray();
+      Assert.assertEquals("seed: " + seed, set.size(), remaining.length);
+      for (final <x> value : remaining) { // [A]
+        assertTrue("seed: " + seed, expected.contains(value));
+        assertTrue("seed: " + seed, set.contains(value));
+      }
+    }
+  }
+
+  @Test
+  public void testBulkOperations() {
+    for (int i = 0; i < 100; ++i) // [N]
+      testSet.add((<x>)i);
+
+    final long[] sum = {0};
+    final int[] count = {0};
+    testSet.forEach((<X>Consumer)v -> {
+      sum[0] += (long)v;
+      ++count[0];
+    });
+    assertEquals(100, count[0]);
+    assertEquals(4950, sum[0]);
+    assertEquals(99, testSet.reduce((<x>)0, (a, b) -> a < b ? b : a));
+    assertEquals(0, testSet.reduce((<x>)100, (a, b) -> a < b ? a : b));
+
+    assertTrue(testSet.retainAll(Arrays.asList((<XX>)(<x>)0, (<XX>)(<x>)50)));
+    assertEquals(2, testSet.size());
+    assertTrue(testSet.contains((<x>)0));
+    assertTrue(testSet.contains((<x>)50));
+
+    try {
+      testSet.forEach((<X>Consumer)v -> testSet.add((<x>)(v + 1)));
+      fail("Expected ConcurrentModificationException");
+    }
+    catch (final ConcurrentModificationException e) {
+    }
+  }
+
+<_>  @Test
+<_>  public void testSpliterator() {
+<_>    final int size = 10000;
+<_>    final Hash<X>Set set = new Hash<X>Set();
+<_>    for (int i = 0; i < size; ++i) // [N]
+<_>      set.add((<x>)i);
+<_>
+<_>    final Spliterator.Of<X> spliterator = set.spliterator();
+<_>    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+<_>    assertEquals(size, spliterator.estimateSize());
+<_>
+<_>    // Split into many parts, and check that every value, including the one represented by NULL, is reported exactly once
+<_>    final ArrayList<Spliterator.Of<X>> parts = new ArrayList<>();
+<_>    parts.add(spliterator);
+<_>    for (int i = 0; i < parts.size() && parts.size() < 64;) { // [RA]
+<_>      final Spliterator.Of<X> prefix = parts.get(i).trySplit();
+<_>      if (prefix != null)
+<_>        parts.add(prefix);
+<_>      else
+<_>        ++i;
+<_>    }
+<_>
+<_>    final boolean[] seen = new boolean[size];
+<_>    for (final Spliterator.Of<X> part : parts) { // [L]
+<_>      assertFalse(part.hasCharacteristics(Spliterator.SIZED));
+<_>      part.forEachRemaining((<X>Consumer)v -> {
+<_>        assertFalse(seen[(int)v]);
+<_>        seen[(int)v] = true;
+<_>      });
+<_>    }
+<_>
+<_>    for (int i = 0; i < size; ++i) // [A]
+<_>      assertTrue(seen[i]);
+<_>
+<_>    assertEquals(size, set.parallelStream().count());
+<_>    assertEquals((double)size * (size - 1) / 2, (double)set.parallelStream().sum());
+<_>
+<_>    final Spliterator.Of<X> concurrent = set.spliterator();
+<_>    set.add((<x>)size);
+<_>    try {
+<_>      concurrent.forEachRemaining((<X>Consumer)v -> {});
+<_>      fail("Expected ConcurrentModificationException");
+<_>    }
+<_>    catch (final ConcurrentModificationException e) {
+<_>    }
+<_>  }
+<_>
   private void assertIteratorHasElementsWithoutHasNext() {
     final <X>Iterator iterator = testSet.iterator();
     final Set<<XX>> values = new HashSet<>();
@@ -0,0 +1,89 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class HashObject<X>MapTest {
+  private final HashObject<X>Map<String> testMap = new HashObject<X>Map<>(4);
+
+  @Test
+  public void getReturnsZeroOrDefaultForMissingKey() {
+    assertEquals(<XX>.valueOf((<x>)0), <XX>.valueOf(testMap.get("a")));
+    assertEquals(<XX>.valueOf((<x>)3), <XX>.valueOf(testMap.getOrDefault("a", (<x>)3)));
+  }
+
+  @Test
+  public void supportsNullKey() {
+    testMap.put(null, (<x>)4);
+    assertTrue(testMap.containsKey(null));
+    assertEquals(<XX>.valueOf((<x>)4), <XX>.valueOf(testMap.get(null)));
+    assertEquals(<XX>.valueOf((<x>)5), <XX>.valueOf(testMap.addTo(null, (<x>)1)));
+    assertEquals(<XX>.valueOf((<x>)5), <XX>.valueOf(testMap.remove(null)));
+    assertFalse(testMap.containsKey(null));
+  }
+
+  @Test
+  public void computeIfAbsentAndMerge() {
+    assertEquals(<XX>.valueOf((<x>)3), <XX>.valueOf(testMap.computeIfAbsent("abc", k -> (<x>)k.length())));
+    assertEquals(<XX>.valueOf((<x>)3), <XX>.valueOf(testMap.computeIfAbsent("abc", k -> (<x>)0)));
+    assertEquals(<XX>.valueOf((<x>)9), <XX>.valueOf(testMap.merge("abc", (<x>)3, (a, b) -> (<x>)(a * b))));
+  }
+
+  @Test
+  public void behavesLikeHashMap() {
+    final long seed = System.nanoTime();
+    final Random r = new Random(seed);
+    final HashMap<String,<XX>> expected = new HashMap<>();
+    for (int i = 0; i < 10000; ++i) { // [N]
+      final String key = String.valueOf(r.nextInt(100));
+      final <x> value = (<x>)r.nextInt(100);
+      switch (r.nextInt(4)) {
+        case 0:
+          final <XX> previous = expected.put(key, value);
+          assertEquals("Fail with seed:" + seed, previous != null ? previous : <XX>.valueOf((<x>)0), <XX>.valueOf(testMap.put(key, value)));
+          break;
+        case 1:
+          final <XX> removed = expected.remove(key);
+          assertEquals("Fail with seed:" + seed, removed != null ? removed : <XX>.valueOf((<x>)0), <XX>.valueOf(testMap.remove(key)));
+          break;
+        case 2:
+          assertEquals("Fail with seed:" + seed, expected.merge(key, value, (a, b) -> (<x>)(a + b)), <XX>.valueOf(testMap.addTo(key, value)));
+          break;
+        default:
+          assertEquals("Fail with seed:" + seed, expected.containsKey(key), testMap.containsKey(key));
+      }
+
+      assertEquals("Fail with seed:" + seed, expected.size(), testMap.size());
+    }
+
+    final HashMap<String,<XX>> actual = new HashMap<>();
+    testMap.forEach((k, v) -> actual.put(k, v));
+    assertEquals("Fail with seed:" + seed, expected, actual);
+    assertEquals("Fail with seed:" + seed, expected.hashCode(), testMap.hashCode());
+
+    final HashObject<X>Map<String> clone = testMap.clone();
+    clone.compact();
+    assertEquals("Fail with seed:" + seed, testMap, clone);
+  }
+}
\ No newline at end of file
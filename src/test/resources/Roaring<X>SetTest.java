@@ -0,0 +1,272 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Roaring<X>SetTest extends PrimitiveCollectionTest {
+  private static <x> value(final int chunk, final int low) {
+    return (<x>)((<x>)chunk << 16 | low);
+  }
+
+  /**
+   * Returns a random value in one of 4 chunks, one of which has all high-order bits set, with sparse chunks and dense chunks.
+   */
+  private static <x> random(final Random random) {
+    final int chunk = random.nextInt(4) - 1;
+    return value(chunk, chunk == 1 ? random.nextInt(8192) : random.nextInt(65536));
+  }
+
+  private static void assertSet(final Set<<XX>> expected, final Roaring<X>Set actual, final String message) {
+    Assert.assertEquals(message, expected.size(), actual.size());
+    Assert.assertEquals(message, expected.size(), actual.cardinality());
+    final TreeSet<<XX>> sorted = new TreeSet<>(<XX>::compareUnsigned);
+    sorted.addAll(expected);
+    final <X>Iterator i = actual.iterator();
+    for (final <XX> value : sorted) // [S]
+      Assert.assertEquals(message, value, (<XX>)i.next());
+
+    assertFalse(message, i.hasNext());
+  }
+
+  @Test
+  public void testBehavesLikeHashSet() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final String message = "seed: " + seed;
+    final Set<<XX>> expected = new HashSet<>();
+    final Roaring<X>Set actual = new Roaring<X>Set();
+    for (int i = 0; i < 40000; ++i) { // [N]
+      final <x> value = random(random);
+      if (random.nextInt(3) == 0)
+        Assert.assertEquals(message, expected.remove(value), actual.remove(value));
+      else
+        Assert.assertEquals(message, expected.add(value), actual.add(value));
+
+      final <x> probe = random(random);
+      Assert.assertEquals(message, expected.contains(probe), actual.contains(probe));
+    }
+
+    assertSet(expected, actual, message);
+    actual.runOptimize();
+    assertSet(expected, actual, message);
+    for (final <XX> value : expected) // [S]
+      assertTrue(message, actual.contains(value));
+  }
+
+  @Test
+  public void testSetOperations() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final String message = "seed: " + seed;
+    for (int n = 0; n < 10; ++n) { // [N]
+      final Set<<XX>> x = new HashSet<>();
+      final Set<<XX>> y = new HashSet<>();
+      final int size = 10 << random.nextInt(12);
+      for (int i = 0; i < size; ++i) { // [N]
+        x.add(random(random));
+        y.add(random(random));
+      }
+
+      // A range of consecutive values produces a run container after runOptimize()
+      for (int i = 0; i < 10000; ++i) // [N]
+        y.add(value(2, i));
+
+      final Roaring<X>Set a = new Roaring<X>Set(x);
+      final Roaring<X>Set b = new Roaring<X>Set(y);
+      if (random.nextBoolean())
+        b.runOptimize();
+
+      final Set<<XX>> and = new HashSet<>(x);
+      and.retainAll(y);
+      assertSet(and, Roaring<X>Set.and(a, b), message);
+
+      final Set<<XX>> or = new HashSet<>(x);
+      or.addAll(y);
+      assertSet(or, Roaring<X>Set.or(a, b), message);
+
+      final Set<<XX>> andNot = new HashSet<>(x);
+      andNot.removeAll(y);
+      assertSet(andNot, Roaring<X>Set.andNot(a, b), message);
+
+      final Set<<XX>> bAndNot = new HashSet<>(y);
+      bAndNot.removeAll(x);
+      assertSet(bAndNot, Roaring<X>Set.andNot(b, a), message);
+
+      // The in-place operations delegate to the static operations
+      final Roaring<X>Set c = a.clone();
+      assertTrue(message, c.addAll(b));
+      assertSet(or, c, message);
+      assertTrue(message, c.containsAll(b));
+      assertFalse(message, c.addAll(b));
+      assertTrue(message, c.removeAll(b));
+      assertSet(andNot, c, message);
+      final Roaring<X>Set d = a.clone();
+      d.retainAll((<X>Collection)b);
+      assertSet(and, d, message);
+      Assert.assertEquals(message, a, new Roaring<X>Set(x));
+    }
+  }
+
+  @Test
+  public void testContainerTransitions() {
+    final Roaring<X>Set set = new Roaring<X>Set();
+    // 4096 values fit in an array container, and the 4097th converts it to a bitmap container
+    for (int i = 0; i < 8192; i += 2) // [N]
+      assertTrue(set.add(value(0, i)));
+
+    Assert.assertEquals(4096, set.size());
+    assertTrue(set.add(value(0, 1)));
+    assertTrue(set.contains(value(0, 1)));
+    assertFalse(set.contains(value(0, 3)));
+    assertTrue(set.remove(value(0, 1)));
+    assertTrue(set.remove(value(0, 0)));
+    Assert.assertEquals(4095, set.size());
+    assertEquals(value(0, 2), set.iterator().next());
+
+    // A full chunk is a single run
+    for (int i = 0; i < 65536; ++i) // [N]
+      set.add(value(1, i));
+
+    Assert.assertEquals(4095 + 65536, set.size());
+    set.runOptimize();
+    assertTrue(set.contains(value(1, 0)));
+    assertTrue(set.contains(value(1, 65535)));
+    assertTrue(set.remove(value(1, 100)));
+    assertFalse(set.contains(value(1, 100)));
+    assertTrue(set.add(value(1, 100)));
+    Assert.assertEquals(4095 + 65536, set.size());
+
+    for (int i = 0; i < 65536; ++i) // [N]
+      assertTrue(set.remove(value(1, i)));
+
+    for (int i = 2; i < 8192; i += 2) // [N]
+      assertTrue(set.remove(value(0, i)));
+
+    assertTrue(set.isEmpty());
+    assertFalse(set.iterator().hasNext());
+  }
+
+  @Test
+  public void testIterator() {
+    final Roaring<X>Set set = new Roaring<X>Set();
+    for (int i = 0; i < 10000; ++i) // [N]
+      set.add(value(i % 3 - 1, i));
+
+    set.runOptimize();
+    for (final <X>Iterator i = set.iterator(); i.hasNext();) // [I]
+      if (i.next() % 2 == 0)
+        i.remove();
+
+    Assert.assertEquals(5000, set.size());
+    for (int i = 0; i < 10000; ++i) // [N]
+      Assert.assertEquals(i % 2 != 0, set.contains(value(i % 3 - 1, i)));
+
+    final <X>Iterator iterator = set.iterator();
+    set.add((<x>)0);
+    try {
+      iterator.next();
+      fail("Expected ConcurrentModificationException");
+    }
+    catch (final ConcurrentModificationException e) {
+    }
+
+    try {
+      set.iterator().remove();
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    Assert.assertEquals(set.size(), set.toArray().length);
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final Roaring<X>Set set = new Roaring<X>Set();
+    for (int i = 0; i < 20000; ++i) // [N]
+      set.add(random(random));
+
+    for (int i = 0; i < 1000; ++i) // [N]
+      set.add(value(2, i));
+
+    set.runOptimize();
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    set.serialize(new DataOutputStream(bytes));
+    final Roaring<X>Set read = Roaring<X>Set.deserialize(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    Assert.assertEquals("seed: " + seed, set, read);
+    Assert.assertEquals("seed: " + seed, set.hashCode(), read.hashCode());
+
+    final ByteArrayOutputStream objects = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(objects)) {
+      out.writeObject(set);
+    }
+
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(objects.toByteArray()))) {
+      Assert.assertEquals("seed: " + seed, set, in.readObject());
+    }
+
+    final byte[] malformed = bytes.toByteArray();
+    malformed[0] = 0;
+    try {
+      Roaring<X>Set.deserialize(new DataInputStream(new ByteArrayInputStream(malformed)));
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+    }
+  }
+
+  @Test
+  public void testCloneEquals() {
+    final Roaring<X>Set set = new Roaring<X>Set();
+    for (int i = 0; i < 100; ++i) // [N]
+      set.add((<x>)(i * 1000));
+
+    final Roaring<X>Set clone = set.clone();
+    Assert.assertEquals(set, clone);
+    Assert.assertEquals(set.hashCode(), clone.hashCode());
+    Assert.assertEquals(set.toString(), clone.toString());
+    clone.remove((<x>)0);
+    Assert.assertNotEquals(set, clone);
+    assertTrue(set.contains((<x>)0));
+
+    // Equal sets are equal regardless of the representation of their containers
+    clone.add((<x>)0);
+    clone.runOptimize();
+    Assert.assertEquals(set, clone);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,305 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class Segmented<X>ListTest extends <X>CollectionTest {
+  @Test
+  public void testGrowAcrossChunks() {
+    final Segmented<X>List list = new Segmented<X>List(0, 3);
+    for (int i = 0; i < 100; ++i) // [N]
+      list.add((<x>)i);
+
+    Assert.assertEquals(100, list.size());
+    for (int i = 0; i < 100; ++i) // [N]
+      assertEquals((<x>)i, list.get(i));
+
+    final <x>[] array = list.toArray(new <x>[0]);
+    Assert.assertEquals(100, array.length);
+    for (int i = 0; i < 100; ++i) // [N]
+      assertEquals((<x>)i, array[i]);
+
+    list.trimToSize();
+    Assert.assertEquals(100, list.size());
+    assertEquals((<x>)99, list.get(99));
+  }
+
+  @Test
+  public void testBehavesLikeArrayList() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final List<<XX>> expected = new ArrayList<>();
+    final Segmented<X>List actual = new Segmented<X>List(0, 8);
+    for (int i = 0; i < 5000; ++i) { // [N]
+      final String message = "seed: " + seed;
+      final <x> value = (<x>)random.nextInt(100);
+      switch (random.nextInt(7)) {
+        case 0:
+          final int index = random.nextInt(expected.size() + 1);
+          expected.add(index, value);
+          actual.add(index, value);
+          break;
+        case 1:
+          if (expected.size() > 0) {
+            final int remove = random.nextInt(expected.size());
+            Assert.assertEquals(message, expected.remove(remove), (<XX>)actual.removeIndex(remove));
+          }
+          break;
+        case 2:
+          final <x>[] values = new <x>[random.nextInt(20)];
+          for (int j = 0; j < values.length; ++j) // [A]
+            values[j] = (<x>)(value + j);
+
+          final int at = random.nextInt(expected.size() + 1);
+          for (int j = 0; j < values.length; ++j) // [A]
+            expected.add(at + j, values[j]);
+
+          actual.addAll(at, values);
+          break;
+        case 3:
+          Assert.assertEquals(message, expected.remove((<XX>)value), actual.remove(value));
+          break;
+        case 4:
+          if (expected.size() > 0) {
+            final int from = random.nextInt(expected.size());
+            final int to = from + random.nextInt(Math.min(10, expected.size() - from) + 1);
+            expected.subList(from, to).clear();
+            actual.subList(from, to).clear();
+          }
+          break;
+        default:
+          expected.add(value);
+          actual.add(value);
+      }
+
+      assertCollection(expected, actual, message);
+    }
+  }
+
+  @Test
+  public void testSubList() {
+    final Segmented<X>List list = new Segmented<X>List(0, 4);
+    for (int i = 0; i < 10; ++i) // [N]
+      list.add((<x>)i);
+
+    final Segmented<X>List subList = list.subList(2, 8);
+    assertValues(subList, 2, 3, 4, 5, 6, 7);
+
+    subList.add((<x>)20);
+    subList.removeIndex(0);
+    assertValues(subList, 3, 4, 5, 6, 7, 20);
+    assertValues(list, 0, 1, 3, 4, 5, 6, 7, 20, 8, 9);
+
+    final Segmented<X>List subSubList = subList.subList(1, 3);
+    subSubList.clear();
+    assertValues(subList, 3, 6, 7, 20);
+    assertValues(list, 0, 1, 3, 6, 7, 20, 8, 9);
+
+    assertTrue(subList.removeIf(v -> v % 2 == 0));
+    assertValues(subList, 3, 7);
+    assertValues(list, 0, 1, 3, 7, 8, 9);
+
+    // A change to the parent list in the range preceding the sub-list shifts the sub-list
+    list.add(0, (<x>)10);
+    assertValues(subList, 3, 7);
+    list.addAll(0, new <x>[] {(<x>)11, (<x>)12, (<x>)13, (<x>)14, (<x>)15});
+    assertValues(subList, 3, 7);
+    assertValues(list, 11, 12, 13, 14, 15, 10, 0, 1, 3, 7, 8, 9);
+  }
+
+  @Test
+  public void testRemoveIfThrows() {
+    final Segmented<X>List list = new Segmented<X>List(0, 8);
+    for (int i = 0; i < 100; ++i) // [N]
+      list.add((<x>)i);
+
+    final Segmented<X>List subList = list.subList(20, 80);
+    final Segmented<X>List tail = list.subList(80, 100);
+    final int[] tested = {0};
+    try {
+      subList.removeIf(v -> {
+        if (++tested[0] == 40)
+          throw new IllegalStateException();
+
+        return v % 2 == 0;
+      });
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    Assert.assertEquals(100, list.size());
+    Assert.assertEquals(60, subList.size());
+    Assert.assertEquals(20, tail.size());
+    for (int i = 0; i < 100; ++i) // [N]
+      assertEquals((<x>)i, list.get(i));
+
+    assertTrue(subList.removeIf(v -> v % 2 == 0));
+    Assert.assertEquals(70, list.size());
+    Assert.assertEquals(30, subList.size());
+    assertEquals((<x>)80, tail.get(0));
+    for (int i = 0; i < 30; ++i) // [N]
+      assertEquals((<x>)(21 + 2 * i), subList.get(i));
+  }
+
+  @Test
+  public void testSort() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int length : new int[] {0, 1, 7, 8, 9, 31, 100, 1000}) { // [A]
+      final <x>[] values = new <x>[length];
+      for (int i = 0; i < length; ++i) // [A]
+        values[i] = (<x>)random.nextInt(100);
+
+      final Segmented<X>List list = new Segmented<X>List(0, 8);
+      list.add((<x>)-1);
+      list.add((<x>)-1);
+      list.add((<x>)-1);
+      list.addAll(values);
+      list.add((<x>)-1);
+      list.subList(3, length + 3).sort();
+
+      final <x>[] expected = values.clone();
+      Arrays.sort(expected);
+      for (int i = 0; i < 3; ++i) // [A]
+        assertEquals((<x>)-1, list.get(i));
+
+      assertEquals((<x>)-1, list.get(length + 3));
+      for (int i = 0; i < length; ++i) // [A]
+        assertEquals(expected[i], list.get(i + 3));
+
+      list.sort(<X>Comparator.REVERSE);
+      for (int i = 1; i < list.size(); ++i) // [A]
+        assertTrue("seed: " + seed, list.get(i - 1) >= list.get(i));
+    }
+  }
+
+  @Test
+  public void testSortStable() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final Segmented<X>List list = new Segmented<X>List(0, 16);
+    for (int i = 0; i < 1000; ++i) // [N]
+      list.add((<x>)random.nextInt(100));
+
+    final <x>[] expected = list.toArray(new <x>[0]);
+    // Only the tens digit is compared, so the sort must keep the original order of the units
+    final <X>Comparator c = (a, b) -> Integer.compare((int)a / 10, (int)b / 10);
+    final Array<X>List array = new Array<X>List(expected);
+    array.sort(c);
+    list.sort(c);
+    assertArrayEquals(array.toArray(new <x>[0]), list.toArray(new <x>[0]));
+  }
+
+  @Test
+  public void testIterator() {
+    final Segmented<X>List list = new Segmented<X>List(0, 2);
+    list.addAll((<x>)1, (<x>)2, (<x>)3, (<x>)4, (<x>)5);
+    for (final <X>Iterator i = list.iterator(); i.hasNext();) // [I]
+      if (i.next() % 2 == 0)
+        i.remove();
+
+    assertValues(list, 1, 3, 5);
+
+    final <X>ListIterator i = list.listIterator(3);
+    assertEquals((<x>)5, i.previous());
+    i.set((<x>)6);
+    i.add((<x>)4);
+    assertValues(list, 1, 3, 4, 6);
+
+    final <X>Iterator iterator = list.iterator();
+    list.add((<x>)7);
+    try {
+      iterator.next();
+      fail("Expected ConcurrentModificationException");
+    }
+    catch (final ConcurrentModificationException e) {
+    }
+  }
+
+<_>  @Test
+<_>  public void testSpliterator() {
+<_>    final int size = 100;
+<_>    final Segmented<X>List list = new Segmented<X>List(0, 4);
+<_>    for (int i = 0; i < size; ++i) // [N]
+<_>      list.add((<x>)i);
+<_>
+<_>    final Spliterator.Of<X> spliterator = list.spliterator();
+<_>    assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+<_>    final Spliterator.Of<X> prefix = spliterator.trySplit();
+<_>    Assert.assertEquals(size / 2, prefix.estimateSize());
+<_>    assertTrue(prefix.tryAdvance((<X>Consumer)v -> assertEquals(0, (int)v)));
+<_>    final int[] count = {0};
+<_>    spliterator.forEachRemaining((<X>Consumer)v -> assertEquals(size / 2 + count[0]++, (int)v));
+<_>    Assert.assertEquals(size / 2, count[0]);
+<_>
+<_>    // Releases the chunks during the traversal
+<_>    try {
+<_>      list.spliterator().forEachRemaining((<X>Consumer)v -> {
+<_>        if (v == 10) {
+<_>          list.clear();
+<_>          list.trimToSize();
+<_>        }
+<_>      });
+<_>      fail("Expected ConcurrentModificationException");
+<_>    }
+<_>    catch (final ConcurrentModificationException e) {
+<_>    }
+<_>
+<_>    list.addAll((<x>)1, (<x>)2, (<x>)3);
+<_>    final Spliterator.Of<X> concurrent = list.spliterator();
+<_>    assertTrue(concurrent.tryAdvance((<X>Consumer)v -> {}));
+<_>    list.clear();
+<_>    list.trimToSize();
+<_>    try {
+<_>      concurrent.tryAdvance((<X>Consumer)v -> {});
+<_>      fail("Expected ConcurrentModificationException");
+<_>    }
+<_>    catch (final ConcurrentModificationException e) {
+<_>    }
+<_>  }
+<_>
+  @Test
+  public void testCloneEquals() {
+    final Segmented<X>List list = new Segmented<X>List(0, 4);
+    for (int i = 0; i < 10; ++i) // [N]
+      list.add((<x>)i);
+
+    final Segmented<X>List clone = list.clone();
+    Assert.assertEquals(list, clone);
+    Assert.assertEquals(list.hashCode(), clone.hashCode());
+    clone.set(0, (<x>)9);
+    Assert.assertNotEquals(list, clone);
+    assertEquals((<x>)0, list.get(0));
+
+    final Segmented<X>List subClone = list.subList(3, 9).clone();
+    assertValues(subClone, 3, 4, 5, 6, 7, 8);
+    subClone.add((<x>)9);
+    Assert.assertEquals(10, list.size());
+  }
+}
\ No newline at end of file
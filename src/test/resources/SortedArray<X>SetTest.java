@@ -0,0 +1,285 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("all")
+public class SortedArray<X>SetTest extends PrimitiveCollectionTest {
+  // A value outside of the range of the random values, returned when there is no match
+  private static final <x> NONE = (<x>)120;
+
+  private static <XX> or(final <XX> value) {
+    return value != null ? value : (<XX>)NONE;
+  }
+
+  private static void assertSet(final NavigableSet<<XX>> expected, final Sorted<X>Set actual, final String message) {
+    Assert.assertEquals(message, expected.size(), actual.size());
+    final <X>Iterator i = actual.iterator();
+    for (final <XX> value : expected) // [S]
+      Assert.assertEquals(message, value, (<XX>)i.next());
+
+    assertFalse(message, i.hasNext());
+  }
+
+  private static void assertNavigation(final NavigableSet<<XX>> expected, final Sorted<X>Set actual, final String message) {
+    assertSet(expected, actual, message);
+    for (int v = -102; v < 102; ++v) { // [N]
+      final <x> value = (<x>)v;
+      Assert.assertEquals(message, expected.contains(value), actual.contains(value));
+      Assert.assertEquals(message, or(expected.lower(value)), (<XX>)actual.lower(value, NONE));
+      Assert.assertEquals(message, or(expected.floor(value)), (<XX>)actual.floor(value, NONE));
+      Assert.assertEquals(message, or(expected.ceiling(value)), (<XX>)actual.ceiling(value, NONE));
+      Assert.assertEquals(message, or(expected.higher(value)), (<XX>)actual.higher(value, NONE));
+    }
+
+    if (expected.isEmpty()) {
+      try {
+        actual.first();
+        fail("Expected NoSuchElementException");
+      }
+      catch (final NoSuchElementException e) {
+      }
+    }
+    else {
+      Assert.assertEquals(message, expected.first(), (<XX>)actual.first());
+      Assert.assertEquals(message, expected.last(), (<XX>)actual.last());
+    }
+  }
+
+  @Test
+  public void testBehavesLikeTreeSet() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final String message = "seed: " + seed;
+    final TreeSet<<XX>> expected = new TreeSet<>();
+    final SortedArray<X>Set actual = new SortedArray<X>Set();
+    for (int i = 0; i < 2000; ++i) { // [N]
+      final <x> value = (<x>)(random.nextInt(200) - 100);
+      switch (random.nextInt(4)) {
+        case 0:
+          Assert.assertEquals(message, expected.remove(value), actual.remove(value));
+          break;
+        case 1:
+          final List<<XX>> values = new ArrayList<>();
+          for (int j = random.nextInt(10); j > 0; --j) // [N]
+            values.add((<x>)(random.nextInt(200) - 100));
+
+          Assert.assertEquals(message, expected.addAll(values), actual.addAll(values));
+          break;
+        default:
+          Assert.assertEquals(message, expected.add(value), actual.add(value));
+      }
+
+      if (i % 100 == 0)
+        assertNavigation(expected, actual, message);
+    }
+
+    assertNavigation(expected, actual, message);
+  }
+
+  @Test
+  public void testViews() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    final String message = "seed: " + seed;
+    final TreeSet<<XX>> expected = new TreeSet<>();
+    final SortedArray<X>Set actual = new SortedArray<X>Set();
+    for (int i = 0; i < 100; ++i) { // [N]
+      final <x> value = (<x>)(random.nextInt(200) - 100);
+      expected.add(value);
+      actual.add(value);
+    }
+
+    for (int i = 0; i < 100; ++i) { // [N]
+      final int a = random.nextInt(200) - 100;
+      final int b = random.nextInt(200) - 100;
+      final <x> from = (<x>)Math.min(a, b);
+      final <x> to = (<x>)Math.max(a, b);
+      final boolean fromInclusive = random.nextBoolean();
+      final boolean toInclusive = random.nextBoolean();
+      assertNavigation(expected.subSet(from, fromInclusive, to, toInclusive), actual.subSet(from, fromInclusive, to, toInclusive), message);
+      assertNavigation(expected.headSet(to, toInclusive), actual.headSet(to, toInclusive), message);
+      assertNavigation(expected.tailSet(from, fromInclusive), actual.tailSet(from, fromInclusive), message);
+      if (from != to)
+        assertNavigation(expected.tailSet(from, fromInclusive).headSet(to, toInclusive), actual.tailSet(from, fromInclusive).headSet(to, toInclusive), message);
+    }
+
+    // Changes through a view are reflected in the backing set, and vice-versa
+    final SortedArray<X>Set set = new SortedArray<X>Set();
+    for (int i = 0; i < 10; ++i) // [N]
+      set.add((<x>)(i * 10));
+
+    final SortedArray<X>Set view = set.subSet((<x>)20, (<x>)60);
+    Assert.assertEquals(4, view.size());
+    assertTrue(view.add((<x>)25));
+    assertTrue(set.contains((<x>)25));
+    assertTrue(set.add((<x>)35));
+    Assert.assertEquals(6, view.size());
+    assertFalse(view.contains((<x>)60));
+    assertFalse(view.remove((<x>)60));
+    assertTrue(view.removeIf(v -> v % 10 != 0));
+    Assert.assertEquals(4, view.size());
+    Assert.assertEquals(10, set.size());
+
+    try {
+      view.add((<x>)60);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      view.headSet((<x>)70);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      set.subSet((<x>)50, (<x>)40);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    view.clear();
+    assertTrue(view.isEmpty());
+    Assert.assertEquals(6, set.size());
+    assertEquals((<x>)10, set.lower((<x>)60, NONE));
+  }
+
+  @Test
+  public void testRemoveIfThrows() {
+    final SortedArray<X>Set set = new SortedArray<X>Set();
+    for (int i = 0; i < 100; ++i) // [N]
+      set.add((<x>)i);
+
+    final SortedArray<X>Set view = set.subSet((<x>)0, (<x>)99);
+    final int[] tested = {0};
+    try {
+      view.removeIf(v -> {
+        if (++tested[0] == 90)
+          throw new IllegalStateException();
+
+        return v % 3 == 0;
+      });
+      fail("Expected IllegalStateException");
+    }
+    catch (final IllegalStateException e) {
+    }
+
+    Assert.assertEquals(100, set.size());
+    Assert.assertEquals(99, view.size());
+    for (int i = 0; i < 100; ++i) // [N]
+      assertTrue(set.contains((<x>)i));
+
+    assertTrue(view.removeIf(v -> v % 3 == 0));
+    Assert.assertEquals(66, view.size());
+    Assert.assertEquals(67, set.size());
+    final <x>[] values = set.toArray(new <x>[0]);
+    for (int i = 0; i < 66; ++i) // [N]
+      assertEquals((<x>)(i / 2 * 3 + i % 2 + 1), values[i]);
+
+    assertEquals((<x>)99, values[66]);
+  }
+
+  @Test
+  public void testComparator() {
+    final SortedArray<X>Set set = new SortedArray<X>Set(<X>Comparator.REVERSE);
+    set.addAll((<x>)3, (<x>)1, (<x>)4, (<x>)1, (<x>)5, (<x>)9, (<x>)2, (<x>)6);
+    assertArrayEquals(new <x>[] {9, 6, 5, 4, 3, 2, 1}, set.toArray(new <x>[0]));
+    assertEquals((<x>)9, set.first());
+    assertEquals((<x>)1, set.last());
+    // The navigation methods follow the order of the comparator
+    assertEquals((<x>)9, set.floor((<x>)7, NONE));
+    assertEquals((<x>)6, set.ceiling((<x>)7, NONE));
+    assertEquals((<x>)5, set.higher((<x>)6, NONE));
+    assertArrayEquals(new <x>[] {6, 5, 4}, set.subSet((<x>)6, (<x>)3).toArray(new <x>[0]));
+  }
+
+  @Test
+  public void testIterator() {
+    final SortedArray<X>Set set = new SortedArray<X>Set();
+    for (int i = 0; i < 20; ++i) // [N]
+      set.add((<x>)i);
+
+    for (final <X>Iterator i = set.tailSet((<x>)10).iterator(); i.hasNext();) // [I]
+      if (i.next() % 2 == 0)
+        i.remove();
+
+    Assert.assertEquals(15, set.size());
+    assertArrayEquals(new <x>[] {9, 11, 13, 15, 17, 19}, set.tailSet((<x>)9).toArray(new <x>[0]));
+
+    final <X>Iterator iterator = set.iterator();
+    set.add((<x>)30);
+    try {
+      iterator.next();
+      fail("Expected ConcurrentModificationException");
+    }
+    catch (final ConcurrentModificationException e) {
+    }
+  }
+
+  @Test
+  public void testCloneEqualsSerialize() throws Exception {
+    final SortedArray<X>Set set = new SortedArray<X>Set(<X>Comparator.REVERSE);
+    for (int i = 0; i < 10; ++i) // [N]
+      set.add((<x>)i);
+
+    final SortedArray<X>Set clone = set.clone();
+    Assert.assertEquals(set, clone);
+    Assert.assertEquals(set.hashCode(), clone.hashCode());
+    Assert.assertEquals(set.toString(), clone.toString());
+    clone.remove((<x>)0);
+    Assert.assertNotEquals(set, clone);
+
+    final SortedArray<X>Set head = set.headSet((<x>)5);
+    final SortedArray<X>Set headClone = head.clone();
+    Assert.assertEquals(head, headClone);
+    headClone.add((<x>)0);
+    Assert.assertEquals(4, head.size());
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(set);
+      out.writeObject(head);
+    }
+
+    try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final SortedArray<X>Set read = (SortedArray<X>Set)in.readObject();
+      Assert.assertEquals(set, read);
+      assertEquals((<x>)9, read.first());
+      Assert.assertEquals(head, in.readObject());
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.util.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+import org.libj.util.ArrayUtil;
+
+@SuppressWarnings("all")
+public class Static<X>SearchIndexTest {
+  private static void assertSearch(final String message, final <x>[] a, final int fromIndex, final int toIndex, final Static<X>SearchIndex index, final <x> key) {
+    final int expected = ArrayUtil.binaryClosestSearch(a, fromIndex, toIndex, key);
+    final int actual = index.binaryClosestSearch(key);
+    if (expected == actual)
+      return;
+
+    // With duplicates, binaryClosestSearch() may return any of the equal values, whereas the index returns the first
+    assertTrue(message + ", key: " + key, expected < toIndex && a[expected] == key && a[actual] == key);
+    assertTrue(message + ", key: " + key, actual == fromIndex || a[actual - 1] != key);
+  }
+
+  private static void test(final Random random, final long seed, final int size, final int bound, final boolean large) {
+    final <x>[] a = new <x>[size];
+    for (int i = 0; i < size; ++i) // [A]
+      a[i] = (<x>)(large ? random.nextLong() : random.nextInt(bound));
+
+    Arrays.sort(a);
+    final int fromIndex = size / 5;
+    final int toIndex = size - size / 7;
+    final Static<X>SearchIndex index = new Static<X>SearchIndex(a);
+    final Static<X>SearchIndex range = new Static<X>SearchIndex(a, fromIndex, toIndex);
+    assertEquals(size, index.size());
+    assertEquals(toIndex - fromIndex, range.size());
+
+    final String message = "seed: " + seed + ", size: " + size;
+    for (int i = 0; i < size; ++i) { // [A]
+      assertSearch(message, a, 0, size, index, a[i]);
+      assertSearch(message, a, fromIndex, toIndex, range, a[i]);
+    }
+
+    for (int i = 0; i < 1000; ++i) { // [N]
+      final <x> key = (<x>)(large ? random.nextLong() : random.nextInt(bound + 2) - 1);
+      assertSearch(message, a, 0, size, index, key);
+      assertSearch(message, a, fromIndex, toIndex, range, key);
+    }
+
+    assertSearch(message, a, 0, size, index, <XX>.MIN_VALUE);
+    assertSearch(message, a, 0, size, index, <XX>.MAX_VALUE);
+  }
+
+  @Test
+  public void testSearch() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    for (final int size : new int[] {0, 1, 2, 3, 7, 8, 9, 100, 1000}) { // [A]
+      test(random, seed, size, 10, false);
+      test(random, seed, size, 100, false);
+      test(random, seed, size, 0, true);
+    }
+  }
+
+  @Test
+  public void testBranching() {
+    final long seed = System.nanoTime();
+    final Random random = new Random(seed);
+    test(random, seed, Static<X>SearchIndex.BRANCHLESS_MAX_BYTES / <XX>.BYTES + 1, 100, false);
+  }
+
+  @Test
+  public void testRangeCheck() {
+    try {
+      new Static<X>SearchIndex(new <x>[3], 2, 1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new Static<X>SearchIndex(new <x>[3], 0, 4);
+      fail("Expected ArrayIndexOutOfBoundsException");
+    }
+    catch (final ArrayIndexOutOfBoundsException e) {
+    }
+  }
+}
\ No newline at end of file